@@ -26,7 +26,10 @@ public class TestUtils {
 
     public enum ProcessorOptions {
 
-        SUBMODULE_GENERATION("-Akora.app.submodule.enabled=true");
+        SUBMODULE_GENERATION("-Akora.app.submodule.enabled=true"),
+        JSON_BYTES("-Akora.json.bytes.enabled=true"),
+        JSON_VALIDATION("-Akora.json.validation.enabled=true"),
+        JSON_VALIDATION_FULL("-Akora.json.validation.failFast=false");
 
         public final String value;
 
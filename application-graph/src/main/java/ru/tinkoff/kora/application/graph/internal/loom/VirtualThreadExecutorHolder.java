@@ -61,6 +61,19 @@ public final class VirtualThreadExecutorHolder {
         return executor;
     }
 
+    /**
+     * @param namePrefix prefix of virtual thread names, thread number is appended to it
+     * @return executor service that starts new named virtual thread for each task or null if virtual threads are not enabled
+     */
+    @Nullable
+    public static ExecutorService executorService(String namePrefix) {
+        if (status != VirtualThreadStatus.ENABLED) {
+            return null;
+        }
+
+        return createExecutorService(createLoomThreadFactory(namePrefix));
+    }
+
     @Nullable
     private static ThreadFactory createLoomThreadFactory(String name) {
         try {
@@ -23,6 +23,7 @@ import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
 
 public class CassandraRepositoryGenerator implements RepositoryGenerator {
     private final TypeMirror repositoryInterface;
@@ -104,11 +105,17 @@ public class CassandraRepositoryGenerator implements RepositoryGenerator {
         if (profileAnnotation != null) {
             profile = AnnotationUtils.parseAnnotationValueWithoutDefault(profileAnnotation, "value");
         }
+        var queryAnnotation = AnnotationUtils.findAnnotation(method, DbUtils.QUERY_ANNOTATION);
+        var fetchSize = Objects.requireNonNullElse(AnnotationUtils.<Integer>parseAnnotationValueWithoutDefault(queryAnnotation, "fetchSize"), 0);
         var returnType = methodType.getReturnType();
         var isFlux = CommonUtils.isFlux(returnType);
         var isMono = CommonUtils.isMono(returnType);
         var isFuture = CommonUtils.isFuture(returnType);
-        if (isMono || isFlux) {
+        var isFlowPublisher = isFlowPublisher(returnType);
+        if (isFlowPublisher) {
+            b.addCode("return new $T<>(this._connectionFactory, _query, _session -> _session.prepareAsync(_query.sql()).thenCompose(_st -> {$>\n", CassandraTypes.ROW_PUBLISHER);
+            b.addStatement("var _stmt = _st.boundStatementBuilder()");
+        } else if (isMono || isFlux) {
             b.addCode("return ");
             b.beginControlFlow("$T.deferContextual(_reactorCtx ->", isFlux ? CommonClassNames.flux : CommonClassNames.mono);
             b.addStatement("var _ctxCurrent = $T.current(_reactorCtx)", CommonClassNames.contextReactor);
@@ -141,9 +148,16 @@ public class CassandraRepositoryGenerator implements RepositoryGenerator {
         if (profile != null) {
             b.addStatement("_stmt.setExecutionProfileName($S)", profile);
         }
+        if (fetchSize > 0 && batchParam == null) {
+            b.addStatement("_stmt.setPageSize($L)", fetchSize);
+        }
 
         StatementSetterGenerator.generate(b, method, query, parameters, batchParam, parameterMappers);
-        if (isMono || isFlux) {
+        if (isFlowPublisher) {
+            Objects.requireNonNull(resultMapperName, () -> "Illegal State occurred when expected to get row mapper, but got null in " + method.getEnclosingElement().getSimpleName() + "#" + method.getSimpleName());
+            b.addStatement("return _session.executeAsync(_s)");
+            b.addCode("$<}), $N);\n", resultMapperName);
+        } else if (isMono || isFlux) {
             b.addStatement("var _rrs = _session.executeReactive(_s)");
             if (CommonUtils.isVoid(((DeclaredType) returnType).getTypeArguments().get(0))) {
                 b.addStatement("return $T.from(_rrs).then()", CommonClassNames.flux);
@@ -204,16 +218,30 @@ public class CassandraRepositoryGenerator implements RepositoryGenerator {
 
 
     private Optional<DbUtils.Mapper> parseResultMapper(ExecutableElement method, List<QueryParameter> parameters, ExecutableType methodType) {
+        var returnType = methodType.getReturnType();
         for (var parameter : parameters) {
             if (parameter instanceof QueryParameter.BatchParameter) {
+                if (isFlowPublisher(returnType)) {
+                    throw new ProcessingErrorException("Flow.Publisher results can't be used with @Batch", method);
+                }
                 return Optional.empty();
             }
         }
-        var returnType = methodType.getReturnType();
         var mappings = CommonUtils.parseMapping(method);
         var resultSetMapper = mappings.getMapping(CassandraTypes.RESULT_SET_MAPPER);
         var reactiveResultSetMapper = mappings.getMapping(CassandraTypes.REACTIVE_RESULT_SET_MAPPER);
         var rowMapper = mappings.getMapping(CassandraTypes.ROW_MAPPER);
+        if (isFlowPublisher(returnType)) {
+            var rowType = Visitors.visitDeclaredType(returnType, dt -> dt.getTypeArguments().get(0));
+            if (resultSetMapper != null || reactiveResultSetMapper != null) {
+                throw new ProcessingErrorException("Flow.Publisher results are mapped row by row, only CassandraRowMapper can be used", method);
+            }
+            var mapperType = ParameterizedTypeName.get(CassandraTypes.ROW_MAPPER, TypeName.get(rowType));
+            if (rowMapper != null) {
+                return Optional.of(new DbUtils.Mapper(rowMapper.mapperClass(), mapperType, rowMapper.mapperTags()));
+            }
+            return Optional.of(new DbUtils.Mapper(mapperType, Set.of()));
+        }
         if (CommonUtils.isFlux(returnType)) {
             var fluxParam = Visitors.visitDeclaredType(returnType, dt -> dt.getTypeArguments().get(0));
             if (CommonUtils.isVoid(fluxParam)) {
@@ -301,4 +329,8 @@ public class CassandraRepositoryGenerator implements RepositoryGenerator {
         }
         constructorBuilder.addStatement("this._connectionFactory = _connectionFactory");
     }
+
+    private static boolean isFlowPublisher(TypeMirror returnType) {
+        return returnType instanceof DeclaredType dt && dt.asElement().toString().equals(Flow.Publisher.class.getCanonicalName());
+    }
 }
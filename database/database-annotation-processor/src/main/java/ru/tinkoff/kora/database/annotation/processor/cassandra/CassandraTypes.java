@@ -18,6 +18,7 @@ public class CassandraTypes {
 
     public static final ClassName CONNECTION_FACTORY = ClassName.get("ru.tinkoff.kora.database.cassandra", "CassandraConnectionFactory");
     public static final ClassName REPOSITORY = ClassName.get("ru.tinkoff.kora.database.cassandra", "CassandraRepository");
+    public static final ClassName ROW_PUBLISHER = ClassName.get("ru.tinkoff.kora.database.cassandra", "CassandraRowPublisher");
 
     public static final ClassName CASSANDRA_PROFILE = ClassName.get("ru.tinkoff.kora.database.cassandra.annotation", "CassandraProfile");
     public static final ClassName PARAMETER_COLUMN_MAPPER = ClassName.get("ru.tinkoff.kora.database.cassandra.mapper.parameter", "CassandraParameterColumnMapper");
@@ -43,6 +43,7 @@ public class JdbcEntityAnnotationProcessor extends AbstractKoraProcessor {
                     this.generator.generateRowMapper(entity);
                     this.generator.generateListResultSetMapper(entity);
                     this.generator.generateResultSetMapper(entity);
+                    this.generator.generateCopyRowWriter(entity);
                 } catch (ProcessingErrorException e) {
                     e.printError(processingEnv);
                 } catch (RuntimeException e) {
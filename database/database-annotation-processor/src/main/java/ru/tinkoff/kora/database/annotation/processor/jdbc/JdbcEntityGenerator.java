@@ -1,7 +1,9 @@
 package ru.tinkoff.kora.database.annotation.processor.jdbc;
 
 import com.squareup.javapoet.*;
+import jakarta.annotation.Nullable;
 import ru.tinkoff.kora.annotation.processor.common.CommonClassNames;
+import ru.tinkoff.kora.annotation.processor.common.CommonUtils;
 import ru.tinkoff.kora.annotation.processor.common.NameUtils;
 import ru.tinkoff.kora.database.annotation.processor.DbEntityReadHelper;
 import ru.tinkoff.kora.database.annotation.processor.entity.DbEntity;
@@ -13,8 +15,11 @@ import javax.lang.model.element.TypeElement;
 import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -61,6 +66,13 @@ public class JdbcEntityGenerator {
         return ClassName.get(packageElement.getQualifiedName().toString(), mapperName);
     }
 
+    public ClassName copyRowWriterName(TypeElement entityTypeElement) {
+        var writerName = NameUtils.generatedType(entityTypeElement, JdbcTypes.COPY_ROW_WRITER);
+        var packageElement = this.elements.getPackageOf(entityTypeElement);
+
+        return ClassName.get(packageElement.getQualifiedName().toString(), writerName);
+    }
+
     public ClassName rowMapperName(TypeElement entityTypeElement) {
         var mapperName = NameUtils.generatedType(entityTypeElement, JdbcTypes.ROW_MAPPER);
         var packageElement = this.elements.getPackageOf(entityTypeElement);
@@ -132,6 +144,98 @@ public class JdbcEntityGenerator {
     }
 
 
+    /**
+     * Binary COPY has no per column mappers, so writer is generated only when every column has native type and is not embedded
+     *
+     * @return first column that can't be written by generated copy row writer or null if writer is generated for entity
+     */
+    @Nullable
+    public static DbEntity.Column copyUnsupportedColumn(DbEntity entity) {
+        for (var column : entity.columns()) {
+            if (column.accessor().contains(".") || copyWriteMethod(TypeName.get(column.type())) == null) {
+                return column;
+            }
+            if (CommonUtils.parseMapping(column.element()).getMapping(JdbcTypes.PARAMETER_COLUMN_MAPPER) != null) {
+                return column;
+            }
+        }
+        return null;
+    }
+
+    public void generateCopyRowWriter(DbEntity entity) throws IOException {
+        if (copyUnsupportedColumn(entity) != null) {
+            return;
+        }
+        var writerName = copyRowWriterName(entity.typeElement());
+        var entityType = TypeName.get(entity.typeMirror());
+        var type = TypeSpec.classBuilder(writerName)
+            .addOriginatingElement(entity.typeElement())
+            .addAnnotation(AnnotationSpec.builder(CommonClassNames.koraGenerated).addMember("value", "$S", JdbcTypesExtension.class.getCanonicalName()).build())
+            .addSuperinterface(ParameterizedTypeName.get(JdbcTypes.COPY_ROW_WRITER, entityType))
+            .addModifiers(Modifier.PUBLIC, Modifier.FINAL);
+        var columns = CodeBlock.builder().add("$T.of(", List.class);
+        for (int i = 0; i < entity.columns().size(); i++) {
+            if (i > 0) {
+                columns.add(", ");
+            }
+            columns.add("$S", entity.columns().get(i).columnName());
+        }
+        type.addField(FieldSpec.builder(ParameterizedTypeName.get(List.class, String.class), "COLUMNS", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+            .initializer(columns.add(")").build())
+            .build());
+        type.addMethod(MethodSpec.constructorBuilder().addModifiers(Modifier.PUBLIC).build());
+        type.addMethod(MethodSpec.methodBuilder("columns")
+            .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+            .addAnnotation(Override.class)
+            .returns(ParameterizedTypeName.get(List.class, String.class))
+            .addStatement("return COLUMNS")
+            .build());
+
+        var write = MethodSpec.methodBuilder("write")
+            .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+            .addAnnotation(Override.class)
+            .addParameter(JdbcTypes.COPY_OUTPUT, "_out")
+            .addParameter(entityType, "_row")
+            .addException(IOException.class);
+        write.addStatement("_out.startRow($L)", entity.columns().size());
+        for (var column : entity.columns()) {
+            var typeName = TypeName.get(column.type());
+            var method = copyWriteMethod(typeName);
+            if (typeName.isPrimitive()) {
+                write.addStatement("_out.$N(_row.$N())", method, column.accessor());
+            } else {
+                var variable = "_" + column.variableName();
+                write.addStatement("var $N = _row.$N()", variable, column.accessor());
+                write.beginControlFlow("if ($N == null)", variable)
+                    .addStatement("_out.writeNull()")
+                    .nextControlFlow("else")
+                    .addStatement("_out.$N($N)", method, variable)
+                    .endControlFlow();
+            }
+        }
+        type.addMethod(write.build());
+        JavaFile.builder(writerName.packageName(), type.build()).build().writeTo(this.filer);
+    }
+
+    @Nullable
+    private static String copyWriteMethod(TypeName typeName) {
+        if (typeName.isBoxedPrimitive()) {
+            typeName = typeName.unbox();
+        }
+        if (typeName.equals(TypeName.BOOLEAN)) return "writeBoolean";
+        if (typeName.equals(TypeName.SHORT)) return "writeShort";
+        if (typeName.equals(TypeName.INT)) return "writeInt";
+        if (typeName.equals(TypeName.LONG)) return "writeLong";
+        if (typeName.equals(TypeName.FLOAT)) return "writeFloat";
+        if (typeName.equals(TypeName.DOUBLE)) return "writeDouble";
+        if (typeName.equals(ClassName.get(String.class))) return "writeString";
+        if (typeName.equals(ClassName.get(BigDecimal.class))) return "writeNumeric";
+        if (typeName.equals(ArrayTypeName.of(TypeName.BYTE))) return "writeBytes";
+        if (typeName.equals(ClassName.get(LocalDateTime.class))) return "writeTimestamp";
+        if (typeName.equals(ClassName.get(LocalDate.class))) return "writeDate";
+        return null;
+    }
+
     private CodeBlock readColumnIds(DbEntity entity) {
         var b = CodeBlock.builder();
         for (var entityField : entity.columns()) {
@@ -10,9 +10,17 @@ public interface JdbcNativeType {
 
     CodeBlock extract(String rs, CodeBlock index);
 
-    CodeBlock bind(String stmt, String variableName, int idx);
+    CodeBlock bind(String stmt, String variableName, CodeBlock idx);
 
-    CodeBlock bindNull(String stmt, int idx);
+    CodeBlock bindNull(String stmt, CodeBlock idx);
+
+    default CodeBlock bind(String stmt, String variableName, int idx) {
+        return bind(stmt, variableName, CodeBlock.of("$L", idx));
+    }
+
+    default CodeBlock bindNull(String stmt, int idx) {
+        return bindNull(stmt, CodeBlock.of("$L", idx));
+    }
 
     default JdbcNativeType boxed() {
         return of(type().box(), this::extract, this::bind, this::bindNull);
@@ -21,13 +29,13 @@ public interface JdbcNativeType {
     static JdbcNativeType of(
         TypeName type,
         BiFunction<String, CodeBlock, CodeBlock> extract,
-        TriFunction<String, String, Integer, CodeBlock> bind,
-        BiFunction<String, Integer, CodeBlock> bindNull) {
+        TriFunction<String, String, CodeBlock, CodeBlock> bind,
+        BiFunction<String, CodeBlock, CodeBlock> bindNull) {
         record Impl(
             TypeName type,
             BiFunction<String, CodeBlock, CodeBlock> extract,
-            TriFunction<String, String, Integer, CodeBlock> bind,
-            BiFunction<String, Integer, CodeBlock> bindNull
+            TriFunction<String, String, CodeBlock, CodeBlock> bind,
+            BiFunction<String, CodeBlock, CodeBlock> bindNull
         ) implements JdbcNativeType {
             @Override
             public CodeBlock extract(String rsName, CodeBlock index) {
@@ -35,12 +43,12 @@ public interface JdbcNativeType {
             }
 
             @Override
-            public CodeBlock bind(String stmt, String variableName, int idx) {
+            public CodeBlock bind(String stmt, String variableName, CodeBlock idx) {
                 return this.bind.apply(stmt, variableName, idx);
             }
 
             @Override
-            public CodeBlock bindNull(String stmt, int idx) {
+            public CodeBlock bindNull(String stmt, CodeBlock idx) {
                 return this.bindNull.apply(stmt, idx);
             }
 
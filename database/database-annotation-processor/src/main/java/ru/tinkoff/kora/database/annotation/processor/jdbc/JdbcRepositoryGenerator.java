@@ -22,13 +22,19 @@ import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
 import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 public final class JdbcRepositoryGenerator implements RepositoryGenerator {
     private final TypeMirror repositoryInterface;
@@ -97,6 +103,22 @@ public final class JdbcRepositoryGenerator implements RepositoryGenerator {
 
         var batchParam = parameters.stream().filter(QueryParameter.BatchParameter.class::isInstance).findFirst().orElse(null);
         var generatedKeys = AnnotationUtils.isAnnotationPresent(method, DbUtils.ID_ANNOTATION);
+        var rowType = streamRowType(returnType);
+        if (rowType != null) {
+            if (batchParam != null || generatedKeys) {
+                throw new ProcessingErrorException("Stream, Iterator and Flow.Publisher results can't be used with @Batch or @Id", method);
+            }
+            var mappings = CommonUtils.parseMapping(method);
+            if (mappings.getMapping(JdbcTypes.RESULT_SET_MAPPER) != null) {
+                throw new ProcessingErrorException("Stream, Iterator and Flow.Publisher results are mapped row by row, only JdbcRowMapper can be used", method);
+            }
+            var rowMapperType = ParameterizedTypeName.get(JdbcTypes.ROW_MAPPER, TypeName.get(rowType).box());
+            var rowMapper = mappings.getMapping(JdbcTypes.ROW_MAPPER);
+            if (rowMapper != null) {
+                return Optional.of(new Mapper(rowMapper.mapperClass(), rowMapperType, mappings.mapperTags()));
+            }
+            return Optional.of(new Mapper(rowMapperType, mappings.mapperTags()));
+        }
         if (batchParam != null && !generatedKeys) {
             // either void or update count, no way to parse results from db with jdbc api
             if (ArrayTypeName.of(int.class).equals(TypeName.get(returnType))) {
@@ -146,10 +168,12 @@ public final class JdbcRepositoryGenerator implements RepositoryGenerator {
         final boolean isFuture = CommonUtils.isFuture(returnType);
         b.addStatement("var _ctxCurrent = ru.tinkoff.kora.common.Context.current()");
         if (isMono) {
-            b.addCode("return $T.fromCompletionStage($T.supplyAsync(() -> {$>\n", CommonClassNames.mono, CompletableFuture.class);
+            b.addStatement("var _cancellation = $T.child(_ctxCurrent)", JdbcTypes.QUERY_CANCELLATION);
+            b.addCode("return $T.fromCompletionStage($T.supplyAsync(_cancellation, () -> {$>\n", CommonClassNames.mono, JdbcTypes.QUERY_CANCELLATION);
             returnType = ((DeclaredType) returnType).getTypeArguments().get(0);
         } else if (isFuture) {
-            b.addCode("return $T.supplyAsync(() -> {$>\n", CompletableFuture.class);
+            b.addStatement("var _cancellation = $T.child(_ctxCurrent)", JdbcTypes.QUERY_CANCELLATION);
+            b.addCode("return $T.supplyAsync(_cancellation, () -> {$>\n", JdbcTypes.QUERY_CANCELLATION);
             returnType = ((DeclaredType) returnType).getTypeArguments().get(0);
         }
         var connection = parameters.stream().filter(QueryParameter.ConnectionParameter.class::isInstance).findFirst()
@@ -168,9 +192,51 @@ public final class JdbcRepositoryGenerator implements RepositoryGenerator {
                 .build());
         b.addStatement("var _query = $L", queryContextFieldName);
 
+        var queryAnnotation = AnnotationUtils.findAnnotation(method, DbUtils.QUERY_ANNOTATION);
+        var fetchSize = Objects.requireNonNullElse(AnnotationUtils.<Integer>parseAnnotationValueWithoutDefault(queryAnnotation, "fetchSize"), 0);
+        var readOnly = Objects.requireNonNullElse(AnnotationUtils.<Boolean>parseAnnotationValueWithoutDefault(queryAnnotation, "readOnly"), false);
+        var timeout = Objects.requireNonNullElse(AnnotationUtils.<Integer>parseAnnotationValueWithoutDefault(queryAnnotation, "timeout"), 0);
+        if (timeout < 0) {
+            throw new ProcessingErrorException("@Query timeout can't be negative", method);
+        }
+        if (streamRowType(returnType) != null) {
+            Objects.requireNonNull(resultMapperName, () -> "Illegal State occurred when expected to get row mapper, but got null in " + method.getEnclosingElement().getSimpleName() + "#" + method.getSimpleName());
+            var erasure = TypeName.get(this.types.erasure(returnType));
+            var isPublisher = erasure.equals(ClassName.get(Flow.Publisher.class));
+            if (isPublisher) {
+                // query is executed on executor thread, so connection of caller's context is taken before it
+                b.addStatement("var _connection = $L", connection);
+                connection = CodeBlock.of("_connection");
+            }
+            var open = CodeBlock.builder()
+                .add("$T.open(this._connectionFactory, $L, $L, _query, _telemetry, $L, _stmt -> {$>\n", JdbcTypes.RESULT_ITERATOR, connection, readOnly, fetchSize)
+                .add(timeout != 0 ? CodeBlock.of("_stmt.setQueryTimeout($L);\n", timeout) : CodeBlock.of(""))
+                .add(StatementSetterGenerator.generate(method, query, parameters, null, parameterMappers))
+                .add("$<}, $L)", resultMapperName)
+                .build();
+            if (isPublisher) {
+                b.addCode("return new $T<>(() -> {$>\n", JdbcTypes.RESULT_PUBLISHER);
+                b.addStatement("var _telemetry = this._connectionFactory.telemetry().createContext(_ctxCurrent.fork(), _query)");
+                b.addStatement("return $L", open);
+                b.addCode("$<}, _executor);\n");
+            } else {
+                b.addStatement("var _telemetry = this._connectionFactory.telemetry().createContext(_ctxCurrent, _query)");
+                b.addStatement("var _iterator = $L", open);
+                if (erasure.equals(ClassName.get(Stream.class))) {
+                    b.addStatement("return _iterator.stream()");
+                } else {
+                    b.addStatement("return _iterator");
+                }
+            }
+            return b.build();
+        }
+
         if (isFuture || isMono) {
             b.addCode("""
                 var _ctxFork = _ctxCurrent.fork();
+                if (_cancellation != null) {
+                  _cancellation.attach(_ctxFork);
+                }
                 _ctxFork.inject();
                 var _telemetry = this._connectionFactory.telemetry().createContext(_ctxFork, _query);
                 """);
@@ -184,21 +250,77 @@ public final class JdbcRepositoryGenerator implements RepositoryGenerator {
             var _conToUse = $L;
             $T _conToClose;
             if (_conToUse == null) {
-                _conToUse = this._connectionFactory.newConnection();
+                _conToUse = this._connectionFactory.$L(_query);
                 _conToClose = _conToUse;
             } else {
                 _conToClose = null;
             }
-            """, connection, JdbcTypes.CONNECTION);
+            """, connection, JdbcTypes.CONNECTION, readOnly ? "newReadOnlyConnection" : "newConnection");
 
         var generatedKeys = AnnotationUtils.isAnnotationPresent(method, DbUtils.ID_ANNOTATION);
-        if (generatedKeys) {
-            b.addCode("try (_conToClose; var _stmt = _conToUse.prepareStatement(_query.sql(), $T.RETURN_GENERATED_KEYS)) {$>\n", Statement.class);
+        var batchSize = 0;
+        var batchCommit = false;
+        MultiRowInsert multiRowInsert = null;
+        if (batchParam != null) {
+            var batchAnnotation = AnnotationUtils.findAnnotation(batchParam.variable(), DbUtils.BATCH_ANNOTATION);
+            batchSize = Objects.requireNonNullElse(AnnotationUtils.<Integer>parseAnnotationValueWithoutDefault(batchAnnotation, "size"), 0);
+            batchCommit = Objects.requireNonNullElse(AnnotationUtils.<Boolean>parseAnnotationValueWithoutDefault(batchAnnotation, "commit"), false);
+            var rewriteInsert = Objects.requireNonNullElse(AnnotationUtils.<Boolean>parseAnnotationValueWithoutDefault(batchAnnotation, "multiRowInsert"), false);
+            if (batchSize < 0) {
+                throw new ProcessingErrorException("@Batch size can't be negative", batchParam.variable());
+            }
+            if (batchSize == 0 && (batchCommit || rewriteInsert)) {
+                throw new ProcessingErrorException("@Batch commit and multiRowInsert require size to be set", batchParam.variable());
+            }
+            if (batchSize > 0 && generatedKeys) {
+                throw new ProcessingErrorException("@Batch size can't be used with @Id: generated keys are available only for last executed chunk", method);
+            }
+            if (rewriteInsert) {
+                if (!CommonUtils.isVoid(returnType) && !returnType.toString().equals(DbUtils.UPDATE_COUNT.canonicalName())) {
+                    throw new ProcessingErrorException("@Batch with multiRowInsert can only return void or UpdateCount", method);
+                }
+                multiRowInsert = MultiRowInsert.parse(sql, batchSize);
+                if (multiRowInsert == null) {
+                    throw new ProcessingErrorException("@Batch multiRowInsert supports only simple INSERT ... VALUES (...) query with all parameters inside VALUES", method);
+                }
+                if ((long) batchSize * multiRowInsert.rowParameters() > MultiRowInsert.MAX_PARAMETERS) {
+                    throw new ProcessingErrorException("@Batch multiRowInsert statement with size %d has %d parameters, but drivers support at most %d, size should be not greater than %d"
+                        .formatted(batchSize, batchSize * multiRowInsert.rowParameters(), MultiRowInsert.MAX_PARAMETERS, MultiRowInsert.MAX_PARAMETERS / multiRowInsert.rowParameters()), batchParam.variable());
+                }
+                var multiRowFieldName = "MULTI_ROW_QUERY_CONTEXT_" + methodNumber;
+                type.addField(FieldSpec.builder(DbUtils.QUERY_CONTEXT, multiRowFieldName, Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                    .initializer("""
+                        new $T(
+                              $S,
+                              $S,
+                              $S
+                            )""", DbUtils.QUERY_CONTEXT, query.rawQuery(), multiRowInsert.sql(), DbUtils.operationName(method))
+                    .build());
+                b.addCode("try (_conToClose; var _stmt = this._connectionFactory.prepareStatement(_conToUse, _query); var _multiRowStmt = this._connectionFactory.prepareStatement(_conToUse, $L)) {$>\n", multiRowFieldName);
+            }
+        }
+        if (multiRowInsert != null) {
+            // statements already prepared
+        } else if (generatedKeys) {
+            b.addCode("try (_conToClose; var _stmt = this._connectionFactory.prepareStatement(_conToUse, _query, $T.RETURN_GENERATED_KEYS)) {$>\n", Statement.class);
         } else {
-            b.addCode("try (_conToClose; var _stmt = _conToUse.prepareStatement(_query.sql())) {$>\n");
+            b.addCode("try (_conToClose; var _stmt = this._connectionFactory.prepareStatement(_conToUse, _query)) {$>\n");
+        }
+        if (fetchSize != 0) {
+            b.addStatement("_stmt.setFetchSize($L)", fetchSize);
+        }
+        if (timeout != 0) {
+            b.addStatement("_stmt.setQueryTimeout($L)", timeout);
+            if (multiRowInsert != null) {
+                b.addStatement("_multiRowStmt.setQueryTimeout($L)", timeout);
+            }
+        }
+        if (batchSize == 0) {
+            b.addCode(StatementSetterGenerator.generate(method, query, parameters, batchParam, parameterMappers));
         }
-        b.addCode(StatementSetterGenerator.generate(method, query, parameters, batchParam, parameterMappers));
-        if (MethodUtils.isVoid(method)
+        if (batchSize > 0) {
+            b.addCode(this.generateChunkedBatch(query, parameters, (QueryParameter.BatchParameter) batchParam, parameterMappers, returnType, isMono || isFuture, batchSize, batchCommit, multiRowInsert));
+        } else if (MethodUtils.isVoid(method)
             || isMono && MethodUtils.isVoidGeneric(methodType.getReturnType())
             || isFuture && MethodUtils.isVoidGeneric(methodType.getReturnType())) {
 
@@ -293,6 +415,130 @@ public final class JdbcRepositoryGenerator implements RepositoryGenerator {
         return b.build();
     }
 
+    private CodeBlock generateChunkedBatch(QueryWithParameters query, List<QueryParameter> parameters, QueryParameter.BatchParameter batchParam, FieldFactory parameterMappers,
+                                           TypeMirror returnType, boolean isAsync, int batchSize, boolean commit, @Nullable MultiRowInsert multiRowInsert) {
+        var returnTypeName = returnType.toString();
+        var b = CodeBlock.builder();
+        var execute = CodeBlock.builder();
+        if (returnTypeName.equals(DbUtils.UPDATE_COUNT.canonicalName())) {
+            b.addStatement("long _updateCount = 0");
+            execute.addStatement("_updateCount += $T.of(_stmt.executeLargeBatch()).sum()", LongStream.class);
+        } else if (returnTypeName.equals("long[]")) {
+            b.addStatement("var _batchResults = new $T<long[]>()", ArrayList.class);
+            execute.addStatement("_batchResults.add(_stmt.executeLargeBatch())");
+        } else if (returnTypeName.equals("int[]")) {
+            b.addStatement("var _batchResults = new $T<int[]>()", ArrayList.class);
+            execute.addStatement("_batchResults.add(_stmt.executeBatch())");
+        } else {
+            execute.addStatement("_stmt.executeBatch()");
+        }
+        var commitChunk = CodeBlock.builder();
+        if (commit) {
+            b.addStatement("var _commitChunks = !_conToUse.getAutoCommit()");
+            commitChunk.add("if (_commitChunks) {$>\n").addStatement("_conToUse.commit()").add("$<}\n");
+        }
+        execute.add(commitChunk.build());
+
+        if (multiRowInsert != null) {
+            var elementType = TypeName.get(batchParam.parameter().type()).box();
+            b.addStatement("var _batchChunk = new $T<$T>($L)", ArrayList.class, elementType, batchSize);
+            b.add("for (var _batchItem : $L) {$>\n", batchParam.variable());
+            b.addStatement("_batchChunk.add(_batchItem)");
+            b.add("if (_batchChunk.size() == $L) {$>\n", batchSize);
+            b.addStatement("var _offset = 0");
+            b.add("for (var _i : _batchChunk) {$>\n");
+            b.add(StatementSetterGenerator.generateBinds(query, parameters, parameterMappers, "_multiRowStmt", "_offset"));
+            b.addStatement("_offset += $L", multiRowInsert.rowParameters());
+            b.add("$<}\n");
+            if (returnTypeName.equals(DbUtils.UPDATE_COUNT.canonicalName())) {
+                b.addStatement("_updateCount += _multiRowStmt.executeLargeUpdate()");
+            } else {
+                b.addStatement("_multiRowStmt.executeUpdate()");
+            }
+            b.addStatement("_batchChunk.clear()");
+            b.add(commitChunk.build());
+            b.add("$<}\n$<}\n");
+            b.add("if (!_batchChunk.isEmpty()) {$>\n");
+            b.add("for (var _i : _batchChunk) {$>\n");
+            b.add(StatementSetterGenerator.generateBinds(query, parameters, parameterMappers, "_stmt", null));
+            b.addStatement("_stmt.addBatch()");
+            b.add("$<}\n");
+            b.add(execute.build());
+            b.add("$<}\n");
+        } else {
+            b.addStatement("var _batchRows = 0");
+            b.add("for (var _i : $L) {$>\n", batchParam.variable());
+            b.add(StatementSetterGenerator.generateBinds(query, parameters, parameterMappers, "_stmt", null));
+            b.addStatement("_stmt.addBatch()");
+            b.add("if (++_batchRows == $L) {$>\n", batchSize);
+            b.add(execute.build());
+            b.addStatement("_batchRows = 0");
+            b.add("$<}\n$<}\n");
+            b.add("if (_batchRows > 0) {$>\n");
+            b.add(execute.build());
+            b.add("$<}\n");
+        }
+
+        b.addStatement("_telemetry.close(null)");
+        if (returnTypeName.equals(DbUtils.UPDATE_COUNT.canonicalName())) {
+            b.addStatement("return new $T(_updateCount)", DbUtils.UPDATE_COUNT);
+        } else if (returnTypeName.equals("long[]")) {
+            b.addStatement("return _batchResults.stream().flatMapToLong($T::of).toArray()", LongStream.class);
+        } else if (returnTypeName.equals("int[]")) {
+            b.addStatement("return _batchResults.stream().flatMapToInt($T::of).toArray()", IntStream.class);
+        } else if (isAsync) {
+            b.addStatement("return null");
+        }
+        return b.build();
+    }
+
+    /**
+     * Simple {@code INSERT ... VALUES (...)} query rewritten to insert multiple rows with single statement
+     *
+     * @param sql           query with VALUES group repeated for every row
+     * @param rowParameters number of parameters in single VALUES group
+     */
+    record MultiRowInsert(String sql, int rowParameters) {
+        // bind parameter count is sent as unsigned 16-bit number by PostgreSQL and MySQL protocols
+        static final int MAX_PARAMETERS = 65535;
+
+        private static final Pattern INSERT_VALUES = Pattern.compile("^(\\s*insert\\s+into\\s+[^?;]+?\\bvalues\\s*)(\\(.*\\))\\s*;?\\s*$", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+        @Nullable
+        static MultiRowInsert parse(String sql, int rows) {
+            var matcher = INSERT_VALUES.matcher(sql);
+            if (!matcher.matches()) {
+                return null;
+            }
+            var values = matcher.group(2);
+            var depth = 0;
+            var inLiteral = false;
+            var rowParameters = 0;
+            for (int i = 0; i < values.length(); i++) {
+                var c = values.charAt(i);
+                if (c == '\'') {
+                    inLiteral = !inLiteral;
+                } else if (inLiteral) {
+                    continue;
+                } else if (c == '(') {
+                    depth++;
+                } else if (c == ')') {
+                    depth--;
+                    if (depth == 0 && i != values.length() - 1) {
+                        // VALUES already contains several groups or is followed by another clause
+                        return null;
+                    }
+                } else if (c == '?') {
+                    rowParameters++;
+                }
+            }
+            if (depth != 0 || inLiteral || rowParameters == 0) {
+                return null;
+            }
+            return new MultiRowInsert(matcher.group(1) + String.join(", ", Collections.nCopies(rows, values)), rowParameters);
+        }
+    }
+
     public void enrichWithExecutor(TypeElement repositoryElement, TypeSpec.Builder builder, MethodSpec.Builder constructorBuilder, List<ExecutableElement> queryMethods) {
         builder.addField(JdbcTypes.CONNECTION_FACTORY, "_connectionFactory", Modifier.PRIVATE, Modifier.FINAL);
         builder.addSuperinterface(JdbcTypes.JDBC_REPOSITORY);
@@ -311,7 +557,7 @@ public final class JdbcRepositoryGenerator implements RepositoryGenerator {
         }
         constructorBuilder.addStatement("this._connectionFactory = _connectionFactory");
 
-        var needThreadPool = queryMethods.stream().anyMatch(e -> CommonUtils.isMono(e.getReturnType()) || CommonUtils.isFuture(e.getReturnType()));
+        var needThreadPool = queryMethods.stream().anyMatch(e -> CommonUtils.isMono(e.getReturnType()) || CommonUtils.isFuture(e.getReturnType()) || isFlowPublisher(e.getReturnType()));
         if (needThreadPool && executorTag != null) {
             builder.addField(TypeName.get(Executor.class), "_executor", Modifier.PRIVATE, Modifier.FINAL);
             constructorBuilder.addStatement("this._executor = _executor");
@@ -326,4 +572,23 @@ public final class JdbcRepositoryGenerator implements RepositoryGenerator {
                 .build());
         }
     }
+
+    /**
+     * @return row type if method returns rows one by one with Stream, Iterator or Flow.Publisher
+     */
+    @Nullable
+    private static TypeMirror streamRowType(TypeMirror returnType) {
+        if (!(returnType instanceof DeclaredType dt) || dt.getTypeArguments().size() != 1) {
+            return null;
+        }
+        var name = dt.asElement().toString();
+        if (name.equals(Stream.class.getCanonicalName()) || name.equals(Iterator.class.getCanonicalName()) || name.equals(Flow.Publisher.class.getCanonicalName())) {
+            return dt.getTypeArguments().get(0);
+        }
+        return null;
+    }
+
+    private static boolean isFlowPublisher(TypeMirror returnType) {
+        return returnType instanceof DeclaredType dt && dt.asElement().toString().equals(Flow.Publisher.class.getCanonicalName());
+    }
 }
@@ -9,6 +9,9 @@ public class JdbcTypes {
 
     public static final String RESULT_PACKAGE = "ru.tinkoff.kora.database.jdbc.mapper.result";
     public static final ClassName JDBC_DATABASE = ClassName.get("ru.tinkoff.kora.database.jdbc", "JdbcDatabase");
+    public static final ClassName RESULT_ITERATOR = ClassName.get("ru.tinkoff.kora.database.jdbc", "JdbcResultIterator");
+    public static final ClassName RESULT_PUBLISHER = ClassName.get("ru.tinkoff.kora.database.jdbc", "JdbcResultPublisher");
+    public static final ClassName QUERY_CANCELLATION = ClassName.get("ru.tinkoff.kora.database.jdbc", "JdbcQueryCancellation");
     public static final ClassName RESULT_SET_MAPPER = ClassName.get(RESULT_PACKAGE, "JdbcResultSetMapper");
     public static final ClassName ROW_MAPPER = ClassName.get(RESULT_PACKAGE, "JdbcRowMapper");
     public static final ClassName RESULT_COLUMN_MAPPER = ClassName.get(RESULT_PACKAGE, "JdbcResultColumnMapper");
@@ -16,5 +19,9 @@ public class JdbcTypes {
     public static final String PARAMETER_PACKAGE = "ru.tinkoff.kora.database.jdbc.mapper.parameter";
     public static final ClassName PARAMETER_COLUMN_MAPPER = ClassName.get(PARAMETER_PACKAGE, "JdbcParameterColumnMapper");
 
+    public static final String COPY_PACKAGE = "ru.tinkoff.kora.database.jdbc.copy";
+    public static final ClassName COPY_ROW_WRITER = ClassName.get(COPY_PACKAGE, "JdbcCopyRowWriter");
+    public static final ClassName COPY_OUTPUT = ClassName.get(COPY_PACKAGE, "JdbcCopyOutput");
+
     public static final ClassName JDBC_ENTITY = ClassName.get("ru.tinkoff.kora.database.jdbc", "EntityJdbc");
 }
@@ -10,6 +10,7 @@ import ru.tinkoff.kora.database.annotation.processor.model.QueryParameter;
 import jakarta.annotation.Nullable;
 import javax.lang.model.element.ExecutableElement;
 import java.util.List;
+import java.util.function.IntFunction;
 
 import static ru.tinkoff.kora.annotation.processor.common.CommonUtils.isNullable;
 
@@ -21,6 +22,23 @@ public class StatementSetterGenerator {
             // one of Iterable<T>, Iterator<T>, Stream<T>
             b.add("for (var _i : $L) {$>\n", batchParam.variable());
         }
+        b.add(generateBinds(sqlWithParameters, parameters, parameterMappers, "_stmt", null));
+        if (batchParam != null) {
+            b.add("_stmt.addBatch();$<\n}\n");
+        }
+        return b.build();
+    }
+
+    /**
+     * Binds parameters of a single row, batch parameter element is expected in {@code _i} variable
+     *
+     * @param indexOffset variable holding offset added to every parameter index, used to bind rows of multi-row statement
+     */
+    public static CodeBlock generateBinds(QueryWithParameters sqlWithParameters, List<QueryParameter> parameters, FieldFactory parameterMappers, String stmt, @Nullable String indexOffset) {
+        IntFunction<CodeBlock> index = indexOffset == null
+            ? idx -> CodeBlock.of("$L", idx + 1)
+            : idx -> CodeBlock.of("$L + $L", indexOffset, idx + 1);
+        var b = CodeBlock.builder();
         for (int i = 0; i < parameters.size(); i++) {
             var parameter = parameters.get(i);
             if (parameter instanceof QueryParameter.ConnectionParameter) {
@@ -45,27 +63,27 @@ public class StatementSetterGenerator {
                     if (isNullable(parameter.variable())) {
                         b.add("if ($L != null) {$>", parameterName);
                         for (var idx : sqlParameter.sqlIndexes()) {
-                            b.add("\n").add(nativeType.bind("_stmt", parameterName, idx + 1)).add(";");
+                            b.add("\n").add(nativeType.bind(stmt, parameterName, index.apply(idx))).add(";");
                         }
                         b.add("$<\n} else {$>");
                         for (var idx : sqlParameter.sqlIndexes()) {
-                            b.add("\n").add(nativeType.bindNull("_stmt", idx + 1)).add(";");
+                            b.add("\n").add(nativeType.bindNull(stmt, index.apply(idx))).add(";");
                         }
                         b.add("$<\n}\n");
                     } else {
                         for (var idx : sqlParameter.sqlIndexes()) {
-                            b.add(nativeType.bind("_stmt", parameterName, idx + 1)).add(";\n");
+                            b.add(nativeType.bind(stmt, parameterName, index.apply(idx))).add(";\n");
                         }
                     }
                 } else if (mapping != null && mapping.mapperClass() != null) {
                     var mapper = parameterMappers.get(JdbcTypes.PARAMETER_COLUMN_MAPPER, mapping, parameter.type());
                     for (var idx : sqlParameter.sqlIndexes()) {
-                        b.add("$L.set(_stmt, $L, $L);\n", mapper, idx + 1, parameterName);
+                        b.add("$L.set($L, $L, $L);\n", mapper, stmt, index.apply(idx), parameterName);
                     }
                 } else {
                     var mapper = parameterMappers.get(JdbcTypes.PARAMETER_COLUMN_MAPPER, parameter.type(), parameter.variable());
                     for (var idx : sqlParameter.sqlIndexes()) {
-                        b.add("$L.set(_stmt, $L, $L);\n", mapper, idx + 1, parameterName);
+                        b.add("$L.set($L, $L, $L);\n", mapper, stmt, index.apply(idx), parameterName);
                     }
                 }
             }
@@ -83,35 +101,32 @@ public class StatementSetterGenerator {
                         if (isNullable(field.element())) {
                             b.add("if ($L != null) {$>", accessor);
                             for (var idx : sqlParameter.sqlIndexes()) {
-                                b.add("\n").add(nativeType.bind("_stmt", accessor, idx + 1)).add(";");
+                                b.add("\n").add(nativeType.bind(stmt, accessor, index.apply(idx))).add(";");
                             }
                             b.add("$<\n} else {$>");
                             for (var idx : sqlParameter.sqlIndexes()) {
-                                b.add("\n").add(nativeType.bindNull("_stmt", idx + 1)).add(";");
+                                b.add("\n").add(nativeType.bindNull(stmt, index.apply(idx))).add(";");
                             }
                             b.add("$<\n}\n");
                         } else {
                             for (var idx : sqlParameter.sqlIndexes()) {
-                                b.add(nativeType.bind("_stmt", accessor, idx + 1)).add(";\n");
+                                b.add(nativeType.bind(stmt, accessor, index.apply(idx))).add(";\n");
                             }
                         }
                     } else if (mapping == null) {
                         var mapper = parameterMappers.get(JdbcTypes.PARAMETER_COLUMN_MAPPER, field.type(), field.element());
                         for (var idx : sqlParameter.sqlIndexes()) {
-                            b.add("$L.set(_stmt, $L, $L);\n", mapper, idx + 1, accessor);
+                            b.add("$L.set($L, $L, $L);\n", mapper, stmt, index.apply(idx), accessor);
                         }
                     } else {
                         var mapper = parameterMappers.get(JdbcTypes.PARAMETER_COLUMN_MAPPER, mapping, field.type());
                         for (var idx : sqlParameter.sqlIndexes()) {
-                            b.add("$L.set(_stmt, $L, $L);\n", mapper, idx + 1, accessor);
+                            b.add("$L.set($L, $L, $L);\n", mapper, stmt, index.apply(idx), accessor);
                         }
                     }
                 }
             }
         }
-        if (batchParam != null) {
-            b.add("_stmt.addBatch();$<\n}\n");
-        }
         return b.build();
     }
 }
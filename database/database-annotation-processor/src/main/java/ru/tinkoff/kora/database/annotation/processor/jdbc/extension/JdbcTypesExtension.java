@@ -8,6 +8,7 @@ import ru.tinkoff.kora.annotation.processor.common.AnnotationUtils;
 import ru.tinkoff.kora.annotation.processor.common.CommonUtils;
 import ru.tinkoff.kora.annotation.processor.common.GenericTypeResolver;
 import ru.tinkoff.kora.annotation.processor.common.NameUtils;
+import ru.tinkoff.kora.annotation.processor.common.ProcessingErrorException;
 import ru.tinkoff.kora.database.annotation.processor.entity.DbEntity;
 import ru.tinkoff.kora.database.annotation.processor.jdbc.JdbcEntityGenerator;
 import ru.tinkoff.kora.database.annotation.processor.jdbc.JdbcTypes;
@@ -36,6 +37,7 @@ import java.util.Set;
 // JdbcRowMapper<T>
 // JdbcResultSetMapper<T>
 // JdbcResultSetMapper<List<T>>
+// JdbcCopyRowWriter<T>
 public class JdbcTypesExtension implements KoraExtension {
     private static final ClassName LIST_CLASS_NAME = ClassName.get(List.class);
 
@@ -89,6 +91,20 @@ public class JdbcTypesExtension implements KoraExtension {
             return null;
         }
 
+        if (Objects.equals(ptn.rawType, JdbcTypes.COPY_ROW_WRITER)) {
+            var rowTypeMirror = declaredType.getTypeArguments().get(0);
+            if (rowTypeMirror instanceof DeclaredType rowDeclaredType && AnnotationUtils.isAnnotationPresent(rowDeclaredType.asElement(), JdbcTypes.JDBC_ENTITY)) {
+                var entity = DbEntity.parseEntity(this.types, rowTypeMirror);
+                var unsupportedColumn = entity == null ? null : JdbcEntityGenerator.copyUnsupportedColumn(entity);
+                if (unsupportedColumn != null) {
+                    throw new ProcessingErrorException("%s can't be generated for %s: field '%s' is embedded, has column mapper or has no binary COPY type, writer should be provided manually"
+                        .formatted(JdbcTypes.COPY_ROW_WRITER.simpleName(), rowDeclaredType.asElement().getSimpleName(), unsupportedColumn.element().getSimpleName()), unsupportedColumn.element());
+                }
+                return fromAnnotationProcessor(generator.copyRowWriterName((TypeElement) rowDeclaredType.asElement()));
+            }
+            return null;
+        }
+
         if (Objects.equals(ptn.rawType, JdbcTypes.RESULT_SET_MAPPER)) {
             var resultTypeName = ptn.typeArguments.get(0);
             var resultTypeMirror = declaredType.getTypeArguments().get(0);
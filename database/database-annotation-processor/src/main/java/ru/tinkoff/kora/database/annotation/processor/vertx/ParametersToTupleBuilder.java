@@ -104,7 +104,7 @@ public class ParametersToTupleBuilder {
             b.addCode("var _$L = $L;\n", sqlParam.name, sqlParam.code);
         }
         if (sqlParams.isEmpty()) {
-            b.addCode("var _tuple = $T.tuple();\n", VertxTypes.TUPLE);
+            b.addCode("var _tuple = $T.EMPTY_TUPLE;\n", VertxTypes.REPOSITORY_HELPER);
         } else {
             b.addCode("var _tuple = $T.of($>\n", VertxTypes.TUPLE);
             for (int i = 0; i < sqlParams.size(); i++) {
@@ -23,6 +23,7 @@ import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
 import java.util.*;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
 
 public final class VertxRepositoryGenerator implements RepositoryGenerator {
     private final TypeMirror repositoryInterface;
@@ -114,9 +115,12 @@ public final class VertxRepositoryGenerator implements RepositoryGenerator {
         var connectionParam = parameters.stream().filter(QueryParameter.ConnectionParameter.class::isInstance).findFirst().orElse(null);
         var returnType = methodType.getReturnType();
         var isFlux = CommonUtils.isFlux(returnType);
+        var isFlowPublisher = isFlowPublisher(returnType);
         var isMono = CommonUtils.isMono(returnType);
         var isCompletionStage = this.isCompletionStage(returnType);
         var isVoid = isVoid(returnType);
+        var queryAnnotation = AnnotationUtils.findAnnotation(method, DbUtils.QUERY_ANNOTATION);
+        var fetchSize = Objects.requireNonNullElse(AnnotationUtils.<Integer>parseAnnotationValueWithoutDefault(queryAnnotation, "fetchSize"), 0);
 
         ParametersToTupleBuilder.generate(b, query, method, parameters, batchParam, parameterMappers);
         CodeBlock resultMapper;
@@ -155,9 +159,15 @@ public final class VertxRepositoryGenerator implements RepositoryGenerator {
             }
         } else if (isFlux) {
             if (connectionParam == null) {
-                b.addCode("$T.Reactor.flux(this._connectionFactory, _query, _tuple, $L)\n", VertxTypes.REPOSITORY_HELPER, resultMapperName);
+                b.addCode("$T.Reactor.flux(this._connectionFactory, _query, _tuple, $L, $L)\n", VertxTypes.REPOSITORY_HELPER, fetchSize, resultMapperName);
             } else {
-                b.addCode("$T.Reactor.flux($N, this._connectionFactory.telemetry(), _query, _tuple, $L)\n", VertxTypes.REPOSITORY_HELPER, connectionParam.name(), resultMapperName);
+                b.addCode("$T.Reactor.flux($N, this._connectionFactory.telemetry(), _query, _tuple, $L, $L)\n", VertxTypes.REPOSITORY_HELPER, connectionParam.name(), fetchSize, resultMapperName);
+            }
+        } else if (isFlowPublisher) {
+            if (connectionParam == null) {
+                b.addCode("new $T<>(this._connectionFactory, _query, _tuple, $L, $L)\n", VertxTypes.ROW_PUBLISHER, fetchSize, resultMapperName);
+            } else {
+                b.addCode("new $T<>($N, this._connectionFactory.telemetry(), _query, _tuple, $L, $L)\n", VertxTypes.ROW_PUBLISHER, connectionParam.name(), fetchSize, resultMapperName);
             }
         } else if (isMono) {
             if (connectionParam == null) {
@@ -172,7 +182,7 @@ public final class VertxRepositoryGenerator implements RepositoryGenerator {
                 b.addCode("$T.completionStage($N, this._connectionFactory.telemetry(), _query, _tuple, $L)\n", VertxTypes.REPOSITORY_HELPER, connectionParam.name(), resultMapper);
             }
         }
-        if (isFlux) {
+        if (isFlux || isFlowPublisher) {
             b.addCode(";\n");
         } else if (isMono) {
             b.addCode(";\n");
@@ -190,11 +200,14 @@ public final class VertxRepositoryGenerator implements RepositoryGenerator {
             return Optional.empty();
         }
 
-        final boolean isFlux = CommonUtils.isFlux(returnType);
+        final boolean isFlux = CommonUtils.isFlux(returnType) || isFlowPublisher(returnType);
         final boolean isMono = CommonUtils.isMono(returnType);
         final boolean isCompletionStage = isCompletionStage(returnType);
         for (var parameter : parameters) {
             if (parameter instanceof QueryParameter.BatchParameter) {
+                if (isFlowPublisher(returnType)) {
+                    throw new ProcessingErrorException("Flow.Publisher results can't be used with @Batch", method);
+                }
                 final TypeMirror realReturnType = (isMono || isFlux || isCompletionStage)
                     ? Visitors.visitDeclaredType(returnType, dt -> dt.getTypeArguments().get(0))
                     : method.getReturnType();
@@ -282,6 +295,10 @@ public final class VertxRepositoryGenerator implements RepositoryGenerator {
         return this.types.isAssignable(returnType, this.completionStageType);
     }
 
+    private static boolean isFlowPublisher(TypeMirror returnType) {
+        return returnType instanceof DeclaredType dt && dt.asElement().toString().equals(Flow.Publisher.class.getCanonicalName());
+    }
+
     private boolean isVoid(TypeMirror tm) {
         if (isCompletionStage(tm) || CommonUtils.isMono(tm) || CommonUtils.isFlux(tm)) {
             tm = Visitors.visitDeclaredType(tm, dt -> dt.getTypeArguments().get(0));
@@ -14,6 +14,7 @@ public class VertxTypes {
     public static final ClassName CONNECTION_FACTORY = ClassName.get("ru.tinkoff.kora.database.vertx", "VertxConnectionFactory");
     public static final ClassName REPOSITORY = ClassName.get("ru.tinkoff.kora.database.vertx", "VertxRepository");
     public static final ClassName REPOSITORY_HELPER = ClassName.get("ru.tinkoff.kora.database.vertx", "VertxRepositoryHelper");
+    public static final ClassName ROW_PUBLISHER = ClassName.get("ru.tinkoff.kora.database.vertx", "VertxRowPublisher");
 
     public static final ClassName ROW_SET_MAPPER = ClassName.get("ru.tinkoff.kora.database.vertx.mapper.result", "VertxRowSetMapper");
     public static final ClassName ROW_MAPPER = ClassName.get("ru.tinkoff.kora.database.vertx.mapper.result", "VertxRowMapper");
@@ -228,4 +228,31 @@ public class CassandraResultsTest extends AbstractCassandraRepositoryTest {
         assertThat(tag).isNotNull();
         assertThat(tag.value()).isEqualTo(new Class<?>[]{compileResult.loadClass("TestRepository")});
     }
+
+    @Test
+    public void testReturnFlowPublisher() {
+        var repository = compileCassandra(List.of(), """
+            @Repository
+            public interface TestRepository extends CassandraRepository {
+                @Query(value = "SELECT value FROM test", fetchSize = 100)
+                @Mapping(TestRowMapper.class)
+                java.util.concurrent.Flow.Publisher<Integer> test();
+            }
+            """, """
+            public final class TestRowMapper implements CassandraRowMapper<Integer> {
+                public Integer apply(Row row) {
+                  return 42;
+                }
+            }
+            """);
+
+        when(executor.iterator.hasNext()).thenReturn(true, true, false);
+        var result = repository.invoke("test");
+
+        assertThat(result).isEqualTo(42);
+        verify(executor.mockSession).prepareAsync("SELECT value FROM test");
+        verify(executor.boundStatementBuilder).setPageSize(100);
+        verify(executor.mockSession).executeAsync(any(Statement.class));
+        verify(executor.telemetryCtx).close(null);
+    }
 }
@@ -4,12 +4,17 @@ import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.ParameterizedTypeName;
 import org.junit.jupiter.api.Test;
 import ru.tinkoff.kora.database.annotation.processor.jdbc.JdbcEntityAnnotationProcessor;
+import ru.tinkoff.kora.database.jdbc.copy.JdbcCopyOutput;
+import ru.tinkoff.kora.database.jdbc.copy.JdbcCopyRowWriter;
 import ru.tinkoff.kora.database.jdbc.mapper.result.JdbcResultSetMapper;
 import ru.tinkoff.kora.database.jdbc.mapper.result.JdbcRowMapper;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class JdbcEntityTest extends AbstractJdbcEntityTest {
 
@@ -49,6 +54,39 @@ public class JdbcEntityTest extends AbstractJdbcEntityTest {
         assertThat(graph.get(draw.getNodes().get(0))).isInstanceOf(JdbcResultSetMapper.class);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testAnnotatedRecordCopyRowWriter() throws IOException {
+        var expectedType = ParameterizedTypeName.get(ClassName.get(JdbcCopyRowWriter.class), className("TestRecord"));
+
+        var graph = compile(expectedType, List.of(), List.of(new JdbcEntityAnnotationProcessor()),
+            "@ru.tinkoff.kora.database.jdbc.EntityJdbc public record TestRecord(int f1, @Nullable String f2){}"
+        );
+        assertThat(draw.getNodes()).hasSize(2);
+
+        var writer = (JdbcCopyRowWriter<Object>) graph.get(draw.getNodes().get(0));
+        assertThat(writer.columns()).containsExactly("f1", "f2");
+
+        var bytes = new ByteArrayOutputStream();
+        var output = new JdbcCopyOutput(bytes);
+        writer.write(output, newObject("TestRecord", 42, null));
+        output.flush();
+        assertThat(bytes.toByteArray()).containsExactly(
+            0, 2,
+            0, 0, 0, 4, 0, 0, 0, 42,
+            -1, -1, -1, -1
+        );
+    }
+
+    @Test
+    public void testAnnotatedRecordCopyRowWriterUnsupportedColumn() {
+        var expectedType = ParameterizedTypeName.get(ClassName.get(JdbcCopyRowWriter.class), className("TestRecord"));
+
+        assertThatThrownBy(() -> compile(expectedType, List.of(), List.of(new JdbcEntityAnnotationProcessor()),
+            "@ru.tinkoff.kora.database.jdbc.EntityJdbc public record TestRecord(int f1, java.util.UUID f2){}"
+        )).hasMessageContaining("JdbcCopyRowWriter can't be generated for TestRecord: field 'f2'");
+    }
+
     @Test
     public void testNonAnnotatedRecordRowMapper() {
         var expectedType = ParameterizedTypeName.get(ClassName.get(JdbcRowMapper.class), className("TestRecord"));
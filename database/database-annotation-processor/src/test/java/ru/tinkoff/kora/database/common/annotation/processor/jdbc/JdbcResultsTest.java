@@ -7,6 +7,7 @@ import ru.tinkoff.kora.common.Tag;
 import ru.tinkoff.kora.database.common.UpdateCount;
 import ru.tinkoff.kora.database.jdbc.mapper.result.JdbcResultSetMapper;
 
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Optional;
@@ -15,6 +16,10 @@ import java.util.concurrent.Executors;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -373,6 +378,102 @@ public class JdbcResultsTest extends AbstractJdbcRepositoryTest {
         assertThat(result).containsExactly(1, 2, 3);
     }
 
+    @Test
+    public void returnBatchChunkedIntArray() throws SQLException {
+        var repository = compileJdbc(List.of(), """
+            @Repository
+            public interface TestRepository extends JdbcRepository {
+                @Query("INSERT INTO test(test) VALUES (:someint)")
+                int[] returnBatch(@Batch(size = 2) java.util.List<Integer> someint);
+            }
+            """);
+        when(executor.preparedStatement.executeBatch()).thenReturn(new int[]{1, 2}, new int[]{3, 4}, new int[]{5});
+        var result = (int[]) repository.invoke("returnBatch", List.of(1, 2, 3, 4, 5));
+
+        verify(executor.preparedStatement, times(5)).addBatch();
+        verify(executor.preparedStatement, times(3)).executeBatch();
+        verify(executor.mockConnection, never()).commit();
+        assertThat(result).containsExactly(1, 2, 3, 4, 5);
+    }
+
+    @Test
+    public void returnBatchChunkedWithCommit() throws SQLException {
+        var repository = compileJdbc(List.of(), """
+            @Repository
+            public interface TestRepository extends JdbcRepository {
+                @Query("INSERT INTO test(test) VALUES (:someint)")
+                UpdateCount returnBatch(@Batch(size = 2, commit = true) java.util.List<Integer> someint);
+            }
+            """);
+        when(executor.mockConnection.getAutoCommit()).thenReturn(false);
+        when(executor.preparedStatement.executeLargeBatch()).thenReturn(new long[]{1, 1}, new long[]{1});
+        var result = repository.<UpdateCount>invoke("returnBatch", List.of(1, 2, 3));
+
+        verify(executor.preparedStatement, times(2)).executeLargeBatch();
+        verify(executor.mockConnection, times(2)).commit();
+        assertThat(result.value()).isEqualTo(3);
+    }
+
+    @Test
+    public void returnBatchMultiRowInsert() throws SQLException {
+        var repository = compileJdbc(List.of(), """
+            @Repository
+            public interface TestRepository extends JdbcRepository {
+                @Query("INSERT INTO test(id, value) VALUES (:value.id, :value.value)")
+                UpdateCount test(@Batch(size = 2, multiRowInsert = true) java.util.List<TestEntity> value);
+            }
+            """, """
+            public record TestEntity(int id, String value) {}
+            """);
+        when(executor.preparedStatement.executeLargeUpdate()).thenReturn(2L);
+        when(executor.preparedStatement.executeLargeBatch()).thenReturn(new long[]{1});
+        var entities = List.of(
+            newObject("TestEntity", 1, "a"),
+            newObject("TestEntity", 2, "b"),
+            newObject("TestEntity", 3, "c")
+        );
+        var result = repository.<UpdateCount>invoke("test", entities);
+
+        verify(executor.mockConnection).prepareStatement("INSERT INTO test(id, value) VALUES (?, ?)");
+        verify(executor.mockConnection).prepareStatement("INSERT INTO test(id, value) VALUES (?, ?), (?, ?)");
+        verify(executor.preparedStatement).setInt(1, 1);
+        verify(executor.preparedStatement).setString(2, "a");
+        verify(executor.preparedStatement).setInt(3, 2);
+        verify(executor.preparedStatement).setString(4, "b");
+        verify(executor.preparedStatement).setInt(1, 3);
+        verify(executor.preparedStatement).setString(2, "c");
+        verify(executor.preparedStatement).executeLargeUpdate();
+        verify(executor.preparedStatement).addBatch();
+        verify(executor.preparedStatement).executeLargeBatch();
+        assertThat(result.value()).isEqualTo(3);
+    }
+
+    @Test
+    public void returnBatchMultiRowInsertNotInsertFails() {
+        assertThatThrownBy(() -> compileJdbc(List.of(), """
+            @Repository
+            public interface TestRepository extends JdbcRepository {
+                @Query("UPDATE test SET value = :value")
+                void test(@Batch(size = 10, multiRowInsert = true) java.util.List<String> value);
+            }
+            """))
+            .hasMessageContaining("@Batch multiRowInsert supports only simple INSERT ... VALUES (...) query");
+    }
+
+    @Test
+    public void returnBatchMultiRowInsertTooManyParametersFails() {
+        assertThatThrownBy(() -> compileJdbc(List.of(), """
+            @Repository
+            public interface TestRepository extends JdbcRepository {
+                @Query("INSERT INTO test(id, value) VALUES (:value.id, :value.value)")
+                void test(@Batch(size = 40000, multiRowInsert = true) java.util.List<TestEntity> value);
+            }
+            """, """
+            public record TestEntity(int id, String value) {}
+            """))
+            .hasMessageContaining("@Batch multiRowInsert statement with size 40000 has 80000 parameters, but drivers support at most 65535, size should be not greater than 32767");
+    }
+
     @Test
     public void returnBatchGeneratedIds() throws SQLException {
         var repository = compileJdbc(List.of(JdbcResultSetMapper.listResultSetMapper(rs -> rs.getLong(1))), """
@@ -702,4 +803,155 @@ public class JdbcResultsTest extends AbstractJdbcRepositoryTest {
         assertThat(tag.value()).isEqualTo(new Class<?>[]{compileResult.loadClass("TestRepository")});
     }
 
+    @Test
+    public void testReadOnlyQueryUsesReadOnlyConnection() throws SQLException {
+        var mapper = Mockito.mock(JdbcResultSetMapper.class);
+        var executor = Mockito.spy(new MockJdbcExecutor());
+        doReturn(null).when(executor).currentConnection();
+        doReturn(executor.mockConnection).when(executor).newReadOnlyConnection();
+        var repository = compile(executor, List.of(mapper), """
+            @Repository
+            public interface TestRepository extends JdbcRepository {
+                @Query(value = "SELECT count(*) FROM test", readOnly = true)
+                int test();
+            }
+            """);
+
+        when(mapper.apply(any())).thenReturn(42);
+        var result = repository.invoke("test");
+
+        assertThat(result).isEqualTo(42);
+        verify(executor).newReadOnlyConnection();
+        verify(executor, never()).newConnection();
+        verify(executor.mockConnection).close();
+    }
+
+    @Test
+    public void testQueryTimeout() throws SQLException {
+        var mapper = Mockito.mock(JdbcResultSetMapper.class);
+        var repository = compileJdbc(List.of(mapper), """
+            @Repository
+            public interface TestRepository extends JdbcRepository {
+                @Query(value = "SELECT count(*) FROM test", timeout = 5)
+                int test();
+            }
+            """);
+
+        when(mapper.apply(any())).thenReturn(42);
+        var result = repository.invoke("test");
+
+        assertThat(result).isEqualTo(42);
+        verify(executor.preparedStatement).setQueryTimeout(5);
+    }
+
+    @Test
+    public void testReturnStream() throws SQLException {
+        var repository = compileJdbc(List.of(), """
+            @Repository
+            public interface TestRepository extends JdbcRepository {
+                @Query("SELECT value FROM test")
+                @Mapping(TestRowMapper.class)
+                java.util.stream.Stream<Integer> test();
+            }
+            """, """
+            public final class TestRowMapper implements JdbcRowMapper<Integer> {
+                public Integer apply(ResultSet rs) throws SQLException {
+                  return rs.getInt(1);
+                }
+            }
+            """);
+
+        when(executor.resultSet.next()).thenReturn(true, true, false);
+        when(executor.resultSet.getInt(1)).thenReturn(1, 2);
+        try (var stream = repository.<java.util.stream.Stream<Integer>>invoke("test")) {
+            verify(executor.preparedStatement).setFetchSize(1000);
+            verify(executor.preparedStatement).executeQuery();
+            verify(executor.resultSet, never()).next();
+            assertThat(stream.toList()).containsExactly(1, 2);
+        }
+        verify(executor.mockConnection).prepareStatement("SELECT value FROM test", ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        verify(executor.resultSet).close();
+        verify(executor.preparedStatement).close();
+        verify(executor.mockConnection, never()).close();
+    }
+
+    @Test
+    public void testReturnIteratorWithFetchSize() throws Exception {
+        var repository = compileJdbc(List.of(), """
+            @Repository
+            public interface TestRepository extends JdbcRepository {
+                @Query(value = "SELECT value FROM test WHERE id = :id", fetchSize = 50)
+                @Mapping(TestRowMapper.class)
+                java.util.Iterator<Integer> test(int id);
+            }
+            """, """
+            public final class TestRowMapper implements JdbcRowMapper<Integer> {
+                public Integer apply(ResultSet rs) throws SQLException {
+                  return rs.getInt(1);
+                }
+            }
+            """);
+
+        when(executor.resultSet.next()).thenReturn(true, true, true);
+        when(executor.resultSet.getInt(1)).thenReturn(1, 2, 3);
+        var iterator = repository.<java.util.Iterator<Integer>>invoke("test", 42);
+        verify(executor.preparedStatement).setFetchSize(50);
+        verify(executor.preparedStatement).setInt(1, 42);
+        assertThat(iterator.next()).isEqualTo(1);
+        assertThat(iterator.next()).isEqualTo(2);
+        verify(executor.resultSet, never()).close();
+
+        ((AutoCloseable) iterator).close();
+        assertThat(iterator.hasNext()).isFalse();
+        verify(executor.resultSet).close();
+        verify(executor.preparedStatement).close();
+    }
+
+    @Test
+    public void testReturnFlowPublisher() throws SQLException {
+        var repository = compileJdbc(List.of(Executors.newCachedThreadPool()), """
+            @Repository
+            public interface TestRepository extends JdbcRepository {
+                @Query("SELECT value FROM test")
+                @Mapping(TestRowMapper.class)
+                java.util.concurrent.Flow.Publisher<Integer> test();
+            }
+            """, """
+            public final class TestRowMapper implements JdbcRowMapper<Integer> {
+                public Integer apply(ResultSet rs) throws SQLException {
+                  return rs.getInt(1);
+                }
+            }
+            """);
+
+        when(executor.resultSet.next()).thenReturn(true, true, false);
+        when(executor.resultSet.getInt(1)).thenReturn(1, 2);
+        var result = repository.<Integer>invoke("test");
+
+        assertThat(result).isEqualTo(1);
+        verify(executor.preparedStatement).setFetchSize(1000);
+        verify(executor.resultSet, timeout(1000)).close();
+        verify(executor.preparedStatement, timeout(1000)).close();
+        // connection of caller's context is taken on calling thread, not on executor thread
+        assertThat(executor.currentConnectionThreads).containsExactly(Thread.currentThread());
+    }
+
+    @Test
+    public void testNonStreamingQueryWithFetchSize() throws SQLException {
+        var mapper = Mockito.mock(JdbcResultSetMapper.class);
+        var repository = compileJdbc(List.of(mapper), """
+            @Repository
+            public interface TestRepository extends JdbcRepository {
+                @Query(value = "SELECT value FROM test", fetchSize = 500)
+                java.util.List<Integer> test();
+            }
+            """);
+
+        when(mapper.apply(any())).thenReturn(List.of(42));
+        var result = repository.invoke("test");
+
+        assertThat(result).isEqualTo(List.of(42));
+        verify(executor.preparedStatement).setFetchSize(500);
+        verify(executor.preparedStatement).executeQuery();
+    }
 }
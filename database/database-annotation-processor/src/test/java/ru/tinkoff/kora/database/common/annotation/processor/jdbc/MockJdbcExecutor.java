@@ -10,7 +10,10 @@ import ru.tinkoff.kora.database.jdbc.JdbcHelper;
 import ru.tinkoff.kora.database.jdbc.RuntimeSqlException;
 
 import java.sql.*;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 
@@ -19,12 +22,15 @@ public class MockJdbcExecutor implements JdbcConnectionFactory {
     public final PreparedStatement preparedStatement = Mockito.mock(PreparedStatement.class);
     public final CallableStatement callableStatement = Mockito.mock(CallableStatement.class);
     public final Connection mockConnection = Mockito.mock(Connection.class);
+    public final List<Thread> currentConnectionThreads = new CopyOnWriteArrayList<>();
 
     public void reset() {
         Mockito.reset(resultSet, preparedStatement, callableStatement, mockConnection);
+        currentConnectionThreads.clear();
         try {
             when(mockConnection.prepareCall(anyString())).thenReturn(callableStatement);
             when(mockConnection.prepareStatement(anyString())).thenReturn(preparedStatement);
+            when(mockConnection.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(preparedStatement);
             when(preparedStatement.executeQuery()).thenReturn(resultSet);
             when(preparedStatement.getResultSet()).thenReturn(resultSet);
         } catch (SQLException e) {
@@ -47,6 +53,7 @@ public class MockJdbcExecutor implements JdbcConnectionFactory {
 
     @Override
     public Connection currentConnection() {
+        currentConnectionThreads.add(Thread.currentThread());
         return mockConnection;
     }
 
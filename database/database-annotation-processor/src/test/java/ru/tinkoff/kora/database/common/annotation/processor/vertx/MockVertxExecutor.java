@@ -18,6 +18,7 @@ import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
@@ -30,6 +31,7 @@ public class MockVertxExecutor implements VertxConnectionFactory {
     public final List<Row> rows = new ArrayList<>();
     public final DataBaseTelemetry telemetry = Mockito.mock(DataBaseTelemetry.class);
     public final DataBaseTelemetry.DataBaseTelemetryContext telemetryContext = Mockito.mock(DataBaseTelemetry.DataBaseTelemetryContext.class);
+    public MockRowStream stream;
 
     public MockVertxExecutor() {
         reset();
@@ -44,6 +46,11 @@ public class MockVertxExecutor implements VertxConnectionFactory {
             return connection;
         });
         when(stmt.query()).thenReturn(query);
+        when(stmt.close()).thenReturn(Future.succeededFuture());
+        when(stmt.createStream(anyInt(), any(Tuple.class))).thenAnswer(invocation -> {
+            stream = new MockRowStream(rows.iterator());
+            return stream;
+        });
         doAnswer(invocation -> {
             var handler = (Handler<AsyncResult<RowSet<Row>>>) invocation.getArgument(1);
             handler.handle(Future.succeededFuture(rowSet));
@@ -73,6 +80,79 @@ public class MockVertxExecutor implements VertxConnectionFactory {
 
     public record MockColumn(String label, Object value) {}
 
+    public static final class MockRowStream implements RowStream<Row> {
+        private final Iterator<Row> rows;
+        private Handler<Row> handler;
+        private Handler<Void> endHandler;
+        private long demand = Long.MAX_VALUE;
+        private boolean ended;
+        public long fetched;
+        public boolean closed;
+
+        public MockRowStream(Iterator<Row> rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public RowStream<Row> exceptionHandler(Handler<Throwable> handler) {
+            return this;
+        }
+
+        @Override
+        public RowStream<Row> handler(Handler<Row> handler) {
+            this.handler = handler;
+            this.drain();
+            return this;
+        }
+
+        @Override
+        public RowStream<Row> pause() {
+            this.demand = 0;
+            return this;
+        }
+
+        @Override
+        public RowStream<Row> resume() {
+            return this.fetch(Long.MAX_VALUE);
+        }
+
+        @Override
+        public RowStream<Row> endHandler(Handler<Void> endHandler) {
+            this.endHandler = endHandler;
+            return this;
+        }
+
+        @Override
+        public RowStream<Row> fetch(long amount) {
+            this.fetched += amount;
+            this.demand = this.demand + amount < 0 ? Long.MAX_VALUE : this.demand + amount;
+            this.drain();
+            return this;
+        }
+
+        private void drain() {
+            while (this.handler != null && !this.closed && this.demand > 0 && this.rows.hasNext()) {
+                this.demand--;
+                this.handler.handle(this.rows.next());
+            }
+            if (this.handler != null && !this.closed && !this.ended && !this.rows.hasNext()) {
+                this.ended = true;
+                this.endHandler.handle(null);
+            }
+        }
+
+        @Override
+        public Future<Void> close() {
+            this.closed = true;
+            return Future.succeededFuture();
+        }
+
+        @Override
+        public void close(Handler<AsyncResult<Void>> completionHandler) {
+            completionHandler.handle(this.close());
+        }
+    }
+
     public void setRow(MockColumn mockColumn) {
         this.setRow(List.of(mockColumn));
     }
@@ -1,5 +1,6 @@
 package ru.tinkoff.kora.database.common.annotation.processor.vertx;
 
+import io.vertx.core.Handler;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -12,6 +13,7 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -544,4 +546,64 @@ public class VertxResultsTest extends AbstractVertxRepositoryTest {
         assertThat(tag.value()).isEqualTo(new Class<?>[]{compileResult.loadClass("TestRepository")});
     }
 
+
+    @Test
+    public void testReturnFlowPublisher() {
+        var repository = compileVertx(List.of(), """
+            @Repository
+            public interface TestRepository extends VertxRepository {
+                @Query(value = "SELECT value FROM test", fetchSize = 10)
+                @Mapping(TestRowMapper.class)
+                java.util.concurrent.Flow.Publisher<Integer> test();
+            }
+            """, """
+            public final class TestRowMapper implements VertxRowMapper<Integer> {
+                public Integer apply(Row row) {
+                  return row.getInteger(0);
+                }
+            }
+            """);
+
+        executor.setRows(List.of(
+            List.of(new MockVertxExecutor.MockColumn("value", 1)),
+            List.of(new MockVertxExecutor.MockColumn("value", 2))
+        ));
+        var result = repository.<Integer>invoke("test");
+
+        assertThat(result).isEqualTo(1);
+        verify(executor.connection).prepare(eq("SELECT value FROM test"), any(Handler.class));
+        verify(executor.stmt).createStream(eq(10), any());
+        assertThat(executor.stream.closed).isTrue();
+        verify(executor.stmt).close();
+        verify(executor.telemetryContext).close(null);
+    }
+
+    @Test
+    public void testReturnFluxWithFetchSize() {
+        var repository = compileVertx(List.of(), """
+            @Repository
+            public interface TestRepository extends VertxRepository {
+                @Query(value = "SELECT value FROM test", fetchSize = 20)
+                @Mapping(TestRowMapper.class)
+                Flux<Integer> test();
+            }
+            """, """
+            public final class TestRowMapper implements VertxRowMapper<Integer> {
+                public Integer apply(Row row) {
+                  return row.getInteger(0);
+                }
+            }
+            """);
+
+        executor.setRows(List.of(
+            List.of(new MockVertxExecutor.MockColumn("value", 1)),
+            List.of(new MockVertxExecutor.MockColumn("value", 2))
+        ));
+        var result = repository.<Integer>invoke("test");
+
+        assertThat(result).isEqualTo(1);
+        verify(executor.stmt).createStream(eq(20), any());
+        assertThat(executor.stream.closed).isTrue();
+        verify(executor.telemetryContext).close(null);
+    }
 }
@@ -0,0 +1,215 @@
+package ru.tinkoff.kora.database.cassandra;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+import jakarta.annotation.Nullable;
+import ru.tinkoff.kora.common.Context;
+import ru.tinkoff.kora.database.cassandra.mapper.result.CassandraRowMapper;
+import ru.tinkoff.kora.database.common.QueryContext;
+import ru.tinkoff.kora.database.common.telemetry.DataBaseTelemetry;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * <b>Русский</b>: Издатель строк результата запроса, который выполняет запрос при первом запросе данных подписчиком
+ * и загружает следующую страницу через {@link AsyncResultSet#fetchNextPage()} только когда текущая страница прочитана и есть спрос.
+ * Методы репозитория, возвращающие {@code Flow.Publisher}, поддерживаются только Java обработчиком аннотаций,
+ * Kotlin репозитории могут использовать {@code Flow} из kotlinx.coroutines.
+ * <hr>
+ * <b>English</b>: Publisher of query result rows that executes query on first subscriber demand
+ * and loads next page with {@link AsyncResultSet#fetchNextPage()} only when current page is consumed and there is demand.
+ * Repository methods returning {@code Flow.Publisher} are supported only by Java annotation processor,
+ * Kotlin repositories can use kotlinx.coroutines {@code Flow}.
+ *
+ * @see ru.tinkoff.kora.database.common.annotation.Query#fetchSize()
+ */
+public final class CassandraRowPublisher<T> implements Flow.Publisher<T> {
+
+    private final CassandraConnectionFactory connectionFactory;
+    private final Context context;
+    private final QueryContext query;
+    private final Function<CqlSession, CompletionStage<AsyncResultSet>> execute;
+    private final CassandraRowMapper<T> mapper;
+
+    public CassandraRowPublisher(CassandraConnectionFactory connectionFactory, QueryContext query, Function<CqlSession, CompletionStage<AsyncResultSet>> execute, CassandraRowMapper<T> mapper) {
+        this.connectionFactory = connectionFactory;
+        this.context = Context.current();
+        this.query = query;
+        this.execute = execute;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber);
+        subscriber.onSubscribe(new PageSubscription<>(this, subscriber));
+    }
+
+    private static final class PageSubscription<T> implements Flow.Subscription {
+        private final CassandraRowPublisher<T> publisher;
+        private final Flow.Subscriber<? super T> subscriber;
+        private final Context ctxFork;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile boolean cancelled;
+        @Nullable
+        private volatile Throwable error;
+        @Nullable
+        private volatile AsyncResultSet nextPage;
+        private volatile boolean fetching;
+
+        // accessed only from drain loop
+        @Nullable
+        private DataBaseTelemetry.DataBaseTelemetryContext telemetry;
+        @Nullable
+        private AsyncResultSet page;
+        @Nullable
+        private Iterator<Row> rows;
+        private long rowCount;
+        private boolean done;
+
+        private PageSubscription(CassandraRowPublisher<T> publisher, Flow.Subscriber<? super T> subscriber) {
+            this.publisher = publisher;
+            this.subscriber = subscriber;
+            this.ctxFork = publisher.context.fork();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                this.error = new IllegalArgumentException("Requested amount must be positive, but was " + n);
+            } else {
+                this.demand.getAndAccumulate(n, (current, requested) -> {
+                    var sum = current + requested;
+                    return sum < 0 ? Long.MAX_VALUE : sum;
+                });
+            }
+            this.drain();
+        }
+
+        @Override
+        public void cancel() {
+            this.cancelled = true;
+            this.drain();
+        }
+
+        private void drain() {
+            if (this.wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                this.drainLoop();
+                missed = this.wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drainLoop() {
+            if (this.done) {
+                return;
+            }
+            if (this.cancelled) {
+                this.done = true;
+                if (this.telemetry != null) {
+                    this.telemetry.reportRows(this.rowCount);
+                    this.telemetry.close(null);
+                }
+                return;
+            }
+            var error = this.error;
+            if (error != null) {
+                this.fail(error);
+                return;
+            }
+            var requested = this.demand.get();
+            if (this.telemetry == null) {
+                if (requested == 0) {
+                    return;
+                }
+                this.telemetry = this.publisher.connectionFactory.telemetry().createContext(this.ctxFork, this.publisher.query);
+                this.fetching = true;
+                var old = Context.current();
+                try {
+                    this.ctxFork.inject();
+                    this.onPage(this.publisher.execute.apply(this.publisher.connectionFactory.currentSession()));
+                } catch (Throwable e) {
+                    this.fail(e);
+                } finally {
+                    old.inject();
+                }
+                return;
+            }
+            if (this.fetching) {
+                return;
+            }
+            var nextPage = this.nextPage;
+            if (nextPage != null) {
+                this.nextPage = null;
+                this.page = nextPage;
+                this.rows = nextPage.currentPage().iterator();
+            }
+            var page = Objects.requireNonNull(this.page);
+            var rows = Objects.requireNonNull(this.rows);
+            long emitted = 0;
+            while (emitted != requested && rows.hasNext()) {
+                if (this.cancelled) {
+                    return;
+                }
+                T mapped;
+                try {
+                    mapped = this.publisher.mapper.apply(rows.next());
+                } catch (Throwable e) {
+                    this.fail(e);
+                    return;
+                }
+                this.subscriber.onNext(mapped);
+                emitted++;
+            }
+            this.rowCount += emitted;
+            if (emitted != 0 && requested != Long.MAX_VALUE) {
+                requested = this.demand.addAndGet(-emitted);
+            }
+            if (rows.hasNext() || this.cancelled) {
+                return;
+            }
+            if (!page.hasMorePages()) {
+                this.done = true;
+                this.telemetry.reportRows(this.rowCount);
+                this.telemetry.close(null);
+                this.subscriber.onComplete();
+                return;
+            }
+            if (requested > 0) {
+                this.fetching = true;
+                this.onPage(page.fetchNextPage());
+            }
+        }
+
+        private void onPage(CompletionStage<AsyncResultSet> future) {
+            future.whenComplete((rs, e) -> {
+                if (e != null) {
+                    this.error = e;
+                } else {
+                    this.nextPage = rs;
+                }
+                this.fetching = false;
+                this.drain();
+            });
+        }
+
+        private void fail(Throwable error) {
+            this.done = true;
+            if (this.telemetry != null) {
+                this.telemetry.close(error);
+            }
+            this.subscriber.onError(error);
+        }
+    }
+}
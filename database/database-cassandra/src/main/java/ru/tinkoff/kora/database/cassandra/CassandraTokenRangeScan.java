@@ -0,0 +1,232 @@
+package ru.tinkoff.kora.database.cassandra;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.metadata.Node;
+import com.datastax.oss.driver.api.core.metadata.token.TokenRange;
+import jakarta.annotation.Nullable;
+import ru.tinkoff.kora.common.Context;
+import ru.tinkoff.kora.database.cassandra.mapper.result.CassandraRowMapper;
+import ru.tinkoff.kora.database.common.QueryContext;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * <b>Русский</b>: Полное чтение таблицы, разбитое на диапазоны токенов, которые читаются параллельно с ограниченным количеством одновременных запросов.
+ * Диапазоны токенов каждой ноды делятся на части, части разных нод чередуются, а запрос каждой части отправляется на ее реплику,
+ * поэтому нагрузка распределяется по всем нодам кластера, а не идет последовательным чтением страниц одного запроса.
+ * <br>
+ * Запрос должен ограничивать токен ключа партиции двумя параметрами: началом диапазона не включительно и концом диапазона включительно.
+ * <hr>
+ * <b>English</b>: Full table scan split into token ranges that are read in parallel with bounded number of concurrent queries.
+ * Token ranges of each node are split into parts, parts of different nodes are interleaved and query of each part is sent to its replica,
+ * so load is spread over all cluster nodes instead of sequential paging of single query.
+ * <br>
+ * Query must restrict partition key token with two parameters: exclusive range start and inclusive range end.
+ * <br>
+ * <br>
+ * Пример / Example:
+ * <pre>
+ * {@code
+ * CassandraTokenRangeScan.scan(
+ *     connectionFactory,
+ *     "my_keyspace",
+ *     new QueryContext("SELECT id, value FROM entity WHERE token(id) > ? AND token(id) <= ?", "SELECT id, value FROM entity WHERE token(id) > ? AND token(id) <= ?"),
+ *     4,
+ *     32,
+ *     new $Entity_CassandraRowMapper(),
+ *     entity -> reconcile(entity)
+ * );
+ * }
+ * </pre>
+ */
+public final class CassandraTokenRangeScan {
+
+    private CassandraTokenRangeScan() {}
+
+    /**
+     * <b>Русский</b>: Делит кольцо токенов на диапазоны по нодам, каждый диапазон делится на {@code splitsPerRange} частей.
+     * <hr>
+     * <b>English</b>: Splits token ring into ranges per node, each range is split into {@code splitsPerRange} parts.
+     *
+     * @return ranges with parts of different nodes interleaved
+     */
+    public static List<TokenRange> ranges(CqlSession session, String keyspace, int splitsPerRange) {
+        if (splitsPerRange < 1) {
+            throw new IllegalArgumentException("Splits per range must be positive, but was " + splitsPerRange);
+        }
+        var tokenMap = session.getMetadata().getTokenMap()
+            .orElseThrow(() -> new IllegalStateException("Token metadata is not available, check that it is enabled in driver configuration"));
+        var keyspaceId = CqlIdentifier.fromCql(keyspace);
+        var rangesByNode = new LinkedHashMap<Node, ArrayDeque<TokenRange>>();
+        var unassigned = new ArrayDeque<TokenRange>();
+        for (var range : tokenMap.getTokenRanges()) {
+            var replicas = tokenMap.getReplicas(keyspaceId, range);
+            var ranges = replicas.isEmpty()
+                ? unassigned
+                : rangesByNode.computeIfAbsent(replicas.iterator().next(), n -> new ArrayDeque<>());
+            for (var split : range.splitEvenly(splitsPerRange)) {
+                ranges.addAll(split.unwrap());
+            }
+        }
+        var result = new ArrayList<TokenRange>();
+        var queues = new ArrayList<>(rangesByNode.values());
+        while (!queues.isEmpty()) {
+            for (var it = queues.iterator(); it.hasNext(); ) {
+                var queue = it.next();
+                result.add(queue.poll());
+                if (queue.isEmpty()) {
+                    it.remove();
+                }
+            }
+        }
+        result.addAll(unassigned);
+        return result;
+    }
+
+    /**
+     * <b>Русский</b>: Читает все строки таблицы, выполняя запрос по диапазонам токенов не более чем {@code concurrency} одновременно.
+     * Обработчик вызывается на I/O потоках драйвера для разных диапазонов одновременно, поэтому должен быть потокобезопасным
+     * и не должен блокировать поток, иначе блокируются все запросы сессии, для блокирующей обработки следует передать исполнитель.
+     * При ошибке новые диапазоны не запускаются, результат завершается ошибкой после завершения уже запущенных.
+     * <hr>
+     * <b>English</b>: Reads all table rows executing query per token range with at most {@code concurrency} queries at once.
+     * Consumer is called on driver I/O threads for different ranges concurrently, so it must be thread safe
+     * and must not block the thread, otherwise all session queries are blocked, executor should be passed for blocking processing.
+     * On error no new ranges are started, result is completed with error after already started ranges are completed.
+     *
+     * @return number of rows read
+     * @see #scan(CassandraConnectionFactory, String, QueryContext, int, int, CassandraRowMapper, Consumer, Executor)
+     */
+    public static <T> CompletionStage<Long> scan(CassandraConnectionFactory connectionFactory, String keyspace, QueryContext query, int splitsPerRange, int concurrency, CassandraRowMapper<T> mapper, Consumer<? super T> consumer) {
+        return scan(connectionFactory, keyspace, query, splitsPerRange, concurrency, mapper, consumer, null);
+    }
+
+    /**
+     * <b>Русский</b>: Читает все строки таблицы как {@link #scan(CassandraConnectionFactory, String, QueryContext, int, int, CassandraRowMapper, Consumer)},
+     * но каждая страница результата маппится и передается обработчику на переданном исполнителе, поэтому обработчик может блокировать поток.
+     * Следующая страница диапазона запрашивается только после обработки текущей.
+     * <hr>
+     * <b>English</b>: Reads all table rows as {@link #scan(CassandraConnectionFactory, String, QueryContext, int, int, CassandraRowMapper, Consumer)},
+     * but each result page is mapped and passed to consumer on given executor, so consumer may block the thread.
+     * Next page of range is requested only after current one is processed.
+     *
+     * @param executor executor for page processing, driver I/O threads are used if {@code null}
+     * @return number of rows read
+     */
+    public static <T> CompletionStage<Long> scan(CassandraConnectionFactory connectionFactory, String keyspace, QueryContext query, int splitsPerRange, int concurrency, CassandraRowMapper<T> mapper, Consumer<? super T> consumer, @Nullable Executor executor) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Concurrency must be positive, but was " + concurrency);
+        }
+        var session = connectionFactory.currentSession();
+        var ranges = ranges(session, keyspace, splitsPerRange);
+        var context = Context.current();
+        return session.prepareAsync(query.sql()).thenCompose(statement -> {
+            var scan = new Scan<>(connectionFactory, session, statement, context, query, ranges, mapper, consumer, executor);
+            scan.start(concurrency);
+            return scan.result;
+        });
+    }
+
+    private static final class Scan<T> {
+        private final CassandraConnectionFactory connectionFactory;
+        private final CqlSession session;
+        private final PreparedStatement statement;
+        private final Context context;
+        private final QueryContext query;
+        private final Queue<TokenRange> ranges;
+        private final CassandraRowMapper<T> mapper;
+        private final Consumer<? super T> consumer;
+        @Nullable
+        private final Executor executor;
+        private final AtomicInteger workers = new AtomicInteger();
+        private final AtomicLong rows = new AtomicLong();
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+        private final CompletableFuture<Long> result = new CompletableFuture<>();
+
+        private Scan(CassandraConnectionFactory connectionFactory, CqlSession session, PreparedStatement statement, Context context, QueryContext query, List<TokenRange> ranges, CassandraRowMapper<T> mapper, Consumer<? super T> consumer, @Nullable Executor executor) {
+            this.connectionFactory = connectionFactory;
+            this.session = session;
+            this.statement = statement;
+            this.context = context;
+            this.query = query;
+            this.ranges = new ConcurrentLinkedQueue<>(ranges);
+            this.mapper = mapper;
+            this.consumer = consumer;
+            this.executor = executor;
+        }
+
+        private void start(int concurrency) {
+            var workers = Math.min(concurrency, this.ranges.size());
+            if (workers == 0) {
+                this.result.complete(0L);
+                return;
+            }
+            this.workers.set(workers);
+            for (int i = 0; i < workers; i++) {
+                this.next();
+            }
+        }
+
+        private void next() {
+            var range = this.error.get() == null ? this.ranges.poll() : null;
+            if (range == null) {
+                if (this.workers.decrementAndGet() == 0) {
+                    var error = this.error.get();
+                    if (error != null) {
+                        this.result.completeExceptionally(error);
+                    } else {
+                        this.result.complete(this.rows.get());
+                    }
+                }
+                return;
+            }
+            var ctxFork = this.context.fork();
+            var telemetry = this.connectionFactory.telemetry().createContext(ctxFork, this.query);
+            var stmt = this.statement.boundStatementBuilder()
+                .setToken(0, range.getStart())
+                .setToken(1, range.getEnd())
+                .setRoutingToken(range.getEnd())
+                .build();
+            var rangeRows = new long[1];
+            this.consumeAsync(this.session.executeAsync(stmt), rangeRows)
+                .whenComplete((v, e) -> {
+                    this.rows.addAndGet(rangeRows[0]);
+                    telemetry.reportRows(rangeRows[0]);
+                    telemetry.close(e);
+                    if (e != null) {
+                        this.error.compareAndSet(null, e);
+                    }
+                    this.next();
+                });
+        }
+
+        private CompletionStage<Void> consume(AsyncResultSet rs, long[] rangeRows) {
+            for (var row : rs.currentPage()) {
+                this.consumer.accept(this.mapper.apply(row));
+                rangeRows[0]++;
+            }
+            if (rs.hasMorePages() && this.error.get() == null) {
+                return this.consumeAsync(rs.fetchNextPage(), rangeRows);
+            }
+            return CompletableFuture.completedFuture(null);
+        }
+
+        private CompletionStage<Void> consumeAsync(CompletionStage<AsyncResultSet> page, long[] rangeRows) {
+            if (this.executor == null) {
+                return page.thenCompose(rs -> this.consume(rs, rangeRows));
+            }
+            return page.thenComposeAsync(rs -> this.consume(rs, rangeRows), this.executor);
+        }
+    }
+}
@@ -15,6 +15,9 @@ import ru.tinkoff.kora.test.cassandra.CassandraTestContainer;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 
 @ExtendWith(CassandraTestContainer.class)
@@ -131,4 +134,40 @@ class CassandraDatabaseTest {
 
         });
     }
+
+    @Test
+    public void testTokenRangeScan(CassandraParams params) {
+        params.execute("create table test_table(id int, value varchar, primary key (id));\n");
+        for (int i = 0; i < 100; i++) {
+            params.execute("insert into test_table(id, value) values (" + i + ",'test" + i + "');\n");
+        }
+
+        var qctx = new QueryContext(
+            "SELECT id FROM test_table WHERE token(id) > ? AND token(id) <= ?",
+            "SELECT id FROM test_table WHERE token(id) > ? AND token(id) <= ?"
+        );
+
+        withDb(params, db -> {
+            var ids = new ConcurrentLinkedQueue<Integer>();
+            var rows = CassandraTokenRangeScan.scan(db, params.keyspace(), qctx, 8, 4, row -> row.getInt("id"), ids::add)
+                .toCompletableFuture()
+                .join();
+
+            Assertions.assertThat(rows).isEqualTo(100);
+            Assertions.assertThat(ids).hasSize(100).doesNotHaveDuplicates();
+
+            var executor = Executors.newFixedThreadPool(2, r -> new Thread(r, "scan-consumer"));
+            try {
+                var threads = ConcurrentHashMap.<String>newKeySet();
+                var executorRows = CassandraTokenRangeScan.scan(db, params.keyspace(), qctx, 8, 4, row -> row.getInt("id"), id -> threads.add(Thread.currentThread().getName()), executor)
+                    .toCompletableFuture()
+                    .join();
+
+                Assertions.assertThat(executorRows).isEqualTo(100);
+                Assertions.assertThat(threads).containsExactly("scan-consumer");
+            } finally {
+                executor.shutdown();
+            }
+        });
+    }
 }
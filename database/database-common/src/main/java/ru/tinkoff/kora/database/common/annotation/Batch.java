@@ -6,9 +6,13 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 /**
- * <b>Русский</b>: Аннотация указывает, что входной параметр запроса должен быть выполнен как пакетный запрос
+ * <b>Русский</b>: Аннотация указывает, что входной параметр запроса должен быть выполнен как пакетный запрос.
+ * Параметры {@link #size()}, {@link #commit()} и {@link #multiRowInsert()} поддерживаются только JDBC репозиториями на Java,
+ * для репозиториев на Kotlin их указание приводит к ошибке компиляции
  * <hr>
- * <b>English</b>: Annotation indicates that input query parameter is intended to be executed as Batch request
+ * <b>English</b>: Annotation indicates that input query parameter is intended to be executed as Batch request.
+ * {@link #size()}, {@link #commit()} and {@link #multiRowInsert()} are supported only by Java JDBC repositories,
+ * Kotlin repositories fail compilation when they are set
  * <br>
  * <br>
  * Пример / Example:
@@ -19,6 +23,9 @@ import java.lang.annotation.Target;
  *
  *     @Query("INSERT INTO users(fullname) VALUES (:names)")
  *     void addUsers(@Batch List<String> names);
+ *
+ *     @Query("INSERT INTO users(fullname) VALUES (:names)")
+ *     void addManyUsers(@Batch(size = 1000, multiRowInsert = true) List<String> names);
  * }
  * }
  * </pre>
@@ -30,4 +37,42 @@ import java.lang.annotation.Target;
 @Target(ElementType.PARAMETER)
 public @interface Batch {
 
+    /**
+     * <b>Русский</b>: Количество строк в одном пакете, при значении больше 0 параметр разбивается на пакеты этого размера,
+     * каждый из которых выполняется отдельно, по умолчанию весь параметр выполняется одним пакетом
+     * <hr>
+     * <b>English</b>: Number of rows in single batch, when greater than 0 parameter is split into chunks of this size
+     * and each chunk is executed separately, by default whole parameter is executed as single batch
+     *
+     * @return batch size
+     */
+    int size() default 0;
+
+    /**
+     * <b>Русский</b>: Фиксировать текущую транзакцию после каждого пакета, чтобы не держать блокировки на весь объем данных.
+     * Уже выполненные пакеты не откатываются при ошибке в следующих, для соединений в режиме auto-commit не имеет эффекта.
+     * Требует указания {@link #size()}
+     * <hr>
+     * <b>English</b>: Commit current transaction after each chunk, so locks are not held for the whole data set.
+     * Already executed chunks are not rolled back when following chunk fails, has no effect on auto-commit connections.
+     * Requires {@link #size()} to be set
+     *
+     * @return whether to commit after each chunk
+     */
+    boolean commit() default false;
+
+    /**
+     * <b>Русский</b>: Переписать простой запрос {@code INSERT ... VALUES (...)} в многострочный {@code INSERT ... VALUES (...), (...)}
+     * с {@link #size()} строками, который выполняется одним запросом вместо пакета. Неполный последний пакет выполняется обычным пакетным запросом.
+     * Поддерживается только для методов, возвращающих {@code void} или {@code UpdateCount},
+     * число параметров многострочного запроса не может превышать 65535
+     * <hr>
+     * <b>English</b>: Rewrite simple {@code INSERT ... VALUES (...)} query into multi-row {@code INSERT ... VALUES (...), (...)}
+     * with {@link #size()} rows executed as single statement instead of batch. Incomplete last chunk is executed as regular batch.
+     * Supported only for methods returning {@code void} or {@code UpdateCount},
+     * multi-row statement can't have more than 65535 parameters
+     *
+     * @return whether to rewrite insert into multi-row statement
+     */
+    boolean multiRowInsert() default false;
 }
@@ -38,4 +38,35 @@ public @interface Query {
      */
     @Language("SQL")
     String value();
+
+    /**
+     * @return <b>Русский</b>: Количество строк, получаемых с сервера за одно обращение, 0 означает значение по умолчанию драйвера.
+     * Для методов JDBC репозитория, возвращающих {@code Stream}, {@code Iterator} или {@code Flow.Publisher}, 0 означает 1000.
+     * Для методов Vertx репозитория, возвращающих {@code Flux} или {@code Flow.Publisher}, 0 означает 50.
+     * Для методов Cassandra репозитория на Java задает размер страницы, 0 означает значение из профиля выполнения.
+     * <hr>
+     * <b>English</b>: Number of rows fetched from server at once, 0 means driver default.
+     * For JDBC repository methods returning {@code Stream}, {@code Iterator} or {@code Flow.Publisher} 0 means 1000.
+     * For Vertx repository methods returning {@code Flux} or {@code Flow.Publisher} 0 means 50.
+     * For Java Cassandra repository methods sets page size, 0 means value from execution profile.
+     */
+    int fetchSize() default 0;
+
+    /**
+     * @return <b>Русский</b>: Запрос только читает данные, поэтому вне транзакции может быть выполнен на реплике,
+     * если фабрика соединений JDBC репозитория поддерживает маршрутизацию запросов.
+     * <hr>
+     * <b>English</b>: Query only reads data, so outside of transaction it can be executed on replica
+     * when JDBC repository connection factory supports query routing.
+     */
+    boolean readOnly() default false;
+
+    /**
+     * @return <b>Русский</b>: Максимальное время выполнения запроса в секундах, после которого драйвер отменяет запрос,
+     * 0 означает значение {@code queryTimeout} из конфигурации JDBC базы данных. Поддерживается только JDBC репозиториями.
+     * <hr>
+     * <b>English</b>: Maximum query execution time in seconds after which driver cancels query,
+     * 0 means {@code queryTimeout} value from JDBC database configuration. Supported only by JDBC repositories.
+     */
+    int timeout() default 0;
 }
@@ -3,10 +3,20 @@ package ru.tinkoff.kora.database.common.telemetry;
 import jakarta.annotation.Nullable;
 import ru.tinkoff.kora.database.common.QueryContext;
 
+import java.util.List;
+
 public interface DataBaseLogger {
     boolean isEnabled();
 
     void logQueryBegin(QueryContext queryContext);
 
     void logQueryEnd(long processingTime, QueryContext queryContext, @Nullable Throwable ex);
+
+    /**
+     * Logs query that executed longer than slow query threshold
+     *
+     * @param parameters redacted query parameters
+     * @param plan       query plan if it was requested
+     */
+    default void logSlowQuery(long processingTime, QueryContext queryContext, List<String> parameters, @Nullable String plan, @Nullable Throwable ex) {}
 }
@@ -6,5 +6,9 @@ import ru.tinkoff.kora.database.common.QueryContext;
 public interface DataBaseMetricWriter {
     void recordQuery(long queryBegin, QueryContext queryContext, @Nullable Throwable exception);
 
+    default void recordRows(long queryBegin, QueryContext queryContext, long rows) {}
+
+    default void recordConnectionWait(QueryContext queryContext, long waitTime) {}
+
     Object getMetricRegistry();
 }
@@ -4,13 +4,37 @@ import jakarta.annotation.Nullable;
 import ru.tinkoff.kora.common.Context;
 import ru.tinkoff.kora.database.common.QueryContext;
 
+import java.util.List;
+
 public interface DataBaseTelemetry {
     @Nullable
     Object getMetricRegistry();
 
     interface DataBaseTelemetryContext {
         void close(@Nullable Throwable exception);
+
+        /**
+         * Reports number of rows processed by bulk operation, should be called before {@link #close(Throwable)}
+         */
+        default void reportRows(long rows) {}
     }
 
     DataBaseTelemetryContext createContext(Context context, QueryContext query);
+
+    /**
+     * Reports time query waited for connection from pool,
+     * connections acquired for several queries, for example for transaction, are reported with generic query context
+     *
+     * @param waitTime connection acquisition time in nanoseconds
+     */
+    default void reportConnectionWait(QueryContext query, long waitTime) {}
+
+    /**
+     * Reports sampled query that executed longer than slow query threshold
+     *
+     * @param processingTime query execution time in nanoseconds
+     * @param parameters     redacted query parameters
+     * @param plan           query plan if it was requested
+     */
+    default void reportSlowQuery(QueryContext query, long processingTime, List<String> parameters, @Nullable String plan, @Nullable Throwable exception) {}
 }
@@ -7,6 +7,8 @@ import org.slf4j.Marker;
 import ru.tinkoff.kora.database.common.QueryContext;
 import ru.tinkoff.kora.logging.common.arg.StructuredArgument;
 
+import java.util.List;
+
 public class DefaultDataBaseLogger implements DataBaseLogger {
 
     private final Logger log;
@@ -40,6 +42,19 @@ public class DefaultDataBaseLogger implements DataBaseLogger {
         }
     }
 
+    @Override
+    public void logSlowQuery(long processingTime, QueryContext queryContext, List<String> parameters, @Nullable String plan, @Nullable Throwable ex) {
+        if (!log.isWarnEnabled()) {
+            return;
+        }
+        var marker = slowQueryMarker(processingTime, queryContext, parameters, plan);
+        if (plan != null) {
+            log.warn(marker, "SQL executed slowly for pool '{}' in {} ms with parameters {}:\n{}\nPlan:\n{}", this.poolName, processingTime / 1_000_000, parameters, queryContext.sql(), plan);
+        } else {
+            log.warn(marker, "SQL executed slowly for pool '{}' in {} ms with parameters {}:\n{}", this.poolName, processingTime / 1_000_000, parameters, queryContext.sql());
+        }
+    }
+
     private Marker queryBeginMarker(QueryContext queryContext) {
         return StructuredArgument.marker("sqlQuery", gen -> {
             gen.writeStartObject();
@@ -61,4 +76,22 @@ public class DefaultDataBaseLogger implements DataBaseLogger {
         });
     }
 
+    private Marker slowQueryMarker(long processingTime, QueryContext queryContext, List<String> parameters, @Nullable String plan) {
+        return StructuredArgument.marker("sqlQuery", gen -> {
+            gen.writeStartObject();
+            gen.writeStringField("pool", this.poolName);
+            gen.writeStringField("operation", queryContext.operation());
+            gen.writeStringField("queryId", queryContext.queryId());
+            gen.writeNumberField("processingTime", processingTime / 1_000_000);
+            gen.writeArrayFieldStart("parameters");
+            for (var parameter : parameters) {
+                gen.writeString(parameter);
+            }
+            gen.writeEndArray();
+            if (plan != null) {
+                gen.writeStringField("plan", plan);
+            }
+            gen.writeEndObject();
+        });
+    }
 }
@@ -4,6 +4,8 @@ import jakarta.annotation.Nullable;
 import ru.tinkoff.kora.common.Context;
 import ru.tinkoff.kora.database.common.QueryContext;
 
+import java.util.List;
+
 public class DefaultDataBaseTelemetry implements DataBaseTelemetry {
     @Nullable
     private final DataBaseMetricWriter metricWriter;
@@ -26,6 +28,20 @@ public class DefaultDataBaseTelemetry implements DataBaseTelemetry {
         return this.metricWriter.getMetricRegistry();
     }
 
+    @Override
+    public void reportConnectionWait(QueryContext query, long waitTime) {
+        if (this.metricWriter != null) {
+            this.metricWriter.recordConnectionWait(query, waitTime);
+        }
+    }
+
+    @Override
+    public void reportSlowQuery(QueryContext query, long processingTime, List<String> parameters, @Nullable String plan, @Nullable Throwable exception) {
+        if (this.logger != null) {
+            this.logger.logSlowQuery(processingTime, query, parameters, plan, exception);
+        }
+    }
+
     @Override
     public DataBaseTelemetryContext createContext(Context ctx, QueryContext query) {
         var metricWriter = this.metricWriter;
@@ -41,16 +57,26 @@ public class DefaultDataBaseTelemetry implements DataBaseTelemetry {
             logger.logQueryBegin(query);
         }
 
-        return exception -> {
-            var processingTime = System.nanoTime() - start;
-            if (metricWriter != null) {
-                metricWriter.recordQuery(start, query, exception);
+        return new DataBaseTelemetryContext() {
+            @Override
+            public void close(@Nullable Throwable exception) {
+                var processingTime = System.nanoTime() - start;
+                if (metricWriter != null) {
+                    metricWriter.recordQuery(start, query, exception);
+                }
+                if (logger != null) {
+                    logger.logQueryEnd(processingTime, query, exception);
+                }
+                if (span != null) {
+                    span.close(exception);
+                }
             }
-            if (logger != null) {
-                logger.logQueryEnd(processingTime, query, exception);
-            }
-            if (span != null) {
-                span.close(exception);
+
+            @Override
+            public void reportRows(long rows) {
+                if (metricWriter != null) {
+                    metricWriter.recordRows(start, query, rows);
+                }
             }
         };
     }
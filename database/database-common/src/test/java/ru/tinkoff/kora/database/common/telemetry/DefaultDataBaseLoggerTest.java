@@ -0,0 +1,79 @@
+package ru.tinkoff.kora.database.common.telemetry;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.slf4j.LoggerFactory;
+import ru.tinkoff.kora.database.common.QueryContext;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class DefaultDataBaseLoggerTest {
+
+    private static final QueryContext QUERY = new QueryContext("SELECT * FROM test WHERE id = :id", "SELECT * FROM test WHERE id = ?", "TestRepository.find");
+
+    @SuppressWarnings("unchecked")
+    private final Appender<ILoggingEvent> appender = mock(Appender.class);
+    private final Logger log = (Logger) LoggerFactory.getLogger("ru.tinkoff.kora.database.testPool.query");
+
+    @AfterEach
+    void tearDown() {
+        log.detachAppender(appender);
+        log.setLevel(null);
+    }
+
+    @Test
+    void testLogSlowQuery() {
+        expectLogLevel(Level.WARN);
+        var logger = new DefaultDataBaseLogger("testPool");
+
+        logger.logSlowQuery(1_500_000_000L, QUERY, List.of("Long", "null", "?"), null, null);
+
+        var event = getLoggedEvent();
+        assertThat(event.getLevel()).isEqualTo(Level.WARN);
+        assertThat(event.getMessage()).isEqualTo("SQL executed slowly for pool '{}' in {} ms with parameters {}:\n{}");
+        assertThat(event.getArgumentArray()).containsExactly("testPool", 1500L, List.of("Long", "null", "?"), QUERY.sql());
+        assertThat(event.getMarkerList()).hasSize(1);
+    }
+
+    @Test
+    void testLogSlowQueryWithPlan() {
+        expectLogLevel(Level.WARN);
+        var logger = new DefaultDataBaseLogger("testPool");
+
+        logger.logSlowQuery(2_000_000L, QUERY, List.of("Long"), "Seq Scan on test", null);
+
+        var event = getLoggedEvent();
+        assertThat(event.getMessage()).isEqualTo("SQL executed slowly for pool '{}' in {} ms with parameters {}:\n{}\nPlan:\n{}");
+        assertThat(event.getArgumentArray()).containsExactly("testPool", 2L, List.of("Long"), QUERY.sql(), "Seq Scan on test");
+    }
+
+    @Test
+    void testLogSlowQueryDisabled() {
+        expectLogLevel(Level.ERROR);
+        var logger = new DefaultDataBaseLogger("testPool");
+
+        logger.logSlowQuery(2_000_000L, QUERY, List.of("Long"), null, null);
+
+        verify(appender, never()).doAppend(any());
+    }
+
+    private ILoggingEvent getLoggedEvent() {
+        var captor = ArgumentCaptor.forClass(ILoggingEvent.class);
+        verify(appender).doAppend(captor.capture());
+        return captor.getValue();
+    }
+
+    private void expectLogLevel(Level level) {
+        log.addAppender(appender);
+        log.setLevel(level);
+    }
+}
@@ -4,10 +4,15 @@ import jakarta.annotation.Nullable;
 import ru.tinkoff.kora.common.Context;
 import ru.tinkoff.kora.database.common.QueryContext;
 import ru.tinkoff.kora.database.common.telemetry.DataBaseTelemetry;
+import ru.tinkoff.kora.database.jdbc.copy.JdbcCopy;
+import ru.tinkoff.kora.database.jdbc.copy.JdbcCopyRowWriter;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
 
 /**
  * <b>Русский</b>: Фабрика соединений JDBC которая позволяет выполнять запросы в ручном режиме и в рамках транзакции.
@@ -26,12 +31,79 @@ public interface JdbcConnectionFactory {
 
     Connection newConnection();
 
+    /**
+     * <b>Русский</b>: Открывает соединение для запроса, который только читает данные, реализация может вернуть соединение к реплике.
+     * <hr>
+     * <b>English</b>: Opens connection for query that only reads data, implementation may return connection to replica.
+     *
+     * @see ru.tinkoff.kora.database.common.annotation.Query#readOnly()
+     */
+    default Connection newReadOnlyConnection() {
+        return this.newConnection();
+    }
+
+    /**
+     * <b>Русский</b>: Открывает соединение для запроса, реализация может учитывать время ожидания соединения в метриках запроса.
+     * <hr>
+     * <b>English</b>: Opens connection for query, implementation may record connection wait time in query metrics.
+     */
+    default Connection newConnection(QueryContext queryContext) {
+        return this.newConnection();
+    }
+
+    /**
+     * <b>Русский</b>: Открывает соединение для запроса, который только читает данные, реализация может учитывать время ожидания соединения в метриках запроса.
+     * <hr>
+     * <b>English</b>: Opens connection for query that only reads data, implementation may record connection wait time in query metrics.
+     *
+     * @see #newReadOnlyConnection()
+     */
+    default Connection newReadOnlyConnection(QueryContext queryContext) {
+        return this.newReadOnlyConnection();
+    }
+
     DataBaseTelemetry telemetry();
 
+    /**
+     * <b>Русский</b>: Подготавливает запрос на соединении, реализация может настроить запрос перед выполнением,
+     * запрос должен быть закрыт после использования.
+     * <hr>
+     * <b>English</b>: Prepares statement on connection, implementation may configure statement before execution,
+     * statement must be closed after use.
+     */
+    default PreparedStatement prepareStatement(Connection connection, QueryContext queryContext) throws SQLException {
+        return connection.prepareStatement(queryContext.sql());
+    }
+
+    /**
+     * <b>Русский</b>: Подготавливает запрос с заданным типом и конкурентностью результата, например для потокового чтения.
+     * <hr>
+     * <b>English</b>: Prepares statement with given result set type and concurrency, e.g. for streaming results.
+     *
+     * @see #prepareStatement(Connection, QueryContext)
+     * @see Connection#prepareStatement(String, int, int)
+     */
+    default PreparedStatement prepareStatement(Connection connection, QueryContext queryContext, int resultSetType, int resultSetConcurrency) throws SQLException {
+        return connection.prepareStatement(queryContext.sql(), resultSetType, resultSetConcurrency);
+    }
+
+    /**
+     * <b>Русский</b>: Подготавливает запрос, который возвращает сгенерированные ключи.
+     * <hr>
+     * <b>English</b>: Prepares statement that returns generated keys.
+     *
+     * @param autoGeneratedKeys {@link java.sql.Statement#RETURN_GENERATED_KEYS} or {@link java.sql.Statement#NO_GENERATED_KEYS}
+     * @see #prepareStatement(Connection, QueryContext)
+     * @see Connection#prepareStatement(String, int)
+     */
+    default PreparedStatement prepareStatement(Connection connection, QueryContext queryContext, int autoGeneratedKeys) throws SQLException {
+        return connection.prepareStatement(queryContext.sql(), autoGeneratedKeys);
+    }
+
     default <T> T query(QueryContext queryContext, JdbcHelper.SqlFunction1<PreparedStatement, T> callback) {
         var telemetry = this.telemetry().createContext(Context.current(), queryContext);
         return withConnection(connection -> {
-            try (var ps = connection.prepareStatement(queryContext.sql())) {
+            try (var ps = this.prepareStatement(connection, queryContext)) {
                 var result = callback.apply(ps);
                 telemetry.close(null);
                 return result;
@@ -104,4 +176,29 @@ public interface JdbcConnectionFactory {
             return null;
         });
     }
+
+    /**
+     * <b>Русский</b>: Загружает строки в таблицу PostgreSQL через бинарный {@code COPY FROM STDIN}
+     * <hr>
+     * <b>English</b>: Loads rows into PostgreSQL table with binary {@code COPY FROM STDIN}
+     *
+     * @return number of rows copied
+     * @see JdbcCopy
+     */
+    default <T> long copyIn(String table, JdbcCopyRowWriter<? super T> writer, Iterable<? extends T> rows) throws RuntimeSqlException {
+        return JdbcCopy.copyIn(this, table, writer, rows);
+    }
+
+    /**
+     * <b>Русский</b>: Загружает строки в таблицу PostgreSQL через бинарный {@code COPY FROM STDIN} по мере их публикации
+     * <hr>
+     * <b>English</b>: Loads rows into PostgreSQL table with binary {@code COPY FROM STDIN} as they are published
+     *
+     * @param executor executor for blocking JDBC work, publisher threads are never blocked
+     * @return number of rows copied
+     * @see JdbcCopy#copyIn(JdbcConnectionFactory, String, JdbcCopyRowWriter, Flow.Publisher, Executor)
+     */
+    default <T> CompletionStage<Long> copyIn(String table, JdbcCopyRowWriter<? super T> writer, Flow.Publisher<? extends T> rows, Executor executor) {
+        return JdbcCopy.copyIn(this, table, writer, rows, executor);
+    }
 }
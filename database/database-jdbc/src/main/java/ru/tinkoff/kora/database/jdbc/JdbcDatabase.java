@@ -10,11 +10,13 @@ import ru.tinkoff.kora.common.Context;
 import ru.tinkoff.kora.common.readiness.ReadinessProbe;
 import ru.tinkoff.kora.common.readiness.ReadinessProbeFailure;
 import ru.tinkoff.kora.common.util.TimeUtils;
+import ru.tinkoff.kora.database.common.QueryContext;
 import ru.tinkoff.kora.database.common.telemetry.DataBaseTelemetry;
 import ru.tinkoff.kora.database.common.telemetry.DataBaseTelemetryFactory;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.Objects;
 import java.util.concurrent.Executor;
@@ -23,6 +25,9 @@ public class JdbcDatabase implements Lifecycle, Wrapped<DataSource>, JdbcConnect
 
     private static final Logger logger = LoggerFactory.getLogger(JdbcDatabase.class);
 
+    // connections acquired for withConnection and inTx are not bound to single query
+    static final QueryContext CONNECTION_QUERY_CONTEXT = new QueryContext("connection", "", "connection");
+
     final Context.Key<Connection> connectionKey = new Context.Key<>() {
         @Override
         protected Connection copy(Connection object) {
@@ -30,9 +35,17 @@ public class JdbcDatabase implements Lifecycle, Wrapped<DataSource>, JdbcConnect
         }
     };
 
-    private final JdbcDatabaseConfig databaseConfig;
+    final JdbcDatabaseConfig databaseConfig;
     private final HikariDataSource dataSource;
+    @Nullable
+    private final HikariDataSource priorityDataSource;
     private final DataBaseTelemetry telemetry;
+    private final int queryTimeout;
+    @Nullable
+    private final JdbcSlowQuerySampler slowQuerySampler;
+    @Nullable
+    private final JdbcPoolSizeAdvisor poolSizeAdvisor;
+    private final PriorityLane priorityLane = new PriorityLane();
     @Nullable
     final Executor executor;
 
@@ -51,10 +64,40 @@ public class JdbcDatabase implements Lifecycle, Wrapped<DataSource>, JdbcConnect
     public JdbcDatabase(JdbcDatabaseConfig databaseConfig, DataBaseTelemetry telemetry, @Nullable Executor executor) {
         this.databaseConfig = Objects.requireNonNull(databaseConfig);
         this.telemetry = Objects.requireNonNull(telemetry);
-        this.dataSource = new HikariDataSource(JdbcDatabaseConfig.toHikariConfig(this.databaseConfig));
+        var hikariConfig = JdbcDatabaseConfig.toHikariConfig(this.databaseConfig);
+        var priorityConnections = databaseConfig.priorityConnections();
+        if (priorityConnections > 0) {
+            if (priorityConnections >= databaseConfig.maxPoolSize()) {
+                throw new IllegalArgumentException("JdbcDatabase pool '%s' priorityConnections must be less than maxPoolSize %d, but was %d"
+                    .formatted(databaseConfig.poolName(), databaseConfig.maxPoolSize(), priorityConnections));
+            }
+            var poolSize = databaseConfig.maxPoolSize() - priorityConnections;
+            hikariConfig.setMaximumPoolSize(poolSize);
+            hikariConfig.setMinimumIdle(Math.min(databaseConfig.minIdle(), poolSize));
+            var priorityConfig = JdbcDatabaseConfig.toHikariConfig(this.databaseConfig);
+            priorityConfig.setPoolName(databaseConfig.poolName() + "-priority");
+            priorityConfig.setMaximumPoolSize(priorityConnections);
+            priorityConfig.setMinimumIdle(priorityConnections);
+            this.priorityDataSource = new HikariDataSource(priorityConfig);
+        } else {
+            this.priorityDataSource = null;
+        }
+        this.dataSource = new HikariDataSource(hikariConfig);
         if (telemetry.getMetricRegistry() != null) {
             this.dataSource.setMetricRegistry(telemetry.getMetricRegistry());
+            if (this.priorityDataSource != null) {
+                this.priorityDataSource.setMetricRegistry(telemetry.getMetricRegistry());
+            }
         }
+        this.queryTimeout = databaseConfig.queryTimeout() == null
+            ? 0
+            : (int) Math.max(1, (databaseConfig.queryTimeout().toMillis() + 999) / 1000);
+        this.slowQuerySampler = databaseConfig.slowQuery() == null
+            ? null
+            : new JdbcSlowQuerySampler(databaseConfig.slowQuery(), telemetry);
+        this.poolSizeAdvisor = databaseConfig.poolSizeAdvisor() == null
+            ? null
+            : new JdbcPoolSizeAdvisor(databaseConfig.poolName(), hikariConfig.getMaximumPoolSize(), databaseConfig.poolSizeAdvisor());
         this.executor = executor;
     }
 
@@ -89,6 +132,9 @@ public class JdbcDatabase implements Lifecycle, Wrapped<DataSource>, JdbcConnect
         var started = System.nanoTime();
 
         this.dataSource.close();
+        if (this.priorityDataSource != null) {
+            this.priorityDataSource.close();
+        }
 
         logger.info("JdbcDatabase pool '{}' stopped in {}", databaseConfig.poolName(), TimeUtils.tookForLogging(started));
     }
@@ -98,14 +144,100 @@ public class JdbcDatabase implements Lifecycle, Wrapped<DataSource>, JdbcConnect
         return this.dataSource;
     }
 
-    @Nullable
     @Override
     public Connection newConnection() {
+        return this.acquire(null, false);
+    }
+
+    @Override
+    public Connection newConnection(QueryContext queryContext) {
+        return this.acquire(queryContext, false);
+    }
+
+    @Override
+    public Connection newReadOnlyConnection(QueryContext queryContext) {
+        return this.acquire(queryContext, false);
+    }
+
+    /**
+     * <b>Русский</b>: Фабрика соединений для критичных репозиториев, которая использует соединения, зарезервированные
+     * через {@link JdbcDatabaseConfig#priorityConnections()}, когда в общем пуле нет свободных соединений,
+     * поэтому такие репозитории не ждут, пока пул занят, например, пакетными задачами.
+     * Транзакции, телеметрия и подготовка запросов общие с этой базой данных.
+     * <hr>
+     * <b>English</b>: Connection factory for critical repositories that uses connections reserved
+     * with {@link JdbcDatabaseConfig#priorityConnections()} when shared pool has no idle connections,
+     * so such repositories don't wait while pool is busy with, for example, batch jobs.
+     * Transactions, telemetry and statement preparation are shared with this database.
+     * <br>
+     * <br>
+     * Пример / Example:
+     * <pre>
+     * {@code
+     * @Tag(Critical.class)
+     * default JdbcConnectionFactory criticalDatabase(JdbcDatabase database) {
+     *     return database.priorityLane();
+     * }
+     *
+     * @Tag(Critical.class)
+     * @Repository
+     * public interface PaymentRepository extends JdbcRepository {}
+     * }
+     * </pre>
+     */
+    public JdbcConnectionFactory priorityLane() {
+        return this.priorityLane;
+    }
+
+    /**
+     * <b>Русский</b>: Рекомендуемый размер общего пула по результатам {@link JdbcDatabaseConfig#poolSizeAdvisor()},
+     * если советник не настроен, возвращает текущий размер пула.
+     * <hr>
+     * <b>English</b>: Recommended shared pool size according to {@link JdbcDatabaseConfig#poolSizeAdvisor()},
+     * returns current pool size if advisor is not configured.
+     */
+    public int recommendedPoolSize() {
+        if (this.poolSizeAdvisor == null) {
+            return this.dataSource.getMaximumPoolSize();
+        }
+        return this.poolSizeAdvisor.recommendedPoolSize();
+    }
+
+    private Connection acquire(@Nullable QueryContext queryContext, boolean priority) {
+        var dataSource = this.dataSource;
+        if (priority && this.priorityDataSource != null) {
+            var pool = this.dataSource.getHikariPoolMXBean();
+            if (pool != null && pool.getIdleConnections() == 0) {
+                dataSource = this.priorityDataSource;
+            }
+        }
+        var start = System.nanoTime();
+        Connection connection;
         try {
-            return this.dataSource.getConnection();
+            connection = dataSource.getConnection();
         } catch (SQLException e) {
             throw new RuntimeSqlException(e);
         }
+        var waitTime = System.nanoTime() - start;
+        this.telemetry.reportConnectionWait(queryContext == null ? CONNECTION_QUERY_CONTEXT : queryContext, waitTime);
+        if (this.poolSizeAdvisor != null && dataSource == this.dataSource) {
+            var pool = dataSource.getHikariPoolMXBean();
+            if (pool != null) {
+                this.poolSizeAdvisor.record(pool.getActiveConnections(), pool.getThreadsAwaitingConnection(), waitTime);
+            }
+        }
+        return connection;
+    }
+
+    /**
+     * @return number of connections in use and threads waiting for connection
+     */
+    int outstandingRequests() {
+        var pool = this.dataSource.getHikariPoolMXBean();
+        if (pool == null) {
+            return 0;
+        }
+        return pool.getActiveConnections() + pool.getThreadsAwaitingConnection();
     }
 
     @Override
@@ -122,6 +254,10 @@ public class JdbcDatabase implements Lifecycle, Wrapped<DataSource>, JdbcConnect
 
     @Override
     public <T> T withConnection(JdbcHelper.SqlFunction1<Connection, T> callback) throws RuntimeSqlException {
+        return this.withConnection(callback, false);
+    }
+
+    private <T> T withConnection(JdbcHelper.SqlFunction1<Connection, T> callback, boolean priority) throws RuntimeSqlException {
         var ctx = Context.current();
 
         var currentConnection = ctx.get(this.connectionKey);
@@ -133,7 +269,7 @@ public class JdbcDatabase implements Lifecycle, Wrapped<DataSource>, JdbcConnect
             }
         }
 
-        try (var connection = ctx.set(this.connectionKey, this.newConnection())) {
+        try (var connection = ctx.set(this.connectionKey, this.acquire(null, priority))) {
             return callback.apply(connection);
         } catch (SQLException e) {
             throw new RuntimeSqlException(e);
@@ -142,6 +278,55 @@ public class JdbcDatabase implements Lifecycle, Wrapped<DataSource>, JdbcConnect
         }
     }
 
+    @Override
+    public PreparedStatement prepareStatement(Connection connection, QueryContext queryContext) throws SQLException {
+        var cancellation = this.checkNotCancelled();
+        return this.configure(connection.prepareStatement(queryContext.sql()), queryContext, cancellation);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(Connection connection, QueryContext queryContext, int resultSetType, int resultSetConcurrency) throws SQLException {
+        var cancellation = this.checkNotCancelled();
+        return this.configure(connection.prepareStatement(queryContext.sql(), resultSetType, resultSetConcurrency), queryContext, cancellation);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(Connection connection, QueryContext queryContext, int autoGeneratedKeys) throws SQLException {
+        var cancellation = this.checkNotCancelled();
+        return this.configure(connection.prepareStatement(queryContext.sql(), autoGeneratedKeys), queryContext, cancellation);
+    }
+
+    @Nullable
+    private JdbcQueryCancellation checkNotCancelled() throws SQLException {
+        var cancellation = JdbcQueryCancellation.get(Context.current());
+        if (cancellation != null) {
+            cancellation.checkNotCancelled();
+        }
+        return cancellation;
+    }
+
+    private PreparedStatement configure(PreparedStatement statement, QueryContext queryContext, @Nullable JdbcQueryCancellation cancellation) throws SQLException {
+        if (this.queryTimeout == 0 && cancellation == null && this.slowQuerySampler == null) {
+            return statement;
+        }
+        try {
+            if (this.queryTimeout != 0) {
+                statement.setQueryTimeout(this.queryTimeout);
+            }
+            if (cancellation == null && this.slowQuerySampler == null) {
+                return statement;
+            }
+            return new MonitoredPreparedStatement(statement, queryContext, cancellation, this.slowQuerySampler);
+        } catch (SQLException e) {
+            try {
+                statement.close();
+            } catch (SQLException closeException) {
+                e.addSuppressed(closeException);
+            }
+            throw e;
+        }
+    }
+
     @Override
     public ReadinessProbeFailure probe() throws Exception {
         if (this.databaseConfig.readinessProbe()) {
@@ -151,4 +336,52 @@ public class JdbcDatabase implements Lifecycle, Wrapped<DataSource>, JdbcConnect
         }
         return null;
     }
+
+    private final class PriorityLane implements JdbcConnectionFactory {
+        @Override
+        public <T> T withConnection(JdbcHelper.SqlFunction1<Connection, T> callback) throws RuntimeSqlException {
+            return JdbcDatabase.this.withConnection(callback, true);
+        }
+
+        @Nullable
+        @Override
+        public Connection currentConnection() {
+            return JdbcDatabase.this.currentConnection();
+        }
+
+        @Override
+        public Connection newConnection() {
+            return JdbcDatabase.this.acquire(null, true);
+        }
+
+        @Override
+        public Connection newConnection(QueryContext queryContext) {
+            return JdbcDatabase.this.acquire(queryContext, true);
+        }
+
+        @Override
+        public Connection newReadOnlyConnection(QueryContext queryContext) {
+            return JdbcDatabase.this.acquire(queryContext, true);
+        }
+
+        @Override
+        public DataBaseTelemetry telemetry() {
+            return JdbcDatabase.this.telemetry;
+        }
+
+        @Override
+        public PreparedStatement prepareStatement(Connection connection, QueryContext queryContext) throws SQLException {
+            return JdbcDatabase.this.prepareStatement(connection, queryContext);
+        }
+
+        @Override
+        public PreparedStatement prepareStatement(Connection connection, QueryContext queryContext, int resultSetType, int resultSetConcurrency) throws SQLException {
+            return JdbcDatabase.this.prepareStatement(connection, queryContext, resultSetType, resultSetConcurrency);
+        }
+
+        @Override
+        public PreparedStatement prepareStatement(Connection connection, QueryContext queryContext, int autoGeneratedKeys) throws SQLException {
+            return JdbcDatabase.this.prepareStatement(connection, queryContext, autoGeneratedKeys);
+        }
+    }
 }
@@ -2,6 +2,7 @@ package ru.tinkoff.kora.database.jdbc;
 
 import com.zaxxer.hikari.HikariConfig;
 import jakarta.annotation.Nullable;
+import org.slf4j.LoggerFactory;
 import ru.tinkoff.kora.config.common.annotation.ConfigValueExtractor;
 import ru.tinkoff.kora.telemetry.common.TelemetryConfig;
 
@@ -67,8 +68,119 @@ public interface JdbcDatabaseConfig {
         return new Properties();
     }
 
+    /**
+     * <b>Русский</b>: Сокращение для настроек кеша подготовленных запросов самого драйвера, 0 оставляет настройки драйвера по умолчанию.
+     * Фреймворк не кеширует запросы сам и не публикует статистику кеша драйвера.
+     * Передается драйверу как {@code preparedStatementCacheQueries} для PostgreSQL и как {@code cachePrepStmts} и {@code prepStmtCacheSize} для MySQL и MariaDB,
+     * если эти свойства не указаны явно в {@link #dsProperties()}, для остальных драйверов настройка игнорируется.
+     * Драйвер PostgreSQL по умолчанию уже кеширует 256 запросов, а драйверы MySQL и MariaDB по умолчанию кеш не включают.
+     * <hr>
+     * <b>English</b>: Shorthand for prepared statement cache settings of driver itself, 0 keeps driver defaults.
+     * Framework doesn't cache statements itself and doesn't publish driver cache statistics.
+     * Passed to driver as {@code preparedStatementCacheQueries} for PostgreSQL and as {@code cachePrepStmts} and {@code prepStmtCacheSize} for MySQL and MariaDB,
+     * unless these properties are set explicitly in {@link #dsProperties()}, setting is ignored for other drivers.
+     * PostgreSQL driver already caches 256 queries by default, while MySQL and MariaDB drivers don't enable cache by default.
+     */
+    default int statementCacheSize() {
+        return 0;
+    }
+
+    /**
+     * <b>Русский</b>: Максимальное время выполнения запроса, после которого драйвер отменяет запрос, если не указано, время не ограничено.
+     * Может быть переопределено для метода репозитория через {@link ru.tinkoff.kora.database.common.annotation.Query#timeout()}.
+     * Запросы не отменяются автоматически при закрытии соединения HTTP клиентом, для этого приложение устанавливает {@link JdbcQueryCancellation}.
+     * <hr>
+     * <b>English</b>: Maximum query execution time after which driver cancels query, time is not limited if not specified.
+     * Can be overridden for repository method with {@link ru.tinkoff.kora.database.common.annotation.Query#timeout()}.
+     * Queries are not cancelled automatically when HTTP client closes connection, application installs {@link JdbcQueryCancellation} for that.
+     */
+    @Nullable
+    Duration queryTimeout();
+
+    /**
+     * <b>Русский</b>: Настройки записи медленных запросов в лог, если не указано, медленные запросы не отслеживаются.
+     * <hr>
+     * <b>English</b>: Slow query logging settings, slow queries are not tracked if not specified.
+     */
+    @Nullable
+    SlowQueryConfig slowQuery();
+
+    /**
+     * <b>Русский</b>: Количество соединений из {@link #maxPoolSize()}, зарезервированных для {@link JdbcDatabase#priorityLane()},
+     * остальные запросы используют только оставшиеся соединения.
+     * <hr>
+     * <b>English</b>: Number of connections out of {@link #maxPoolSize()} reserved for {@link JdbcDatabase#priorityLane()},
+     * other queries use only remaining connections.
+     */
+    default int priorityConnections() {
+        return 0;
+    }
+
+    /**
+     * <b>Русский</b>: Настройки советника размера пула, если не указано, размер пула не анализируется.
+     * <hr>
+     * <b>English</b>: Pool size advisor settings, pool size is not analyzed if not specified.
+     */
+    @Nullable
+    PoolSizeAdvisorConfig poolSizeAdvisor();
+
     TelemetryConfig telemetry();
 
+    @ConfigValueExtractor
+    interface SlowQueryConfig {
+        /**
+         * <b>Русский</b>: Время выполнения запроса, начиная с которого запрос считается медленным.
+         * <hr>
+         * <b>English</b>: Query execution time starting from which query is considered slow.
+         */
+        Duration threshold();
+
+        /**
+         * <b>Русский</b>: Доля медленных запросов, которые записываются в лог, от 0 до 1.
+         * <hr>
+         * <b>English</b>: Fraction of slow queries that are logged, from 0 to 1.
+         */
+        default double sampleRate() {
+            return 1.0;
+        }
+
+        /**
+         * <b>Русский</b>: Записывать в лог план медленного запроса, полученный через {@code EXPLAIN} на том же соединении.
+         * План не запрашивается внутри транзакции и для запросов, завершившихся ошибкой.
+         * {@code EXPLAIN} выполняется синхронно в потоке вызывающего кода до возврата результата запроса,
+         * поэтому увеличивает время ответа каждого попавшего в выборку медленного запроса, по умолчанию выключено и предназначено для диагностики.
+         * <hr>
+         * <b>English</b>: Log slow query plan obtained with {@code EXPLAIN} on the same connection.
+         * Plan is not requested within transaction and for queries that failed.
+         * {@code EXPLAIN} is executed synchronously on caller thread before query result is returned,
+         * so it increases response time of every sampled slow query, it is disabled by default and intended for diagnostics.
+         */
+        default boolean explain() {
+            return false;
+        }
+    }
+
+    @ConfigValueExtractor
+    interface PoolSizeAdvisorConfig {
+        /**
+         * <b>Русский</b>: Период, за который собирается статистика использования пула для рекомендации.
+         * <hr>
+         * <b>English</b>: Period over which pool usage statistics is collected for recommendation.
+         */
+        default Duration interval() {
+            return Duration.ofMinutes(1);
+        }
+
+        /**
+         * <b>Русский</b>: Время ожидания соединения, больше которого пул считается перегруженным.
+         * <hr>
+         * <b>English</b>: Connection wait time above which pool is considered saturated.
+         */
+        default Duration targetWait() {
+            return Duration.ofMillis(10);
+        }
+    }
+
     static HikariConfig toHikariConfig(JdbcDatabaseConfig config) {
         var hikariConfig = new HikariConfig();
         hikariConfig.setConnectionTimeout(config.connectionTimeout().toMillis());
@@ -87,6 +199,23 @@ public interface JdbcDatabaseConfig {
         hikariConfig.setSchema(config.schema());
         hikariConfig.setDataSourceProperties(config.dsProperties());
         hikariConfig.setRegisterMbeans(false);
+        if (config.statementCacheSize() > 0) {
+            setStatementCacheProperties(config, hikariConfig.getDataSourceProperties());
+        }
         return hikariConfig;
     }
+
+    private static void setStatementCacheProperties(JdbcDatabaseConfig config, Properties dsProperties) {
+        var cacheSize = String.valueOf(config.statementCacheSize());
+        var jdbcUrl = config.jdbcUrl();
+        if (jdbcUrl.startsWith("jdbc:postgresql:")) {
+            dsProperties.putIfAbsent("preparedStatementCacheQueries", cacheSize);
+        } else if (jdbcUrl.startsWith("jdbc:mysql:") || jdbcUrl.startsWith("jdbc:mariadb:")) {
+            dsProperties.putIfAbsent("cachePrepStmts", "true");
+            dsProperties.putIfAbsent("prepStmtCacheSize", cacheSize);
+        } else {
+            LoggerFactory.getLogger(JdbcDatabase.class).warn("JdbcDatabase pool '{}' statementCacheSize is not supported for driver of '{}' and is ignored, configure driver statement cache with dsProperties",
+                config.poolName(), jdbcUrl.substring(0, Math.max(jdbcUrl.indexOf(':', 5), 0)));
+        }
+    }
 }
@@ -0,0 +1,85 @@
+package ru.tinkoff.kora.database.jdbc;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Recommends pool size from connection demand observed on acquisitions.
+ * <br>
+ * Demand is number of connections in use plus threads waiting for connection, its peak over interval is what pool should fit.
+ * Pool is considered too small when more than 5% of acquisitions waited longer than target wait time,
+ * and too large when peak demand didn't reach half of the pool. Recommendation keeps 25% headroom over peak demand.
+ */
+final class JdbcPoolSizeAdvisor {
+
+    private static final Logger logger = LoggerFactory.getLogger(JdbcPoolSizeAdvisor.class);
+
+    private static final double HEADROOM = 1.25;
+
+    private final String poolName;
+    private final int poolSize;
+    private final long interval;
+    private final long targetWait;
+    private final Duration targetWaitDuration;
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+    private final LongAccumulator peakDemand = new LongAccumulator(Math::max, 0);
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder slowAcquisitions = new LongAdder();
+    private volatile int recommendedPoolSize;
+
+    JdbcPoolSizeAdvisor(String poolName, int poolSize, JdbcDatabaseConfig.PoolSizeAdvisorConfig config) {
+        this.poolName = poolName;
+        this.poolSize = poolSize;
+        this.interval = config.interval().toNanos();
+        this.targetWait = config.targetWait().toNanos();
+        this.targetWaitDuration = config.targetWait();
+        this.recommendedPoolSize = poolSize;
+    }
+
+    int recommendedPoolSize() {
+        return this.recommendedPoolSize;
+    }
+
+    void record(int active, int waiting, long waitTime) {
+        this.peakDemand.accumulate(active + waiting);
+        this.acquisitions.increment();
+        if (waitTime > this.targetWait) {
+            this.slowAcquisitions.increment();
+        }
+        var now = System.nanoTime();
+        var start = this.windowStart.get();
+        if (now - start >= this.interval && this.windowStart.compareAndSet(start, now)) {
+            this.evaluate();
+        }
+    }
+
+    void evaluate() {
+        var peak = this.peakDemand.getThenReset();
+        var total = this.acquisitions.sumThenReset();
+        var slow = this.slowAcquisitions.sumThenReset();
+        int recommended;
+        if (slow * 20 > total) {
+            recommended = Math.max(this.poolSize + 1, (int) Math.ceil(peak * HEADROOM));
+        } else if (peak * 2 < this.poolSize) {
+            recommended = Math.max(1, (int) Math.ceil(peak * HEADROOM));
+        } else {
+            recommended = this.poolSize;
+        }
+        var previous = this.recommendedPoolSize;
+        this.recommendedPoolSize = recommended;
+        if (recommended == previous) {
+            return;
+        }
+        if (recommended == this.poolSize) {
+            logger.info("JdbcDatabase pool '{}' size {} fits peak demand of {} connections", this.poolName, this.poolSize, peak);
+        } else {
+            logger.info("JdbcDatabase pool '{}' peak demand was {} connections, {} of {} acquisitions waited longer than {}, recommended pool size is {} instead of {}",
+                this.poolName, peak, slow, total, this.targetWaitDuration, recommended, this.poolSize);
+        }
+    }
+}
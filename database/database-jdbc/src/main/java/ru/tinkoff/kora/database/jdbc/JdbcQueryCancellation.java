@@ -0,0 +1,189 @@
+package ru.tinkoff.kora.database.jdbc;
+
+import jakarta.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.tinkoff.kora.common.Context;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * <b>Русский</b>: Отмена запросов, выполняемых в контексте, например в контексте HTTP запроса.
+ * Код, владеющий контекстом, устанавливает отмену через {@link #install(Context)} и вызывает {@link #cancel()},
+ * когда результат больше не нужен, например когда клиент закрыл соединение.
+ * Фреймворк сам отмену не устанавливает: HTTP сервер не отслеживает закрытие соединения клиентом,
+ * поэтому без отмены, установленной приложением, время запроса ограничивает только {@link JdbcDatabaseConfig#queryTimeout()}.
+ * Выполняющиеся запросы {@link JdbcDatabase} в этом контексте отменяются через {@link Statement#cancel()}, а новые запросы завершаются ошибкой.
+ * Если отмена установлена, методы JDBC репозитория, возвращающие {@code CompletionStage} или {@code Mono}, также отменяют свой запрос при отмене результата,
+ * без установленной отмены запросы выполняются без дополнительного отслеживания.
+ * <hr>
+ * <b>English</b>: Cancellation of queries executed within context, for example within HTTP request context.
+ * Code owning context installs cancellation with {@link #install(Context)} and calls {@link #cancel()}
+ * when result is no longer needed, for example when client closed connection.
+ * Framework doesn't install cancellation itself: HTTP server doesn't track client closing connection,
+ * so without cancellation installed by application query time is limited only by {@link JdbcDatabaseConfig#queryTimeout()}.
+ * Running {@link JdbcDatabase} queries within this context are cancelled with {@link Statement#cancel()} and new queries fail.
+ * If cancellation is installed, JDBC repository methods returning {@code CompletionStage} or {@code Mono} also cancel their query when result is cancelled,
+ * without installed cancellation queries are executed without additional tracking.
+ * <br>
+ * <br>
+ * Пример / Example:
+ * <pre>
+ * {@code
+ * var cancellation = JdbcQueryCancellation.install(Context.current());
+ * response.whenComplete((r, e) -> {
+ *     if (e instanceof CancellationException) {
+ *         cancellation.cancel();
+ *     }
+ * });
+ * }
+ * </pre>
+ */
+public final class JdbcQueryCancellation {
+
+    private static final Logger logger = LoggerFactory.getLogger(JdbcQueryCancellation.class);
+
+    private static final Context.Key<JdbcQueryCancellation> KEY = new Context.KeyImmutable<>() {};
+
+    @Nullable
+    private final JdbcQueryCancellation parent;
+    // guarded by this
+    private final Set<Statement> statements = new HashSet<>();
+    private volatile boolean cancelled;
+
+    public JdbcQueryCancellation() {
+        this(null);
+    }
+
+    private JdbcQueryCancellation(@Nullable JdbcQueryCancellation parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * @return cancellation of context, it is created if context has none
+     */
+    public static JdbcQueryCancellation install(Context context) {
+        var cancellation = context.get(KEY);
+        if (cancellation == null) {
+            cancellation = context.set(KEY, new JdbcQueryCancellation());
+        }
+        return cancellation;
+    }
+
+    @Nullable
+    public static JdbcQueryCancellation get(Context context) {
+        return context.get(KEY);
+    }
+
+    /**
+     * @return cancellation that is cancelled either directly or together with cancellation of context, null if context has no cancellation
+     */
+    @Nullable
+    public static JdbcQueryCancellation child(Context context) {
+        var parent = context.get(KEY);
+        return parent == null
+            ? null
+            : new JdbcQueryCancellation(parent);
+    }
+
+    /**
+     * Sets this cancellation to context, usually to fork of context that child was created from
+     */
+    public void attach(Context context) {
+        context.set(KEY, this);
+    }
+
+    public boolean isCancelled() {
+        return this.cancelled || this.parent != null && this.parent.isCancelled();
+    }
+
+    public void cancel() {
+        ArrayList<Statement> statements;
+        synchronized (this) {
+            if (this.cancelled) {
+                return;
+            }
+            this.cancelled = true;
+            statements = new ArrayList<>(this.statements);
+            this.statements.clear();
+        }
+        for (var statement : statements) {
+            try {
+                statement.cancel();
+            } catch (SQLException e) {
+                logger.debug("Failed to cancel statement", e);
+            }
+        }
+    }
+
+    /**
+     * <b>Русский</b>: Выполняет задачу на исполнителе, отмена результата отменяет запросы задачи, если отмена указана.
+     * <hr>
+     * <b>English</b>: Executes task on executor, cancellation of result cancels task queries if cancellation is specified.
+     */
+    public static <T> CompletableFuture<T> supplyAsync(@Nullable JdbcQueryCancellation cancellation, Supplier<T> supplier, Executor executor) {
+        if (cancellation == null) {
+            return CompletableFuture.supplyAsync(supplier, executor);
+        }
+        var future = new CompletableFuture<T>() {
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                var cancelled = super.cancel(mayInterruptIfRunning);
+                if (cancelled) {
+                    cancellation.cancel();
+                }
+                return cancelled;
+            }
+        };
+        executor.execute(() -> {
+            if (future.isDone()) {
+                return;
+            }
+            try {
+                future.complete(supplier.get());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    void checkNotCancelled() throws SQLException {
+        if (this.isCancelled()) {
+            throw cancelledException();
+        }
+    }
+
+    void register(Statement statement) throws SQLException {
+        for (var c = this; c != null; c = c.parent) {
+            synchronized (c) {
+                if (!c.cancelled) {
+                    c.statements.add(statement);
+                    continue;
+                }
+            }
+            this.unregister(statement);
+            throw cancelledException();
+        }
+    }
+
+    void unregister(Statement statement) {
+        for (var c = this; c != null; c = c.parent) {
+            synchronized (c) {
+                c.statements.remove(statement);
+            }
+        }
+    }
+
+    private static SQLException cancelledException() {
+        // postgresql query_canceled state
+        return new SQLException("Query cancelled", "57014");
+    }
+}
@@ -0,0 +1,218 @@
+package ru.tinkoff.kora.database.jdbc;
+
+import jakarta.annotation.Nullable;
+import ru.tinkoff.kora.database.common.QueryContext;
+import ru.tinkoff.kora.database.common.telemetry.DataBaseTelemetry;
+import ru.tinkoff.kora.database.jdbc.mapper.result.JdbcRowMapper;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <b>Русский</b>: Итератор по результату запроса, который читает строки с сервера порциями по {@code fetchSize}.
+ * Соединение, взятое для итератора, и его транзакция живут до вызова {@link #close()}.
+ * <hr>
+ * <b>English</b>: Iterator over query result that reads rows from server in chunks of {@code fetchSize}.
+ * Connection taken for the iterator and its transaction live until {@link #close()} is called.
+ *
+ * @see JdbcResultPublisher
+ */
+public final class JdbcResultIterator<T> implements Iterator<T>, AutoCloseable {
+
+    /**
+     * Fetch size used when query doesn't specify one, so drivers that support cursors never load whole result in memory
+     */
+    public static final int DEFAULT_FETCH_SIZE = 1000;
+
+    @Nullable
+    private final Connection connectionToClose;
+    private final boolean ownTransaction;
+    private final PreparedStatement statement;
+    private final ResultSet resultSet;
+    private final JdbcRowMapper<T> rowMapper;
+    private final DataBaseTelemetry.DataBaseTelemetryContext telemetry;
+
+    private boolean hasNext;
+    private boolean fetched;
+    private boolean closed;
+
+    private JdbcResultIterator(@Nullable Connection connectionToClose, boolean ownTransaction, PreparedStatement statement, ResultSet resultSet, JdbcRowMapper<T> rowMapper, DataBaseTelemetry.DataBaseTelemetryContext telemetry) {
+        this.connectionToClose = connectionToClose;
+        this.ownTransaction = ownTransaction;
+        this.statement = statement;
+        this.resultSet = resultSet;
+        this.rowMapper = rowMapper;
+        this.telemetry = telemetry;
+    }
+
+    /**
+     * @param connection connection to execute query on, when null new connection is taken from factory and closed with iterator
+     * @param fetchSize  number of rows fetched from server at once, {@link #DEFAULT_FETCH_SIZE} is used when zero
+     */
+    public static <T> JdbcResultIterator<T> open(JdbcConnectionFactory connectionFactory,
+                                                 @Nullable Connection connection,
+                                                 QueryContext query,
+                                                 DataBaseTelemetry.DataBaseTelemetryContext telemetry,
+                                                 int fetchSize,
+                                                 JdbcHelper.SqlConsumer<PreparedStatement> parameters,
+                                                 JdbcRowMapper<T> rowMapper) {
+        return open(connectionFactory, connection, false, query, telemetry, fetchSize, parameters, rowMapper);
+    }
+
+    /**
+     * @param connection connection to execute query on, when null new connection is taken from factory and closed with iterator
+     * @param readOnly   whether new connection is taken with {@link JdbcConnectionFactory#newReadOnlyConnection(QueryContext)}
+     * @param fetchSize  number of rows fetched from server at once, {@link #DEFAULT_FETCH_SIZE} is used when zero
+     */
+    public static <T> JdbcResultIterator<T> open(JdbcConnectionFactory connectionFactory,
+                                                 @Nullable Connection connection,
+                                                 boolean readOnly,
+                                                 QueryContext query,
+                                                 DataBaseTelemetry.DataBaseTelemetryContext telemetry,
+                                                 int fetchSize,
+                                                 JdbcHelper.SqlConsumer<PreparedStatement> parameters,
+                                                 JdbcRowMapper<T> rowMapper) {
+        Connection connectionToClose = null;
+        boolean ownTransaction = false;
+        PreparedStatement statement = null;
+        try {
+            if (connection == null) {
+                connection = connectionToClose = readOnly ? connectionFactory.newReadOnlyConnection(query) : connectionFactory.newConnection(query);
+                // most drivers use server side cursor only inside transaction
+                if (connection.getAutoCommit()) {
+                    connection.setAutoCommit(false);
+                    ownTransaction = true;
+                }
+            }
+            statement = connectionFactory.prepareStatement(connection, query, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize == 0 ? DEFAULT_FETCH_SIZE : fetchSize);
+            parameters.accept(statement);
+            var resultSet = statement.executeQuery();
+            return new JdbcResultIterator<>(connectionToClose, ownTransaction, statement, resultSet, rowMapper, telemetry);
+        } catch (SQLException e) {
+            closeOnError(e, statement, connectionToClose, ownTransaction);
+            telemetry.close(e);
+            throw new RuntimeSqlException(e);
+        } catch (RuntimeException | Error e) {
+            closeOnError(e, statement, connectionToClose, ownTransaction);
+            telemetry.close(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (this.closed) {
+            return false;
+        }
+        if (!this.fetched) {
+            try {
+                this.hasNext = this.resultSet.next();
+                this.fetched = true;
+            } catch (SQLException e) {
+                this.close(e);
+                throw new RuntimeSqlException(e);
+            }
+            if (!this.hasNext) {
+                this.close();
+            }
+        }
+        return this.hasNext;
+    }
+
+    @Override
+    public T next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        this.fetched = false;
+        try {
+            return this.rowMapper.apply(this.resultSet);
+        } catch (SQLException e) {
+            this.close(e);
+            throw new RuntimeSqlException(e);
+        } catch (RuntimeException | Error e) {
+            this.close(e);
+            throw e;
+        }
+    }
+
+    /**
+     * @return sequential stream over remaining rows, closing stream closes iterator
+     */
+    public Stream<T> stream() {
+        var spliterator = Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+
+    @Override
+    public void close() {
+        this.close(null);
+    }
+
+    private void close(@Nullable Throwable error) {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        Throwable closeError = null;
+        try {
+            this.resultSet.close();
+            this.statement.close();
+            if (this.connectionToClose != null && this.ownTransaction) {
+                if (error == null) {
+                    this.connectionToClose.commit();
+                } else {
+                    this.connectionToClose.rollback();
+                }
+                this.connectionToClose.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            closeError = e;
+        } finally {
+            if (this.connectionToClose != null) {
+                try {
+                    this.connectionToClose.close();
+                } catch (SQLException e) {
+                    if (closeError == null) {
+                        closeError = e;
+                    } else {
+                        closeError.addSuppressed(e);
+                    }
+                }
+            }
+        }
+        this.telemetry.close(error != null ? error : closeError);
+        if (error == null && closeError instanceof SQLException sqlException) {
+            throw new RuntimeSqlException(sqlException);
+        }
+    }
+
+    private static void closeOnError(Throwable error, @Nullable PreparedStatement statement, @Nullable Connection connectionToClose, boolean ownTransaction) {
+        try {
+            if (statement != null) {
+                statement.close();
+            }
+        } catch (SQLException e) {
+            error.addSuppressed(e);
+        }
+        if (connectionToClose != null) {
+            try (connectionToClose) {
+                if (ownTransaction) {
+                    connectionToClose.rollback();
+                    connectionToClose.setAutoCommit(true);
+                }
+            } catch (SQLException e) {
+                error.addSuppressed(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package ru.tinkoff.kora.database.jdbc;
+
+import jakarta.annotation.Nullable;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * <b>Русский</b>: Издатель строк результата запроса, который выполняет запрос при первом запросе данных подписчиком
+ * и читает строки с сервера только по мере спроса. Вся работа с JDBC выполняется на переданном исполнителе.
+ * <hr>
+ * <b>English</b>: Publisher of query result rows that executes query on first subscriber demand
+ * and reads rows from server only as they are requested. All JDBC work is performed on given executor.
+ *
+ * @see JdbcResultIterator
+ */
+public final class JdbcResultPublisher<T> implements Flow.Publisher<T> {
+
+    private final Supplier<JdbcResultIterator<T>> iteratorFactory;
+    private final Executor executor;
+
+    public JdbcResultPublisher(Supplier<JdbcResultIterator<T>> iteratorFactory, Executor executor) {
+        this.iteratorFactory = iteratorFactory;
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber);
+        subscriber.onSubscribe(new ResultSubscription<>(subscriber, this.iteratorFactory, this.executor));
+    }
+
+    private static final class ResultSubscription<T> implements Flow.Subscription, Runnable {
+        private final Flow.Subscriber<? super T> subscriber;
+        private final Supplier<JdbcResultIterator<T>> iteratorFactory;
+        private final Executor executor;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile boolean cancelled;
+        @Nullable
+        private volatile Throwable invalidRequest;
+
+        // accessed only from drain loop
+        @Nullable
+        private JdbcResultIterator<T> iterator;
+        private boolean done;
+
+        private ResultSubscription(Flow.Subscriber<? super T> subscriber, Supplier<JdbcResultIterator<T>> iteratorFactory, Executor executor) {
+            this.subscriber = subscriber;
+            this.iteratorFactory = iteratorFactory;
+            this.executor = executor;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                this.invalidRequest = new IllegalArgumentException("Requested amount must be positive, but was " + n);
+            } else {
+                this.demand.getAndAccumulate(n, (current, requested) -> {
+                    var sum = current + requested;
+                    return sum < 0 ? Long.MAX_VALUE : sum;
+                });
+            }
+            this.schedule();
+        }
+
+        @Override
+        public void cancel() {
+            this.cancelled = true;
+            this.schedule();
+        }
+
+        private void schedule() {
+            if (this.wip.getAndIncrement() == 0) {
+                this.executor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            do {
+                this.drain();
+                missed = this.wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drain() {
+            if (this.done) {
+                return;
+            }
+            if (this.cancelled) {
+                this.terminate();
+                return;
+            }
+            var invalidRequest = this.invalidRequest;
+            if (invalidRequest != null) {
+                this.terminate();
+                this.subscriber.onError(invalidRequest);
+                return;
+            }
+            var requested = this.demand.get();
+            if (requested == 0) {
+                return;
+            }
+            try {
+                var iterator = this.iterator;
+                if (iterator == null) {
+                    iterator = this.iterator = this.iteratorFactory.get();
+                }
+                long emitted = 0;
+                while (emitted != requested) {
+                    if (this.cancelled) {
+                        this.terminate();
+                        return;
+                    }
+                    if (!iterator.hasNext()) {
+                        this.done = true;
+                        this.subscriber.onComplete();
+                        return;
+                    }
+                    this.subscriber.onNext(iterator.next());
+                    emitted++;
+                }
+                if (!this.cancelled && !iterator.hasNext()) {
+                    this.done = true;
+                    this.subscriber.onComplete();
+                    return;
+                }
+                if (requested != Long.MAX_VALUE) {
+                    // demand requested meanwhile is drained by next run loop iteration
+                    this.demand.addAndGet(-emitted);
+                }
+            } catch (Throwable e) {
+                this.terminate();
+                this.subscriber.onError(e);
+            }
+        }
+
+        private void terminate() {
+            this.done = true;
+            var iterator = this.iterator;
+            if (iterator != null) {
+                this.iterator = null;
+                try {
+                    iterator.close();
+                } catch (RuntimeException ignore) {
+                    // close failure is already reported to telemetry
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package ru.tinkoff.kora.database.jdbc;
+
+import jakarta.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.tinkoff.kora.application.graph.Lifecycle;
+import ru.tinkoff.kora.common.Context;
+import ru.tinkoff.kora.common.readiness.ReadinessProbe;
+import ru.tinkoff.kora.common.readiness.ReadinessProbeFailure;
+import ru.tinkoff.kora.database.common.QueryContext;
+import ru.tinkoff.kora.database.common.telemetry.DataBaseTelemetry;
+import ru.tinkoff.kora.database.common.telemetry.DataBaseTelemetryFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <b>Русский</b>: Фабрика соединений JDBC с основной базой данных и репликами.
+ * Запросы с {@code @Query(readOnly = true)} вне транзакции выполняются на реплике с наименьшим количеством выполняющихся запросов,
+ * все остальные запросы и транзакции выполняются на основной базе данных.
+ * Реплики с отставанием больше {@link JdbcRoutingDatabaseConfig#maxReplicaLag()} и недоступные реплики исключаются до следующей проверки.
+ * После записи запросы на чтение в том же контексте выполняются на основной базе данных в течение {@link JdbcRoutingDatabaseConfig#primaryStickiness()}.
+ * <hr>
+ * <b>English</b>: JDBC connection factory with primary database and replicas.
+ * Queries with {@code @Query(readOnly = true)} outside of transaction are executed on replica with the least outstanding requests,
+ * all other queries and transactions are executed on primary database.
+ * Replicas lagging more than {@link JdbcRoutingDatabaseConfig#maxReplicaLag()} and unavailable replicas are excluded until next check.
+ * After write read queries within the same context are executed on primary database during {@link JdbcRoutingDatabaseConfig#primaryStickiness()}.
+ * <br>
+ * <br>
+ * Пример / Example:
+ * <pre>
+ * {@code
+ * @Tag(JdbcRoutingDatabase.class)
+ * default JdbcConnectionFactory routingDatabase(JdbcRoutingDatabaseConfig config, DataBaseTelemetryFactory telemetryFactory) {
+ *     return new JdbcRoutingDatabase(config, telemetryFactory, null);
+ * }
+ * }
+ * </pre>
+ *
+ * @see ru.tinkoff.kora.database.common.annotation.Query#readOnly()
+ */
+public class JdbcRoutingDatabase implements Lifecycle, JdbcConnectionFactory, ReadinessProbe {
+
+    private static final Logger logger = LoggerFactory.getLogger(JdbcRoutingDatabase.class);
+
+    private final Context.Key<Long> lastWriteKey = new Context.KeyImmutable<>() {};
+
+    private final JdbcDatabase primary;
+    private final Replica[] replicas;
+    @Nullable
+    private final Duration maxReplicaLag;
+    private final String replicaLagQuery;
+    private final long replicaLagCheckInterval;
+    private final long primaryStickiness;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public JdbcRoutingDatabase(JdbcRoutingDatabaseConfig config, DataBaseTelemetryFactory telemetryFactory, @Nullable Executor executor) {
+        this(
+            new JdbcDatabase(config.primary(), telemetryFactory, executor),
+            config.replicas().stream().map(replica -> new JdbcDatabase(replica, telemetryFactory, executor)).toList(),
+            config
+        );
+    }
+
+    public JdbcRoutingDatabase(JdbcDatabase primary, List<JdbcDatabase> replicas, JdbcRoutingDatabaseConfig config) {
+        this.primary = Objects.requireNonNull(primary);
+        this.maxReplicaLag = config.maxReplicaLag();
+        this.replicaLagQuery = config.replicaLagQuery();
+        this.replicaLagCheckInterval = config.replicaLagCheckInterval().toNanos();
+        this.primaryStickiness = config.primaryStickiness().toNanos();
+        this.replicas = new Replica[replicas.size()];
+        for (int i = 0; i < this.replicas.length; i++) {
+            this.replicas[i] = new Replica(replicas.get(i), System.nanoTime() - this.replicaLagCheckInterval);
+        }
+    }
+
+    @Override
+    public void init() throws SQLException {
+        this.primary.init();
+        for (var replica : this.replicas) {
+            replica.database.init();
+        }
+    }
+
+    @Override
+    public void release() {
+        for (var replica : this.replicas) {
+            replica.database.release();
+        }
+        this.primary.release();
+    }
+
+    @Override
+    public ReadinessProbeFailure probe() throws Exception {
+        return this.primary.probe();
+    }
+
+    @Override
+    public <T> T withConnection(JdbcHelper.SqlFunction1<Connection, T> callback) throws RuntimeSqlException {
+        if (this.primary.currentConnection() == null) {
+            this.markWrite();
+        }
+        return this.primary.withConnection(callback);
+    }
+
+    @Nullable
+    @Override
+    public Connection currentConnection() {
+        return this.primary.currentConnection();
+    }
+
+    @Override
+    public Connection newConnection() {
+        this.markWrite();
+        return this.primary.newConnection();
+    }
+
+    @Override
+    public Connection newConnection(QueryContext queryContext) {
+        this.markWrite();
+        return this.primary.newConnection(queryContext);
+    }
+
+    @Override
+    public Connection newReadOnlyConnection() {
+        return this.newReadOnlyConnection(null);
+    }
+
+    @Override
+    public Connection newReadOnlyConnection(@Nullable QueryContext queryContext) {
+        if (this.replicas.length == 0 || this.isStickyToPrimary()) {
+            return newConnection(this.primary, queryContext);
+        }
+        for (int attempt = 0; attempt < this.replicas.length; attempt++) {
+            var replica = this.selectReplica(System.nanoTime());
+            if (replica == null) {
+                break;
+            }
+            var connection = this.tryReplica(replica, queryContext);
+            if (connection != null) {
+                return connection;
+            }
+        }
+        return newConnection(this.primary, queryContext);
+    }
+
+    private static Connection newConnection(JdbcDatabase database, @Nullable QueryContext queryContext) {
+        return queryContext == null ? database.newConnection() : database.newConnection(queryContext);
+    }
+
+    @Override
+    public DataBaseTelemetry telemetry() {
+        return this.primary.telemetry();
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(Connection connection, QueryContext queryContext) throws SQLException {
+        return this.primary.prepareStatement(connection, queryContext);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(Connection connection, QueryContext queryContext, int resultSetType, int resultSetConcurrency) throws SQLException {
+        return this.primary.prepareStatement(connection, queryContext, resultSetType, resultSetConcurrency);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(Connection connection, QueryContext queryContext, int autoGeneratedKeys) throws SQLException {
+        return this.primary.prepareStatement(connection, queryContext, autoGeneratedKeys);
+    }
+
+    private void markWrite() {
+        if (this.replicas.length > 0) {
+            Context.current().set(this.lastWriteKey, System.nanoTime());
+        }
+    }
+
+    private boolean isStickyToPrimary() {
+        var lastWrite = Context.current().get(this.lastWriteKey);
+        return lastWrite != null && System.nanoTime() - lastWrite < this.primaryStickiness;
+    }
+
+    @Nullable
+    private Replica selectReplica(long now) {
+        var start = Math.floorMod(this.nextReplica.getAndIncrement(), this.replicas.length);
+        Replica best = null;
+        int bestOutstanding = Integer.MAX_VALUE;
+        for (int i = 0; i < this.replicas.length; i++) {
+            var replica = this.replicas[(start + i) % this.replicas.length];
+            if (replica.excluded && !replica.isCheckDue(now, this.replicaLagCheckInterval)) {
+                continue;
+            }
+            var outstanding = replica.database.outstandingRequests();
+            if (outstanding < bestOutstanding) {
+                best = replica;
+                bestOutstanding = outstanding;
+            }
+        }
+        return best;
+    }
+
+    @Nullable
+    private Connection tryReplica(Replica replica, @Nullable QueryContext queryContext) {
+        Connection connection;
+        try {
+            connection = newConnection(replica.database, queryContext);
+        } catch (RuntimeException e) {
+            replica.exclude(System.nanoTime());
+            logger.warn("Replica '{}' is unavailable, read queries are sent to other replicas or primary", replica.poolName(), e);
+            return null;
+        }
+        if (this.maxReplicaLag == null) {
+            replica.excluded = false;
+            return connection;
+        }
+        if (replica.tryStartCheck(System.nanoTime(), this.replicaLagCheckInterval)) {
+            return this.checkReplicaLag(replica, connection);
+        }
+        if (!replica.excluded) {
+            return connection;
+        }
+        closeReplicaConnection(replica, connection);
+        return null;
+    }
+
+    @Nullable
+    private Connection checkReplicaLag(Replica replica, Connection connection) {
+        try {
+            var lag = this.replicaLag(connection);
+            if (lag.compareTo(this.maxReplicaLag) <= 0) {
+                if (replica.excluded) {
+                    logger.info("Replica '{}' lag is {}, read queries are sent to it again", replica.poolName(), lag);
+                }
+                replica.excluded = false;
+                return connection;
+            }
+            if (!replica.excluded) {
+                logger.warn("Replica '{}' lag is {}, which exceeds {}, read queries are sent to other replicas or primary", replica.poolName(), lag, this.maxReplicaLag);
+            }
+        } catch (SQLException e) {
+            logger.warn("Failed to check replica '{}' lag", replica.poolName(), e);
+        }
+        replica.excluded = true;
+        closeReplicaConnection(replica, connection);
+        return null;
+    }
+
+    private static void closeReplicaConnection(Replica replica, Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            logger.debug("Failed to close replica '{}' connection", replica.poolName(), e);
+        }
+    }
+
+    private Duration replicaLag(Connection connection) throws SQLException {
+        try (var stmt = connection.createStatement();
+             var rs = stmt.executeQuery(this.replicaLagQuery)) {
+            if (!rs.next()) {
+                return Duration.ZERO;
+            }
+            return Duration.ofNanos((long) (rs.getDouble(1) * 1_000_000_000));
+        }
+    }
+
+    private static final class Replica {
+        private final JdbcDatabase database;
+        private final AtomicLong lastCheck;
+        private volatile boolean excluded;
+
+        private Replica(JdbcDatabase database, long lastCheck) {
+            this.database = database;
+            this.lastCheck = new AtomicLong(lastCheck);
+        }
+
+        private String poolName() {
+            return this.database.databaseConfig.poolName();
+        }
+
+        private boolean isCheckDue(long now, long interval) {
+            return now - this.lastCheck.get() >= interval;
+        }
+
+        private boolean tryStartCheck(long now, long interval) {
+            var last = this.lastCheck.get();
+            return now - last >= interval && this.lastCheck.compareAndSet(last, now);
+        }
+
+        private void exclude(long now) {
+            this.excluded = true;
+            this.lastCheck.set(now);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package ru.tinkoff.kora.database.jdbc;
+
+import jakarta.annotation.Nullable;
+import ru.tinkoff.kora.config.common.annotation.ConfigValueExtractor;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * <b>Русский</b>: Конфигурация описывающая соединения к основной Jdbc базе данных и ее репликам.
+ * <hr>
+ * <b>English</b>: Configuration describing connections to the primary Jdbc database and its replicas.
+ *
+ * @see JdbcRoutingDatabase
+ */
+@ConfigValueExtractor
+public interface JdbcRoutingDatabaseConfig {
+
+    JdbcDatabaseConfig primary();
+
+    default List<JdbcDatabaseConfig> replicas() {
+        return List.of();
+    }
+
+    /**
+     * <b>Русский</b>: Максимальное отставание реплики, при превышении которого запросы на чтение на нее не отправляются, если не указано, отставание не проверяется.
+     * <hr>
+     * <b>English</b>: Maximum replica lag, read queries are not sent to replica that lags more, lag is not checked if not specified.
+     */
+    @Nullable
+    Duration maxReplicaLag();
+
+    /**
+     * <b>Русский</b>: Запрос, возвращающий отставание реплики в секундах.
+     * Запрос по умолчанию для PostgreSQL возвращает 0, если реплика применила все полученные WAL записи, иначе время с момента последней примененной транзакции.
+     * Поэтому при простое основной базы данных отставание не растет, но реплика, потерявшая соединение с основной базой данных, тоже считается не отстающей.
+     * <hr>
+     * <b>English</b>: Query returning replica lag in seconds.
+     * Default PostgreSQL query returns 0 when replica has replayed all received WAL, otherwise time since last replayed transaction.
+     * So lag doesn't grow while primary database is idle, but replica that lost connection to primary is not considered lagging either.
+     */
+    default String replicaLagQuery() {
+        return "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+    }
+
+    default Duration replicaLagCheckInterval() {
+        return Duration.ofSeconds(5);
+    }
+
+    /**
+     * <b>Русский</b>: Время после записи, в течение которого запросы на чтение в том же контексте выполняются на основной базе данных, чтобы видеть свои записи.
+     * <hr>
+     * <b>English</b>: Time after write during which read queries within the same context are executed on primary database, so they see their own writes.
+     */
+    default Duration primaryStickiness() {
+        return Duration.ofSeconds(1);
+    }
+}
@@ -0,0 +1,107 @@
+package ru.tinkoff.kora.database.jdbc;
+
+import jakarta.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.tinkoff.kora.database.common.QueryContext;
+import ru.tinkoff.kora.database.common.telemetry.DataBaseTelemetry;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Reports sampled queries that executed longer than threshold to telemetry.
+ * <br>
+ * Parameter values are never reported, only their types, so personal data doesn't leak to logs.
+ * Plan is requested with {@code EXPLAIN} without {@code ANALYZE}, so query is not executed again,
+ * and only outside of transaction, because failed {@code EXPLAIN} would abort transaction on some databases.
+ * Connection is owned by caller until statement is closed, so plan is requested synchronously on caller thread
+ * and adds one round trip to sampled slow query, that's why it is disabled by default.
+ */
+final class JdbcSlowQuerySampler {
+
+    private static final Logger logger = LoggerFactory.getLogger(JdbcSlowQuerySampler.class);
+
+    static final Object UNKNOWN_PARAMETER = new Object();
+
+    private final long threshold;
+    private final double sampleRate;
+    private final boolean explain;
+    private final DataBaseTelemetry telemetry;
+
+    JdbcSlowQuerySampler(JdbcDatabaseConfig.SlowQueryConfig config, DataBaseTelemetry telemetry) {
+        this.threshold = config.threshold().toNanos();
+        this.sampleRate = config.sampleRate();
+        this.explain = config.explain();
+        this.telemetry = telemetry;
+    }
+
+    void sample(Statement statement, QueryContext query, long processingTime, Object[] parameters, int parameterCount, boolean batched, @Nullable Throwable error) {
+        if (processingTime < this.threshold) {
+            return;
+        }
+        if (this.sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= this.sampleRate) {
+            return;
+        }
+        var redacted = new ArrayList<String>(parameterCount);
+        var complete = true;
+        for (int i = 0; i < parameterCount; i++) {
+            var value = parameters[i];
+            if (value == null || value == UNKNOWN_PARAMETER) {
+                redacted.add("?");
+                complete = false;
+            } else if (value instanceof NullParameter) {
+                redacted.add("null");
+            } else {
+                redacted.add(value.getClass().getSimpleName());
+            }
+        }
+        var plan = this.explain && error == null && !batched && complete
+            ? this.explain(statement, query, parameters, parameterCount)
+            : null;
+        this.telemetry.reportSlowQuery(query, processingTime, List.copyOf(redacted), plan, error);
+    }
+
+    @Nullable
+    private String explain(Statement statement, QueryContext query, Object[] parameters, int parameterCount) {
+        try {
+            var connection = statement.getConnection();
+            if (!connection.getAutoCommit()) {
+                return null;
+            }
+            try (var stmt = connection.prepareStatement("EXPLAIN " + query.sql())) {
+                for (int i = 0; i < parameterCount; i++) {
+                    if (parameters[i] instanceof NullParameter nullParameter) {
+                        stmt.setNull(i + 1, nullParameter.sqlType());
+                    } else {
+                        stmt.setObject(i + 1, parameters[i]);
+                    }
+                }
+                try (var rs = stmt.executeQuery()) {
+                    var columns = rs.getMetaData().getColumnCount();
+                    var plan = new StringBuilder();
+                    while (rs.next()) {
+                        if (!plan.isEmpty()) {
+                            plan.append('\n');
+                        }
+                        for (int i = 1; i <= columns; i++) {
+                            if (i > 1) {
+                                plan.append('\t');
+                            }
+                            plan.append(rs.getString(i));
+                        }
+                    }
+                    return plan.toString();
+                }
+            }
+        } catch (SQLException e) {
+            logger.debug("Failed to explain slow query '{}'", query.queryId(), e);
+            return null;
+        }
+    }
+
+    record NullParameter(int sqlType) {}
+}
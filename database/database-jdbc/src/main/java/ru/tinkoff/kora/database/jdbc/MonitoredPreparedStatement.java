@@ -0,0 +1,301 @@
+package ru.tinkoff.kora.database.jdbc;
+
+import jakarta.annotation.Nullable;
+import ru.tinkoff.kora.database.common.QueryContext;
+
+import java.math.BigDecimal;
+import java.sql.*;
+import java.util.Arrays;
+import java.util.Calendar;
+
+/**
+ * Prepared statement that can be cancelled with {@link JdbcQueryCancellation} while it is open
+ * and reports its slow executions to {@link JdbcSlowQuerySampler}.
+ * <br>
+ * Parameters are recorded only when sampler is present, parameters set with stream, reader and LOB setters are not recorded.
+ */
+final class MonitoredPreparedStatement extends DelegatingPreparedStatement {
+
+    private static final Object[] EMPTY = new Object[0];
+
+    private final QueryContext query;
+    @Nullable
+    private final JdbcQueryCancellation cancellation;
+    @Nullable
+    private final JdbcSlowQuerySampler sampler;
+    private Object[] parameters = EMPTY;
+    private int parameterCount;
+    private boolean batched;
+
+    MonitoredPreparedStatement(PreparedStatement delegate, QueryContext query, @Nullable JdbcQueryCancellation cancellation, @Nullable JdbcSlowQuerySampler sampler) throws SQLException {
+        super(delegate);
+        this.query = query;
+        this.cancellation = cancellation;
+        this.sampler = sampler;
+        if (cancellation != null) {
+            cancellation.register(this.delegate);
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (this.cancellation != null) {
+            this.cancellation.unregister(this.delegate);
+        }
+        this.delegate.close();
+    }
+
+    @Override
+    public boolean execute() throws SQLException {
+        var start = this.start();
+        try {
+            var result = this.delegate.execute();
+            this.sample(start, null);
+            return result;
+        } catch (SQLException e) {
+            this.sample(start, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public ResultSet executeQuery() throws SQLException {
+        var start = this.start();
+        try {
+            var result = this.delegate.executeQuery();
+            this.sample(start, null);
+            return result;
+        } catch (SQLException e) {
+            this.sample(start, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int executeUpdate() throws SQLException {
+        var start = this.start();
+        try {
+            var result = this.delegate.executeUpdate();
+            this.sample(start, null);
+            return result;
+        } catch (SQLException e) {
+            this.sample(start, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public long executeLargeUpdate() throws SQLException {
+        var start = this.start();
+        try {
+            var result = this.delegate.executeLargeUpdate();
+            this.sample(start, null);
+            return result;
+        } catch (SQLException e) {
+            this.sample(start, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int[] executeBatch() throws SQLException {
+        var start = this.start();
+        try {
+            var result = this.delegate.executeBatch();
+            this.sample(start, null);
+            return result;
+        } catch (SQLException e) {
+            this.sample(start, e);
+            throw e;
+        } finally {
+            this.batched = false;
+        }
+    }
+
+    @Override
+    public long[] executeLargeBatch() throws SQLException {
+        var start = this.start();
+        try {
+            var result = this.delegate.executeLargeBatch();
+            this.sample(start, null);
+            return result;
+        } catch (SQLException e) {
+            this.sample(start, e);
+            throw e;
+        } finally {
+            this.batched = false;
+        }
+    }
+
+    @Override
+    public void addBatch() throws SQLException {
+        this.batched = true;
+        this.delegate.addBatch();
+    }
+
+    @Override
+    public void clearParameters() throws SQLException {
+        this.delegate.clearParameters();
+        Arrays.fill(this.parameters, 0, this.parameterCount, null);
+        this.parameterCount = 0;
+    }
+
+    @Override
+    public void setNull(int parameterIndex, int sqlType) throws SQLException {
+        this.delegate.setNull(parameterIndex, sqlType);
+        this.record(parameterIndex, new JdbcSlowQuerySampler.NullParameter(sqlType));
+    }
+
+    @Override
+    public void setNull(int parameterIndex, int sqlType, String typeName) throws SQLException {
+        this.delegate.setNull(parameterIndex, sqlType, typeName);
+        this.record(parameterIndex, new JdbcSlowQuerySampler.NullParameter(sqlType));
+    }
+
+    @Override
+    public void setBoolean(int parameterIndex, boolean x) throws SQLException {
+        this.delegate.setBoolean(parameterIndex, x);
+        this.record(parameterIndex, x);
+    }
+
+    @Override
+    public void setByte(int parameterIndex, byte x) throws SQLException {
+        this.delegate.setByte(parameterIndex, x);
+        this.record(parameterIndex, x);
+    }
+
+    @Override
+    public void setShort(int parameterIndex, short x) throws SQLException {
+        this.delegate.setShort(parameterIndex, x);
+        this.record(parameterIndex, x);
+    }
+
+    @Override
+    public void setInt(int parameterIndex, int x) throws SQLException {
+        this.delegate.setInt(parameterIndex, x);
+        this.record(parameterIndex, x);
+    }
+
+    @Override
+    public void setLong(int parameterIndex, long x) throws SQLException {
+        this.delegate.setLong(parameterIndex, x);
+        this.record(parameterIndex, x);
+    }
+
+    @Override
+    public void setFloat(int parameterIndex, float x) throws SQLException {
+        this.delegate.setFloat(parameterIndex, x);
+        this.record(parameterIndex, x);
+    }
+
+    @Override
+    public void setDouble(int parameterIndex, double x) throws SQLException {
+        this.delegate.setDouble(parameterIndex, x);
+        this.record(parameterIndex, x);
+    }
+
+    @Override
+    public void setBigDecimal(int parameterIndex, BigDecimal x) throws SQLException {
+        this.delegate.setBigDecimal(parameterIndex, x);
+        this.record(parameterIndex, x);
+    }
+
+    @Override
+    public void setString(int parameterIndex, String x) throws SQLException {
+        this.delegate.setString(parameterIndex, x);
+        this.record(parameterIndex, x);
+    }
+
+    @Override
+    public void setBytes(int parameterIndex, byte[] x) throws SQLException {
+        this.delegate.setBytes(parameterIndex, x);
+        this.record(parameterIndex, x);
+    }
+
+    @Override
+    public void setDate(int parameterIndex, Date x) throws SQLException {
+        this.delegate.setDate(parameterIndex, x);
+        this.record(parameterIndex, x);
+    }
+
+    @Override
+    public void setDate(int parameterIndex, Date x, Calendar cal) throws SQLException {
+        this.delegate.setDate(parameterIndex, x, cal);
+        this.record(parameterIndex, JdbcSlowQuerySampler.UNKNOWN_PARAMETER);
+    }
+
+    @Override
+    public void setTime(int parameterIndex, Time x) throws SQLException {
+        this.delegate.setTime(parameterIndex, x);
+        this.record(parameterIndex, x);
+    }
+
+    @Override
+    public void setTime(int parameterIndex, Time x, Calendar cal) throws SQLException {
+        this.delegate.setTime(parameterIndex, x, cal);
+        this.record(parameterIndex, JdbcSlowQuerySampler.UNKNOWN_PARAMETER);
+    }
+
+    @Override
+    public void setTimestamp(int parameterIndex, Timestamp x) throws SQLException {
+        this.delegate.setTimestamp(parameterIndex, x);
+        this.record(parameterIndex, x);
+    }
+
+    @Override
+    public void setTimestamp(int parameterIndex, Timestamp x, Calendar cal) throws SQLException {
+        this.delegate.setTimestamp(parameterIndex, x, cal);
+        this.record(parameterIndex, JdbcSlowQuerySampler.UNKNOWN_PARAMETER);
+    }
+
+    @Override
+    public void setObject(int parameterIndex, Object x) throws SQLException {
+        this.delegate.setObject(parameterIndex, x);
+        this.record(parameterIndex, x);
+    }
+
+    @Override
+    public void setObject(int parameterIndex, Object x, int targetSqlType) throws SQLException {
+        this.delegate.setObject(parameterIndex, x, targetSqlType);
+        this.record(parameterIndex, x == null ? new JdbcSlowQuerySampler.NullParameter(targetSqlType) : JdbcSlowQuerySampler.UNKNOWN_PARAMETER);
+    }
+
+    @Override
+    public void setObject(int parameterIndex, Object x, int targetSqlType, int scaleOrLength) throws SQLException {
+        this.delegate.setObject(parameterIndex, x, targetSqlType, scaleOrLength);
+        this.record(parameterIndex, x == null ? new JdbcSlowQuerySampler.NullParameter(targetSqlType) : JdbcSlowQuerySampler.UNKNOWN_PARAMETER);
+    }
+
+    @Override
+    public void setArray(int parameterIndex, Array x) throws SQLException {
+        this.delegate.setArray(parameterIndex, x);
+        this.record(parameterIndex, x);
+    }
+
+    private long start() {
+        return this.sampler == null ? 0 : System.nanoTime();
+    }
+
+    private void sample(long start, @Nullable SQLException error) {
+        if (this.sampler != null) {
+            this.sampler.sample(this.delegate, this.query, System.nanoTime() - start, this.parameters, this.parameterCount, this.batched, error);
+        }
+    }
+
+    /**
+     * @param value parameter value, {@link JdbcSlowQuerySampler#UNKNOWN_PARAMETER} when value can't be passed to {@code EXPLAIN}
+     */
+    private void record(int parameterIndex, @Nullable Object value) {
+        if (this.sampler == null || parameterIndex < 1) {
+            return;
+        }
+        if (value == null) {
+            value = new JdbcSlowQuerySampler.NullParameter(Types.NULL);
+        }
+        if (parameterIndex > this.parameters.length) {
+            this.parameters = Arrays.copyOf(this.parameters, Math.max(parameterIndex, this.parameters.length * 2));
+        }
+        this.parameters[parameterIndex - 1] = value;
+        this.parameterCount = Math.max(this.parameterCount, parameterIndex);
+    }
+}
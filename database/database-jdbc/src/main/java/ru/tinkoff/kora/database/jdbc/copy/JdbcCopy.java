@@ -0,0 +1,353 @@
+package ru.tinkoff.kora.database.jdbc.copy;
+
+import jakarta.annotation.Nullable;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import ru.tinkoff.kora.common.Context;
+import ru.tinkoff.kora.database.common.QueryContext;
+import ru.tinkoff.kora.database.common.telemetry.DataBaseTelemetry;
+import ru.tinkoff.kora.database.jdbc.JdbcConnectionFactory;
+import ru.tinkoff.kora.database.jdbc.RuntimeSqlException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <b>Русский</b>: Массовая загрузка строк в таблицу PostgreSQL через бинарный {@code COPY FROM STDIN}, что значительно быстрее пакетных {@code INSERT}.
+ * Загрузка выполняется в текущей транзакции, если она есть, иначе на новом соединении.
+ * <hr>
+ * <b>English</b>: Bulk load of rows into PostgreSQL table with binary {@code COPY FROM STDIN}, which is much faster than batched {@code INSERT}.
+ * Load is executed in current transaction if there is one, otherwise on new connection.
+ * <br>
+ * <br>
+ * Пример / Example:
+ * <pre>
+ * {@code
+ * long rows = JdbcCopy.copyIn(connectionFactory, "users", new $User_JdbcCopyRowWriter(), users);
+ * }
+ * </pre>
+ *
+ * @see JdbcCopyRowWriter
+ */
+public final class JdbcCopy {
+
+    private static final int PUBLISHER_PREFETCH = 1024;
+
+    private JdbcCopy() {}
+
+    public static String sql(String table, List<String> columns) {
+        return "COPY " + table + " (" + String.join(", ", columns) + ") FROM STDIN (FORMAT binary)";
+    }
+
+    /**
+     * @return number of rows copied
+     */
+    public static <T> long copyIn(JdbcConnectionFactory connectionFactory, String table, JdbcCopyRowWriter<? super T> writer, Iterable<? extends T> rows) {
+        var session = CopySession.open(connectionFactory, connectionFactory.currentConnection(), Context.current(), table, writer);
+        try {
+            for (var row : rows) {
+                session.write(row);
+            }
+        } catch (RuntimeException | Error e) {
+            session.abort(e);
+            throw e;
+        }
+        return session.finish();
+    }
+
+    /**
+     * <b>Русский</b>: Загружает строки по мере их публикации, соединение берется при подписке и освобождается по завершении издателя.
+     * Получение соединения и запись в него блокируют поток, поэтому вся работа с JDBC выполняется на переданном исполнителе,
+     * а не на потоках издателя, строки запрашиваются у издателя пачками не более 1024.
+     * <hr>
+     * <b>English</b>: Loads rows as they are published, connection is taken on subscribe and released when publisher completes.
+     * Taking connection and writing to it block the thread, so all JDBC work is performed on given executor
+     * instead of publisher threads, rows are requested from publisher in batches of at most 1024.
+     *
+     * @param executor executor for blocking JDBC work, e.g. virtual thread executor
+     * @return number of rows copied
+     */
+    public static <T> CompletionStage<Long> copyIn(JdbcConnectionFactory connectionFactory, String table, JdbcCopyRowWriter<? super T> writer, Flow.Publisher<? extends T> rows, Executor executor) {
+        var future = new CompletableFuture<Long>();
+        rows.subscribe(new CopySubscriber<T>(connectionFactory, connectionFactory.currentConnection(), Context.current(), table, writer, executor, future));
+        return future;
+    }
+
+    private static final class CopySession<T> {
+        @Nullable
+        private final Connection connectionToClose;
+        private final CopyIn copyIn;
+        private final JdbcCopyOutput output;
+        private final JdbcCopyRowWriter<? super T> writer;
+        private final DataBaseTelemetry.DataBaseTelemetryContext telemetry;
+
+        private CopySession(@Nullable Connection connectionToClose, CopyIn copyIn, JdbcCopyRowWriter<? super T> writer, DataBaseTelemetry.DataBaseTelemetryContext telemetry) {
+            this.connectionToClose = connectionToClose;
+            this.copyIn = copyIn;
+            this.output = new JdbcCopyOutput(new CopyInOutputStream(copyIn));
+            this.writer = writer;
+            this.telemetry = telemetry;
+        }
+
+        static <T> CopySession<T> open(JdbcConnectionFactory connectionFactory, @Nullable Connection connection, Context context, String table, JdbcCopyRowWriter<? super T> writer) {
+            var sql = sql(table, writer.columns());
+            var query = new QueryContext(sql, sql, "COPY");
+            var telemetry = connectionFactory.telemetry().createContext(context, query);
+            Connection connectionToClose = null;
+            try {
+                if (connection == null) {
+                    connection = connectionToClose = connectionFactory.newConnection(query);
+                }
+                if (!connection.isWrapperFor(PGConnection.class)) {
+                    throw new IllegalStateException("COPY is supported only for PostgreSQL connections, but got: " + connection.getMetaData().getURL());
+                }
+                var copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql);
+                var session = new CopySession<T>(connectionToClose, copyIn, writer, telemetry);
+                session.output.writeHeader();
+                return session;
+            } catch (SQLException e) {
+                closeOnError(connectionToClose, e);
+                telemetry.close(e);
+                throw new RuntimeSqlException(e);
+            } catch (IOException e) {
+                closeOnError(connectionToClose, e);
+                telemetry.close(e);
+                throw rethrow(e);
+            } catch (RuntimeException | Error e) {
+                closeOnError(connectionToClose, e);
+                telemetry.close(e);
+                throw e;
+            }
+        }
+
+        void write(T row) {
+            try {
+                this.writer.write(this.output, row);
+            } catch (IOException e) {
+                throw rethrow(e);
+            }
+        }
+
+        long finish() {
+            long rows;
+            try {
+                this.output.writeTrailer();
+                this.output.flush();
+                rows = this.copyIn.endCopy();
+            } catch (SQLException e) {
+                this.abort(e);
+                throw new RuntimeSqlException(e);
+            } catch (IOException e) {
+                this.abort(e);
+                throw rethrow(e);
+            }
+            this.telemetry.reportRows(rows);
+            try {
+                if (this.connectionToClose != null) {
+                    this.connectionToClose.close();
+                }
+            } catch (SQLException e) {
+                this.telemetry.close(e);
+                throw new RuntimeSqlException(e);
+            }
+            this.telemetry.close(null);
+            return rows;
+        }
+
+        void abort(Throwable error) {
+            try {
+                if (this.copyIn.isActive()) {
+                    this.copyIn.cancelCopy();
+                }
+            } catch (SQLException e) {
+                error.addSuppressed(e);
+            }
+            closeOnError(this.connectionToClose, error);
+            this.telemetry.close(error);
+        }
+
+        private static void closeOnError(@Nullable Connection connectionToClose, Throwable error) {
+            if (connectionToClose != null) {
+                try {
+                    connectionToClose.close();
+                } catch (SQLException e) {
+                    error.addSuppressed(e);
+                }
+            }
+        }
+
+        private static RuntimeException rethrow(IOException e) {
+            if (e.getCause() instanceof SQLException sqlException) {
+                return new RuntimeSqlException(sqlException);
+            }
+            return new UncheckedIOException(e);
+        }
+    }
+
+    private static final class CopyInOutputStream extends OutputStream {
+        private final CopyIn copyIn;
+
+        private CopyInOutputStream(CopyIn copyIn) {
+            this.copyIn = copyIn;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            this.write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            try {
+                this.copyIn.writeToCopy(b, off, len);
+            } catch (SQLException e) {
+                throw new IOException(e);
+            }
+        }
+    }
+
+    private static final class CopySubscriber<T> implements Flow.Subscriber<T>, Runnable {
+        private final JdbcConnectionFactory connectionFactory;
+        @Nullable
+        private final Connection connection;
+        private final Context context;
+        private final String table;
+        private final JdbcCopyRowWriter<? super T> writer;
+        private final Executor executor;
+        private final CompletableFuture<Long> future;
+        // bounded by requested amount, which never exceeds PUBLISHER_PREFETCH
+        private final Queue<T> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile Flow.Subscription subscription;
+        private volatile boolean completed;
+        @Nullable
+        private volatile Throwable error;
+
+        // accessed only from drain loop
+        @Nullable
+        private CopySession<T> session;
+        private int consumed;
+        private boolean done;
+
+        private CopySubscriber(JdbcConnectionFactory connectionFactory, @Nullable Connection connection, Context context, String table, JdbcCopyRowWriter<? super T> writer, Executor executor, CompletableFuture<Long> future) {
+            this.connectionFactory = connectionFactory;
+            this.connection = connection;
+            this.context = context;
+            this.table = table;
+            this.writer = writer;
+            this.executor = executor;
+            this.future = future;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = Objects.requireNonNull(subscription);
+            this.schedule();
+        }
+
+        @Override
+        public void onNext(T item) {
+            this.queue.offer(Objects.requireNonNull(item));
+            this.schedule();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.error = Objects.requireNonNull(throwable);
+            this.schedule();
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+            this.schedule();
+        }
+
+        private void schedule() {
+            if (this.wip.getAndIncrement() == 0) {
+                try {
+                    this.executor.execute(this);
+                } catch (Throwable e) {
+                    this.subscription.cancel();
+                    this.future.completeExceptionally(e);
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            do {
+                this.drain();
+                missed = this.wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drain() {
+            if (this.done) {
+                this.queue.clear();
+                return;
+            }
+            var session = this.session;
+            if (session == null) {
+                var error = this.error;
+                if (error != null) {
+                    this.done = true;
+                    this.future.completeExceptionally(error);
+                    return;
+                }
+                try {
+                    session = this.session = CopySession.open(this.connectionFactory, this.connection, this.context, this.table, this.writer);
+                } catch (Throwable e) {
+                    this.done = true;
+                    this.queue.clear();
+                    this.subscription.cancel();
+                    this.future.completeExceptionally(e);
+                    return;
+                }
+                this.subscription.request(PUBLISHER_PREFETCH);
+            }
+            try {
+                for (var item = this.queue.poll(); item != null; item = this.queue.poll()) {
+                    session.write(item);
+                    if (++this.consumed == PUBLISHER_PREFETCH / 2) {
+                        this.consumed = 0;
+                        this.subscription.request(PUBLISHER_PREFETCH / 2);
+                    }
+                }
+            } catch (Throwable e) {
+                this.done = true;
+                this.queue.clear();
+                this.subscription.cancel();
+                session.abort(e);
+                this.future.completeExceptionally(e);
+                return;
+            }
+            var error = this.error;
+            if (error != null) {
+                this.done = true;
+                session.abort(error);
+                this.future.completeExceptionally(error);
+            } else if (this.completed && this.queue.isEmpty()) {
+                this.done = true;
+                try {
+                    this.future.complete(session.finish());
+                } catch (Throwable e) {
+                    this.future.completeExceptionally(e);
+                }
+            }
+        }
+    }
+}
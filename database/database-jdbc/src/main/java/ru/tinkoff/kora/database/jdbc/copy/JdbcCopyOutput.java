@@ -0,0 +1,204 @@
+package ru.tinkoff.kora.database.jdbc.copy;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * <b>Русский</b>: Запись строк в бинарном формате PostgreSQL {@code COPY}, значения должны записываться в порядке колонок
+ * и в типах, бинарное представление которых совпадает с типами колонок таблицы.
+ * <hr>
+ * <b>English</b>: Writes rows in PostgreSQL binary {@code COPY} format, values must be written in column order
+ * and with types whose binary representation matches table column types.
+ *
+ * @see JdbcCopyRowWriter
+ */
+public final class JdbcCopyOutput {
+
+    private static final byte[] SIGNATURE = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0};
+    private static final LocalDate POSTGRES_EPOCH_DATE = LocalDate.of(2000, 1, 1);
+    private static final long POSTGRES_EPOCH_SECONDS = POSTGRES_EPOCH_DATE.atStartOfDay().toEpochSecond(ZoneOffset.UTC);
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private final OutputStream out;
+    private final byte[] buffer;
+    private int position;
+
+    public JdbcCopyOutput(OutputStream out) {
+        this(out, DEFAULT_BUFFER_SIZE);
+    }
+
+    public JdbcCopyOutput(OutputStream out, int bufferSize) {
+        this.out = out;
+        this.buffer = new byte[Math.max(bufferSize, 64)];
+    }
+
+    public void writeHeader() throws IOException {
+        this.writeRaw(SIGNATURE, 0, SIGNATURE.length);
+        this.int32(0); // flags
+        this.int32(0); // header extension length
+    }
+
+    public void writeTrailer() throws IOException {
+        this.int16(-1);
+    }
+
+    public void startRow(int columns) throws IOException {
+        this.int16(columns);
+    }
+
+    public void writeNull() throws IOException {
+        this.int32(-1);
+    }
+
+    public void writeBoolean(boolean value) throws IOException {
+        this.ensure(5);
+        this.int32(1);
+        this.buffer[this.position++] = (byte) (value ? 1 : 0);
+    }
+
+    public void writeShort(short value) throws IOException {
+        this.ensure(6);
+        this.int32(2);
+        this.int16(value);
+    }
+
+    public void writeInt(int value) throws IOException {
+        this.ensure(8);
+        this.int32(4);
+        this.int32(value);
+    }
+
+    public void writeLong(long value) throws IOException {
+        this.ensure(12);
+        this.int32(8);
+        this.int64(value);
+    }
+
+    public void writeFloat(float value) throws IOException {
+        this.writeInt(Float.floatToRawIntBits(value));
+    }
+
+    public void writeDouble(double value) throws IOException {
+        this.writeLong(Double.doubleToRawLongBits(value));
+    }
+
+    public void writeString(String value) throws IOException {
+        this.writeBytes(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public void writeBytes(byte[] value) throws IOException {
+        this.int32(value.length);
+        this.writeRaw(value, 0, value.length);
+    }
+
+    /**
+     * Writes value for {@code date} column
+     */
+    public void writeDate(LocalDate value) throws IOException {
+        this.writeInt((int) ChronoUnit.DAYS.between(POSTGRES_EPOCH_DATE, value));
+    }
+
+    /**
+     * Writes value for {@code timestamp} column
+     */
+    public void writeTimestamp(LocalDateTime value) throws IOException {
+        var seconds = value.toEpochSecond(ZoneOffset.UTC) - POSTGRES_EPOCH_SECONDS;
+        this.writeLong(seconds * 1_000_000 + value.getNano() / 1_000);
+    }
+
+    /**
+     * Writes value for {@code numeric} column
+     */
+    public void writeNumeric(BigDecimal value) throws IOException {
+        var scale = value.scale();
+        if (scale < 0) {
+            value = value.setScale(0);
+            scale = 0;
+        }
+        var digits = value.unscaledValue().abs().toString();
+        var integerLength = digits.length() - scale;
+        var integerPart = integerLength > 0 ? digits.substring(0, integerLength) : "";
+        var fractionPart = integerLength > 0 ? digits.substring(integerLength) : "0".repeat(-integerLength) + digits;
+        // numeric is stored as base 10000 digits, so both parts are aligned to groups of four decimal digits
+        integerPart = "0".repeat((4 - integerPart.length() % 4) % 4) + integerPart;
+        fractionPart = fractionPart + "0".repeat((4 - fractionPart.length() % 4) % 4);
+        var aligned = integerPart + fractionPart;
+        var groups = new short[aligned.length() / 4];
+        for (int i = 0; i < groups.length; i++) {
+            groups[i] = (short) Integer.parseInt(aligned, i * 4, i * 4 + 4, 10);
+        }
+        var weight = integerPart.length() / 4 - 1;
+        var start = 0;
+        var end = groups.length;
+        while (start < end && groups[start] == 0) {
+            start++;
+            weight--;
+        }
+        while (end > start && groups[end - 1] == 0) {
+            end--;
+        }
+        if (start == end) {
+            weight = 0;
+        }
+        var count = end - start;
+        this.ensure(12 + count * 2);
+        this.int32(8 + count * 2);
+        this.int16(count);
+        this.int16(weight);
+        this.int16(value.signum() < 0 ? 0x4000 : 0x0000);
+        this.int16(scale);
+        for (int i = start; i < end; i++) {
+            this.int16(groups[i]);
+        }
+    }
+
+    public void flush() throws IOException {
+        if (this.position > 0) {
+            this.out.write(this.buffer, 0, this.position);
+            this.position = 0;
+        }
+    }
+
+    private void writeRaw(byte[] value, int offset, int length) throws IOException {
+        if (length > this.buffer.length - this.position) {
+            this.flush();
+            if (length > this.buffer.length) {
+                this.out.write(value, offset, length);
+                return;
+            }
+        }
+        System.arraycopy(value, offset, this.buffer, this.position, length);
+        this.position += length;
+    }
+
+    private void ensure(int length) throws IOException {
+        if (this.buffer.length - this.position < length) {
+            this.flush();
+        }
+    }
+
+    private void int16(int value) throws IOException {
+        this.ensure(2);
+        this.buffer[this.position++] = (byte) (value >>> 8);
+        this.buffer[this.position++] = (byte) value;
+    }
+
+    private void int32(int value) throws IOException {
+        this.ensure(4);
+        this.buffer[this.position++] = (byte) (value >>> 24);
+        this.buffer[this.position++] = (byte) (value >>> 16);
+        this.buffer[this.position++] = (byte) (value >>> 8);
+        this.buffer[this.position++] = (byte) value;
+    }
+
+    private void int64(long value) throws IOException {
+        this.int32((int) (value >>> 32));
+        this.int32((int) value);
+    }
+}
@@ -0,0 +1,23 @@
+package ru.tinkoff.kora.database.jdbc.copy;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * <b>Русский</b>: Запись сущности как строки бинарного {@code COPY}. Генерируется для классов с {@link ru.tinkoff.kora.database.jdbc.EntityJdbc},
+ * все поля которых имеют нативные JDBC типы и не используют {@code @Mapping}.
+ * <hr>
+ * <b>English</b>: Writes entity as binary {@code COPY} row. Generated for classes annotated with {@link ru.tinkoff.kora.database.jdbc.EntityJdbc}
+ * when all fields have native JDBC types and don't use {@code @Mapping}.
+ *
+ * @see JdbcCopy
+ */
+public interface JdbcCopyRowWriter<T> {
+
+    /**
+     * @return table columns in the same order values are written by {@link #write(JdbcCopyOutput, Object)}
+     */
+    List<String> columns();
+
+    void write(JdbcCopyOutput output, T row) throws IOException;
+}
@@ -0,0 +1,95 @@
+package ru.tinkoff.kora.database.jdbc;
+
+import org.junit.jupiter.api.Test;
+import ru.tinkoff.kora.telemetry.common.$TelemetryConfig_ConfigValueExtractor;
+import ru.tinkoff.kora.telemetry.common.$TelemetryConfig_LogConfig_ConfigValueExtractor;
+import ru.tinkoff.kora.telemetry.common.$TelemetryConfig_MetricsConfig_ConfigValueExtractor;
+import ru.tinkoff.kora.telemetry.common.$TelemetryConfig_TracingConfig_ConfigValueExtractor;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JdbcDatabaseConfigTest {
+
+    @Test
+    void testStatementCacheDisabled() {
+        var hikariConfig = JdbcDatabaseConfig.toHikariConfig(config("jdbc:postgresql://localhost:5432/db", new Properties(), 0));
+
+        assertThat(hikariConfig.getDataSourceProperties()).isEmpty();
+    }
+
+    @Test
+    void testStatementCachePostgres() {
+        var hikariConfig = JdbcDatabaseConfig.toHikariConfig(config("jdbc:postgresql://localhost:5432/db", new Properties(), 100));
+
+        assertThat(hikariConfig.getDataSourceProperties()).containsExactlyInAnyOrderEntriesOf(Map.of(
+            "preparedStatementCacheQueries", "100"
+        ));
+    }
+
+    @Test
+    void testStatementCacheMysql() {
+        var mysql = JdbcDatabaseConfig.toHikariConfig(config("jdbc:mysql://localhost:3306/db", new Properties(), 100));
+        var mariadb = JdbcDatabaseConfig.toHikariConfig(config("jdbc:mariadb://localhost:3306/db", new Properties(), 100));
+
+        var expected = Map.of(
+            "cachePrepStmts", "true",
+            "prepStmtCacheSize", "100"
+        );
+        assertThat(mysql.getDataSourceProperties()).containsExactlyInAnyOrderEntriesOf(expected);
+        assertThat(mariadb.getDataSourceProperties()).containsExactlyInAnyOrderEntriesOf(expected);
+    }
+
+    @Test
+    void testStatementCacheDoesNotOverrideDsProperties() {
+        var dsProperties = new Properties();
+        dsProperties.setProperty("prepStmtCacheSize", "500");
+        var hikariConfig = JdbcDatabaseConfig.toHikariConfig(config("jdbc:mysql://localhost:3306/db", dsProperties, 100));
+
+        assertThat(hikariConfig.getDataSourceProperties()).containsExactlyInAnyOrderEntriesOf(Map.of(
+            "cachePrepStmts", "true",
+            "prepStmtCacheSize", "500"
+        ));
+        assertThat(dsProperties).containsExactlyInAnyOrderEntriesOf(Map.of("prepStmtCacheSize", "500"));
+    }
+
+    @Test
+    void testStatementCacheUnsupportedDriver() {
+        var hikariConfig = JdbcDatabaseConfig.toHikariConfig(config("jdbc:oracle:thin:@localhost:1521/db", new Properties(), 100));
+
+        assertThat(hikariConfig.getDataSourceProperties()).isEmpty();
+    }
+
+    private static JdbcDatabaseConfig config(String jdbcUrl, Properties dsProperties, int statementCacheSize) {
+        return new $JdbcDatabaseConfig_ConfigValueExtractor.JdbcDatabaseConfig_Impl(
+            "user",
+            "password",
+            jdbcUrl,
+            "testPool",
+            null,
+            Duration.ofMillis(1000L),
+            Duration.ofMillis(1000L),
+            Duration.ofMillis(1000L),
+            Duration.ofMillis(1000L),
+            Duration.ofMillis(1000L),
+            1,
+            0,
+            Duration.ofMillis(1000L),
+            false,
+            dsProperties,
+            statementCacheSize,
+            null,
+            null,
+            0,
+            null,
+            new $TelemetryConfig_ConfigValueExtractor.TelemetryConfig_Impl(
+                new $TelemetryConfig_LogConfig_ConfigValueExtractor.LogConfig_Impl(true),
+                new $TelemetryConfig_TracingConfig_ConfigValueExtractor.TracingConfig_Impl(true),
+                new $TelemetryConfig_MetricsConfig_ConfigValueExtractor.MetricsConfig_Impl(null, null)
+            )
+        );
+    }
+}
@@ -5,8 +5,14 @@ import ch.qos.logback.classic.Logger;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
 import org.slf4j.LoggerFactory;
-import ru.tinkoff.kora.database.common.telemetry.DefaultDataBaseTelemetryFactory;
+import ru.tinkoff.kora.common.Context;
+import ru.tinkoff.kora.database.common.QueryContext;
+import ru.tinkoff.kora.database.common.telemetry.DataBaseTelemetry;
+import ru.tinkoff.kora.database.common.telemetry.DataBaseTelemetryFactory;
+import ru.tinkoff.kora.database.jdbc.copy.JdbcCopyOutput;
+import ru.tinkoff.kora.database.jdbc.copy.JdbcCopyRowWriter;
 import ru.tinkoff.kora.telemetry.common.$TelemetryConfig_ConfigValueExtractor;
 import ru.tinkoff.kora.telemetry.common.$TelemetryConfig_LogConfig_ConfigValueExtractor;
 import ru.tinkoff.kora.telemetry.common.$TelemetryConfig_MetricsConfig_ConfigValueExtractor;
@@ -14,11 +20,20 @@ import ru.tinkoff.kora.telemetry.common.$TelemetryConfig_TracingConfig_ConfigVal
 import ru.tinkoff.kora.test.postgres.PostgresParams;
 import ru.tinkoff.kora.test.postgres.PostgresTestContainer;
 
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.time.Duration;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 @ExtendWith({PostgresTestContainer.class})
@@ -33,6 +48,14 @@ class JdbcDatabaseTest {
     }
 
     private static void withDb(PostgresParams params, Consumer<JdbcDatabase> consumer) throws SQLException {
+        withDb(params, 0, consumer);
+    }
+
+    private static void withDb(PostgresParams params, int priorityConnections, Consumer<JdbcDatabase> consumer) throws SQLException {
+        withDb(params, priorityConnections, DataBaseTelemetryFactory.EMPTY, consumer);
+    }
+
+    private static void withDb(PostgresParams params, int priorityConnections, DataBaseTelemetry telemetry, Consumer<JdbcDatabase> consumer) throws SQLException {
         var config = new $JdbcDatabaseConfig_ConfigValueExtractor.JdbcDatabaseConfig_Impl(
             params.user(),
             params.password(),
@@ -44,18 +67,23 @@ class JdbcDatabaseTest {
             Duration.ofMillis(1000L),
             Duration.ofMillis(1000L),
             Duration.ofMillis(1000L),
-            1,
+            1 + priorityConnections,
             0,
             Duration.ofMillis(1000L),
             false,
             new Properties(),
+            0,
+            null,
+            null,
+            priorityConnections,
+            null,
             new $TelemetryConfig_ConfigValueExtractor.TelemetryConfig_Impl(
                 new $TelemetryConfig_LogConfig_ConfigValueExtractor.LogConfig_Impl(true),
                 new $TelemetryConfig_TracingConfig_ConfigValueExtractor.TracingConfig_Impl(true),
                 new $TelemetryConfig_MetricsConfig_ConfigValueExtractor.MetricsConfig_Impl(null, null)
             )
         );
-        var db = new JdbcDatabase(config, new DefaultDataBaseTelemetryFactory(null, null, null));
+        var db = new JdbcDatabase(config, telemetry);
         db.init();
         try {
             consumer.accept(db);
@@ -134,4 +162,161 @@ class JdbcDatabaseTest {
             Assertions.assertThat(values).hasSize(1);
         });
     }
+
+    @Test
+    void testCopyIn(PostgresParams params) throws Exception {
+        var tableName = PostgresTestContainer.randomName("test_table");
+        params.execute("CREATE TABLE %s(id BIGINT, value VARCHAR, amount NUMERIC, created DATE);".formatted(tableName));
+        record Entity(long id, String value, BigDecimal amount, LocalDate created) {}
+        var writer = new JdbcCopyRowWriter<Entity>() {
+            @Override
+            public List<String> columns() {
+                return List.of("id", "value", "amount", "created");
+            }
+
+            @Override
+            public void write(JdbcCopyOutput output, Entity row) throws IOException {
+                output.startRow(4);
+                output.writeLong(row.id());
+                if (row.value() == null) {
+                    output.writeNull();
+                } else {
+                    output.writeString(row.value());
+                }
+                output.writeNumeric(row.amount());
+                output.writeDate(row.created());
+            }
+        };
+        var date = LocalDate.of(2024, 2, 29);
+        PostgresParams.ResultSetMapper<List<Entity>, RuntimeException> extractor = rs -> {
+            var result = new ArrayList<Entity>();
+            try {
+                while (rs.next()) {
+                    result.add(new Entity(rs.getLong(1), rs.getString(2), rs.getBigDecimal(3), rs.getObject(4, LocalDate.class)));
+                }
+            } catch (SQLException sqlException) {
+                throw new RuntimeException(sqlException);
+            }
+            return result;
+        };
+
+        withDb(params, db -> {
+            var rows = db.copyIn(tableName, writer, List.of(
+                new Entity(1, "test1", new BigDecimal("12345.6789"), date),
+                new Entity(2, null, new BigDecimal("-0.05"), date)
+            ));
+            Assertions.assertThat(rows).isEqualTo(2);
+
+            var executor = Executors.newSingleThreadExecutor();
+            try (var publisher = new SubmissionPublisher<Entity>()) {
+                var result = db.copyIn(tableName, writer, publisher, executor);
+                publisher.submit(new Entity(3, "test3", BigDecimal.ZERO, date));
+                publisher.close();
+                Assertions.assertThat(result.toCompletableFuture().get(10, TimeUnit.SECONDS)).isEqualTo(1);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            } finally {
+                executor.shutdown();
+            }
+        });
+
+        var values = params.query("SELECT id, value, amount, created FROM %s ORDER BY id".formatted(tableName), extractor);
+        Assertions.assertThat(values).containsExactly(
+            new Entity(1, "test1", new BigDecimal("12345.6789"), date),
+            new Entity(2, null, new BigDecimal("-0.05"), date),
+            new Entity(3, "test3", BigDecimal.ZERO, date)
+        );
+    }
+
+    @Test
+    void testQueryCancellation(PostgresParams params) throws SQLException {
+        var sleep = new QueryContext("SELECT pg_sleep(10)", "SELECT pg_sleep(10)");
+
+        withDb(params, db -> {
+            var cancellation = JdbcQueryCancellation.install(Context.current());
+            var executor = Executors.newSingleThreadScheduledExecutor();
+            try {
+                executor.schedule(cancellation::cancel, 200, TimeUnit.MILLISECONDS);
+                var started = System.nanoTime();
+                Assertions.assertThatThrownBy(() -> db.query(sleep, PreparedStatement::execute))
+                    .isInstanceOf(RuntimeSqlException.class);
+                Assertions.assertThat(System.nanoTime() - started).isLessThan(TimeUnit.SECONDS.toNanos(5));
+                Assertions.assertThatThrownBy(() -> db.query(sleep, PreparedStatement::execute))
+                    .isInstanceOf(RuntimeSqlException.class)
+                    .hasMessageContaining("Query cancelled");
+            } finally {
+                executor.shutdown();
+                Context.clear();
+            }
+        });
+    }
+
+    @Test
+    void testQueryCancellationAppliesToAllStatementTypes(PostgresParams params) throws SQLException {
+        var query = new QueryContext("SELECT 1", "SELECT 1");
+
+        withDb(params, db -> {
+            var cancellation = JdbcQueryCancellation.install(Context.current());
+            try (var connection = db.newConnection(query)) {
+                try (var statement = db.prepareStatement(connection, query, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                    Assertions.assertThat(statement).isInstanceOf(MonitoredPreparedStatement.class);
+                }
+                cancellation.cancel();
+                Assertions.assertThatThrownBy(() -> db.prepareStatement(connection, query, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY))
+                    .hasMessageContaining("Query cancelled");
+                Assertions.assertThatThrownBy(() -> db.prepareStatement(connection, query, Statement.RETURN_GENERATED_KEYS))
+                    .hasMessageContaining("Query cancelled");
+            } catch (SQLException e) {
+                throw new RuntimeSqlException(e);
+            } finally {
+                Context.clear();
+            }
+        });
+    }
+
+    @Test
+    void testPriorityLaneIsNotStarved(PostgresParams params) throws SQLException {
+        withDb(params, 1, db -> {
+            try (var busy = db.newConnection()) {
+                Assertions.assertThatThrownBy(db::newConnection).isInstanceOf(RuntimeSqlException.class);
+                try (var priority = db.priorityLane().newConnection()) {
+                    Assertions.assertThat(priority.isValid(1)).isTrue();
+                }
+            } catch (SQLException e) {
+                throw new RuntimeSqlException(e);
+            }
+        });
+    }
+
+    @Test
+    void testConnectionWaitIsReported(PostgresParams params) throws SQLException {
+        var telemetry = Mockito.mock(DataBaseTelemetry.class);
+        var query = new QueryContext("SELECT 1", "SELECT 1");
+        var readOnlyQuery = new QueryContext("SELECT 2", "SELECT 2");
+        var priorityQuery = new QueryContext("SELECT 3", "SELECT 3");
+
+        withDb(params, 0, telemetry, db -> {
+            db.inTx(connection -> {});
+            try (var connection = db.newConnection(query)) {
+                Assertions.assertThat(connection.isValid(1)).isTrue();
+            } catch (SQLException e) {
+                throw new RuntimeSqlException(e);
+            }
+            try (var connection = db.newReadOnlyConnection(readOnlyQuery)) {
+                Assertions.assertThat(connection.isValid(1)).isTrue();
+            } catch (SQLException e) {
+                throw new RuntimeSqlException(e);
+            }
+            try (var connection = db.priorityLane().newReadOnlyConnection(priorityQuery)) {
+                Assertions.assertThat(connection.isValid(1)).isTrue();
+            } catch (SQLException e) {
+                throw new RuntimeSqlException(e);
+            }
+        });
+
+        Mockito.verify(telemetry).reportConnectionWait(Mockito.eq(JdbcDatabase.CONNECTION_QUERY_CONTEXT), Mockito.anyLong());
+        Mockito.verify(telemetry).reportConnectionWait(Mockito.eq(query), Mockito.anyLong());
+        Mockito.verify(telemetry).reportConnectionWait(Mockito.eq(readOnlyQuery), Mockito.anyLong());
+        Mockito.verify(telemetry).reportConnectionWait(Mockito.eq(priorityQuery), Mockito.anyLong());
+    }
 }
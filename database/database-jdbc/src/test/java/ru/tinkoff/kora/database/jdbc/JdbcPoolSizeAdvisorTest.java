@@ -0,0 +1,111 @@
+package ru.tinkoff.kora.database.jdbc;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JdbcPoolSizeAdvisorTest {
+
+    private static final long FAST = Duration.ofMillis(1).toNanos();
+    private static final long SLOW = Duration.ofMillis(50).toNanos();
+
+    @Test
+    void testPoolFitsDemand() {
+        var advisor = advisor(10);
+        record(advisor, 20, 8, FAST);
+
+        advisor.evaluate();
+
+        assertThat(advisor.recommendedPoolSize()).isEqualTo(10);
+    }
+
+    @Test
+    void testPoolTooLarge() {
+        var advisor = advisor(10);
+        record(advisor, 20, 4, FAST);
+
+        advisor.evaluate();
+
+        // 4 * 1.25 rounded up
+        assertThat(advisor.recommendedPoolSize()).isEqualTo(5);
+    }
+
+    @Test
+    void testIdlePoolKeepsOneConnection() {
+        var advisor = advisor(10);
+
+        advisor.evaluate();
+
+        assertThat(advisor.recommendedPoolSize()).isEqualTo(1);
+    }
+
+    @Test
+    void testPoolSaturated() {
+        var advisor = advisor(10);
+        record(advisor, 18, 10, FAST);
+        advisor.record(10, 2, SLOW);
+        advisor.record(10, 1, SLOW);
+
+        advisor.evaluate();
+
+        // 2 of 20 acquisitions are slow, peak demand 12 * 1.25 rounded up
+        assertThat(advisor.recommendedPoolSize()).isEqualTo(15);
+    }
+
+    @Test
+    void testSaturatedPoolGrowsAtLeastByOne() {
+        var advisor = advisor(10);
+        record(advisor, 10, 4, SLOW);
+
+        advisor.evaluate();
+
+        assertThat(advisor.recommendedPoolSize()).isEqualTo(11);
+    }
+
+    @Test
+    void testSlowAcquisitionsUpToFivePercentAreTolerated() {
+        var advisor = advisor(10);
+        record(advisor, 19, 10, FAST);
+        advisor.record(10, 0, SLOW);
+
+        advisor.evaluate();
+
+        assertThat(advisor.recommendedPoolSize()).isEqualTo(10);
+    }
+
+    @Test
+    void testWindowIsReset() {
+        var advisor = advisor(10);
+        record(advisor, 10, 4, SLOW);
+        advisor.evaluate();
+        assertThat(advisor.recommendedPoolSize()).isEqualTo(11);
+
+        record(advisor, 10, 6, FAST);
+        advisor.evaluate();
+
+        assertThat(advisor.recommendedPoolSize()).isEqualTo(10);
+    }
+
+    @Test
+    void testWindowIsEvaluatedAfterInterval() {
+        var config = new $JdbcDatabaseConfig_PoolSizeAdvisorConfig_ConfigValueExtractor.PoolSizeAdvisorConfig_Impl(Duration.ZERO, Duration.ofMillis(10));
+        var advisor = new JdbcPoolSizeAdvisor("testPool", 10, config);
+
+        advisor.record(2, 0, FAST);
+
+        assertThat(advisor.recommendedPoolSize()).isEqualTo(3);
+    }
+
+    private static JdbcPoolSizeAdvisor advisor(int poolSize) {
+        var config = new $JdbcDatabaseConfig_PoolSizeAdvisorConfig_ConfigValueExtractor.PoolSizeAdvisorConfig_Impl(Duration.ofHours(1), Duration.ofMillis(10));
+        return new JdbcPoolSizeAdvisor("testPool", poolSize, config);
+    }
+
+    private static void record(JdbcPoolSizeAdvisor advisor, int acquisitions, int demand, long waitTime) {
+        for (int i = 0; i < acquisitions; i++) {
+            advisor.record(demand, 0, waitTime);
+        }
+    }
+}
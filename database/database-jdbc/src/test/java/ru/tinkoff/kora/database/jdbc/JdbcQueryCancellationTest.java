@@ -0,0 +1,63 @@
+package ru.tinkoff.kora.database.jdbc;
+
+import org.junit.jupiter.api.Test;
+import ru.tinkoff.kora.common.Context;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class JdbcQueryCancellationTest {
+
+    @Test
+    void testChildWithoutInstalledCancellation() {
+        var ctx = Context.clear();
+
+        assertThat(JdbcQueryCancellation.child(ctx)).isNull();
+        assertThat(JdbcQueryCancellation.get(ctx)).isNull();
+    }
+
+    @Test
+    void testChildIsCancelledWithParent() throws SQLException {
+        var ctx = Context.clear();
+        var parent = JdbcQueryCancellation.install(ctx);
+        var child = JdbcQueryCancellation.child(ctx);
+        var statement = mock(Statement.class);
+        assertThat(child).isNotNull();
+        child.register(statement);
+
+        parent.cancel();
+
+        assertThat(child.isCancelled()).isTrue();
+        verify(statement).cancel();
+        Context.clear();
+    }
+
+    @Test
+    void testSupplyAsyncCancelsChild() throws SQLException {
+        var ctx = Context.clear();
+        var parent = JdbcQueryCancellation.install(ctx);
+        var child = JdbcQueryCancellation.child(ctx);
+        var statement = mock(Statement.class);
+        child.register(statement);
+        var future = JdbcQueryCancellation.supplyAsync(child, () -> 42, command -> {});
+
+        future.cancel(true);
+
+        assertThat(child.isCancelled()).isTrue();
+        assertThat(parent.isCancelled()).isFalse();
+        verify(statement).cancel();
+        Context.clear();
+    }
+
+    @Test
+    void testSupplyAsyncWithoutCancellation() {
+        var future = JdbcQueryCancellation.supplyAsync(null, () -> 42, Runnable::run);
+
+        assertThat(future).isInstanceOf(CompletableFuture.class);
+        assertThat(future.join()).isEqualTo(42);
+    }
+}
@@ -0,0 +1,114 @@
+package ru.tinkoff.kora.database.jdbc;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import ru.tinkoff.kora.common.Context;
+import ru.tinkoff.kora.database.common.telemetry.DefaultDataBaseTelemetryFactory;
+import ru.tinkoff.kora.telemetry.common.$TelemetryConfig_ConfigValueExtractor;
+import ru.tinkoff.kora.telemetry.common.$TelemetryConfig_LogConfig_ConfigValueExtractor;
+import ru.tinkoff.kora.telemetry.common.$TelemetryConfig_MetricsConfig_ConfigValueExtractor;
+import ru.tinkoff.kora.telemetry.common.$TelemetryConfig_TracingConfig_ConfigValueExtractor;
+import ru.tinkoff.kora.test.postgres.PostgresParams;
+import ru.tinkoff.kora.test.postgres.PostgresTestContainer;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Properties;
+import java.util.function.Consumer;
+
+@ExtendWith({PostgresTestContainer.class})
+class JdbcRoutingDatabaseTest {
+
+    private static JdbcDatabaseConfig config(PostgresParams params, String poolName) {
+        return new $JdbcDatabaseConfig_ConfigValueExtractor.JdbcDatabaseConfig_Impl(
+            params.user(),
+            params.password(),
+            params.jdbcUrl(),
+            poolName,
+            null,
+            Duration.ofMillis(1000L),
+            Duration.ofMillis(1000L),
+            Duration.ofMillis(1000L),
+            Duration.ofMillis(1000L),
+            Duration.ofMillis(1000L),
+            2,
+            0,
+            Duration.ofMillis(1000L),
+            false,
+            new Properties(),
+            0,
+            null,
+            null,
+            0,
+            null,
+            new $TelemetryConfig_ConfigValueExtractor.TelemetryConfig_Impl(
+                new $TelemetryConfig_LogConfig_ConfigValueExtractor.LogConfig_Impl(true),
+                new $TelemetryConfig_TracingConfig_ConfigValueExtractor.TracingConfig_Impl(true),
+                new $TelemetryConfig_MetricsConfig_ConfigValueExtractor.MetricsConfig_Impl(null, null)
+            )
+        );
+    }
+
+    private static void withDb(PostgresParams params, Duration maxReplicaLag, String replicaLagQuery, Consumer<Dbs> consumer) throws SQLException {
+        var telemetryFactory = new DefaultDataBaseTelemetryFactory(null, null, null);
+        var primary = new JdbcDatabase(config(params, "primaryPool"), telemetryFactory);
+        var replica = new JdbcDatabase(config(params, "replicaPool"), telemetryFactory);
+        var config = new $JdbcRoutingDatabaseConfig_ConfigValueExtractor.JdbcRoutingDatabaseConfig_Impl(
+            config(params, "primaryPool"),
+            List.of(config(params, "replicaPool")),
+            maxReplicaLag,
+            replicaLagQuery,
+            Duration.ofMinutes(1),
+            Duration.ofMinutes(1)
+        );
+        var db = new JdbcRoutingDatabase(primary, List.of(replica), config);
+        db.init();
+        try {
+            Context.clear();
+            consumer.accept(new Dbs(db, primary, replica));
+        } finally {
+            db.release();
+        }
+    }
+
+    record Dbs(JdbcRoutingDatabase routing, JdbcDatabase primary, JdbcDatabase replica) {}
+
+    @Test
+    void testReadOnlyGoesToReplicaUntilWrite(PostgresParams params) throws SQLException {
+        withDb(params, null, "SELECT 0", dbs -> {
+            try (var connection = dbs.routing().newReadOnlyConnection()) {
+                Assertions.assertThat(dbs.replica().outstandingRequests()).isEqualTo(1);
+                Assertions.assertThat(dbs.primary().outstandingRequests()).isEqualTo(0);
+            } catch (SQLException e) {
+                throw new RuntimeSqlException(e);
+            }
+
+            try (var connection = dbs.routing().newConnection()) {
+                Assertions.assertThat(dbs.primary().outstandingRequests()).isEqualTo(1);
+            } catch (SQLException e) {
+                throw new RuntimeSqlException(e);
+            }
+
+            try (var connection = dbs.routing().newReadOnlyConnection()) {
+                Assertions.assertThat(dbs.replica().outstandingRequests()).isEqualTo(0);
+                Assertions.assertThat(dbs.primary().outstandingRequests()).isEqualTo(1);
+            } catch (SQLException e) {
+                throw new RuntimeSqlException(e);
+            }
+        });
+    }
+
+    @Test
+    void testLaggingReplicaIsExcluded(PostgresParams params) throws SQLException {
+        withDb(params, Duration.ofSeconds(1), "SELECT 10", dbs -> {
+            try (var connection = dbs.routing().newReadOnlyConnection()) {
+                Assertions.assertThat(dbs.replica().outstandingRequests()).isEqualTo(0);
+                Assertions.assertThat(dbs.primary().outstandingRequests()).isEqualTo(1);
+            } catch (SQLException e) {
+                throw new RuntimeSqlException(e);
+            }
+        });
+    }
+}
@@ -0,0 +1,131 @@
+package ru.tinkoff.kora.database.jdbc;
+
+import org.junit.jupiter.api.Test;
+import ru.tinkoff.kora.database.common.QueryContext;
+import ru.tinkoff.kora.database.common.telemetry.DataBaseTelemetry;
+
+import java.sql.*;
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class JdbcSlowQuerySamplerTest {
+
+    private static final QueryContext QUERY = new QueryContext("SELECT * FROM test WHERE id = :id AND value = :value", "SELECT * FROM test WHERE id = ? AND value = ?");
+    private static final long SLOW = Duration.ofMillis(200).toNanos();
+
+    private final DataBaseTelemetry telemetry = mock(DataBaseTelemetry.class);
+    private final Statement statement = mock(Statement.class);
+    private final Connection connection = mock(Connection.class);
+
+    @Test
+    void testFastQueryIsNotReported() {
+        var sampler = sampler(1.0, false);
+
+        sampler.sample(statement, QUERY, Duration.ofMillis(99).toNanos(), new Object[]{1L, "test"}, 2, false, null);
+
+        verifyNoInteractions(telemetry, statement);
+    }
+
+    @Test
+    void testSlowQueryParametersAreRedacted() {
+        var sampler = sampler(1.0, false);
+        var error = new SQLException("test");
+
+        sampler.sample(statement, QUERY, SLOW, new Object[]{1L, new JdbcSlowQuerySampler.NullParameter(Types.VARCHAR), JdbcSlowQuerySampler.UNKNOWN_PARAMETER, null}, 4, false, error);
+
+        verify(telemetry).reportSlowQuery(QUERY, SLOW, List.of("Long", "null", "?", "?"), null, error);
+        verifyNoInteractions(statement);
+    }
+
+    @Test
+    void testZeroSampleRateSkipsQuery() {
+        var sampler = sampler(0.0, false);
+
+        sampler.sample(statement, QUERY, SLOW, new Object[]{1L, "test"}, 2, false, null);
+
+        verifyNoInteractions(telemetry);
+    }
+
+    @Test
+    void testExplain() throws SQLException {
+        var sampler = sampler(1.0, true);
+        var explain = mockExplain("Seq Scan on test", "  Filter: (id = 1)");
+
+        sampler.sample(statement, QUERY, SLOW, new Object[]{1L, new JdbcSlowQuerySampler.NullParameter(Types.VARCHAR)}, 2, false, null);
+
+        verify(connection).prepareStatement("EXPLAIN " + QUERY.sql());
+        verify(explain).setObject(1, 1L);
+        verify(explain).setNull(2, Types.VARCHAR);
+        verify(explain).close();
+        verify(telemetry).reportSlowQuery(QUERY, SLOW, List.of("Long", "null"), "Seq Scan on test\n  Filter: (id = 1)", null);
+    }
+
+    @Test
+    void testExplainIsSkippedInTransaction() throws SQLException {
+        var sampler = sampler(1.0, true);
+        when(statement.getConnection()).thenReturn(connection);
+        when(connection.getAutoCommit()).thenReturn(false);
+
+        sampler.sample(statement, QUERY, SLOW, new Object[]{1L, "test"}, 2, false, null);
+
+        verify(connection, never()).prepareStatement(anyString());
+        verify(telemetry).reportSlowQuery(QUERY, SLOW, List.of("Long", "String"), null, null);
+    }
+
+    @Test
+    void testExplainIsSkippedForFailedBatchedAndIncompleteQueries() throws SQLException {
+        var sampler = sampler(1.0, true);
+        var error = new SQLException("test");
+
+        sampler.sample(statement, QUERY, SLOW, new Object[]{1L, "test"}, 2, false, error);
+        sampler.sample(statement, QUERY, SLOW, new Object[]{1L, "test"}, 2, true, null);
+        sampler.sample(statement, QUERY, SLOW, new Object[]{1L, null}, 2, false, null);
+
+        verifyNoInteractions(statement);
+        verify(telemetry).reportSlowQuery(QUERY, SLOW, List.of("Long", "String"), null, error);
+        verify(telemetry).reportSlowQuery(QUERY, SLOW, List.of("Long", "String"), null, null);
+        verify(telemetry).reportSlowQuery(QUERY, SLOW, List.of("Long", "?"), null, null);
+    }
+
+    @Test
+    void testExplainFailureIsNotReported() throws SQLException {
+        var sampler = sampler(1.0, true);
+        when(statement.getConnection()).thenReturn(connection);
+        when(connection.getAutoCommit()).thenReturn(true);
+        when(connection.prepareStatement(anyString())).thenThrow(new SQLException("syntax error"));
+
+        sampler.sample(statement, QUERY, SLOW, new Object[]{1L, "test"}, 2, false, null);
+
+        verify(telemetry).reportSlowQuery(QUERY, SLOW, List.of("Long", "String"), null, null);
+    }
+
+    private JdbcSlowQuerySampler sampler(double sampleRate, boolean explain) {
+        var config = new $JdbcDatabaseConfig_SlowQueryConfig_ConfigValueExtractor.SlowQueryConfig_Impl(Duration.ofMillis(100), sampleRate, explain);
+        return new JdbcSlowQuerySampler(config, telemetry);
+    }
+
+    private PreparedStatement mockExplain(String... rows) throws SQLException {
+        var explain = mock(PreparedStatement.class);
+        var rs = mock(ResultSet.class);
+        var metaData = mock(ResultSetMetaData.class);
+        when(statement.getConnection()).thenReturn(connection);
+        when(connection.getAutoCommit()).thenReturn(true);
+        when(connection.prepareStatement(anyString())).thenReturn(explain);
+        when(explain.executeQuery()).thenReturn(rs);
+        when(rs.getMetaData()).thenReturn(metaData);
+        when(metaData.getColumnCount()).thenReturn(1);
+        var next = when(rs.next());
+        for (var ignored : rows) {
+            next = next.thenReturn(true);
+        }
+        next.thenReturn(false);
+        var getString = when(rs.getString(1));
+        for (var row : rows) {
+            getString = getString.thenReturn(row);
+        }
+        return explain;
+    }
+}
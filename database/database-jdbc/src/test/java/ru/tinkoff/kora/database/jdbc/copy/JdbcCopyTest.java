@@ -0,0 +1,75 @@
+package ru.tinkoff.kora.database.jdbc.copy;
+
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import ru.tinkoff.kora.database.common.telemetry.DataBaseTelemetry;
+import ru.tinkoff.kora.database.jdbc.JdbcConnectionFactory;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+class JdbcCopyTest {
+
+    @Test
+    void testPublisherIsDrainedOnExecutor() throws Exception {
+        var threads = ConcurrentHashMap.<Thread>newKeySet();
+        var copyIn = mock(CopyIn.class);
+        doAnswer(invocation -> threads.add(Thread.currentThread())).when(copyIn).writeToCopy(any(byte[].class), anyInt(), anyInt());
+        when(copyIn.endCopy()).thenAnswer(invocation -> {
+            threads.add(Thread.currentThread());
+            return 3L;
+        });
+        var copyManager = mock(CopyManager.class);
+        when(copyManager.copyIn(any(String.class))).thenReturn(copyIn);
+        var pgConnection = mock(PGConnection.class);
+        when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+        var connection = mock(Connection.class);
+        when(connection.isWrapperFor(PGConnection.class)).thenReturn(true);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        var telemetry = mock(DataBaseTelemetry.class);
+        when(telemetry.createContext(any(), any())).thenReturn(mock(DataBaseTelemetry.DataBaseTelemetryContext.class));
+        var connectionFactory = mock(JdbcConnectionFactory.class);
+        when(connectionFactory.newConnection(any())).thenReturn(connection);
+        when(connectionFactory.telemetry()).thenReturn(telemetry);
+        var writer = new JdbcCopyRowWriter<Long>() {
+            @Override
+            public List<String> columns() {
+                return List.of("id");
+            }
+
+            @Override
+            public void write(JdbcCopyOutput output, Long row) throws IOException {
+                output.startRow(1);
+                output.writeLong(row);
+            }
+        };
+
+        var executorThread = new Thread[1];
+        var executor = Executors.newSingleThreadExecutor(r -> executorThread[0] = new Thread(r, "copy-executor"));
+        try (var publisher = new SubmissionPublisher<Long>()) {
+            var result = JdbcCopy.copyIn(connectionFactory, "test", writer, publisher, executor);
+            publisher.submit(1L);
+            publisher.submit(2L);
+            publisher.submit(3L);
+            publisher.close();
+
+            assertThat(result.toCompletableFuture().get(10, TimeUnit.SECONDS)).isEqualTo(3L);
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(threads).containsExactly(executorThread[0]);
+        verify(connection).close();
+    }
+}
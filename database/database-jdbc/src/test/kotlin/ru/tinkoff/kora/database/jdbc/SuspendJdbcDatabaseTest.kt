@@ -152,6 +152,11 @@ internal class SuspendJdbcDatabaseTest {
                 Duration.ofMillis(1000L),
                 false,
                 Properties(),
+                0,
+                null,
+                null,
+                0,
+                null,
                 TelemetryConfig_Impl(
                     LogConfig_Impl(true),
                     TracingConfig_Impl(true),
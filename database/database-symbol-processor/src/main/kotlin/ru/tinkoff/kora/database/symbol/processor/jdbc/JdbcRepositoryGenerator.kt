@@ -77,6 +77,13 @@ class JdbcRepositoryGenerator(private val resolver: Resolver) : RepositoryGenera
     ): FunSpec {
         val batchParam = parameters.firstOrNull { it is QueryParameter.BatchParameter }
         val isGeneratedKeys = method.isAnnotationPresent(DbUtils.idAnnotation)
+        val queryAnnotation = method.findAnnotation(DbUtils.queryAnnotation)!!
+        val fetchSize = queryAnnotation.findValue<Int>("fetchSize") ?: 0
+        val readOnly = queryAnnotation.findValue<Boolean>("readOnly") ?: false
+        val timeout = queryAnnotation.findValue<Int>("timeout") ?: 0
+        if (timeout < 0) {
+            throw ProcessingErrorException("@Query timeout can't be negative", method)
+        }
         var sql = query.rawQuery
         for (parameter in query.parameters.sortedByDescending { it.sqlParameterName.length }) {
             sql = sql.replace(":${parameter.sqlParameterName}", "?")
@@ -120,7 +127,7 @@ class JdbcRepositoryGenerator(private val resolver: Resolver) : RepositoryGenera
         }
         b.addStatement("val _conToClose: %T?", JdbcTypes.connection)
         b.controlFlow("if (_conToUse == null)") {
-            addStatement("_conToUse = _jdbcConnectionFactory.newConnection()")
+            addStatement("_conToUse = _jdbcConnectionFactory.%L(_query)", if (readOnly) "newReadOnlyConnection" else "newConnection")
             addStatement("_conToClose = _conToUse")
             nextControlFlow("else")
             addStatement("_conToClose = null")
@@ -128,9 +135,15 @@ class JdbcRepositoryGenerator(private val resolver: Resolver) : RepositoryGenera
         b.controlFlow("try") {
             controlFlow("_conToClose.use") {
                 if (isGeneratedKeys)
-                    beginControlFlow("_conToUse!!.prepareStatement(_query.sql(), %T.RETURN_GENERATED_KEYS).use { _stmt ->", Statement::class)
+                    beginControlFlow("_jdbcConnectionFactory.prepareStatement(_conToUse!!, _query, %T.RETURN_GENERATED_KEYS).use { _stmt ->", Statement::class)
                 else
-                    beginControlFlow("_conToUse!!.prepareStatement(_query.sql()).use { _stmt ->")
+                    beginControlFlow("_jdbcConnectionFactory.prepareStatement(_conToUse!!, _query).use { _stmt ->")
+                if (fetchSize != 0) {
+                    addStatement("_stmt.fetchSize = %L", fetchSize)
+                }
+                if (timeout != 0) {
+                    addStatement("_stmt.queryTimeout = %L", timeout)
+                }
 
                 StatementSetterGenerator.generate(b, query, parameters, batchParam, parameterMappers)
                 if (methodType.returnType!! == resolver.builtIns.unitType) {
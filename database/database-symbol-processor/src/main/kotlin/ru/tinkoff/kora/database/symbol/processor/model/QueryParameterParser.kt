@@ -9,6 +9,7 @@ import com.squareup.kotlinpoet.ParameterizedTypeName
 import com.squareup.kotlinpoet.ksp.toTypeName
 import ru.tinkoff.kora.database.symbol.processor.DbUtils
 import ru.tinkoff.kora.ksp.common.AnnotationUtils.findAnnotation
+import ru.tinkoff.kora.ksp.common.AnnotationUtils.findValue
 import ru.tinkoff.kora.ksp.common.CommonClassNames.isList
 import ru.tinkoff.kora.ksp.common.exception.ProcessingErrorException
 import ru.tinkoff.kora.ksp.common.parseMappingData
@@ -40,6 +41,9 @@ object QueryParameterParser {
             if (typeName !is ParameterizedTypeName || !type.isList()) {
                 throw ProcessingErrorException("@Batch parameter must be a list", parameter);
             }
+            if ((batch.findValue<Int>("size") ?: 0) != 0 || batch.findValue<Boolean>("commit") == true || batch.findValue<Boolean>("multiRowInsert") == true) {
+                throw ProcessingErrorException("@Batch size, commit and multiRowInsert are supported only by Java JDBC repositories", parameter);
+            }
 
             val batchType = type.arguments[0].type!!.resolve()
             val param = if (mapping != null) {
@@ -72,7 +72,7 @@ object ParametersToTupleBuilder {
             b.addStatement("val %N = %L", "_${sqlParam.name}", sqlParam.code)
         }
         if (sqlParams.isEmpty()) {
-            b.addStatement("val _tuple = %T.tuple()", VertxTypes.tuple)
+            b.addStatement("val _tuple = %T.EMPTY_TUPLE", VertxTypes.repositoryHelper)
         } else {
             b.addCode("val _tuple = %T.of(", VertxTypes.tuple)
             for ((i, parameter) in sqlParams.withIndex()) {
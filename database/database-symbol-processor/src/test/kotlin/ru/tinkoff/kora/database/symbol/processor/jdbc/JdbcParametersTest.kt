@@ -53,6 +53,11 @@ class JdbcParametersTest : AbstractJdbcRepositoryTest() {
             Duration.ofMillis(1000L),
             false,
             Properties(),
+            0,
+            null,
+            null,
+            0,
+            null,
             `$TelemetryConfig_ConfigValueExtractor`.TelemetryConfig_Impl(
                 `$TelemetryConfig_LogConfig_ConfigValueExtractor`.LogConfig_Impl(true),
                 `$TelemetryConfig_TracingConfig_ConfigValueExtractor`.TracingConfig_Impl(true),
@@ -178,6 +178,18 @@ class JdbcResultsTest : AbstractJdbcRepositoryTest() {
         verify(executor.preparedStatement).generatedKeys
     }
 
+    @Test
+    fun testBatchOptionsAreNotSupported() {
+        val result = compile0("""
+            @Repository
+            interface TestRepository : JdbcRepository {
+                @Query("INSERT INTO test(value) VALUES (:value)")
+                fun test(@Batch(size = 100) value: List<String>)
+            }
+            """.trimIndent())
+        Assertions.assertThat(result.isFailed()).isTrue()
+    }
+
     @Test
     fun testFinalResultSetMapper() {
         val repository = compile(listOf<Any>(), """
@@ -429,4 +441,60 @@ class JdbcResultsTest : AbstractJdbcRepositoryTest() {
         Assertions.assertThat(tag.value.map { it.java }).isEqualTo(listOf(compileResult.loadClass("TestRepository")))
     }
 
+    @Test
+    fun testReadOnlyQueryUsesReadOnlyConnection() {
+        val mapper = Mockito.mock(JdbcResultSetMapper::class.java)
+        val connectionFactory = Mockito.spy(MockJdbcExecutor())
+        Mockito.doReturn(null).`when`(connectionFactory).currentConnection()
+        Mockito.doReturn(connectionFactory.mockConnection).`when`(connectionFactory).newReadOnlyConnection(any())
+        val repository = compile(connectionFactory, listOf(mapper), """
+            @Repository
+            interface TestRepository : JdbcRepository {
+                @Query(value = "SELECT count(*) FROM test", readOnly = true)
+                fun test(): Int
+            }
+            
+            """.trimIndent())
+        whenever(mapper.apply(ArgumentMatchers.any())).thenReturn(42)
+        val result = repository.invoke<Any>("test")
+        Assertions.assertThat(result).isEqualTo(42)
+        verify(connectionFactory).newReadOnlyConnection(any())
+        verify(connectionFactory, Mockito.never()).newConnection(any())
+        verify(connectionFactory.mockConnection).close()
+    }
+
+    @Test
+    fun testQueryTimeout() {
+        val mapper = Mockito.mock(JdbcResultSetMapper::class.java)
+        val repository = compile(listOf(mapper), """
+            @Repository
+            interface TestRepository : JdbcRepository {
+                @Query(value = "SELECT count(*) FROM test", timeout = 5)
+                fun test(): Int
+            }
+            
+            """.trimIndent())
+        whenever(mapper.apply(ArgumentMatchers.any())).thenReturn(42)
+        val result = repository.invoke<Any>("test")
+        Assertions.assertThat(result).isEqualTo(42)
+        verify(executor.preparedStatement).setQueryTimeout(5)
+    }
+
+    @Test
+    fun testQueryWithFetchSize() {
+        val mapper = Mockito.mock(JdbcResultSetMapper::class.java)
+        val repository = compile(listOf(mapper), """
+            @Repository
+            interface TestRepository : JdbcRepository {
+                @Query(value = "SELECT value FROM test", fetchSize = 500)
+                fun test(): List<Int>
+            }
+            
+            """.trimIndent())
+        whenever(mapper.apply(ArgumentMatchers.any())).thenReturn(listOf(42))
+        val result = repository.invoke<Any>("test")
+        Assertions.assertThat(result).isEqualTo(listOf(42))
+        verify(executor.preparedStatement).setFetchSize(500)
+        verify(executor.preparedStatement).executeQuery()
+    }
 }
@@ -5,8 +5,12 @@ import io.vertx.sqlclient.SqlConnection;
 import reactor.core.publisher.Mono;
 import ru.tinkoff.kora.database.common.telemetry.DataBaseTelemetry;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * <b>Русский</b>: Фабрика соединений Vertx которая позволяет выполнять запросы в ручном режиме и в рамках транзакции.
@@ -28,4 +32,52 @@ public interface VertxConnectionFactory {
     <T> CompletionStage<T> withConnection(Function<SqlConnection, CompletionStage<T>> callback);
 
     <T> CompletionStage<T> inTx(Function<SqlConnection, CompletionStage<T>> callback);
+
+    /**
+     * <b>Русский</b>: Выполняет независимые вызовы репозиториев на одном соединении, запросы отправляются не дожидаясь ответов на предыдущие (pipelining).
+     * Результат завершается после завершения всех вызовов, с ошибкой первого неудавшегося вызова, если такой есть.
+     * Внутри транзакции вызовы выполняются на соединении транзакции.
+     * <hr>
+     * <b>English</b>: Executes independent repository calls on single connection, queries are sent without waiting for responses to previous ones (pipelining).
+     * Result is completed when all calls are completed, with error of first failed call if there is one.
+     * Inside transaction calls are executed on transaction connection.
+     * <br>
+     * <br>
+     * Пример / Example:
+     * <pre>
+     * {@code
+     * connectionFactory.pipelined(List.of(
+     *     () -> repository.findById(1),
+     *     () -> repository.findById(2)
+     * ));
+     * }
+     * </pre>
+     *
+     * @return results of calls in the same order
+     */
+    default <T> CompletionStage<List<T>> pipelined(List<? extends Supplier<? extends CompletionStage<? extends T>>> calls) {
+        if (calls.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+        return this.withConnection(connection -> {
+            var futures = new CompletableFuture<?>[calls.size()];
+            for (int i = 0; i < futures.length; i++) {
+                try {
+                    futures[i] = calls.get(i).get().toCompletableFuture();
+                } catch (Exception e) {
+                    // calls that are already sent must complete before connection is released
+                    futures[i] = CompletableFuture.failedFuture(e);
+                }
+            }
+            return CompletableFuture.allOf(futures).thenApply(v -> {
+                var results = new ArrayList<T>(futures.length);
+                for (var future : futures) {
+                    @SuppressWarnings("unchecked")
+                    var result = (T) future.join();
+                    results.add(result);
+                }
+                return results;
+            });
+        });
+    }
 }
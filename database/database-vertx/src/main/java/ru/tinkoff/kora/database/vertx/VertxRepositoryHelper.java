@@ -1,6 +1,7 @@
 package ru.tinkoff.kora.database.vertx;
 
 import io.vertx.sqlclient.*;
+import reactor.adapter.JdkFlowAdapter;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import ru.tinkoff.kora.common.Context;
@@ -15,6 +16,11 @@ import java.util.concurrent.CompletableFuture;
 
 public final class VertxRepositoryHelper {
 
+    /**
+     * Shared parameters of queries without parameters, backed by immutable list so it can't be changed
+     */
+    public static final Tuple EMPTY_TUPLE = Tuple.wrap(List.of());
+
     private VertxRepositoryHelper() {}
 
     public static <T> CompletableFuture<T> completionStage(VertxConnectionFactory connectionFactory, QueryContext query, Tuple params, VertxRowSetMapper<T> mapper) {
@@ -184,48 +190,25 @@ public final class VertxRepositoryHelper {
         }
 
         public static <T> Flux<T> flux(VertxConnectionFactory connectionFactory, QueryContext query, Tuple params, VertxRowMapper<T> mapper) {
-            return Flux.deferContextual(contextView -> {
-                var connection = connectionFactory.currentConnection();
-                if (connection != null) {
-                    return flux(connection, connectionFactory.telemetry(), query, params, mapper);
-                }
-                return Flux.usingWhen(Mono.fromCompletionStage(connectionFactory.newConnection()), c -> flux(c, connectionFactory.telemetry(), query, params, mapper), $connection -> Mono.fromRunnable($connection::close));
-            });
+            return flux(connectionFactory, query, params, 0, mapper);
+        }
+
+        public static <T> Flux<T> flux(VertxConnectionFactory connectionFactory, QueryContext query, Tuple params, int fetchSize, VertxRowMapper<T> mapper) {
+            return flux(new VertxRowPublisher<>(connectionFactory, query, params, fetchSize, mapper));
         }
 
         public static <T> Flux<T> flux(SqlConnection connection, DataBaseTelemetry dataBaseTelemetry, QueryContext query, Tuple params, VertxRowMapper<T> mapper) {
-            return Flux.create(sink -> {
-                var ctxCurrent = Context.Reactor.current(sink.contextView());
-                var ctxFork = ctxCurrent.fork();
-                var telemetry = dataBaseTelemetry.createContext(ctxFork, query);
-                connection.prepare(query.sql(), statementEvent -> {
-                    ctxFork.inject();
-                    if (statementEvent.failed()) {
-                        telemetry.close(statementEvent.cause());
-                        sink.error(statementEvent.cause());
-                        return;
-                    }
-                    var stmt = statementEvent.result();
-                    var stream = stmt.createStream(50, params).pause();
-                    sink.onDispose(stream::close);
-                    sink.onRequest(stream::fetch);
-                    stream.exceptionHandler(e -> {
-                        stmt.close();
-                        telemetry.close(e);
-                        sink.error(e);
-                        ctxCurrent.inject();
-                    });
-                    stream.endHandler(v -> {
-                        stmt.close();
-                        telemetry.close(null);
-                        sink.complete();
-                        ctxCurrent.inject();
-                    });
-                    stream.handler(row -> {
-                        var mappedRow = mapper.apply(row);
-                        sink.next(mappedRow);
-                    });
-                });
+            return flux(connection, dataBaseTelemetry, query, params, 0, mapper);
+        }
+
+        public static <T> Flux<T> flux(SqlConnection connection, DataBaseTelemetry dataBaseTelemetry, QueryContext query, Tuple params, int fetchSize, VertxRowMapper<T> mapper) {
+            return flux(new VertxRowPublisher<>(connection, dataBaseTelemetry, query, params, fetchSize, mapper));
+        }
+
+        private static <T> Flux<T> flux(VertxRowPublisher<T> publisher) {
+            return Flux.deferContextual(contextView -> {
+                var ctx = Context.Reactor.current(contextView);
+                return JdkFlowAdapter.flowPublisherToFlux(subscriber -> publisher.subscribe(subscriber, ctx));
             });
         }
     }
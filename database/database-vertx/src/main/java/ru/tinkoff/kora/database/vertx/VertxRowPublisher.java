@@ -0,0 +1,341 @@
+package ru.tinkoff.kora.database.vertx;
+
+import io.vertx.core.Future;
+import io.vertx.sqlclient.*;
+import jakarta.annotation.Nullable;
+import ru.tinkoff.kora.common.Context;
+import ru.tinkoff.kora.database.common.QueryContext;
+import ru.tinkoff.kora.database.common.telemetry.DataBaseTelemetry;
+import ru.tinkoff.kora.database.vertx.mapper.result.VertxRowMapper;
+
+import java.util.Objects;
+import java.util.concurrent.Flow;
+
+/**
+ * <b>Русский</b>: Издатель строк результата запроса, который читает строки с сервера курсором только по мере спроса подписчика.
+ * Запрос выполняется при первом запросе данных, если соединения в текущем контексте нет, то берется новое соединение
+ * и запрос выполняется в транзакции, так как курсоры PostgreSQL существуют только внутри транзакции.
+ * Соединение, курсор и телеметрия освобождаются при завершении, ошибке или отмене подписки.
+ * <hr>
+ * <b>English</b>: Publisher of query result rows that reads rows from server with cursor only as they are requested by subscriber.
+ * Query is executed on first subscriber demand, if there is no connection in current context, new connection is taken
+ * and query is executed in transaction, because PostgreSQL cursors exist only within transaction.
+ * Connection, cursor and telemetry are released on completion, error or subscription cancellation.
+ *
+ * @see ru.tinkoff.kora.database.common.annotation.Query#fetchSize()
+ */
+public final class VertxRowPublisher<T> implements Flow.Publisher<T> {
+
+    static final int DEFAULT_FETCH_SIZE = 50;
+
+    @Nullable
+    private final VertxConnectionFactory connectionFactory;
+    @Nullable
+    private final SqlConnection connection;
+    private final DataBaseTelemetry telemetry;
+    private final Context context;
+    private final QueryContext query;
+    private final Tuple params;
+    private final int fetchSize;
+    private final VertxRowMapper<T> mapper;
+
+    public VertxRowPublisher(VertxConnectionFactory connectionFactory, QueryContext query, Tuple params, int fetchSize, VertxRowMapper<T> mapper) {
+        this(connectionFactory, null, connectionFactory.telemetry(), query, params, fetchSize, mapper);
+    }
+
+    public VertxRowPublisher(SqlConnection connection, DataBaseTelemetry telemetry, QueryContext query, Tuple params, int fetchSize, VertxRowMapper<T> mapper) {
+        this(null, connection, telemetry, query, params, fetchSize, mapper);
+    }
+
+    private VertxRowPublisher(@Nullable VertxConnectionFactory connectionFactory, @Nullable SqlConnection connection, DataBaseTelemetry telemetry, QueryContext query, Tuple params, int fetchSize, VertxRowMapper<T> mapper) {
+        this.connectionFactory = connectionFactory;
+        this.connection = connection;
+        this.telemetry = telemetry;
+        this.context = Context.current();
+        this.query = query;
+        this.params = params;
+        this.fetchSize = fetchSize > 0 ? fetchSize : DEFAULT_FETCH_SIZE;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber);
+        SqlConnection connection;
+        var old = Context.current();
+        try {
+            this.context.inject();
+            connection = this.currentConnection();
+        } finally {
+            old.inject();
+        }
+        subscriber.onSubscribe(new RowSubscription<>(this, subscriber, this.context, connection));
+    }
+
+    /**
+     * Subscribes with context of reactive pipeline, connection is taken from context of subscribing thread
+     */
+    void subscribe(Flow.Subscriber<? super T> subscriber, Context context) {
+        Objects.requireNonNull(subscriber);
+        subscriber.onSubscribe(new RowSubscription<>(this, subscriber, context, this.currentConnection()));
+    }
+
+    @Nullable
+    private SqlConnection currentConnection() {
+        if (this.connection != null) {
+            return this.connection;
+        }
+        return Objects.requireNonNull(this.connectionFactory).currentConnection();
+    }
+
+    private static final class RowSubscription<T> implements Flow.Subscription {
+        private final VertxRowPublisher<T> publisher;
+        private final Flow.Subscriber<? super T> subscriber;
+        private final Context ctxCurrent;
+        private final Context ctxFork;
+        @Nullable
+        private final SqlConnection currentConnection;
+
+        // written under lock, read without it to drop rows already received after cancel
+        private volatile boolean terminated;
+        // guarded by this
+        private long pendingDemand;
+        private boolean started;
+        private boolean setupDone;
+        @Nullable
+        private DataBaseTelemetry.DataBaseTelemetryContext telemetry;
+        @Nullable
+        private SqlConnection ownConnection;
+        @Nullable
+        private Transaction transaction;
+        @Nullable
+        private PreparedStatement statement;
+        @Nullable
+        private RowStream<Row> stream;
+
+        private RowSubscription(VertxRowPublisher<T> publisher, Flow.Subscriber<? super T> subscriber, Context ctxCurrent, @Nullable SqlConnection currentConnection) {
+            this.publisher = publisher;
+            this.subscriber = subscriber;
+            this.ctxCurrent = ctxCurrent;
+            this.ctxFork = ctxCurrent.fork();
+            this.currentConnection = currentConnection;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                this.fail(new IllegalArgumentException("Requested amount must be positive, but was " + n));
+                return;
+            }
+            RowStream<Row> stream;
+            boolean start = false;
+            synchronized (this) {
+                if (this.terminated) {
+                    return;
+                }
+                stream = this.stream;
+                if (stream == null) {
+                    var sum = this.pendingDemand + n;
+                    this.pendingDemand = sum < 0 ? Long.MAX_VALUE : sum;
+                    if (!this.started) {
+                        this.started = start = true;
+                        this.telemetry = this.publisher.telemetry.createContext(this.ctxFork, this.publisher.query);
+                    }
+                }
+            }
+            if (stream != null) {
+                stream.fetch(n);
+            } else if (start) {
+                this.start();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            if (this.terminate(false)) {
+                this.closeTelemetry(null);
+            }
+        }
+
+        private void start() {
+            if (this.currentConnection != null) {
+                this.prepare(this.currentConnection);
+                return;
+            }
+            Objects.requireNonNull(this.publisher.connectionFactory).newConnection().whenComplete((connection, error) -> {
+                this.ctxFork.inject();
+                if (error != null) {
+                    this.setupFailed(error);
+                    return;
+                }
+                synchronized (this) {
+                    this.ownConnection = connection;
+                }
+                if (this.setupAborted()) {
+                    return;
+                }
+                connection.begin(txEvent -> {
+                    this.ctxFork.inject();
+                    if (txEvent.failed()) {
+                        this.setupFailed(txEvent.cause());
+                        return;
+                    }
+                    synchronized (this) {
+                        this.transaction = txEvent.result();
+                    }
+                    if (this.setupAborted()) {
+                        return;
+                    }
+                    this.prepare(connection);
+                });
+            });
+        }
+
+        private void prepare(SqlConnection connection) {
+            connection.prepare(this.publisher.query.sql(), statementEvent -> {
+                this.ctxFork.inject();
+                if (statementEvent.failed()) {
+                    this.setupFailed(statementEvent.cause());
+                    return;
+                }
+                var statement = statementEvent.result();
+                synchronized (this) {
+                    this.statement = statement;
+                }
+                if (this.setupAborted()) {
+                    return;
+                }
+                var stream = statement.createStream(this.publisher.fetchSize, this.publisher.params).pause();
+                stream.exceptionHandler(this::fail);
+                stream.endHandler(v -> this.complete());
+                stream.handler(this::onRow);
+                long demand;
+                synchronized (this) {
+                    this.setupDone = true;
+                    this.stream = stream;
+                    demand = this.terminated ? -1 : this.pendingDemand;
+                    this.pendingDemand = 0;
+                }
+                if (demand < 0) {
+                    this.release(false);
+                } else if (demand > 0) {
+                    stream.fetch(demand);
+                }
+            });
+        }
+
+        private void onRow(Row row) {
+            if (this.terminated) {
+                return;
+            }
+            T mapped;
+            try {
+                mapped = this.publisher.mapper.apply(row);
+            } catch (Exception e) {
+                this.fail(e);
+                return;
+            }
+            this.subscriber.onNext(mapped);
+        }
+
+        private void complete() {
+            if (this.terminate(true)) {
+                this.closeTelemetry(null);
+                this.subscriber.onComplete();
+                this.ctxCurrent.inject();
+            }
+        }
+
+        private void fail(Throwable error) {
+            if (this.terminate(false)) {
+                this.closeTelemetry(error);
+                this.subscriber.onError(error);
+                this.ctxCurrent.inject();
+            }
+        }
+
+        private void setupFailed(Throwable error) {
+            synchronized (this) {
+                this.setupDone = true;
+            }
+            if (this.terminate(false)) {
+                this.closeTelemetry(error);
+                this.subscriber.onError(error);
+                this.ctxCurrent.inject();
+            } else {
+                // cancelled before setup failed, resources acquired so far are not released yet
+                this.release(false);
+            }
+        }
+
+        private void closeTelemetry(@Nullable Throwable error) {
+            DataBaseTelemetry.DataBaseTelemetryContext telemetry;
+            synchronized (this) {
+                telemetry = this.telemetry;
+            }
+            if (telemetry != null) {
+                telemetry.close(error);
+            }
+        }
+
+        /**
+         * @return true if subscription was cancelled while query was being prepared, resources acquired so far are released then
+         */
+        private boolean setupAborted() {
+            synchronized (this) {
+                if (!this.terminated) {
+                    return false;
+                }
+                this.setupDone = true;
+            }
+            this.release(false);
+            return true;
+        }
+
+        /**
+         * @return true if this call terminated subscription, resources are released here only if query preparation is done
+         */
+        private boolean terminate(boolean success) {
+            boolean release;
+            synchronized (this) {
+                if (this.terminated) {
+                    return false;
+                }
+                this.terminated = true;
+                this.pendingDemand = 0;
+                release = this.setupDone;
+            }
+            if (release) {
+                this.release(success);
+            }
+            return true;
+        }
+
+        private void release(boolean success) {
+            RowStream<Row> stream;
+            PreparedStatement statement;
+            Transaction transaction;
+            SqlConnection connection;
+            synchronized (this) {
+                stream = this.stream;
+                statement = this.statement;
+                transaction = this.transaction;
+                connection = this.ownConnection;
+                this.stream = null;
+                this.statement = null;
+                this.transaction = null;
+                this.ownConnection = null;
+            }
+            Future<Void> future = stream == null ? Future.succeededFuture() : stream.close();
+            if (statement != null) {
+                future = future.eventually(v -> statement.close());
+            }
+            if (transaction != null) {
+                future = future.eventually(v -> success ? transaction.commit() : transaction.rollback());
+            }
+            if (connection != null) {
+                future.eventually(v -> connection.close());
+            }
+        }
+    }
+}
@@ -6,6 +6,7 @@ import io.netty.channel.ServerChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
+import io.vertx.sqlclient.SqlConnection;
 import io.vertx.sqlclient.Tuple;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.AfterAll;
@@ -27,7 +28,9 @@ import java.sql.SQLException;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -152,4 +155,34 @@ class VertxConnectionFactoryTest {
             assertThat(values).hasSize(1);
         });
     }
+
+    @Test
+    void testPipelined(PostgresParams params) {
+        params.execute("""
+            CREATE TABLE test_table(id BIGSERIAL, value VARCHAR);
+            INSERT INTO test_table(value) VALUES ('test1');
+            INSERT INTO test_table(value) VALUES ('test2');
+            """
+        );
+
+        var id = "SELECT value FROM test_table WHERE id = :id";
+        var sql = "SELECT value FROM test_table WHERE id = $1";
+        withDb(params, db -> {
+            var connections = new ArrayList<SqlConnection>();
+            Supplier<CompletionStage<String>> first = () -> {
+                connections.add(db.currentConnection());
+                return VertxRepositoryHelper.completionStage(db, new QueryContext(id, sql), Tuple.of(1L), rows -> rows.iterator().next().getString(0));
+            };
+            Supplier<CompletionStage<String>> second = () -> {
+                connections.add(db.currentConnection());
+                return VertxRepositoryHelper.completionStage(db, new QueryContext(id, sql), Tuple.of(2L), rows -> rows.iterator().next().getString(0));
+            };
+
+            Assertions.assertThat(db.pipelined(List.of(first, second)).toCompletableFuture())
+                .succeedsWithin(Duration.ofMinutes(1))
+                .isEqualTo(List.of("test1", "test2"));
+            assertThat(connections).hasSize(2).doesNotContainNull();
+            assertThat(connections.get(0)).isSameAs(connections.get(1));
+        });
+    }
 }
@@ -171,6 +171,11 @@ public class KoraProcessEngineTests implements CamundaEngineBpmnModule {
             Duration.ofMillis(5000L),
             false,
             new Properties(),
+            0,
+            null,
+            null,
+            0,
+            null,
             new $TelemetryConfig_ConfigValueExtractor.TelemetryConfig_Impl(
                 new $TelemetryConfig_LogConfig_ConfigValueExtractor.LogConfig_Impl(true),
                 new $TelemetryConfig_TracingConfig_ConfigValueExtractor.TracingConfig_Impl(true),
@@ -0,0 +1,24 @@
+package ru.tinkoff.kora.benchmarks;
+
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.OutputStream;
+
+final class BlackholeOutputStream extends OutputStream {
+    private final Blackhole bh;
+
+    BlackholeOutputStream(Blackhole bh) {
+        this.bh = bh;
+    }
+
+    @Override
+    public void write(int b) {
+        bh.consume(b);
+    }
+
+    @Override
+    public void write(byte[] b, int offset, int len) {
+        bh.consume(b);
+        bh.consume(len);
+    }
+}
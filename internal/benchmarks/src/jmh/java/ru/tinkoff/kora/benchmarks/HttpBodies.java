@@ -0,0 +1,91 @@
+package ru.tinkoff.kora.benchmarks;
+
+import org.openjdk.jmh.infra.Blackhole;
+import ru.tinkoff.kora.http.common.body.HttpBody;
+import ru.tinkoff.kora.http.common.body.HttpBodyInput;
+import ru.tinkoff.kora.http.common.body.HttpBodyOutput;
+import ru.tinkoff.kora.http.common.cookie.Cookie;
+import ru.tinkoff.kora.http.common.header.HttpHeaders;
+import ru.tinkoff.kora.http.server.common.HttpServerRequest;
+import ru.tinkoff.kora.http.server.common.router.PublicApiRequest;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory requests and response body consumer, they do what http server does with body but without sockets
+ */
+final class HttpBodies {
+    private static final HttpHeaders JSON_HEADERS = HttpHeaders.of("content-type", "application/json");
+
+    private HttpBodies() {}
+
+    /**
+     * Consumes body the way undertow server does: full content is sent as is, otherwise body is written into response stream
+     */
+    static void consume(HttpBodyOutput body, Blackhole bh) throws IOException {
+        try (body) {
+            var full = body.getFullContentIfAvailable();
+            if (full != null) {
+                bh.consume(body.contentLength());
+                bh.consume(full);
+            } else {
+                body.write(new BlackholeOutputStream(bh));
+            }
+        }
+    }
+
+    record Request(String method, String path, String route, HttpBodyInput body) implements HttpServerRequest {
+        static Request json(byte[] json) {
+            return new Request("POST", "/orders", "/orders", HttpBody.of("application/json", json));
+        }
+
+        @Override
+        public HttpHeaders headers() {
+            return JSON_HEADERS;
+        }
+
+        @Override
+        public List<Cookie> cookies() {
+            return List.of();
+        }
+
+        @Override
+        public Map<String, ? extends Collection<String>> queryParams() {
+            return Map.of();
+        }
+
+        @Override
+        public Map<String, String> pathParams() {
+            return Map.of();
+        }
+    }
+
+    record ApiRequest(String method, String path, HttpBodyInput body) implements PublicApiRequest {
+        static ApiRequest json(String path, byte[] json) {
+            return new ApiRequest("POST", path, HttpBody.of("application/json", json));
+        }
+
+        @Override
+        public String hostName() {
+            return "localhost";
+        }
+
+        @Override
+        public String scheme() {
+            return "http";
+        }
+
+        @Override
+        public HttpHeaders headers() {
+            return JSON_HEADERS;
+        }
+
+        @Override
+        public Map<String, ? extends Collection<String>> queryParams() {
+            return Map.of();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package ru.tinkoff.kora.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import ru.tinkoff.kora.benchmarks.dto.Order;
+import ru.tinkoff.kora.common.Context;
+import ru.tinkoff.kora.http.server.common.HttpServerConfig;
+import ru.tinkoff.kora.http.server.common.HttpServerResponse;
+import ru.tinkoff.kora.http.server.common.handler.HttpServerRequestHandler;
+import ru.tinkoff.kora.http.server.common.handler.HttpServerRequestHandlerImpl;
+import ru.tinkoff.kora.http.server.common.router.PublicApiHandler;
+import ru.tinkoff.kora.http.server.common.telemetry.HttpServerTelemetryConfig;
+import ru.tinkoff.kora.json.module.http.server.JsonReaderHttpServerRequestMapper;
+import ru.tinkoff.kora.json.module.http.server.JsonWriterHttpServerResponseMapper;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Server side of JSON HTTP endpoint: request body mapping, response body mapping and whole request processing
+ * through {@link PublicApiHandler} with routing and the same mappers as generated controllers use.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Measurement(time = 5, iterations = 5)
+@Warmup(time = 5, iterations = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+public class JsonHttpServerBenchmark {
+    private JsonReaderHttpServerRequestMapper<Order> requestMapper;
+    private JsonWriterHttpServerResponseMapper<Order> responseMapper;
+    private PublicApiHandler handler;
+
+    @Setup
+    public void setup(OrderCorpus corpus) {
+        this.requestMapper = new JsonReaderHttpServerRequestMapper<>(corpus.reader);
+        this.responseMapper = new JsonWriterHttpServerResponseMapper<>(corpus.writer);
+        var requestMapper = this.requestMapper;
+        var responseMapper = this.responseMapper;
+        var handlers = List.<HttpServerRequestHandler>of(
+            HttpServerRequestHandlerImpl.get("/health", (ctx, request) -> CompletableFuture.completedFuture(HttpServerResponse.of(200))),
+            HttpServerRequestHandlerImpl.get("/orders/{id}", (ctx, request) -> CompletableFuture.completedFuture(HttpServerResponse.of(404))),
+            HttpServerRequestHandlerImpl.post("/orders/{id}", (ctx, request) -> {
+                var order = requestMapper.apply(request);
+                return CompletableFuture.completedFuture(responseMapper.apply(ctx, request, order));
+            })
+        );
+        var config = new HttpServerConfig() {
+            @Override
+            public HttpServerTelemetryConfig telemetry() {
+                return null;
+            }
+        };
+        this.handler = new PublicApiHandler(handlers, List.of(), telemetryConfig -> null, config);
+    }
+
+    @Benchmark
+    public Order requestMapper(OrderCorpus corpus) throws IOException {
+        return this.requestMapper.apply(HttpBodies.Request.json(corpus.json));
+    }
+
+    @Benchmark
+    public void responseMapper(OrderCorpus corpus, Blackhole bh) throws IOException {
+        var response = this.responseMapper.apply(Context.clear(), HttpBodies.Request.json(corpus.json), corpus.order);
+        HttpBodies.consume(response.body(), bh);
+    }
+
+    @Benchmark
+    public void publicApiHandler(OrderCorpus corpus, Blackhole bh) throws IOException {
+        var publicApiResponse = this.handler.process(Context.clear(), HttpBodies.ApiRequest.json("/orders/42", corpus.json));
+        var response = publicApiResponse.response().join();
+        HttpBodies.consume(response.body(), bh);
+        publicApiResponse.closeSendResponseSuccess(response.code(), response.headers(), null);
+    }
+}
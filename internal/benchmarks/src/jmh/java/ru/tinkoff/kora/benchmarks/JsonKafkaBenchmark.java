@@ -0,0 +1,40 @@
+package ru.tinkoff.kora.benchmarks;
+
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.openjdk.jmh.annotations.*;
+import ru.tinkoff.kora.benchmarks.dto.Order;
+import ru.tinkoff.kora.json.module.kafka.JsonKafkaDeserializer;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Kafka record value deserialization from array and from buffer, consumer passes buffer when it doesn't copy record
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Measurement(time = 5, iterations = 5)
+@Warmup(time = 5, iterations = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+public class JsonKafkaBenchmark {
+    private final RecordHeaders headers = new RecordHeaders();
+    private JsonKafkaDeserializer<Order> deserializer;
+    private ByteBuffer buffer;
+
+    @Setup
+    public void setup(OrderCorpus corpus) {
+        this.deserializer = new JsonKafkaDeserializer<>(corpus.reader);
+        this.buffer = ByteBuffer.wrap(corpus.json);
+    }
+
+    @Benchmark
+    public Order deserializeBytes(OrderCorpus corpus) {
+        return this.deserializer.deserialize("orders", corpus.json);
+    }
+
+    @Benchmark
+    public Order deserializeBuffer() {
+        return this.deserializer.deserialize("orders", this.headers, this.buffer);
+    }
+}
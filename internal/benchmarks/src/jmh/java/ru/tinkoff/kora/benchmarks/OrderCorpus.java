@@ -0,0 +1,48 @@
+package ru.tinkoff.kora.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import ru.tinkoff.kora.benchmarks.dto.*;
+import ru.tinkoff.kora.json.common.JsonCommonModule;
+import ru.tinkoff.kora.json.common.JsonReader;
+import ru.tinkoff.kora.json.common.JsonWriter;
+import ru.tinkoff.kora.json.common.ListJsonReader;
+import ru.tinkoff.kora.json.common.ListJsonWriter;
+
+import java.io.IOException;
+
+/**
+ * Generated readers and writers for orders wired the same way application graph does, and payload of selected size
+ */
+@State(Scope.Benchmark)
+public class OrderCorpus {
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public Payload payload;
+
+    public final JsonWriter<Order> writer;
+    public final JsonReader<Order> reader;
+    public Order order;
+    public byte[] json;
+
+    public OrderCorpus() {
+        var module = new JsonCommonModule() {};
+        this.writer = new $Order_JsonWriter(
+            new $OrderStatus_JsonWriter(module.stringJsonWriter()),
+            new $Customer_JsonWriter(new $Address_JsonWriter()),
+            new ListJsonWriter<>(new $OrderItem_JsonWriter())
+        );
+        this.reader = new $Order_JsonReader(
+            new $OrderStatus_JsonReader(module.stringJsonReader()),
+            new $Customer_JsonReader(new $Address_JsonReader()),
+            new ListJsonReader<>(new $OrderItem_JsonReader())
+        );
+    }
+
+    @Setup
+    public void setup() throws IOException {
+        this.order = this.payload.generate();
+        this.json = this.writer.toByteArray(this.order);
+        if (!this.order.equals(this.reader.read(this.json))) {
+            throw new IllegalStateException("Order is not the same after read");
+        }
+    }
+}
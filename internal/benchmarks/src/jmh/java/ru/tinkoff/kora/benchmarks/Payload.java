@@ -0,0 +1,55 @@
+package ru.tinkoff.kora.benchmarks;
+
+import ru.tinkoff.kora.benchmarks.dto.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Payload corpus: orders of different size generated with fixed seed, so every run reads and writes the same bytes.
+ * Small payload is a typical single entity response, medium is below eager serialization limit of json body and large is above it.
+ */
+public enum Payload {
+    SMALL(1),
+    MEDIUM(20),
+    LARGE(500);
+
+    private static final String[] CITIES = {"Москва", "Санкт-Петербург", "Казань", "Новосибирск", "Berlin", "Amsterdam"};
+    private static final String[] WORDS = {"кабель", "adapter", "зарядное", "устройство", "USB-C", "\"premium\"", "черный", "white", "2m", "100W"};
+
+    private final int items;
+
+    Payload(int items) {
+        this.items = items;
+    }
+
+    public Order generate() {
+        var random = new Random(1337);
+        var address = new Address("RU", CITIES[random.nextInt(CITIES.length)], "ул. Ленина, д. " + random.nextInt(200), random.nextBoolean() ? null : String.valueOf(100000 + random.nextInt(900000)));
+        var customer = new Customer(random.nextLong(1_000_000_000L), "Иван Петров", "ivan.petrov" + random.nextInt(1000) + "@example.com", random.nextBoolean(), address);
+        var items = new ArrayList<OrderItem>(this.items);
+        var total = BigDecimal.ZERO;
+        for (int i = 0; i < this.items; i++) {
+            var price = BigDecimal.valueOf(random.nextInt(1_000_000), 2);
+            var quantity = 1 + random.nextInt(5);
+            var description = random.nextInt(3) == 0 ? null : words(random, 8 + random.nextInt(24)) + "\n";
+            items.add(new OrderItem("SKU-" + (100000 + random.nextInt(900000)), words(random, 3 + random.nextInt(4)), quantity, price, description));
+            total = total.add(price.multiply(BigDecimal.valueOf(quantity)));
+        }
+        var status = OrderStatus.values()[random.nextInt(OrderStatus.values().length)];
+        return new Order(new UUID(random.nextLong(), random.nextLong()), "ORD-" + random.nextInt(1_000_000), status, customer, items, total, 1_700_000_000_000L + random.nextInt(), null);
+    }
+
+    private static String words(Random random, int count) {
+        var sb = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            sb.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sb.toString();
+    }
+}
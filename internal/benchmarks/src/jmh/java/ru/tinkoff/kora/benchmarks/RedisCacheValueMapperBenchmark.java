@@ -0,0 +1,36 @@
+package ru.tinkoff.kora.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import ru.tinkoff.kora.benchmarks.dto.Order;
+import ru.tinkoff.kora.cache.redis.RedisCacheMapperModule;
+import ru.tinkoff.kora.cache.redis.RedisCacheValueMapper;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON value mapper of redis cache, it is called on every cache hit and put
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Measurement(time = 5, iterations = 5)
+@Warmup(time = 5, iterations = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+public class RedisCacheValueMapperBenchmark {
+    private RedisCacheValueMapper<Order> mapper;
+
+    @Setup
+    public void setup(OrderCorpus corpus) {
+        this.mapper = new RedisCacheMapperModule() {}.jsonRedisValueMapper(corpus.writer, corpus.reader);
+    }
+
+    @Benchmark
+    public byte[] write(OrderCorpus corpus) {
+        return this.mapper.write(corpus.order);
+    }
+
+    @Benchmark
+    public Order read(OrderCorpus corpus) {
+        return this.mapper.read(corpus.json);
+    }
+}
@@ -0,0 +1,7 @@
+package ru.tinkoff.kora.benchmarks.dto;
+
+import jakarta.annotation.Nullable;
+import ru.tinkoff.kora.json.common.annotation.Json;
+
+@Json
+public record Address(String country, String city, String street, @Nullable String zip) {}
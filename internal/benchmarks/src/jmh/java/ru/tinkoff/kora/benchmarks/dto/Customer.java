@@ -0,0 +1,6 @@
+package ru.tinkoff.kora.benchmarks.dto;
+
+import ru.tinkoff.kora.json.common.annotation.Json;
+
+@Json
+public record Customer(long id, String name, String email, boolean verified, Address address) {}
@@ -0,0 +1,11 @@
+package ru.tinkoff.kora.benchmarks.dto;
+
+import jakarta.annotation.Nullable;
+import ru.tinkoff.kora.json.common.annotation.Json;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+@Json
+public record Order(UUID id, String number, OrderStatus status, Customer customer, List<OrderItem> items, BigDecimal total, long createdAt, @Nullable String comment) {}
@@ -0,0 +1,9 @@
+package ru.tinkoff.kora.benchmarks.dto;
+
+import jakarta.annotation.Nullable;
+import ru.tinkoff.kora.json.common.annotation.Json;
+
+import java.math.BigDecimal;
+
+@Json
+public record OrderItem(String sku, String title, int quantity, BigDecimal price, @Nullable String description) {}
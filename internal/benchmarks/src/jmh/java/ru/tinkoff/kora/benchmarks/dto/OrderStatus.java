@@ -0,0 +1,8 @@
+package ru.tinkoff.kora.benchmarks.dto;
+
+import ru.tinkoff.kora.json.common.annotation.Json;
+
+@Json
+public enum OrderStatus {
+    NEW, PAID, SHIPPED, DELIVERED, CANCELLED
+}
@@ -3,11 +3,52 @@ package ru.tinkoff.kora.jms;
 import ru.tinkoff.kora.config.common.annotation.ConfigValueExtractor;
 import ru.tinkoff.kora.telemetry.common.TelemetryConfig;
 
+import java.time.Duration;
+
 @ConfigValueExtractor
 public interface JmsListenerContainerConfig {
     String queueName();
 
     int threads();
 
+    /**
+     * JMS API has no prefetch setting, it is configured on provider {@link javax.jms.ConnectionFactory}
+     * (e.g. ActiveMQ prefetch policy or IBM MQ read ahead) and should be not less than batch size
+     * so that batch is filled from client buffer without round trip per message.
+     *
+     * @return maximum number of messages processed and committed in one transaction
+     */
+    default int batchSize() {
+        return 1;
+    }
+
+    /**
+     * @return maximum time to wait for batch to fill up, incomplete batch is processed when time is over
+     */
+    default Duration batchTimeout() {
+        return Duration.ofMillis(100);
+    }
+
+    /**
+     * @return initial delay before reconnecting after error, doubled after each consecutive error
+     */
+    default Duration backoffTimeout() {
+        return Duration.ofSeconds(1);
+    }
+
+    /**
+     * @return maximum delay before reconnecting after error
+     */
+    default Duration backoffTimeoutMax() {
+        return Duration.ofSeconds(60);
+    }
+
+    /**
+     * @return when true consumers are run on virtual threads if they are available
+     */
+    default boolean virtualThreads() {
+        return false;
+    }
+
     TelemetryConfig telemetry();
 }
@@ -1,9 +1,11 @@
 package ru.tinkoff.kora.jms;
 
+import jakarta.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 import ru.tinkoff.kora.application.graph.Lifecycle;
+import ru.tinkoff.kora.application.graph.internal.loom.VirtualThreadExecutorHolder;
 import ru.tinkoff.kora.common.Context;
 import ru.tinkoff.kora.common.util.TimeUtils;
 import ru.tinkoff.kora.jms.telemetry.JmsConsumerTelemetry;
@@ -12,7 +14,9 @@ import ru.tinkoff.kora.logging.common.arg.StructuredArgument;
 
 import javax.jms.ConnectionFactory;
 import javax.jms.JMSException;
+import javax.jms.Message;
 import javax.jms.Session;
+import java.util.ArrayList;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -27,7 +31,10 @@ public class JmsMessageListenerContainer implements Lifecycle {
     private static final ConcurrentHashMap<String, AtomicInteger> threadCounters = new ConcurrentHashMap<>();
     private final ConnectionFactory connectionFactory;
     private final JmsListenerContainerConfig config;
+    @Nullable
     private final JmsMessageListener messageListener;
+    @Nullable
+    private final JmsMessagesListener messagesListener;
     private final Logger log;
     private final JmsConsumerTelemetry telemetry;
     private final AtomicBoolean isStarted = new AtomicBoolean(false);
@@ -37,6 +44,16 @@ public class JmsMessageListenerContainer implements Lifecycle {
         this.connectionFactory = connectionFactory;
         this.config = config;
         this.messageListener = messageListener;
+        this.messagesListener = null;
+        this.log = LoggerFactory.getLogger(JmsMessageListenerContainer.class);
+        this.telemetry = telemetryFactory.get(config.telemetry(), config.queueName());
+    }
+
+    public JmsMessageListenerContainer(ConnectionFactory connectionFactory, JmsListenerContainerConfig config, JmsMessagesListener messagesListener, JmsConsumerTelemetryFactory telemetryFactory) {
+        this.connectionFactory = connectionFactory;
+        this.config = config;
+        this.messageListener = null;
+        this.messagesListener = messagesListener;
         this.log = LoggerFactory.getLogger(JmsMessageListenerContainer.class);
         this.telemetry = telemetryFactory.get(config.telemetry(), config.queueName());
     }
@@ -51,7 +68,7 @@ public class JmsMessageListenerContainer implements Lifecycle {
             logger.debug("JmsMessageListener starting...");
             var started = System.nanoTime();
 
-            this.executorService = Executors.newFixedThreadPool(this.config.threads());
+            this.executorService = this.createExecutorService();
             for (int i = 0; i < this.config.threads(); i++) {
                 this.executorService.submit(this::connectLoop);
             }
@@ -81,43 +98,52 @@ public class JmsMessageListenerContainer implements Lifecycle {
         }
     }
 
+    private ExecutorService createExecutorService() {
+        if (this.config.virtualThreads()) {
+            var executorService = VirtualThreadExecutorHolder.executorService("jms-" + this.config.queueName() + "-");
+            if (executorService != null) {
+                return executorService;
+            }
+            logger.warn("JmsMessageListener virtual threads are {}, platform threads will be used", VirtualThreadExecutorHolder.status());
+        }
+        return Executors.newFixedThreadPool(this.config.threads());
+    }
+
     private void connectLoop() {
         var counter = threadCounters.computeIfAbsent(this.config.queueName(), s -> new AtomicInteger());
         Thread.currentThread().setName("jms-" + this.config.queueName() + "-" + counter.getAndIncrement());
         log.info("listening...");
+        var backoff = new Backoff();
         while (this.isStarted.get()) {
             try {
                 log.trace("Trying new connection");
                 try (var connection = this.connectionFactory.createConnection();
                      var session = connection.createSession(true, Session.SESSION_TRANSACTED)) {
                     connection.start();
-                    this.pollLoop(session);
+                    if (this.messagesListener != null || this.config.batchSize() > 1) {
+                        this.pollBatchLoop(session, backoff);
+                    } else {
+                        this.pollLoop(session, backoff);
+                    }
                 }
             } catch (JMSException e) {
                 log.info("Jms exception caught while processing message: {}", e.toString(), e);
-                try {
-                    Thread.sleep(60000);
-                } catch (InterruptedException ex) {
-                    log.trace("Jms thread interrupted");
-                }
+                backoff.sleep();
             } catch (Exception e) {
                 log.trace("Unknown ex");
-                try {
-                    Thread.sleep(60000);
-                } catch (InterruptedException ex) {
-                    log.trace("Jms thread interrupted");
-                }
+                backoff.sleep();
             }
         }
         log.info("Consumer stopped");
     }
 
-    private void pollLoop(Session session) throws JMSException {
+    private void pollLoop(Session session, Backoff backoff) throws JMSException {
         var queue = session.createQueue(this.config.queueName());
         try (var consumer = session.createConsumer(queue, null)) {
             while (this.isStarted.get()) {
                 try {
                     var message = consumer.receiveNoWait();
+                    backoff.reset();
                     long lastSuccessfullReceive = System.nanoTime();
                     if (message == null) {
                         log.trace("No message was received");
@@ -127,16 +153,7 @@ public class JmsMessageListenerContainer implements Lifecycle {
                     }
                     var telemetryCtx = this.telemetry.get(message);
                     try {
-                        if (log.isDebugEnabled()) {
-                            var body = JmsUtils.text(message);
-                            var headers = JmsUtils.dumpHeaders(message).toString();
-                            log.debug(StructuredArgument.marker("jmsInputMessage", (gen) -> {
-                                gen.writeStartObject();
-                                gen.writeStringField("headers", headers);
-                                gen.writeStringField("body", body);
-                                gen.writeEndObject();
-                            }), "JmsListener.message");
-                        }
+                        this.logMessage(message);
                         this.messageListener.onMessage(session, message);
                         session.commit();
                         telemetryCtx.close(null);
@@ -161,4 +178,98 @@ public class JmsMessageListenerContainer implements Lifecycle {
         }
     }
 
+    private void pollBatchLoop(Session session, Backoff backoff) throws JMSException {
+        var queue = session.createQueue(this.config.queueName());
+        var batchSize = this.config.batchSize();
+        var batchTimeout = this.config.batchTimeout().toNanos();
+        try (var consumer = session.createConsumer(queue, null)) {
+            while (this.isStarted.get()) {
+                var messages = new ArrayList<Message>(batchSize);
+                var contexts = new ArrayList<JmsConsumerTelemetry.JmsConsumerTelemetryContext>(batchSize);
+                try {
+                    var deadline = System.nanoTime() + batchTimeout;
+                    while (messages.size() < batchSize) {
+                        var remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                        // receive(0) waits forever, so expired batch only takes messages that are already there
+                        var message = remaining > 0 ? consumer.receive(remaining) : consumer.receiveNoWait();
+                        if (message == null) {
+                            break;
+                        }
+                        messages.add(message);
+                    }
+                    backoff.reset();
+                    if (messages.isEmpty()) {
+                        log.trace("No message was received");
+                        continue;
+                    }
+                    try {
+                        for (var message : messages) {
+                            contexts.add(this.telemetry.get(message));
+                            this.logMessage(message);
+                        }
+                        if (this.messagesListener != null) {
+                            this.messagesListener.onMessages(session, messages);
+                        } else {
+                            for (var message : messages) {
+                                this.messageListener.onMessage(session, message);
+                            }
+                        }
+                        session.commit();
+                        for (var telemetryCtx : contexts) {
+                            telemetryCtx.close(null);
+                        }
+                    } catch (Exception e) {
+                        for (var telemetryCtx : contexts) {
+                            telemetryCtx.close(e);
+                        }
+                        throw e;
+                    } finally {
+                        Context.clear();
+                        MDC.clear();
+                    }
+                } catch (JMSException e) {
+                    session.rollback();
+                    throw e;
+                } catch (Exception e) {
+                    log.debug("Exception caught while processing {} messages", messages.size(), e);
+                    session.rollback();
+                }
+            }
+            log.trace("Poll loop end");
+        }
+    }
+
+    private void logMessage(Message message) throws JMSException {
+        if (log.isDebugEnabled()) {
+            var body = JmsUtils.text(message);
+            var headers = JmsUtils.dumpHeaders(message).toString();
+            log.debug(StructuredArgument.marker("jmsInputMessage", (gen) -> {
+                gen.writeStartObject();
+                gen.writeStringField("headers", headers);
+                gen.writeStringField("body", body);
+                gen.writeEndObject();
+            }), "JmsListener.message");
+        }
+    }
+
+    /**
+     * Reconnect delay, doubled after each failure and reset only when consumer actually received from broker,
+     * so connection that starts but fails right after it still backs off
+     */
+    private final class Backoff {
+        private long timeout = config.backoffTimeout().toMillis();
+
+        void reset() {
+            this.timeout = config.backoffTimeout().toMillis();
+        }
+
+        void sleep() {
+            try {
+                Thread.sleep(this.timeout);
+            } catch (InterruptedException ex) {
+                log.trace("Jms thread interrupted");
+            }
+            this.timeout = Math.min(this.timeout * 2, config.backoffTimeoutMax().toMillis());
+        }
+    }
 }
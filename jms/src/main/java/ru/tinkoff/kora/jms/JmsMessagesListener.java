@@ -0,0 +1,15 @@
+package ru.tinkoff.kora.jms;
+
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.Session;
+import java.util.List;
+
+/**
+ * Listener that receives batch of messages committed in one transaction
+ *
+ * @see JmsListenerContainerConfig#batchSize()
+ */
+public interface JmsMessagesListener {
+    void onMessages(Session session, List<Message> messages) throws JMSException;
+}
@@ -0,0 +1,242 @@
+package ru.tinkoff.kora.jms;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import ru.tinkoff.kora.application.graph.internal.loom.VirtualThreadExecutorHolder;
+import ru.tinkoff.kora.jms.telemetry.JmsConsumerTelemetryFactory;
+import ru.tinkoff.kora.telemetry.common.TelemetryConfig;
+
+import javax.jms.Connection;
+import javax.jms.ConnectionFactory;
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageConsumer;
+import javax.jms.Session;
+import javax.jms.TextMessage;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class JmsMessageListenerContainerTest {
+
+    private final LinkedBlockingQueue<Message> queue = new LinkedBlockingQueue<>();
+    private final List<Optional<Exception>> telemetryResults = new CopyOnWriteArrayList<>();
+    private final JmsConsumerTelemetryFactory telemetryFactory = (config, queueName) -> message -> e -> telemetryResults.add(Optional.ofNullable(e));
+    private final Session session = mock(Session.class);
+    private final ConnectionFactory connectionFactory = mock(ConnectionFactory.class);
+    private JmsMessageListenerContainer container;
+
+    JmsMessageListenerContainerTest() throws JMSException {
+        var connection = mock(Connection.class);
+        var consumer = mock(MessageConsumer.class);
+        when(connectionFactory.createConnection()).thenReturn(connection);
+        when(connection.createSession(true, Session.SESSION_TRANSACTED)).thenReturn(session);
+        when(session.createConsumer(any(), any())).thenReturn(consumer);
+        when(consumer.receive(anyLong())).thenAnswer(invocation -> queue.poll(invocation.getArgument(0), TimeUnit.MILLISECONDS));
+        when(consumer.receiveNoWait()).thenAnswer(invocation -> queue.poll());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (container != null) {
+            container.release();
+        }
+    }
+
+    @Test
+    void testBatchIsCommittedInOneTransaction() throws JMSException {
+        var batches = new CopyOnWriteArrayList<Integer>();
+        container = new JmsMessageListenerContainer(connectionFactory, config(3, false, Duration.ofMillis(10)), (JmsMessagesListener) (s, messages) -> batches.add(messages.size()), telemetryFactory);
+        for (int i = 0; i < 5; i++) {
+            queue.add(message("message" + i));
+        }
+
+        container.init();
+
+        waitFor(Duration.ofSeconds(5), () -> batches.size() == 2);
+        assertThat(batches).containsExactly(3, 2);
+        verify(session, timeout(1000).times(2)).commit();
+        verify(session, never()).rollback();
+        waitFor(Duration.ofSeconds(1), () -> telemetryResults.size() == 5);
+        assertThat(telemetryResults).allMatch(Optional::isEmpty);
+    }
+
+    @Test
+    void testMessageListenerIsCalledForEveryMessageOfBatch() throws JMSException {
+        var received = new CopyOnWriteArrayList<String>();
+        container = new JmsMessageListenerContainer(connectionFactory, config(10, false, Duration.ofMillis(10)), (JmsMessageListener) (s, message) -> received.add(JmsUtils.text(message)), telemetryFactory);
+        for (int i = 0; i < 3; i++) {
+            queue.add(message("message" + i));
+        }
+
+        container.init();
+
+        waitFor(Duration.ofSeconds(5), () -> received.size() == 3);
+        assertThat(received).containsExactly("message0", "message1", "message2");
+        verify(session, timeout(1000).times(1)).commit();
+    }
+
+    @Test
+    void testFailedBatchIsRolledBack() throws JMSException {
+        var error = new IllegalStateException("test");
+        var batches = new CopyOnWriteArrayList<Integer>();
+        container = new JmsMessageListenerContainer(connectionFactory, config(2, false, Duration.ofMillis(10)), (JmsMessagesListener) (s, messages) -> {
+            batches.add(messages.size());
+            if (batches.size() == 1) {
+                throw error;
+            }
+        }, telemetryFactory);
+        for (int i = 0; i < 4; i++) {
+            queue.add(message("message" + i));
+        }
+
+        container.init();
+
+        waitFor(Duration.ofSeconds(5), () -> batches.size() == 2);
+        verify(session, timeout(1000).times(1)).rollback();
+        verify(session, timeout(1000).times(1)).commit();
+        waitFor(Duration.ofSeconds(1), () -> telemetryResults.size() == 4);
+        assertThat(telemetryResults).containsExactly(Optional.of(error), Optional.of(error), Optional.empty(), Optional.empty());
+    }
+
+    @Test
+    void testReconnectBackoff() throws JMSException {
+        var attempts = new CopyOnWriteArrayList<Long>();
+        var failedConnection = mock(Connection.class);
+        var failingSession = mock(Session.class);
+        when(failedConnection.createSession(true, Session.SESSION_TRANSACTED)).thenReturn(failingSession);
+        when(failingSession.createQueue(any())).thenThrow(new JMSException("queue failure"));
+        var connection = mock(Connection.class);
+        when(connection.createSession(true, Session.SESSION_TRANSACTED)).thenReturn(session);
+        var commitFailed = new CopyOnWriteArrayList<Long>();
+        doNothing().doAnswer(invocation -> {
+            commitFailed.add(System.nanoTime());
+            throw new JMSException("commit failure");
+        }).when(session).commit();
+        when(connectionFactory.createConnection()).thenAnswer(invocation -> {
+            attempts.add(System.nanoTime());
+            return switch (attempts.size()) {
+                case 4 -> failedConnection;
+                case 5 -> connection;
+                default -> throw new JMSException("connection failure");
+            };
+        });
+        for (int i = 0; i < 3; i++) {
+            queue.add(message("message" + i));
+        }
+        container = new JmsMessageListenerContainer(connectionFactory, config(2, false, Duration.ofMillis(100)), (JmsMessagesListener) (s, messages) -> {}, telemetryFactory);
+
+        container.init();
+
+        waitFor(Duration.ofSeconds(10), () -> attempts.size() >= 6);
+        container.release();
+        container = null;
+        var delays = new long[4];
+        for (int i = 0; i < delays.length; i++) {
+            delays[i] = TimeUnit.NANOSECONDS.toMillis(attempts.get(i + 1) - attempts.get(i));
+        }
+        // 100ms doubled up to 400ms max
+        assertThat(delays[0]).isGreaterThanOrEqualTo(100);
+        assertThat(delays[1]).isGreaterThanOrEqualTo(200);
+        assertThat(delays[2]).isGreaterThanOrEqualTo(400);
+        // connection was started, but nothing was received, so backoff is not reset
+        assertThat(delays[3]).isGreaterThanOrEqualTo(400).isLessThan(800);
+        verify(failedConnection).start();
+        // backoff is reset after messages were received and committed
+        assertThat(commitFailed).hasSize(1);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(attempts.get(5) - commitFailed.get(0))).isGreaterThanOrEqualTo(100).isLessThan(400);
+        verify(session).rollback();
+    }
+
+    @Test
+    void testVirtualThreads() throws JMSException {
+        var threads = new CopyOnWriteArrayList<Thread>();
+        container = new JmsMessageListenerContainer(connectionFactory, config(1, true, Duration.ofMillis(10)), (JmsMessageListener) (s, message) -> threads.add(Thread.currentThread()), telemetryFactory);
+        queue.add(message("message"));
+
+        container.init();
+
+        waitFor(Duration.ofSeconds(5), () -> threads.size() == 1);
+        assertThat(threads.get(0).getName()).startsWith("jms-test-");
+        // platform threads are used when virtual threads are not available
+        assertThat(isVirtual(threads.get(0))).isEqualTo(VirtualThreadExecutorHolder.status() == VirtualThreadExecutorHolder.VirtualThreadStatus.ENABLED);
+    }
+
+    private static void waitFor(Duration timeout, BooleanSupplier condition) {
+        var deadline = System.nanoTime() + timeout.toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition is not met in %s", timeout).isLessThan(deadline);
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static boolean isVirtual(Thread thread) {
+        try {
+            return (boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+        } catch (NoSuchMethodException e) {
+            return false;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Message message(String text) throws JMSException {
+        var message = mock(TextMessage.class);
+        when(message.getText()).thenReturn(text);
+        when(message.getPropertyNames()).thenReturn(Collections.emptyEnumeration());
+        return message;
+    }
+
+    private static JmsListenerContainerConfig config(int batchSize, boolean virtualThreads, Duration backoffTimeout) {
+        return new JmsListenerContainerConfig() {
+            @Override
+            public String queueName() {
+                return "test";
+            }
+
+            @Override
+            public int threads() {
+                return 1;
+            }
+
+            @Override
+            public int batchSize() {
+                return batchSize;
+            }
+
+            @Override
+            public Duration backoffTimeout() {
+                return backoffTimeout;
+            }
+
+            @Override
+            public Duration backoffTimeoutMax() {
+                return backoffTimeout.multipliedBy(4);
+            }
+
+            @Override
+            public boolean virtualThreads() {
+                return virtualThreads;
+            }
+
+            @Override
+            public TelemetryConfig telemetry() {
+                return mock(TelemetryConfig.class);
+            }
+        };
+    }
+}
@@ -2,6 +2,9 @@ package ru.tinkoff.kora.json.annotation.processor;
 
 import org.openjdk.jmh.annotations.Setup;
 import ru.tinkoff.kora.json.annotation.processor.dto.*;
+import ru.tinkoff.kora.json.common.EnumJsonReader;
+import ru.tinkoff.kora.json.common.EnumJsonWriter;
+import ru.tinkoff.kora.json.common.JsonCommonModule;
 import ru.tinkoff.kora.json.common.JsonReader;
 import ru.tinkoff.kora.json.common.JsonWriter;
 import ru.tinkoff.kora.json.common.ListJsonReader;
@@ -16,37 +19,48 @@ public class KoraBenchmark extends BaseBenchmark {
     private JsonReader<SomeBean> someBeanReader;
     private JsonWriter<List<SomeBean>> someBeanListJsonWriter;
     private JsonReader<List<SomeBean>> someBeanListJsonReader;
-    private $BeanWithPropertyConstructorJsonReader beanWithConstructorReader;
+    private $BeanWithPropertyConstructor_JsonReader beanWithConstructorReader;
     private JsonReader<List<BeanWithPropertyConstructor>> beanWithConstructorListReader;
-    private $ClassicBeanJsonWriter classicBeanWriter;
-    private $ClassicBeanJsonReader classicBeanReader;
+    private $ClassicBean_JsonWriter classicBeanWriter;
+    private $ClassicBean_JsonReader classicBeanReader;
     private JsonWriter<List<ClassicBean>> classicBeanListWriter;
     private ListJsonReader<ClassicBean> classicBeanListReader;
-    private $MediaItemJsonWriter mediaItemWriter;
-    private $MediaItemJsonReader mediaItemReader;
-    private $BeanWithPropertyConstructorJsonWriter beanWithConstructorWriter;
+    private $MediaItem_JsonWriter mediaItemWriter;
+    private $MediaItem_JsonReader mediaItemReader;
+    private $BeanWithPropertyConstructor_JsonWriter beanWithConstructorWriter;
     private ListJsonWriter<BeanWithPropertyConstructor> beanWithConstructorListWriter;
-    private $SimpleRecordJsonReader ottsDtoJsonReader;
-    private $SimpleRecordJsonWriter ottsDtoJsonWriter;
+    private $SimpleRecord_JsonReader ottsDtoJsonReader;
+    private $SimpleRecord_JsonWriter ottsDtoJsonWriter;
 
     @Setup
     public void setup() throws Exception {
-        someBeanWriter = new $SomeBeanJsonWriter();
-        someBeanReader = new $SomeBeanJsonReader();
+        var module = new JsonCommonModule() {};
+        var someEnumWriter = new EnumJsonWriter<>(SomeEnum.values(), SomeEnum::name, module.stringJsonWriter());
+        var someEnumReader = new EnumJsonReader<>(SomeEnum.values(), SomeEnum::name, module.stringJsonReader());
+        someBeanWriter = new $SomeBean_JsonWriter(someEnumWriter);
+        someBeanReader = new $SomeBean_JsonReader(someEnumReader);
         someBeanListJsonWriter = new ListJsonWriter<>(someBeanWriter);
         someBeanListJsonReader = new ListJsonReader<>(someBeanReader);
-        beanWithConstructorReader = new $BeanWithPropertyConstructorJsonReader(someBeanReader);
+        beanWithConstructorReader = new $BeanWithPropertyConstructor_JsonReader(someBeanReader, someEnumReader);
         beanWithConstructorListReader = new ListJsonReader<>(beanWithConstructorReader);
-        beanWithConstructorWriter = new $BeanWithPropertyConstructorJsonWriter(someBeanWriter);
+        beanWithConstructorWriter = new $BeanWithPropertyConstructor_JsonWriter(someBeanWriter, someEnumWriter);
         beanWithConstructorListWriter = new ListJsonWriter<>(beanWithConstructorWriter);
-        classicBeanWriter = new $ClassicBeanJsonWriter();
-        classicBeanReader = new $ClassicBeanJsonReader();
+        classicBeanWriter = new $ClassicBean_JsonWriter();
+        classicBeanReader = new $ClassicBean_JsonReader();
         classicBeanListWriter = new ListJsonWriter<>(classicBeanWriter);
         classicBeanListReader = new ListJsonReader<>(classicBeanReader);
-        mediaItemWriter = new $MediaItemJsonWriter(new ListJsonWriter<>(new $MediaItemPhotoJsonWriter()), new $MediaItemContentJsonWriter());
-        mediaItemReader = new $MediaItemJsonReader(new ListJsonReader<>(new $MediaItemPhotoJsonReader()), new $MediaItemContentJsonReader());
-        ottsDtoJsonReader = new $SimpleRecordJsonWriter();
-        ottsDtoJsonWriter = new $SimpleRecordJsonWriter();
+        var stringListWriter = new ListJsonWriter<>(module.stringJsonWriter());
+        var stringListReader = new ListJsonReader<>(module.stringJsonReader());
+        mediaItemWriter = new $MediaItem_JsonWriter(
+            new ListJsonWriter<>(new $MediaItem_Photo_JsonWriter(new EnumJsonWriter<>(MediaItem.Photo.Size.values(), MediaItem.Photo.Size::name, module.stringJsonWriter()))),
+            new $MediaItem_Content_JsonWriter(new EnumJsonWriter<>(MediaItem.Content.Player.values(), MediaItem.Content.Player::name, module.stringJsonWriter()), stringListWriter)
+        );
+        mediaItemReader = new $MediaItem_JsonReader(
+            new ListJsonReader<>(new $MediaItem_Photo_JsonReader(new EnumJsonReader<>(MediaItem.Photo.Size.values(), MediaItem.Photo.Size::name, module.stringJsonReader()))),
+            new $MediaItem_Content_JsonReader(new EnumJsonReader<>(MediaItem.Content.Player.values(), MediaItem.Content.Player::name, module.stringJsonReader()), stringListReader)
+        );
+        ottsDtoJsonReader = new $SimpleRecord_JsonReader();
+        ottsDtoJsonWriter = new $SimpleRecord_JsonWriter();
         super.setup();
     }
 
@@ -0,0 +1,36 @@
+package ru.tinkoff.kora.json.annotation.processor;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import ru.tinkoff.kora.json.annotation.processor.dto.*;
+import ru.tinkoff.kora.json.common.JsonCommonModule;
+import ru.tinkoff.kora.json.common.JsonReader;
+import ru.tinkoff.kora.json.common.JsonWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * Same as {@link KoraBenchmark}, but simple record goes through Jackson parser and generator instead of
+ * byte reader and writer generated with {@code kora.json.bytes.enabled} option
+ */
+public class KoraParser extends KoraBenchmark {
+    private final JsonReader<SimpleRecord> simpleRecordReader = new $SimpleRecord_JsonReader();
+    private final JsonWriter<SimpleRecord> simpleRecordWriter = new $SimpleRecord_JsonWriter();
+
+    @Override
+    protected byte[] simpleRecordToJson(SimpleRecord simpleRecord) throws IOException {
+        var baos = new ByteArrayOutputStream(64);
+        try (var gen = JsonCommonModule.JSON_FACTORY.createGenerator(baos, JsonEncoding.UTF8)) {
+            this.simpleRecordWriter.write(gen, simpleRecord);
+        }
+        return baos.toByteArray();
+    }
+
+    @Override
+    protected SimpleRecord simpleRecordFromJson(byte[] json) throws IOException {
+        try (var parser = JsonCommonModule.JSON_FACTORY.createParser(json)) {
+            parser.nextToken();
+            return this.simpleRecordReader.read(parser);
+        }
+    }
+}
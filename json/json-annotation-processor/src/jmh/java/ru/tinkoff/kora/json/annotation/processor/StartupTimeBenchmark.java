@@ -34,10 +34,10 @@ public class StartupTimeBenchmark {
 
     @Benchmark
     public byte[] kora() throws Exception {
-        return new $StartupTimeBenchmarkTestRecordJsonWriter(
-            new $SomeBeanJsonWriter(),
-            new $ClassicBeanJsonWriter(),
-            new $BeanWithPropertyConstructorJsonWriter(new $SomeBeanJsonWriter()))
+        return new $StartupTimeBenchmark_TestRecord_JsonWriter(
+            new $SomeBean_JsonWriter(),
+            new $ClassicBean_JsonWriter(),
+            new $BeanWithPropertyConstructor_JsonWriter(new $SomeBean_JsonWriter()))
             .toByteArray(TestRecord.test());
     }
 
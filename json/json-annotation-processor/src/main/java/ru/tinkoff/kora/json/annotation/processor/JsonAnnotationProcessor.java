@@ -39,6 +39,11 @@ public class JsonAnnotationProcessor extends AbstractKoraProcessor {
         );
     }
 
+    @Override
+    public Set<String> getSupportedOptions() {
+        return Set.of(JsonUtils.OPTION_BYTES_ENABLED, JsonUtils.OPTION_VALIDATION_ENABLED, JsonUtils.OPTION_VALIDATION_FAIL_FAST);
+    }
+
     @Override
     public synchronized void init(ProcessingEnvironment processingEnv) {
         super.init(processingEnv);
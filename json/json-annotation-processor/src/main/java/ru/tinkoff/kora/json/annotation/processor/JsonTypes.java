@@ -14,6 +14,7 @@ public class JsonTypes {
     public static final ClassName jsonNullable = ClassName.get("ru.tinkoff.kora.json.common", "JsonNullable");
     public static final ClassName jsonReader = ClassName.get("ru.tinkoff.kora.json.common", "JsonReader");
     public static final ClassName jsonWriter = ClassName.get("ru.tinkoff.kora.json.common", "JsonWriter");
+    public static final ClassName rawJson = ClassName.get("ru.tinkoff.kora.json.common", "RawJson");
 
     public static final ClassName enumJsonReader = ClassName.get("ru.tinkoff.kora.json.common", "EnumJsonReader");
     public static final ClassName enumJsonWriter = ClassName.get("ru.tinkoff.kora.json.common", "EnumJsonWriter");
@@ -23,6 +24,19 @@ public class JsonTypes {
 
     public static final ClassName bufferingJsonParser = ClassName.get("ru.tinkoff.kora.json.common.util", "BufferingJsonParser");
     public static final ClassName discriminatorHelper = ClassName.get("ru.tinkoff.kora.json.common.util", "DiscriminatorHelper");
+    public static final ClassName discriminatorFirstJsonParser = ClassName.get("ru.tinkoff.kora.json.common.util", "DiscriminatorFirstJsonParser");
+    public static final ClassName jsonByteReader = ClassName.get("ru.tinkoff.kora.json.common.util", "JsonByteReader");
+    public static final ClassName jsonByteReaderUnsupportedInput = jsonByteReader.nestedClass("UnsupportedInputException");
+    public static final ClassName jsonByteWriter = ClassName.get("ru.tinkoff.kora.json.common.util", "JsonByteWriter");
+
+    public static final ClassName validAnnotation = ClassName.get("ru.tinkoff.kora.validation.common.annotation", "Valid");
+    public static final ClassName sizeAnnotation = ClassName.get("ru.tinkoff.kora.validation.common.annotation", "Size");
+    public static final ClassName rangeAnnotation = ClassName.get("ru.tinkoff.kora.validation.common.annotation", "Range");
+    public static final ClassName patternAnnotation = ClassName.get("ru.tinkoff.kora.validation.common.annotation", "Pattern");
+    public static final ClassName notBlankAnnotation = ClassName.get("ru.tinkoff.kora.validation.common.annotation", "NotBlank");
+    public static final ClassName validationContext = ClassName.get("ru.tinkoff.kora.validation.common", "ValidationContext");
+    public static final ClassName violation = ClassName.get("ru.tinkoff.kora.validation.common", "Violation");
+    public static final ClassName violationException = ClassName.get("ru.tinkoff.kora.validation.common", "ViolationException");
 
     public static final ClassName jsonParseException = ClassName.get("com.fasterxml.jackson.core", "JsonParseException");
     public static final ClassName jsonParser = ClassName.get("com.fasterxml.jackson.core", "JsonParser");
@@ -5,6 +5,7 @@ import ru.tinkoff.kora.annotation.processor.common.NameUtils;
 import ru.tinkoff.kora.annotation.processor.common.ProcessingErrorException;
 
 import jakarta.annotation.Nullable;
+import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
@@ -15,6 +16,31 @@ import java.util.List;
 
 
 public class JsonUtils {
+    public static final String OPTION_BYTES_ENABLED = "kora.json.bytes.enabled";
+    public static final String OPTION_VALIDATION_ENABLED = "kora.json.validation.enabled";
+    public static final String OPTION_VALIDATION_FAIL_FAST = "kora.json.validation.failFast";
+
+    /**
+     * Readers and writers of flat DTOs additionally get byte level {@code read(byte[])} and {@code toByteArray} implementations
+     */
+    public static boolean bytesEnabled(ProcessingEnvironment processingEnv) {
+        return Boolean.parseBoolean(processingEnv.getOptions().getOrDefault(OPTION_BYTES_ENABLED, "false"));
+    }
+
+    /**
+     * Readers of {@code @Valid} classes check {@code @Size}, {@code @Range}, {@code @Pattern} and {@code @NotBlank} constraints while reading fields
+     */
+    public static boolean validationEnabled(ProcessingEnvironment processingEnv) {
+        return Boolean.parseBoolean(processingEnv.getOptions().getOrDefault(OPTION_VALIDATION_ENABLED, "false"));
+    }
+
+    /**
+     * Readers with validation throw on first violation, otherwise violations of all fields are collected and thrown before object is created
+     */
+    public static boolean validationFailFast(ProcessingEnvironment processingEnv) {
+        return Boolean.parseBoolean(processingEnv.getOptions().getOrDefault(OPTION_VALIDATION_FAIL_FAST, "true"));
+    }
+
     public static String jsonClassPackage(Elements elements, Element typeElement) {
         return elements.getPackageOf(typeElement).getQualifiedName().toString();
     }
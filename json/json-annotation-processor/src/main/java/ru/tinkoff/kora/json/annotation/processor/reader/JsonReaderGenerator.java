@@ -23,10 +23,14 @@ import java.util.BitSet;
 import java.util.UUID;
 
 public class JsonReaderGenerator {
+    private final ProcessingEnvironment env;
     private final Types types;
+    private final boolean bytesEnabled;
 
     public JsonReaderGenerator(ProcessingEnvironment processingEnvironment) {
+        this.env = processingEnvironment;
         this.types = processingEnvironment.getTypeUtils();
+        this.bytesEnabled = JsonUtils.bytesEnabled(processingEnvironment);
     }
 
     @Nullable
@@ -59,10 +63,14 @@ public class JsonReaderGenerator {
         }
 
 
+        var validation = JsonReaderValidation.parse(this.env, meta);
         this.addBitSet(typeBuilder, meta);
-        this.addReaders(typeBuilder, meta);
+        this.addReaders(typeBuilder, meta, validation);
         this.addFieldNames(typeBuilder, meta);
-        this.addReadMethods(typeBuilder, meta);
+        this.addReadMethods(typeBuilder, meta, validation);
+        if (validation != null) {
+            validation.addMembers(typeBuilder);
+        }
 
         var method = MethodSpec.methodBuilder("read")
             .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
@@ -80,10 +88,13 @@ public class JsonReaderGenerator {
         } else {
             method.addStatement("var __receivedFields = ($T) NULLABLE_FIELDS_RECEIVED.clone()", BitSet.class);
         }
+        if (validation != null) {
+            validation.addViolationsVariable(method);
+        }
         method.addCode("\n");
 
         this.addFieldVariables(method, meta);
-        this.addFastPath(method, meta);
+        this.addFastPath(method, meta, validation);
 
         if (meta.fields().isEmpty()) {
             method.addStatement("__token = __parser.nextToken()");
@@ -97,8 +108,14 @@ public class JsonReaderGenerator {
         for (int i = 0, fieldsSize = meta.fields().size(); i < fieldsSize; i++) {
             var field = meta.fields().get(i);
             method.addCode("case $S -> {$>\n", field.jsonName());
-            method.addCode("$L = $L(__parser, __receivedFields);", field.parameter(), this.readerMethodName(field));
-            method.addCode("$<\n}\n");
+            if (validation != null) {
+                method.addCode("$L = $L(__parser, __receivedFields$L);\n", field.parameter(), this.readerMethodName(field), validation.readArguments(field));
+                method.addCode(validation.validateField(field));
+                method.addCode("$<}\n");
+            } else {
+                method.addCode("$L = $L(__parser, __receivedFields);", field.parameter(), this.readerMethodName(field));
+                method.addCode("$<\n}\n");
+            }
         }
 
 
@@ -142,6 +159,9 @@ public class JsonReaderGenerator {
                 """, StringBuilder.class, meta.fields().size(), errorSwitch.build(), JsonTypes.jsonParseException);
         }
 
+        if (validation != null) {
+            method.addCode(validation.throwCollected());
+        }
         method.addCode("return new $T(", meta.typeElement());
         for (int i = 0; i < meta.fields().size(); i++) {
             var field = meta.fields().get(i);
@@ -154,10 +174,148 @@ public class JsonReaderGenerator {
 
 
         typeBuilder.addMethod(method.build());
+        if (this.bytesEnabled && validation == null && isByteReadable(meta)) {
+            this.addByteReadMethods(typeBuilder, meta);
+        }
 
         return typeBuilder.build();
     }
 
+    private static boolean isByteReadable(JsonClassReaderMeta meta) {
+        if (meta.fields().size() > 32) {
+            return false;
+        }
+        for (var field : meta.fields()) {
+            if (field.reader() != null || field.typeMeta().isJsonNullable()) {
+                return false;
+            }
+            if (isRawJson(field)) {
+                continue;
+            }
+            if (!(field.typeMeta() instanceof KnownTypeReaderMeta typeMeta)) {
+                return false;
+            }
+            var supported = switch (typeMeta.knownType()) {
+                case STRING, UUID, BOOLEAN_OBJECT, BOOLEAN_PRIMITIVE, SHORT_OBJECT, SHORT_PRIMITIVE,
+                     INTEGER_OBJECT, INTEGER_PRIMITIVE, LONG_OBJECT, LONG_PRIMITIVE -> true;
+                default -> false;
+            };
+            if (!supported || field.jsonName().chars().anyMatch(c -> c < 0x20 || c == '"' || c == '\\')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void addByteReadMethods(TypeSpec.Builder typeBuilder, JsonClassReaderMeta meta) {
+        var typeName = TypeName.get(meta.typeElement().asType());
+        for (var field : meta.fields()) {
+            typeBuilder.addField(FieldSpec.builder(ArrayTypeName.of(TypeName.BYTE), this.jsonNameBytesStaticName(field), Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("$T.fieldName($S)", JsonTypes.jsonByteReader, field.jsonName())
+                .build());
+        }
+        typeBuilder.addMethod(MethodSpec.methodBuilder("read")
+            .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+            .addException(IOException.class)
+            .addParameter(ArrayTypeName.of(TypeName.BYTE), "__bytes")
+            .returns(typeName)
+            .addAnnotation(Override.class)
+            .addAnnotation(Nullable.class)
+            .addStatement("return this.read(__bytes, 0, __bytes.length)")
+            .build());
+        typeBuilder.addMethod(MethodSpec.methodBuilder("read")
+            .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+            .addException(IOException.class)
+            .addParameter(ArrayTypeName.of(TypeName.BYTE), "__bytes")
+            .addParameter(TypeName.INT, "__offset")
+            .addParameter(TypeName.INT, "__length")
+            .returns(typeName)
+            .addAnnotation(Override.class)
+            .addAnnotation(Nullable.class)
+            .beginControlFlow("try")
+            .addStatement("return this.read(new $T(__bytes, __offset, __length))", JsonTypes.jsonByteReader)
+            .nextControlFlow("catch ($T __e)", JsonTypes.jsonByteReaderUnsupportedInput)
+            .addComment("input is read again by jackson parser, so it reports errors as usual")
+            .addStatement("return $T.super.read(__bytes, __offset, __length)", JsonTypes.jsonReader)
+            .endControlFlow()
+            .build());
+
+        var method = MethodSpec.methodBuilder("read")
+            .addModifiers(Modifier.PRIVATE)
+            .addParameter(JsonTypes.jsonByteReader, "__reader")
+            .returns(typeName)
+            .addAnnotation(Nullable.class);
+        method.addCode("if (__reader.nextNull()) $>\nreturn null;$<\n");
+        method.addStatement("__reader.startObject()");
+        method.addStatement("var __receivedFields = NULLABLE_FIELDS_RECEIVED");
+        this.addFieldVariables(method, meta);
+        var constructorCall = CodeBlock.builder().add("return new $T(", meta.typeElement());
+        for (int i = 0; i < meta.fields().size(); i++) {
+            constructorCall.add("$L", meta.fields().get(i).parameter().getSimpleName());
+            if (i < meta.fields().size() - 1) {
+                constructorCall.add(", ");
+            }
+        }
+        constructorCall.add(");\n");
+        for (int i = 0; i < meta.fields().size(); i++) {
+            var field = meta.fields().get(i);
+            method.beginControlFlow("if (__reader.nextFieldName($L))", this.jsonNameBytesStaticName(field));
+            method.addStatement("$L = $L", field.parameter().getSimpleName(), this.readBytesKnownType(field));
+            method.addStatement("__receivedFields |= 1 << $L", i);
+            if (i == meta.fields().size() - 1) {
+                method.addStatement("__reader.skipRemainingFields()");
+                method.addCode(constructorCall.build());
+            }
+        }
+        for (int i = 0; i < meta.fields().size(); i++) {
+            method.endControlFlow();
+        }
+        method.beginControlFlow("while (__reader.nextField())");
+        method.addCode("switch (__reader.readFieldName()) {$>\n");
+        for (int i = 0; i < meta.fields().size(); i++) {
+            var field = meta.fields().get(i);
+            method.addCode("case $S -> {$>\n", field.jsonName());
+            method.addStatement("$L = $L", field.parameter().getSimpleName(), this.readBytesKnownType(field));
+            method.addStatement("__receivedFields |= 1 << $L", i);
+            method.addCode("$<}\n");
+        }
+        method.addCode("default -> __reader.skipValue();\n");
+        method.addCode("$<}\n");
+        method.endControlFlow();
+        method.beginControlFlow("if (__receivedFields != ALL_FIELDS_RECEIVED)");
+        method.addStatement("throw $T.unsupported()", JsonTypes.jsonByteReader);
+        method.endControlFlow();
+        method.addCode(constructorCall.build());
+        typeBuilder.addMethod(method.build());
+    }
+
+    private static boolean isRawJson(FieldMeta field) {
+        return field.typeMeta() instanceof ReaderFieldType.UnknownTypeReaderMeta typeMeta && TypeName.get(typeMeta.typeMirror()).equals(JsonTypes.rawJson);
+    }
+
+    private CodeBlock readBytesKnownType(FieldMeta field) {
+        if (isRawJson(field)) {
+            // opaque value is not tokenized, reader keeps a slice of input
+            return isNullable(field)
+                ? CodeBlock.of("__reader.nextNull() ? null : __reader.readRawJson()")
+                : CodeBlock.of("__reader.readRawJson()");
+        }
+        var knownType = ((KnownTypeReaderMeta) field.typeMeta()).knownType();
+        var read = switch (knownType) {
+            case STRING -> CodeBlock.of("__reader.readString()");
+            case UUID -> CodeBlock.of("$T.fromString(__reader.readString())", UUID.class);
+            case BOOLEAN_OBJECT, BOOLEAN_PRIMITIVE -> CodeBlock.of("__reader.readBoolean()");
+            case SHORT_OBJECT, SHORT_PRIMITIVE -> CodeBlock.of("__reader.readShort()");
+            case INTEGER_OBJECT, INTEGER_PRIMITIVE -> CodeBlock.of("__reader.readInt()");
+            case LONG_OBJECT, LONG_PRIMITIVE -> CodeBlock.of("__reader.readLong()");
+            default -> throw new IllegalStateException("Unsupported type for byte reader: " + knownType);
+        };
+        if (isNullable(field)) {
+            return CodeBlock.of("__reader.nextNull() ? null : $L", read);
+        }
+        return read;
+    }
+
     private void addBitSet(TypeSpec.Builder typeBuilder, JsonClassReaderMeta meta) {
         if (meta.fields().size() <= 32) {
             var sb = new StringBuilder();
@@ -199,11 +357,16 @@ public class JsonReaderGenerator {
         }
     }
 
-    private void addFastPath(MethodSpec.Builder method, JsonClassReaderMeta meta) {
+    private void addFastPath(MethodSpec.Builder method, JsonClassReaderMeta meta, @Nullable JsonReaderValidation validation) {
         for (int i = 0; i < meta.fields().size(); i++) {
             var field = meta.fields().get(i);
             method.addCode("if (__parser.nextFieldName($L)) {$>\n", jsonNameStaticName(field));
-            method.addCode("$L = $L(__parser, __receivedFields);\n", field.parameter(), readerMethodName(field));
+            if (validation != null) {
+                method.addCode("$L = $L(__parser, __receivedFields$L);\n", field.parameter(), readerMethodName(field), validation.readArguments(field));
+                method.addCode(validation.validateField(field));
+            } else {
+                method.addCode("$L = $L(__parser, __receivedFields);\n", field.parameter(), readerMethodName(field));
+            }
             if (i == meta.fields().size() - 1) {
                 method.addCode("""
                     __token = __parser.nextToken();
@@ -213,6 +376,9 @@ public class JsonReaderGenerator {
                         __token = __parser.nextToken();
                     }
                     """);
+                if (validation != null) {
+                    method.addCode(validation.throwCollected());
+                }
                 method.addCode("return new $T(", meta.typeMirror());
                 for (int j = 0; j < meta.fields().size(); j++) {
                     method.addCode("$L", meta.fields().get(j).parameter());
@@ -251,10 +417,10 @@ public class JsonReaderGenerator {
         }
     }
 
-    private void addReadMethods(TypeSpec.Builder typeBuilder, JsonClassReaderMeta meta) {
+    private void addReadMethods(TypeSpec.Builder typeBuilder, JsonClassReaderMeta meta, @Nullable JsonReaderValidation validation) {
         var fields = meta.fields();
         for (int i = 0; i < fields.size(); i++) {
-            typeBuilder.addMethod(this.readParamMethod(i, fields.size(), fields.get(i)));
+            typeBuilder.addMethod(this.readParamMethod(i, fields.size(), fields.get(i), validation));
         }
     }
 
@@ -267,14 +433,20 @@ public class JsonReaderGenerator {
         }
     }
 
-    private void addReaders(TypeSpec.Builder typeBuilder, JsonClassReaderMeta classMeta) {
+    private void addReaders(TypeSpec.Builder typeBuilder, JsonClassReaderMeta classMeta, @Nullable JsonReaderValidation validation) {
         var constructor = MethodSpec.constructorBuilder()
             .addModifiers(Modifier.PUBLIC);
         for (var field : classMeta.fields()) {
             if (field.reader() == null && field.typeMeta() instanceof KnownTypeReaderMeta) {
                 continue;
             }
-            if (field.reader() != null) {
+            if (validation != null && validation.isArray(field)) {
+                var fieldName = this.elementReaderFieldName(field);
+                var fieldType = ParameterizedTypeName.get(JsonTypes.jsonReader, TypeName.get(validation.arrayElement(field)));
+                typeBuilder.addField(fieldType, fieldName, Modifier.PRIVATE, Modifier.FINAL);
+                constructor.addParameter(fieldType, fieldName);
+                constructor.addStatement("this.$L = $L", fieldName, fieldName);
+            } else if (field.reader() != null) {
                 var fieldName = this.readerFieldName(field);
                 var fieldType = TypeName.get(field.reader());
                 var readerField = FieldSpec.builder(fieldType, fieldName, Modifier.PRIVATE, Modifier.FINAL);
@@ -304,13 +476,20 @@ public class JsonReaderGenerator {
         return field.parameter().getSimpleName() + "Reader";
     }
 
-    private MethodSpec readParamMethod(int index, int size, FieldMeta field) {
+    private String elementReaderFieldName(FieldMeta field) {
+        return field.parameter().getSimpleName() + "ElementReader";
+    }
+
+    private MethodSpec readParamMethod(int index, int size, FieldMeta field, @Nullable JsonReaderValidation validation) {
         var method = MethodSpec.methodBuilder(this.readerMethodName(field))
             .addModifiers(Modifier.PRIVATE)
             .addParameter(JsonTypes.jsonParser, "__parser")
             .addException(IOException.class)
             .addParameter(size > 32 ? TypeName.get(BitSet.class) : ArrayTypeName.of(TypeName.INT), "__receivedFields")
             .returns(field.typeName());
+        if (validation != null) {
+            validation.addViolationsParameter(method, field);
+        }
         if (field.reader() != null) {
             method.addCode("var __token = __parser.nextToken();\n");
             if (!isNullable(field)) {
@@ -324,7 +503,8 @@ public class JsonReaderGenerator {
                     method.addCode("__receivedFields[0] = __receivedFields[0] | (1 << $L);\n", index);
                 }
             }
-            method.addCode("return $L.read(__parser);\n", this.readerFieldName(field));
+            var read = CodeBlock.of("return $L.read(__parser);\n", this.readerFieldName(field));
+            method.addCode(validation == null ? read : validation.readNested(field, read));
             return method.build();
         }
         method.addStatement("var __token = __parser.nextToken()");
@@ -375,11 +555,17 @@ public class JsonReaderGenerator {
             }
         }
 
+        if (validation != null && validation.isArray(field)) {
+            validation.addReadArray(method, field, this.elementReaderFieldName(field));
+            return method.build();
+        }
+        final CodeBlock read;
         if (field.typeMeta() != null && field.typeMeta().isJsonNullable()) {
-            method.addStatement("return $T.ofNullable($L.read(__parser))", JsonTypes.jsonNullable, readerFieldName(field));
+            read = CodeBlock.of("return $T.ofNullable($L.read(__parser));\n", JsonTypes.jsonNullable, readerFieldName(field));
         } else {
-            method.addStatement("return $L.read(__parser)", readerFieldName(field));
+            read = CodeBlock.of("return $L.read(__parser);\n", readerFieldName(field));
         }
+        method.addCode(validation == null ? read : validation.readNested(field, read));
         return method.build();
     }
 
@@ -478,6 +664,10 @@ public class JsonReaderGenerator {
         );
     }
 
+    private String jsonNameBytesStaticName(JsonClassReaderMeta.FieldMeta field) {
+        return "_" + field.parameter().getSimpleName().toString() + "_field_name_bytes";
+    }
+
     private String jsonNameStaticName(JsonClassReaderMeta.FieldMeta field) {
         return "_" + field.parameter().getSimpleName().toString() + "_optimized_field_name";
     }
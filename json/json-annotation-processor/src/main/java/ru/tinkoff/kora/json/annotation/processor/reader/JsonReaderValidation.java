@@ -0,0 +1,466 @@
+package ru.tinkoff.kora.json.annotation.processor.reader;
+
+import com.squareup.javapoet.*;
+import jakarta.annotation.Nullable;
+import ru.tinkoff.kora.annotation.processor.common.AnnotationUtils;
+import ru.tinkoff.kora.annotation.processor.common.ProcessingErrorException;
+import ru.tinkoff.kora.json.annotation.processor.JsonTypes;
+import ru.tinkoff.kora.json.annotation.processor.JsonUtils;
+import ru.tinkoff.kora.json.annotation.processor.reader.JsonClassReaderMeta.FieldMeta;
+import ru.tinkoff.kora.json.annotation.processor.reader.ReaderFieldType.KnownTypeReaderMeta;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+
+/**
+ * Generates checks of {@code @Size}, {@code @Range}, {@code @Pattern} and {@code @NotBlank} constraints into reader of {@code @Valid} class,
+ * so values are validated right after they are read and lists with {@code @Size} are not read past their maximum size.
+ */
+final class JsonReaderValidation {
+    private final boolean failFast;
+    private final Map<String, FieldValidation> fields;
+
+    private JsonReaderValidation(boolean failFast, Map<String, FieldValidation> fields) {
+        this.failFast = failFast;
+        this.fields = fields;
+    }
+
+    @Nullable
+    static JsonReaderValidation parse(ProcessingEnvironment env, JsonClassReaderMeta meta) {
+        if (!JsonUtils.validationEnabled(env) || AnnotationUtils.findAnnotation(meta.typeElement(), JsonTypes.validAnnotation) == null) {
+            return null;
+        }
+        var types = env.getTypeUtils();
+        var elements = env.getElementUtils();
+        var fields = new LinkedHashMap<String, FieldValidation>();
+        for (var field : meta.fields()) {
+            fields.put(field.parameter().getSimpleName().toString(), parseField(types, elements, meta.typeElement(), field));
+        }
+        return new JsonReaderValidation(JsonUtils.validationFailFast(env), fields);
+    }
+
+    private enum ValueKind {STRING, INTEGRAL, FLOATING, BIG_DECIMAL, BIG_INTEGER, COLLECTION, MAP, OTHER}
+
+    private sealed interface Constraint {
+        record Size(int min, int max) implements Constraint {}
+
+        record Range(double from, double to, String boundary) implements Constraint {}
+
+        record Pattern(String regex, int flags) implements Constraint {}
+
+        record NotBlank() implements Constraint {}
+    }
+
+    private record FieldValidation(FieldMeta field, ValueKind kind, List<Constraint> constraints, @Nullable TypeMirror arrayElement) {
+        boolean isNested() {
+            return this.field.reader() != null || this.field.typeMeta() instanceof ReaderFieldType.UnknownTypeReaderMeta;
+        }
+
+        boolean isArray() {
+            return this.arrayElement != null;
+        }
+
+        boolean hasChecks() {
+            return !this.constraints.isEmpty() && !this.isArray();
+        }
+
+        Constraint.Size size() {
+            for (var constraint : this.constraints) {
+                if (constraint instanceof Constraint.Size size) {
+                    return size;
+                }
+            }
+            throw new IllegalStateException();
+        }
+    }
+
+    private static FieldValidation parseField(Types types, Elements elements, TypeElement jsonClass, FieldMeta field) {
+        var parameter = field.parameter();
+        var valueType = field.typeMeta() == null ? parameter.asType() : field.typeMeta().typeMirror();
+        var kind = valueKind(types, elements, field, valueType);
+        var annotated = findAnnotatedElement(jsonClass, parameter);
+        var constraints = new ArrayList<Constraint>();
+        for (var annotation : annotated.getAnnotationMirrors()) {
+            var annotationType = ClassName.get((TypeElement) annotation.getAnnotationType().asElement());
+            if (annotationType.equals(JsonTypes.sizeAnnotation)) {
+                if (kind != ValueKind.STRING && kind != ValueKind.COLLECTION && kind != ValueKind.MAP) {
+                    throw unsupported(parameter, annotation, valueType);
+                }
+                int min = AnnotationUtils.parseAnnotationValue(elements, annotation, "min");
+                int max = AnnotationUtils.parseAnnotationValue(elements, annotation, "max");
+                if (min < 0 || max < min) {
+                    throw new ProcessingErrorException("@Size requires 0 <= min <= max, but min was %d and max was %d".formatted(min, max), parameter, annotation);
+                }
+                constraints.add(new Constraint.Size(min, max));
+            } else if (annotationType.equals(JsonTypes.rangeAnnotation)) {
+                if (kind != ValueKind.INTEGRAL && kind != ValueKind.FLOATING && kind != ValueKind.BIG_DECIMAL && kind != ValueKind.BIG_INTEGER) {
+                    throw unsupported(parameter, annotation, valueType);
+                }
+                double from = AnnotationUtils.parseAnnotationValue(elements, annotation, "from");
+                double to = AnnotationUtils.parseAnnotationValue(elements, annotation, "to");
+                VariableElement boundary = AnnotationUtils.parseAnnotationValue(elements, annotation, "boundary");
+                if (to < from) {
+                    throw new ProcessingErrorException("@Range requires from <= to, but from was %s and to was %s".formatted(from, to), parameter, annotation);
+                }
+                constraints.add(new Constraint.Range(from, to, boundary.getSimpleName().toString()));
+            } else if (annotationType.equals(JsonTypes.patternAnnotation)) {
+                if (kind != ValueKind.STRING) {
+                    throw unsupported(parameter, annotation, valueType);
+                }
+                String regex = AnnotationUtils.parseAnnotationValue(elements, annotation, "value");
+                int flags = AnnotationUtils.parseAnnotationValue(elements, annotation, "flags");
+                constraints.add(new Constraint.Pattern(regex, flags));
+            } else if (annotationType.equals(JsonTypes.notBlankAnnotation)) {
+                if (kind != ValueKind.STRING) {
+                    throw unsupported(parameter, annotation, valueType);
+                }
+                constraints.add(new Constraint.NotBlank());
+            }
+        }
+        TypeMirror arrayElement = null;
+        var isList = valueType instanceof DeclaredType dt
+            && ((TypeElement) dt.asElement()).getQualifiedName().contentEquals(List.class.getCanonicalName())
+            && dt.getTypeArguments().size() == 1
+            && dt.getTypeArguments().get(0).getKind() != TypeKind.WILDCARD;
+        if (isList && field.reader() == null && !field.typeMeta().isJsonNullable() && constraints.stream().anyMatch(c -> c instanceof Constraint.Size)) {
+            arrayElement = ((DeclaredType) valueType).getTypeArguments().get(0);
+        }
+        return new FieldValidation(field, kind, constraints, arrayElement);
+    }
+
+    private static ProcessingErrorException unsupported(VariableElement parameter, AnnotationMirror annotation, TypeMirror valueType) {
+        return new ProcessingErrorException("@%s is not supported by json reader validation for type %s"
+            .formatted(annotation.getAnnotationType().asElement().getSimpleName(), valueType), parameter, annotation);
+    }
+
+    private static Element findAnnotatedElement(TypeElement jsonClass, VariableElement parameter) {
+        for (var annotation : parameter.getAnnotationMirrors()) {
+            if (isConstraint(annotation)) {
+                return parameter;
+            }
+        }
+        for (var e : jsonClass.getEnclosedElements()) {
+            if (e.getKind() == ElementKind.FIELD && e.getSimpleName().contentEquals(parameter.getSimpleName())) {
+                return e;
+            }
+        }
+        return parameter;
+    }
+
+    private static boolean isConstraint(AnnotationMirror annotation) {
+        var annotationType = ClassName.get((TypeElement) annotation.getAnnotationType().asElement());
+        return annotationType.equals(JsonTypes.sizeAnnotation)
+            || annotationType.equals(JsonTypes.rangeAnnotation)
+            || annotationType.equals(JsonTypes.patternAnnotation)
+            || annotationType.equals(JsonTypes.notBlankAnnotation);
+    }
+
+    private static ValueKind valueKind(Types types, Elements elements, FieldMeta field, TypeMirror valueType) {
+        if (field.typeMeta() instanceof KnownTypeReaderMeta knownType) {
+            return switch (knownType.knownType()) {
+                case STRING -> ValueKind.STRING;
+                case SHORT_OBJECT, SHORT_PRIMITIVE, INTEGER_OBJECT, INTEGER_PRIMITIVE, LONG_OBJECT, LONG_PRIMITIVE -> ValueKind.INTEGRAL;
+                case FLOAT_OBJECT, FLOAT_PRIMITIVE, DOUBLE_OBJECT, DOUBLE_PRIMITIVE -> ValueKind.FLOATING;
+                case BIG_DECIMAL -> ValueKind.BIG_DECIMAL;
+                case BIG_INTEGER -> ValueKind.BIG_INTEGER;
+                default -> ValueKind.OTHER;
+            };
+        }
+        var erasure = types.erasure(valueType);
+        if (types.isAssignable(erasure, types.erasure(elements.getTypeElement(Collection.class.getCanonicalName()).asType()))) {
+            return ValueKind.COLLECTION;
+        }
+        if (types.isAssignable(erasure, types.erasure(elements.getTypeElement(Map.class.getCanonicalName()).asType()))) {
+            return ValueKind.MAP;
+        }
+        if (types.isAssignable(erasure, elements.getTypeElement(CharSequence.class.getCanonicalName()).asType())) {
+            return ValueKind.STRING;
+        }
+        return ValueKind.OTHER;
+    }
+
+    private FieldValidation field(FieldMeta field) {
+        return this.fields.get(field.parameter().getSimpleName().toString());
+    }
+
+    /**
+     * @return true if field is read as list element by element with {@link #addReadArray}
+     */
+    boolean isArray(FieldMeta field) {
+        return this.field(field).isArray();
+    }
+
+    TypeMirror arrayElement(FieldMeta field) {
+        return Objects.requireNonNull(this.field(field).arrayElement());
+    }
+
+    /**
+     * @return true if field read method accepts list of collected violations
+     */
+    boolean hasViolationsParameter(FieldMeta field) {
+        var validation = this.field(field);
+        return !this.failFast && (validation.isNested() || validation.isArray());
+    }
+
+    void addViolationsParameter(MethodSpec.Builder method, FieldMeta field) {
+        if (this.hasViolationsParameter(field)) {
+            method.addParameter(ParameterizedTypeName.get(ClassName.get(List.class), JsonTypes.violation), "__violations");
+        }
+    }
+
+    CodeBlock readArguments(FieldMeta field) {
+        return this.hasViolationsParameter(field)
+            ? CodeBlock.of(", __violations")
+            : CodeBlock.of("");
+    }
+
+    void addViolationsVariable(MethodSpec.Builder method) {
+        if (!this.failFast) {
+            method.addStatement("var __violations = new $T<$T>(0)", ArrayList.class, JsonTypes.violation);
+        }
+    }
+
+    /**
+     * @return code that checks value of field right after it was read
+     */
+    CodeBlock validateField(FieldMeta field) {
+        if (!this.field(field).hasChecks()) {
+            return CodeBlock.of("");
+        }
+        return this.failFast
+            ? CodeBlock.of("this.$L($L);\n", validateMethodName(field), field.parameter().getSimpleName())
+            : CodeBlock.of("this.$L($L, __violations);\n", validateMethodName(field), field.parameter().getSimpleName());
+    }
+
+    /**
+     * @return code that throws collected violations before object is created
+     */
+    CodeBlock throwCollected() {
+        if (this.failFast) {
+            return CodeBlock.of("");
+        }
+        return CodeBlock.of("if (!__violations.isEmpty()) $>\nthrow new $T(__violations);$<\n", JsonTypes.violationException);
+    }
+
+    /**
+     * @return return statement of nested reader call, violations thrown by nested reader get field name as path prefix
+     */
+    CodeBlock readNested(FieldMeta field, CodeBlock returnStatement) {
+        if (!this.field(field).isNested()) {
+            return returnStatement;
+        }
+        return CodeBlock.builder()
+            .beginControlFlow("try")
+            .add(returnStatement)
+            .nextControlFlow("catch ($T __e)", JsonTypes.violationException)
+            .add(this.nestedViolations(CodeBlock.of("$S", field.parameter().getSimpleName().toString())))
+            .endControlFlow()
+            .build();
+    }
+
+    private CodeBlock nestedViolations(CodeBlock path) {
+        if (this.failFast) {
+            return CodeBlock.of("throw new $T(_violations($L, __e));\n", JsonTypes.violationException, path);
+        }
+        return CodeBlock.of("__violations.addAll(_violations($L, __e));\nthrow new $T(__violations);\n", path, JsonTypes.violationException);
+    }
+
+    /**
+     * Reads list element by element and stops reading elements once list has reached its maximum size,
+     * remaining elements are only skipped and counted for violation message
+     */
+    void addReadArray(MethodSpec.Builder method, FieldMeta field, String elementReaderName) {
+        var validation = this.field(field);
+        var size = validation.size();
+        var name = field.parameter().getSimpleName().toString();
+        method.addCode("""
+            if (__token != $T.START_ARRAY)
+              throw new $T(__parser, $S + __token);
+            """, JsonTypes.jsonToken, JsonTypes.jsonParseException, "Expecting [START_ARRAY] token for field '%s', got ".formatted(field.jsonName()));
+        method.addStatement("var __result = new $T<$T>()", ArrayList.class, TypeName.get(validation.arrayElement()));
+        method.addStatement("__token = __parser.nextToken()");
+        method.beginControlFlow("while (__token != $T.END_ARRAY)", JsonTypes.jsonToken);
+        method.beginControlFlow("if (__result.size() == $L)", size.max());
+        method.addStatement("var __size = __result.size()");
+        method.beginControlFlow("while (__token != $T.END_ARRAY)", JsonTypes.jsonToken);
+        method.addStatement("__parser.skipChildren()");
+        method.addStatement("__size++");
+        method.addStatement("__token = __parser.nextToken()");
+        method.endControlFlow();
+        method.addCode(this.violation(name, CodeBlock.of("$S + __size", sizeMessage(validation, size, "greater"))));
+        if (!this.failFast) {
+            method.addStatement("return __result");
+        }
+        method.endControlFlow();
+        method.beginControlFlow("try");
+        method.addStatement("__result.add($L.read(__parser))", elementReaderName);
+        method.nextControlFlow("catch ($T __e)", JsonTypes.violationException);
+        method.addCode(this.nestedViolations(CodeBlock.of("$S + __result.size() + $S", name + ".[", "]")));
+        method.endControlFlow();
+        method.addStatement("__token = __parser.nextToken()");
+        method.endControlFlow();
+        if (size.min() > 0) {
+            method.beginControlFlow("if (__result.size() < $L)", size.min());
+            method.addCode(this.violation(name, CodeBlock.of("$S + __result.size()", sizeMessage(validation, size, "smaller"))));
+            method.endControlFlow();
+        }
+        method.addStatement("return __result");
+    }
+
+    void addMembers(TypeSpec.Builder typeBuilder) {
+        for (var validation : this.fields.values()) {
+            if (validation.hasChecks()) {
+                this.addConstants(typeBuilder, validation);
+                typeBuilder.addMethod(this.validateMethod(validation));
+            }
+        }
+        typeBuilder.addMethod(MethodSpec.methodBuilder("_violation")
+            .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+            .addParameter(String.class, "path")
+            .addParameter(String.class, "message")
+            .returns(JsonTypes.violation)
+            .addStatement("return $T.full().addPath(path).violates(message)", JsonTypes.validationContext)
+            .build());
+        typeBuilder.addMethod(MethodSpec.methodBuilder("_violations")
+            .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+            .addParameter(String.class, "path")
+            .addParameter(JsonTypes.violationException, "exception")
+            .returns(ParameterizedTypeName.get(ClassName.get(List.class), JsonTypes.violation))
+            .addStatement("var violations = new $T<$T>(exception.getViolations().size())", ArrayList.class, JsonTypes.violation)
+            .beginControlFlow("for (var violation : exception.getViolations())")
+            .addStatement("var nestedPath = violation.path().full()")
+            .addStatement("violations.add(_violation(nestedPath.isEmpty() ? path : path + \".\" + nestedPath, violation.message()))")
+            .endControlFlow()
+            .addStatement("return violations")
+            .build());
+    }
+
+    private void addConstants(TypeSpec.Builder typeBuilder, FieldValidation validation) {
+        var name = validation.field().parameter().getSimpleName().toString();
+        for (var constraint : validation.constraints()) {
+            if (constraint instanceof Constraint.Pattern pattern) {
+                typeBuilder.addField(FieldSpec.builder(java.util.regex.Pattern.class, "_" + name + "_pattern", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                    .initializer("$T.compile($S, $L)", java.util.regex.Pattern.class, pattern.regex(), pattern.flags())
+                    .build());
+            } else if (constraint instanceof Constraint.Range range && (validation.kind() == ValueKind.BIG_DECIMAL || validation.kind() == ValueKind.BIG_INTEGER)) {
+                var type = validation.kind() == ValueKind.BIG_DECIMAL ? BigDecimal.class : BigInteger.class;
+                var suffix = validation.kind() == ValueKind.BIG_DECIMAL ? "" : ".toBigInteger()";
+                typeBuilder.addField(FieldSpec.builder(type, "_" + name + "_range_from", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                    .initializer("$T.valueOf($L)$L", BigDecimal.class, doubleLiteral(range.from()), suffix)
+                    .build());
+                typeBuilder.addField(FieldSpec.builder(type, "_" + name + "_range_to", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                    .initializer("$T.valueOf($L)$L", BigDecimal.class, doubleLiteral(range.to()), suffix)
+                    .build());
+            }
+        }
+    }
+
+    private MethodSpec validateMethod(FieldValidation validation) {
+        var field = validation.field();
+        var name = field.parameter().getSimpleName().toString();
+        var method = MethodSpec.methodBuilder(validateMethodName(field))
+            .addModifiers(Modifier.PRIVATE)
+            .addParameter(field.typeName(), name);
+        if (!this.failFast) {
+            method.addParameter(ParameterizedTypeName.get(ClassName.get(List.class), JsonTypes.violation), "__violations");
+        }
+        if (field.typeMeta() != null && field.typeMeta().isJsonNullable()) {
+            method.beginControlFlow("if ($L == null || !$L.isDefined() || $L.isNull())", name, name, name);
+            method.addStatement("return");
+            method.endControlFlow();
+            method.addStatement("var __value = $L.value()", name);
+        } else {
+            if (!field.parameter().asType().getKind().isPrimitive()) {
+                method.beginControlFlow("if ($L == null)", name);
+                method.addStatement("return");
+                method.endControlFlow();
+            }
+            method.addStatement("var __value = $L", name);
+        }
+        for (var constraint : validation.constraints()) {
+            if (constraint instanceof Constraint.Size size) {
+                var sizeValue = validation.kind() == ValueKind.STRING ? "__value.length()" : "__value.size()";
+                method.beginControlFlow("if ($L < $L)", sizeValue, size.min());
+                method.addCode(this.violation(name, CodeBlock.of("$S + $L", sizeMessage(validation, size, "smaller"), sizeValue)));
+                method.nextControlFlow("else if ($L > $L)", sizeValue, size.max());
+                method.addCode(this.violation(name, CodeBlock.of("$S + $L", sizeMessage(validation, size, "greater"), sizeValue)));
+                method.endControlFlow();
+            } else if (constraint instanceof Constraint.Range range) {
+                var prefix = "Should be in range from '%s' to '%s', but was ".formatted(rangeBound(validation.kind(), range.from()), rangeBound(validation.kind(), range.to()));
+                var fromExclusive = range.boundary().startsWith("EXCLUSIVE");
+                var toExclusive = range.boundary().endsWith("_EXCLUSIVE");
+                final CodeBlock smaller;
+                final CodeBlock greater;
+                if (validation.kind() == ValueKind.BIG_DECIMAL || validation.kind() == ValueKind.BIG_INTEGER) {
+                    smaller = CodeBlock.of("__value.compareTo(_$L_range_from) $L 0", name, fromExclusive ? "<=" : "<");
+                    greater = CodeBlock.of("__value.compareTo(_$L_range_to) $L 0", name, toExclusive ? ">=" : ">");
+                } else if (validation.kind() == ValueKind.INTEGRAL) {
+                    smaller = CodeBlock.of("__value $L $LL", fromExclusive ? "<=" : "<", (long) range.from());
+                    greater = CodeBlock.of("__value $L $LL", toExclusive ? ">=" : ">", (long) range.to());
+                } else {
+                    smaller = CodeBlock.of("__value $L $L", fromExclusive ? "<=" : "<", doubleLiteral(range.from()));
+                    greater = CodeBlock.of("__value $L $L", toExclusive ? ">=" : ">", doubleLiteral(range.to()));
+                }
+                method.beginControlFlow("if ($L)", smaller);
+                method.addCode(this.violation(name, CodeBlock.of("$S + __value", prefix + "smaller: ")));
+                method.nextControlFlow("else if ($L)", greater);
+                method.addCode(this.violation(name, CodeBlock.of("$S + __value", prefix + "greater: ")));
+                method.endControlFlow();
+            } else if (constraint instanceof Constraint.Pattern pattern) {
+                method.beginControlFlow("if (!_$L_pattern.matcher(__value).matches())", name);
+                method.addCode(this.violation(name, CodeBlock.of("$S + __value", "Should match RegEx " + pattern.regex() + " but was: ")));
+                method.endControlFlow();
+            } else if (constraint instanceof Constraint.NotBlank) {
+                method.beginControlFlow("if (__value.isEmpty())");
+                method.addCode(this.violation(name, CodeBlock.of("$S", "Should be not blank, but was empty")));
+                method.nextControlFlow("else if (__value.toString().isBlank())");
+                method.addCode(this.violation(name, CodeBlock.of("$S", "Should be not blank, but was blank")));
+                method.endControlFlow();
+            }
+        }
+        return method.build();
+    }
+
+    private CodeBlock violation(String path, CodeBlock message) {
+        if (this.failFast) {
+            return CodeBlock.of("throw new $T(_violation($S, $L));\n", JsonTypes.violationException, path, message);
+        }
+        return CodeBlock.of("__violations.add(_violation($S, $L));\n", path, message);
+    }
+
+    private static String sizeMessage(FieldValidation validation, Constraint.Size size, String comparison) {
+        var subject = validation.kind() == ValueKind.STRING ? "Length" : "Size";
+        return "%s should be in range from '%d' to '%d', but was %s: ".formatted(subject, size.min(), size.max(), comparison);
+    }
+
+    private static String rangeBound(ValueKind kind, double value) {
+        return switch (kind) {
+            case INTEGRAL -> Long.toString((long) value);
+            case BIG_DECIMAL -> BigDecimal.valueOf(value).toString();
+            case BIG_INTEGER -> BigDecimal.valueOf(value).toBigInteger().toString();
+            default -> Double.toString(value);
+        };
+    }
+
+    private static CodeBlock doubleLiteral(double value) {
+        if (value == Double.POSITIVE_INFINITY) {
+            return CodeBlock.of("$T.POSITIVE_INFINITY", Double.class);
+        }
+        if (value == Double.NEGATIVE_INFINITY) {
+            return CodeBlock.of("$T.NEGATIVE_INFINITY", Double.class);
+        }
+        return CodeBlock.of("$Ld", Double.toString(value));
+    }
+
+    private static String validateMethodName(FieldMeta field) {
+        return "validate_" + field.parameter().getSimpleName();
+    }
+}
@@ -15,6 +15,7 @@ import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
 
 import static ru.tinkoff.kora.annotation.processor.common.CommonUtils.decapitalize;
 
@@ -48,6 +49,12 @@ public class SealedInterfaceReaderGenerator {
         if (discriminatorField == null) {
             discriminatorField = "@type";
         }
+        typeBuilder.addField(FieldSpec.builder(JsonTypes.serializedString, "DISCRIMINATOR_FIELD", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+            .initializer("new $T($S)", JsonTypes.serializedString, discriminatorField)
+            .build());
+        typeBuilder.addField(FieldSpec.builder(LongAdder.class, "OUT_OF_ORDER_READS", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+            .initializer("$T.outOfOrderReads($T.class)", JsonTypes.discriminatorHelper, ClassName.get(jsonElement))
+            .build());
         var method = MethodSpec.methodBuilder("read")
             .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
             .addException(IOException.class)
@@ -55,24 +62,43 @@ public class SealedInterfaceReaderGenerator {
             .returns(ClassName.get(jsonElement))
             .addAnnotation(Override.class)
             .addAnnotation(CommonClassNames.nullable);
-        method.beginControlFlow("if (__parser.currentToken() == $T.VALUE_NULL)", JsonTypes.jsonToken)
+        method.addStatement("var __token = __parser.currentToken()");
+        method.beginControlFlow("if (__token == $T.VALUE_NULL)", JsonTypes.jsonToken)
             .addStatement("return null")
             .endControlFlow();
-        method.addCode("var bufferingParser = new $T(__parser);\n", JsonTypes.bufferingJsonParser);
-        method.addCode("var discriminator = $T.readStringDiscriminator(bufferingParser, $S);\n", JsonTypes.discriminatorHelper, discriminatorField);
+        method.beginControlFlow("if (__token != $T.START_OBJECT)", JsonTypes.jsonToken)
+            .addStatement("throw new $T(__parser, $S)", JsonTypes.jsonParseException, "Expected start of object for discriminator field " + discriminatorField)
+            .endControlFlow();
+        method.beginControlFlow("if (__parser.nextFieldName(DISCRIMINATOR_FIELD))")
+            .addStatement("var discriminator = $T.readStringDiscriminatorValue(__parser)", JsonTypes.discriminatorHelper)
+            .addStatement("return this.read(__parser, new $T(__parser, DISCRIMINATOR_FIELD, discriminator), discriminator)", JsonTypes.discriminatorFirstJsonParser)
+            .endControlFlow();
+        method.addStatement("OUT_OF_ORDER_READS.increment()");
+        method.addCode("var bufferingParser = new $T(__parser, $T.START_OBJECT);\n", JsonTypes.bufferingJsonParser, JsonTypes.jsonToken);
+        method.addCode("var discriminator = $T.readStringDiscriminatorAfterFirstField(bufferingParser, DISCRIMINATOR_FIELD);\n", JsonTypes.discriminatorHelper);
         method.addCode("if (discriminator == null) throw new $T(__parser, $S);\n", JsonTypes.jsonParseException, "Discriminator required, but not provided");
         method.addCode("var bufferedParser = $T.createFlattened(false, bufferingParser.reset(), __parser);\n", JsonTypes.jsonParserSequence);
         method.addCode("bufferedParser.nextToken();\n");
-        method.addCode("return switch(discriminator) {$>\n");
+        method.addStatement("return this.read(__parser, bufferedParser, discriminator)");
+        typeBuilder.addMethod(method.build());
+
+        var dispatch = MethodSpec.methodBuilder("read")
+            .addModifiers(Modifier.PRIVATE)
+            .addException(IOException.class)
+            .addParameter(JsonTypes.jsonParser, "__parser")
+            .addParameter(JsonTypes.jsonParser, "subtypeParser")
+            .addParameter(String.class, "discriminator")
+            .returns(ClassName.get(jsonElement));
+        dispatch.addCode("return switch(discriminator) {$>\n");
         for (var elem : permittedSubclasses) {
             var readerName = getReaderFieldName(elem);
             var discriminatorValues = JsonUtils.discriminatorValue(elem);
             for (var discriminatorValue : discriminatorValues) {
-                method.addCode("case $S -> $L.read(bufferedParser);\n", discriminatorValue, readerName);
+                dispatch.addCode("case $S -> $L.read(subtypeParser);\n", discriminatorValue, readerName);
             }
         }
-        method.addCode("default -> throw new $T(__parser, $S + discriminator + \"'\");$<\n};", JsonTypes.jsonParseException, "Unknown discriminator: '");
-        typeBuilder.addMethod(method.build());
+        dispatch.addCode("default -> throw new $T(__parser, $S + discriminator + \"'\");$<\n};", JsonTypes.jsonParseException, "Unknown discriminator: '");
+        typeBuilder.addMethod(dispatch.build());
 
         return typeBuilder.build();
     }
@@ -42,6 +42,14 @@ public class EnumWriterGenerator {
             .addCode("this.delegate.write(_gen, _object);\n")
             .build()
         );
+        typeBuilder.addMethod(MethodSpec.methodBuilder("estimateSize")
+            .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+            .addParameter(ParameterSpec.builder(typeName, "_object").addAnnotation(Nullable.class).build())
+            .returns(TypeName.INT)
+            .addAnnotation(Override.class)
+            .addStatement("return this.delegate.estimateSize(_object)")
+            .build()
+        );
         return typeBuilder.build();
     }
 
@@ -15,12 +15,15 @@ import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.util.Types;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 public class JsonWriterGenerator {
     private final Types types;
+    private final boolean bytesEnabled;
 
     public JsonWriterGenerator(ProcessingEnvironment processingEnvironment) {
         this.types = processingEnvironment.getTypeUtils();
+        this.bytesEnabled = JsonUtils.bytesEnabled(processingEnvironment);
     }
 
     @Nullable
@@ -67,9 +70,103 @@ public class JsonWriterGenerator {
         method.addStatement("_gen.writeEndObject()");
 
         typeBuilder.addMethod(method.build());
+        this.addEstimateSize(typeBuilder, meta, discriminatorField);
+        if (this.bytesEnabled && isByteWritable(meta)) {
+            this.addByteWriteMethods(typeBuilder, meta, discriminatorField);
+        }
         return typeBuilder.build();
     }
 
+    private static boolean isByteWritable(JsonClassWriterMeta meta) {
+        for (var field : meta.fields()) {
+            if (field.writer() != null || field.writerTypeMeta().isJsonNullable()) {
+                return false;
+            }
+            if (isRawJson(field)) {
+                continue;
+            }
+            if (!(field.writerTypeMeta() instanceof WriterFieldType.KnownWriterFieldType typeMeta)) {
+                return false;
+            }
+            var supported = switch (typeMeta.knownType()) {
+                case STRING, UUID, BOOLEAN_OBJECT, BOOLEAN_PRIMITIVE, SHORT_OBJECT, SHORT_PRIMITIVE,
+                     INTEGER_OBJECT, INTEGER_PRIMITIVE, LONG_OBJECT, LONG_PRIMITIVE -> true;
+                default -> false;
+            };
+            if (!supported) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isRawJson(FieldMeta field) {
+        return field.writerTypeMeta() instanceof WriterFieldType.UnknownWriterFieldType typeMeta && TypeName.get(typeMeta.typeMirror()).equals(JsonTypes.rawJson);
+    }
+
+    private void addByteWriteMethods(TypeSpec.Builder typeBuilder, JsonClassWriterMeta meta, @Nullable String discriminatorField) {
+        var typeName = TypeName.get(meta.typeMirror());
+        for (var field : meta.fields()) {
+            typeBuilder.addField(FieldSpec.builder(ArrayTypeName.of(TypeName.BYTE), this.jsonNameBytesStaticName(field), Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("$T.fieldName($S)", JsonTypes.jsonByteWriter, field.jsonName())
+                .build());
+        }
+        typeBuilder.addMethod(MethodSpec.methodBuilder("toByteArray")
+            .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+            .addException(IOException.class)
+            .addParameter(ParameterSpec.builder(typeName, "_value").addAnnotation(Nullable.class).build())
+            .returns(ArrayTypeName.of(TypeName.BYTE))
+            .addAnnotation(Override.class)
+            .addStatement("var _writer = new $T(this.estimateSize(_value))", JsonTypes.jsonByteWriter)
+            .addStatement("this.write(_writer, _value)")
+            .addStatement("return _writer.toByteArray()")
+            .build());
+
+        var method = MethodSpec.methodBuilder("write")
+            .addModifiers(Modifier.PRIVATE)
+            .addException(IOException.class)
+            .addParameter(JsonTypes.jsonByteWriter, "_writer")
+            .addParameter(ParameterSpec.builder(typeName, "_object").addAnnotation(Nullable.class).build());
+        method.addCode("if (_object == null) {$>\n_writer.writeNull();\nreturn;$<\n}\n");
+        method.addStatement("_writer.writeStartObject()");
+        if (discriminatorField != null && meta.fields().stream().noneMatch(f -> f.jsonName().equals(discriminatorField))) {
+            typeBuilder.addField(FieldSpec.builder(ArrayTypeName.of(TypeName.BYTE), "_discriminator_field_name_bytes", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("$T.fieldName($S)", JsonTypes.jsonByteWriter, discriminatorField)
+                .build());
+            method.addStatement("_writer.writeFieldName(_discriminator_field_name_bytes)");
+            method.addStatement("_writer.writeString($S)", JsonUtils.discriminatorValue(meta.typeElement()).get(0));
+        }
+        for (var field : meta.fields()) {
+            var value = CodeBlock.of("_object.$L", field.accessor());
+            var write = isRawJson(field)
+                ? CodeBlock.of("_writer.writeRaw($L)", value)
+                : switch (((WriterFieldType.KnownWriterFieldType) field.writerTypeMeta()).knownType()) {
+                    case STRING -> CodeBlock.of("_writer.writeString($L)", value);
+                    case UUID -> CodeBlock.of("_writer.writeString($L.toString())", value);
+                    case BOOLEAN_OBJECT, BOOLEAN_PRIMITIVE -> CodeBlock.of("_writer.writeBoolean($L)", value);
+                    default -> CodeBlock.of("_writer.writeNumber($L)", value);
+                };
+            if (field.typeMirror().getKind().isPrimitive()) {
+                method.addStatement("_writer.writeFieldName($L)", this.jsonNameBytesStaticName(field));
+                method.addStatement(write);
+            } else if (field.includeType() == JsonClassWriterMeta.IncludeType.ALWAYS) {
+                method.addStatement("_writer.writeFieldName($L)", this.jsonNameBytesStaticName(field));
+                method.beginControlFlow("if ($L == null)", value);
+                method.addStatement("_writer.writeNull()");
+                method.nextControlFlow("else");
+                method.addStatement(write);
+                method.endControlFlow();
+            } else {
+                method.beginControlFlow("if ($L != null)", value);
+                method.addStatement("_writer.writeFieldName($L)", this.jsonNameBytesStaticName(field));
+                method.addStatement(write);
+                method.endControlFlow();
+            }
+        }
+        method.addStatement("_writer.writeEndObject()");
+        typeBuilder.addMethod(method.build());
+    }
+
 
     private void addWriters(TypeSpec.Builder typeBuilder, JsonClassWriterMeta classMeta) {
         var constructor = MethodSpec.constructorBuilder()
@@ -178,6 +275,75 @@ public class JsonWriterGenerator {
         }
     }
 
+    private void addEstimateSize(TypeSpec.Builder typeBuilder, JsonClassWriterMeta meta, @Nullable String discriminatorField) {
+        var method = MethodSpec.methodBuilder("estimateSize")
+            .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+            .addParameter(ParameterSpec.builder(TypeName.get(meta.typeMirror()), "_object").addAnnotation(Nullable.class).build())
+            .returns(TypeName.INT)
+            .addAnnotation(Override.class);
+        method.addCode("if (_object == null) {$>\nreturn 4;$<\n}\n");
+        // braces, quoted field names with colons and commas, and values of fixed size types are summed up at compile time
+        var fixedSize = 2;
+        if (discriminatorField != null && meta.fields().stream().noneMatch(f -> f.jsonName().equals(discriminatorField))) {
+            fixedSize += utf8Length(discriminatorField) + 4 + utf8Length(JsonUtils.discriminatorValue(meta.typeElement()).get(0)) + 2;
+        }
+        var variableSize = CodeBlock.builder();
+        for (var field : meta.fields()) {
+            fixedSize += utf8Length(field.jsonName()) + 4;
+            var value = CodeBlock.of("_object.$L", field.accessor());
+            if (field.writer() == null && field.writerTypeMeta() instanceof WriterFieldType.KnownWriterFieldType typeMeta) {
+                var knownSize = switch (typeMeta.knownType()) {
+                    case BOOLEAN_OBJECT, BOOLEAN_PRIMITIVE -> 5;
+                    case SHORT_OBJECT, SHORT_PRIMITIVE -> 6;
+                    case INTEGER_OBJECT, INTEGER_PRIMITIVE -> 11;
+                    case LONG_OBJECT, LONG_PRIMITIVE -> 20;
+                    case DOUBLE_OBJECT, DOUBLE_PRIMITIVE, FLOAT_OBJECT, FLOAT_PRIMITIVE -> 24;
+                    case BIG_INTEGER, BIG_DECIMAL -> 32;
+                    case UUID -> 38;
+                    case STRING, BINARY -> typeMeta.isJsonNullable() ? 16 : -1;
+                };
+                if (knownSize >= 0) {
+                    fixedSize += knownSize;
+                } else if (typeMeta.knownType() == KnownType.KnownTypesEnum.STRING) {
+                    // escaping and multibyte chars are not counted
+                    variableSize.addStatement("_size += $L == null ? 4 : $L.length() + 2", value, value);
+                } else {
+                    variableSize.addStatement("_size += $L == null ? 4 : ($L.length + 2) / 3 * 4 + 2", value, value);
+                }
+                continue;
+            }
+            var sizeVariable = "_" + field.field().getSimpleName() + "_size";
+            if (field.writerTypeMeta().isJsonNullable()) {
+                variableSize.beginControlFlow("if ($L.isDefined())", value);
+                value = CodeBlock.of("$L.value()", value);
+            }
+            variableSize.addStatement("var $L = $L.estimateSize($L)", sizeVariable, this.writerFieldName(field), value);
+            variableSize.beginControlFlow("if ($L < 0)", sizeVariable);
+            variableSize.addStatement("return -1");
+            variableSize.endControlFlow();
+            variableSize.addStatement("_size += $L", sizeVariable);
+            if (field.writerTypeMeta().isJsonNullable()) {
+                variableSize.endControlFlow();
+            }
+        }
+        if (variableSize.isEmpty()) {
+            method.addStatement("return $L", fixedSize);
+        } else {
+            method.addStatement("var _size = $L", fixedSize);
+            method.addCode(variableSize.build());
+            method.addStatement("return _size");
+        }
+        typeBuilder.addMethod(method.build());
+    }
+
+    private static int utf8Length(String value) {
+        return value.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private String jsonNameBytesStaticName(FieldMeta field) {
+        return "_" + field.field().getSimpleName().toString() + "_field_name_bytes";
+    }
+
     private String jsonNameStaticName(FieldMeta field) {
         return "_" + field.field().getSimpleName().toString() + "_optimized_field_name";
     }
@@ -62,6 +62,23 @@ public class SealedInterfaceWriterGenerator {
             .addStatement("throw new $T($S)", IllegalStateException.class, "Unsupported class")
             .endControlFlow();
         typeBuilder.addMethod(method.build());
+
+        var estimateSize = MethodSpec.methodBuilder("estimateSize")
+            .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+            .addParameter(ParameterSpec.builder(TypeName.get(jsonElement.asType()), "_object").addAnnotation(Nullable.class).build())
+            .returns(TypeName.INT)
+            .addAnnotation(Override.class);
+        estimateSize.beginControlFlow("if (_object == null)")
+            .addStatement("return 4");
+        for (var elem : jsonElements) {
+            var elemErasure = types.erasure(elem.asType());
+            estimateSize.nextControlFlow("else if (_object instanceof $T _o)", elemErasure)
+                .addStatement("return $L.estimateSize(_o)", getWriterFieldName(elem));
+        }
+        estimateSize.nextControlFlow("else")
+            .addStatement("return -1")
+            .endControlFlow();
+        typeBuilder.addMethod(estimateSize.build());
         return typeBuilder.build();
     }
 
@@ -0,0 +1,203 @@
+package ru.tinkoff.kora.json.annotation.processor;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import org.junit.jupiter.api.Test;
+import ru.tinkoff.kora.annotation.processor.common.TestUtils.ProcessorOptions;
+import ru.tinkoff.kora.json.common.RawJson;
+import ru.tinkoff.kora.json.common.RawJsonReader;
+import ru.tinkoff.kora.json.common.RawJsonWriter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class JsonBytesTest extends AbstractJsonAnnotationProcessorTest {
+    @Override
+    protected void compile(String... sources) {
+        var compileResult = compile(List.of(new JsonAnnotationProcessor()), List.of(ProcessorOptions.JSON_BYTES), sources);
+        if (compileResult.isFailed()) {
+            throw compileResult.compilationException();
+        }
+    }
+
+    @Test
+    public void testFlatRecord() throws Exception {
+        compile("""
+            @Json
+            public record TestRecord(int i, long l, short s, boolean b, String str, @Nullable Integer boxed, UUID uuid) {
+            }
+            """.replace("UUID", "java.util.UUID"));
+
+        var reader = reader("TestRecord");
+        assertThat(reader.getClass().getDeclaredMethod("read", byte[].class, int.class, int.class).getDeclaringClass()).isEqualTo(reader.getClass());
+
+        var uuid = UUID.randomUUID();
+        var mapper = mapper("TestRecord");
+        mapper.verify(newObject("TestRecord", 42, Long.MAX_VALUE, (short) -7, true, "te\"st\u0001ж", null, uuid),
+            "{\"i\":42,\"l\":9223372036854775807,\"s\":-7,\"b\":true,\"str\":\"te\\\"st\\u0001ж\",\"uuid\":\"" + uuid + "\"}");
+        mapper.verify(newObject("TestRecord", Integer.MIN_VALUE, Long.MIN_VALUE, (short) 0, false, "", 1234567890, uuid),
+            "{\"i\":-2147483648,\"l\":-9223372036854775808,\"s\":0,\"b\":false,\"str\":\"\",\"boxed\":1234567890,\"uuid\":\"" + uuid + "\"}");
+    }
+
+    @Test
+    public void testReadOutOfOrderAndUnknownFields() {
+        compile("""
+            @Json
+            public record TestRecord(long id, String name) {
+            }
+            """);
+
+        var mapper = mapper("TestRecord");
+        mapper.verifyRead("{ \"unknown\" : [1, {\"a\": \"}\"}, null], \"name\" : \"test\\n\\u0436\" ,\n \"id\" : 123456789012 }", newObject("TestRecord", 123456789012L, "test\nж"));
+        mapper.verifyRead("{\"id\":1,\"name\":\"test\",\"other\":{\"x\":[true,false,1.5e3]}}", newObject("TestRecord", 1L, "test"));
+        mapper.verifyRead("null", null);
+    }
+
+    @Test
+    public void testFallbackToParser() throws Exception {
+        compile("""
+            @Json
+            public record TestRecord(long id, String name) {
+            }
+            """);
+
+        var mapper = mapper("TestRecord");
+        // escaped field names and numbers with more than 18 digits are not handled by byte reader, but should still be read by parser
+        mapper.verifyRead("{\"\\u0069d\":1,\"name\":\"test\"}", newObject("TestRecord", 1L, "test"));
+        mapper.verifyRead("{\"id\":-9223372036854775807,\"name\":\"test\"}", newObject("TestRecord", -9223372036854775807L, "test"));
+
+        var reader = reader("TestRecord");
+        assertThatThrownBy(() -> reader.read("{\"id\":1e2,\"name\":\"test\"}".getBytes(StandardCharsets.UTF_8)))
+            .isInstanceOf(JsonParseException.class)
+            .hasMessageStartingWith("Expecting [VALUE_NUMBER_INT] token for field 'id', got VALUE_NUMBER_FLOAT");
+        assertThatThrownBy(() -> reader.read("{\"id\":1}".getBytes(StandardCharsets.UTF_8)))
+            .isInstanceOf(JsonParseException.class)
+            .hasMessageStartingWith("Some of required json fields were not received: name(name)");
+        assertThatThrownBy(() -> reader.read("{\"id\":1,\"name\":\"test\"".getBytes(StandardCharsets.UTF_8)))
+            .isInstanceOf(JsonParseException.class);
+        // trailing commas are rejected by parser
+        assertThatThrownBy(() -> reader.read("{\"id\":1,\"name\":\"test\",}".getBytes(StandardCharsets.UTF_8)))
+            .isInstanceOf(JsonParseException.class);
+        assertThatThrownBy(() -> reader.read("{\"id\":1,\"extra\":{\"a\":1 , },\"name\":\"test\"}".getBytes(StandardCharsets.UTF_8)))
+            .isInstanceOf(JsonParseException.class);
+    }
+
+    @Test
+    public void testMalformedUtf8IsReportedByParser() throws Exception {
+        compile("""
+            @Json
+            public record TestRecord(long id, String name) {
+            }
+            """);
+
+        var mapper = mapper("TestRecord");
+        mapper.verifyRead("{\"id\":1,\"name\":\"ж€\uD83D\uDE00\"}", newObject("TestRecord", 1L, "ж€\uD83D\uDE00"));
+
+        var reader = reader("TestRecord");
+        assertThatThrownBy(() -> reader.read(json("{\"id\":1,\"name\":\"te%sst\"}", new byte[]{(byte) 0xFF})))
+            .isInstanceOf(JsonParseException.class)
+            .hasMessageContaining("Invalid UTF-8");
+
+        var malformed = List.of(
+            new byte[]{(byte) 0xFF},
+            // overlong encoding of '/'
+            new byte[]{(byte) 0xC0, (byte) 0xAF},
+            // surrogate U+D800
+            new byte[]{(byte) 0xED, (byte) 0xA0, (byte) 0x80},
+            // above U+10FFFF
+            new byte[]{(byte) 0xF4, (byte) 0x90, (byte) 0x80, (byte) 0x80},
+            // truncated sequence
+            new byte[]{(byte) 0xE2, (byte) 0x82}
+        );
+        var templates = List.of(
+            "{\"id\":1,\"name\":\"te%sst\"}",
+            "{\"id\":1,\"name\":\"te\\n%sst\"}",
+            "{\"id\":1,\"other\":\"%s\",\"name\":\"test\"}"
+        );
+        // byte reader leaves malformed input to parser, so result is the same as parser result
+        for (var bytes : malformed) {
+            for (var template : templates) {
+                var json = json(template, bytes);
+                Object expected;
+                try {
+                    expected = reader.read(new ByteArrayInputStream(json));
+                } catch (JsonParseException e) {
+                    assertThatThrownBy(() -> reader.read(json))
+                        .isInstanceOf(JsonParseException.class)
+                        .hasMessage(e.getMessage());
+                    continue;
+                }
+                assertThat(reader.read(json)).isEqualTo(expected);
+            }
+        }
+    }
+
+    private static byte[] json(String template, byte[] bytes) {
+        var parts = template.split("%s");
+        var json = new ByteArrayOutputStream();
+        json.writeBytes(parts[0].getBytes(StandardCharsets.UTF_8));
+        json.writeBytes(bytes);
+        json.writeBytes(parts[1].getBytes(StandardCharsets.UTF_8));
+        return json.toByteArray();
+    }
+
+    @Test
+    public void testNotEligibleTypeIsGeneratedAsUsual() throws Exception {
+        compile("""
+            @Json
+            public record TestRecord(int id, double value) {
+            }
+            """);
+
+        var reader = reader("TestRecord");
+        assertThatThrownBy(() -> reader.getClass().getDeclaredMethod("read", byte[].class, int.class, int.class))
+            .isInstanceOf(NoSuchMethodException.class);
+        mapper("TestRecord").verify(newObject("TestRecord", 1, 1.5), "{\"id\":1,\"value\":1.5}");
+    }
+
+    @Test
+    public void testIncludeTypes() {
+        compile("""
+            @Json
+            public record TestRecord(@Nullable String first, @JsonInclude(IncludeType.ALWAYS) @Nullable String second, int third) {
+            }
+            """);
+
+        var mapper = mapper("TestRecord");
+        mapper.verifyWrite(newObject("TestRecord", null, null, 1), "{\"second\":null,\"third\":1}");
+        mapper.verifyWrite(newObject("TestRecord", "a", "b", 1), "{\"first\":\"a\",\"second\":\"b\",\"third\":1}");
+        mapper.verifyRead("{\"third\":1}", newObject("TestRecord", null, null, 1));
+    }
+
+    @Test
+    public void testRawJsonIsReadAsSlice() throws Exception {
+        compile("""
+            @Json
+            public record TestRecord(long id, ru.tinkoff.kora.json.common.RawJson payload, @Nullable ru.tinkoff.kora.json.common.RawJson extra) {
+            }
+            """);
+
+        var reader = reader("TestRecord", new RawJsonReader(), new RawJsonReader());
+        var writer = writer("TestRecord", new RawJsonWriter(), new RawJsonWriter());
+        var payload = "{\"a\": [1, {\"b\": \"]}\\\"\"}], \"c\": null}";
+        var json = ("{\"id\": 1, \"payload\": " + payload + ", \"extra\": null}").getBytes(StandardCharsets.UTF_8);
+
+        var value = reader.read(json);
+        var raw = (RawJson) value.getClass().getMethod("payload").invoke(value);
+        assertThat(raw.offset()).isEqualTo(("{\"id\": 1, \"payload\": ").length());
+        assertThat(raw.getValue()).isEqualTo(payload);
+        assertThat(value.getClass().getMethod("extra").invoke(value)).isNull();
+        assertThat(new String(writer.toByteArray(value), StandardCharsets.UTF_8)).isEqualTo("{\"id\":1,\"payload\":" + payload + "}");
+
+        // mismatched brackets are not accepted by scanner, parser reports them
+        assertThatThrownBy(() -> reader.read("{\"id\": 1, \"payload\": [1}".getBytes(StandardCharsets.UTF_8)))
+            .isInstanceOf(JsonParseException.class);
+        assertThatThrownBy(() -> reader.read("{\"id\": 1, \"payload\": null}".getBytes(StandardCharsets.UTF_8)))
+            .isInstanceOf(JsonParseException.class);
+    }
+}
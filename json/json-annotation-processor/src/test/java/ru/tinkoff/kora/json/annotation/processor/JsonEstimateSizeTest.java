@@ -0,0 +1,83 @@
+package ru.tinkoff.kora.json.annotation.processor;
+
+import org.junit.jupiter.api.Test;
+import ru.tinkoff.kora.json.common.JsonWriter;
+import ru.tinkoff.kora.json.common.ListJsonWriter;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JsonEstimateSizeTest extends AbstractJsonAnnotationProcessorTest {
+    @Test
+    public void testFlatRecord() throws IOException {
+        compile("""
+            @Json
+            public record TestRecord(int i, long l, boolean b, @Nullable String str, java.util.UUID uuid) {
+            }
+            """);
+
+        var writer = writer("TestRecord");
+        var value = newObject("TestRecord", 42, 1L, true, "some string", java.util.UUID.randomUUID());
+        var size = writer.toByteArray(value).length;
+
+        assertThat(writer.estimateSize(value)).isBetween(size, size * 2);
+        assertThat(writer.estimateSize(newObject("TestRecord", 42, 1L, true, null, java.util.UUID.randomUUID())))
+            .isEqualTo(writer.estimateSize(value) - "some string".length() + 2);
+        assertThat(writer.estimateSize(null)).isEqualTo(4);
+    }
+
+    @Test
+    public void testNestedWriters() throws IOException {
+        compile("""
+            @Json
+            public record Inner(String name) {
+            }
+            """, """
+            @Json
+            public record Outer(Inner inner, List<Inner> items, @Nullable List<Integer> numbers) {
+            }
+            """.replace("List", "java.util.List"));
+
+        var inner = writer("Inner");
+        var writer = writer("Outer", inner, new ListJsonWriter<>(inner), new ListJsonWriter<>((JsonWriter<Integer>) (gen, v) -> gen.writeNumber(v)));
+        var items = List.of(newObject("Inner", "a"), newObject("Inner", "bb"));
+
+        var value = newObject("Outer", newObject("Inner", "name"), items, null);
+        var size = writer.toByteArray(value).length;
+        assertThat(writer.estimateSize(value)).isBetween(size, size * 2);
+
+        // integer writer can't estimate its values, so nothing can be estimated
+        assertThat(writer.estimateSize(newObject("Outer", newObject("Inner", "name"), items, List.of(1, 2)))).isEqualTo(-1);
+    }
+
+    @Test
+    public void testSealedAndEnum() throws IOException {
+        compile("""
+            @Json
+            @JsonDiscriminatorField("@type")
+            public sealed interface TestInterface {
+                @Json
+                record Impl1(String value) implements TestInterface{}
+                @Json
+                record Impl2(int value) implements TestInterface{}
+            }
+            """, """
+            @Json
+            public enum TestEnum {
+                VALUE1, LONGER_VALUE
+            }
+            """);
+
+        var impl1 = writer("TestInterface_Impl1");
+        var writer = writer("TestInterface", impl1, writer("TestInterface_Impl2"));
+        var value = newObject("TestInterface$Impl1", "test");
+        assertThat(writer.estimateSize(value)).isEqualTo(impl1.estimateSize(value));
+        assertThat(writer.estimateSize(value)).isGreaterThanOrEqualTo(writer.toByteArray(value).length);
+
+        var enumWriter = writer("TestEnum", (JsonWriter<String>) (gen, v) -> gen.writeString(v));
+        var enumValue = compileResult.loadClass("TestEnum").getEnumConstants()[1];
+        assertThat(enumWriter.estimateSize(enumValue)).isEqualTo(enumWriter.toByteArray(enumValue).length);
+    }
+}
@@ -0,0 +1,173 @@
+package ru.tinkoff.kora.json.annotation.processor;
+
+import org.junit.jupiter.api.Test;
+import ru.tinkoff.kora.annotation.processor.common.TestUtils.ProcessorOptions;
+import ru.tinkoff.kora.json.common.JsonReader;
+import ru.tinkoff.kora.validation.common.Violation;
+import ru.tinkoff.kora.validation.common.ViolationException;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class JsonValidationTest extends AbstractJsonAnnotationProcessorTest {
+    @Override
+    protected String commonImports() {
+        return super.commonImports() + """
+            import ru.tinkoff.kora.validation.common.annotation.*;
+            import java.util.List;
+            """;
+    }
+
+    @Override
+    protected void compile(String... sources) {
+        compileWithOptions(List.of(ProcessorOptions.JSON_VALIDATION), sources);
+    }
+
+    private void compileWithOptions(List<ProcessorOptions> options, String... sources) {
+        var compileResult = compile(List.of(new JsonAnnotationProcessor()), options, sources);
+        if (compileResult.isFailed()) {
+            throw compileResult.compilationException();
+        }
+    }
+
+    @Test
+    public void testFailFast() {
+        compile("""
+            @Valid
+            @Json
+            public record TestRecord(@Size(min = 1, max = 5) String name,
+                                     @Range(from = 1, to = 10) int count,
+                                     @Nullable @Pattern("\\\\d+") String code,
+                                     @Nullable @NotBlank String comment) {
+            }
+            """);
+
+        var reader = reader("TestRecord");
+        assertThat(read(reader, "{\"name\":\"test\",\"count\":10,\"code\":\"123\"}")).isEqualTo(newObject("TestRecord", "test", 10, "123", null));
+
+        assertViolations(reader, "{\"name\":\"too long\",\"count\":0}",
+            "name: Length should be in range from '1' to '5', but was greater: 8");
+        assertViolations(reader, "{\"count\":11,\"name\":\"test\"}",
+            "count: Should be in range from '1' to '10', but was greater: 11");
+        assertViolations(reader, "{\"name\":\"test\",\"count\":1,\"code\":\"12a\"}",
+            "code: Should match RegEx \\d+ but was: 12a");
+        assertViolations(reader, "{\"name\":\"test\",\"count\":1,\"comment\":\"  \"}",
+            "comment: Should be not blank, but was blank");
+    }
+
+    @Test
+    public void testCollectViolations() {
+        compileWithOptions(List.of(ProcessorOptions.JSON_VALIDATION, ProcessorOptions.JSON_VALIDATION_FULL), """
+            @Valid
+            @Json
+            public record TestRecord(@Size(min = 1, max = 5) String name,
+                                     @Range(from = 1, to = 10, boundary = Range.Boundary.EXCLUSIVE_EXCLUSIVE) long count,
+                                     @Nullable @Size(max = 1) List<Integer> items) {
+            }
+            """);
+
+        var reader = reader("TestRecord", (JsonReader<Integer>) parser -> parser.getIntValue());
+        assertThat(read(reader, "{\"name\":\"test\",\"count\":9,\"items\":[1]}")).isEqualTo(newObject("TestRecord", "test", 9L, List.of(1)));
+
+        assertViolations(reader, "{\"name\":\"\",\"count\":10,\"items\":[1,2]}",
+            "name: Length should be in range from '1' to '5', but was smaller: 0",
+            "count: Should be in range from '1' to '10', but was greater: 10",
+            "items: Size should be in range from '0' to '1', but was greater: 2");
+    }
+
+    @Test
+    public void testOversizeArrayIsNotRead() {
+        compile("""
+            @Valid
+            @Json
+            public record TestRecord(@Size(min = 1, max = 2) List<Integer> items) {
+            }
+            """);
+
+        var elementsRead = new AtomicInteger();
+        var reader = reader("TestRecord", (JsonReader<Integer>) parser -> {
+            elementsRead.incrementAndGet();
+            return parser.getIntValue();
+        });
+
+        assertThat(read(reader, "{\"items\":[1,2]}")).isEqualTo(newObject("TestRecord", List.of(1, 2)));
+        elementsRead.set(0);
+
+        assertViolations(reader, "{\"items\":[1,2,3,[4,5],{\"6\":7}]}",
+            "items: Size should be in range from '1' to '2', but was greater: 5");
+        assertThat(elementsRead).hasValue(2);
+
+        assertViolations(reader, "{\"items\":[]}",
+            "items: Size should be in range from '1' to '2', but was smaller: 0");
+    }
+
+    @Test
+    public void testNestedViolationPath() {
+        compile("""
+            @Valid
+            @Json
+            public record Inner(@NotBlank String name) {
+            }
+            """, """
+            @Valid
+            @Json
+            public record Outer(Inner inner, @Size(max = 10) List<Inner> items) {
+            }
+            """);
+
+        var innerReader = reader("Inner");
+        var reader = reader("Outer", innerReader, innerReader);
+
+        assertViolations(reader, "{\"inner\":{\"name\":\"\"},\"items\":[]}",
+            "inner.name: Should be not blank, but was empty");
+        assertViolations(reader, "{\"inner\":{\"name\":\"a\"},\"items\":[{\"name\":\"b\"},{\"name\":\" \"}]}",
+            "items.[1].name: Should be not blank, but was blank");
+    }
+
+    @Test
+    public void testNotValidClassIsNotValidated() {
+        compile("""
+            @Json
+            public record TestRecord(@Size(max = 1) String name) {
+            }
+            """);
+
+        assertThat(read(reader("TestRecord"), "{\"name\":\"test\"}")).isEqualTo(newObject("TestRecord", "test"));
+    }
+
+    @Test
+    public void testUnsupportedConstraint() {
+        var result = compile(List.of(new JsonAnnotationProcessor()), List.of(ProcessorOptions.JSON_VALIDATION), """
+            @Valid
+            @Json
+            public record TestRecord(@Pattern("\\\\d+") int value) {
+            }
+            """);
+
+        assertThat(result.isFailed()).isTrue();
+        assertThat(result.errors()).anyMatch(e -> e.getMessage(null).contains("@Pattern is not supported by json reader validation"));
+    }
+
+    private static Object read(JsonReader<Object> reader, String json) {
+        try {
+            return reader.read(json);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static void assertViolations(JsonReader<Object> reader, String json, String... violations) {
+        assertThatThrownBy(() -> reader.read(json))
+            .isInstanceOf(ViolationException.class)
+            .satisfies(e -> assertThat(((ViolationException) e).getViolations())
+                .map(JsonValidationTest::toString)
+                .containsExactly(violations));
+    }
+
+    private static String toString(Violation violation) {
+        return violation.path().full() + ": " + violation.message();
+    }
+}
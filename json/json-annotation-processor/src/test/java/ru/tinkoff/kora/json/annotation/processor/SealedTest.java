@@ -1,9 +1,11 @@
 package ru.tinkoff.kora.json.annotation.processor;
 
+import com.fasterxml.jackson.core.JsonParseException;
 import org.junit.jupiter.api.Test;
 import ru.tinkoff.kora.application.graph.ApplicationGraphDraw;
 import ru.tinkoff.kora.json.common.JsonReader;
 import ru.tinkoff.kora.json.common.JsonWriter;
+import ru.tinkoff.kora.json.common.util.DiscriminatorHelper;
 import ru.tinkoff.kora.kora.app.annotation.processor.KoraAppProcessor;
 
 import java.io.IOException;
@@ -12,6 +14,7 @@ import java.util.List;
 import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class SealedTest extends AbstractJsonAnnotationProcessorTest {
     @Test
@@ -118,6 +121,40 @@ public class SealedTest extends AbstractJsonAnnotationProcessorTest {
 
         assertThat(m.read(json1.getBytes(StandardCharsets.UTF_8))).isEqualTo(o1);
         assertThat(m.read(json2.getBytes(StandardCharsets.UTF_8))).isEqualTo(o2);
+        assertThat(DiscriminatorHelper.outOfOrderReadCount(loadClass("TestInterface"))).isEqualTo(2);
+    }
+
+    @Test
+    public void testSealedInterfaceDiscriminatorFirst() throws IOException {
+        compile("""
+            @Json
+            @JsonDiscriminatorField("@type")
+            public sealed interface TestInterface {
+                @Json
+                record Impl1(@JsonField("@type") String type, String value) implements TestInterface{}
+                @Json
+                record Impl2(int value, Impl1 nested) implements TestInterface{}
+                @Json
+                record Impl3() implements TestInterface{}
+            }
+            """);
+        var o1 = newObject("TestInterface$Impl1", "Impl1", "test");
+        var json1 = "{\"@type\":\"Impl1\",\"value\":\"test\"}";
+        var o2 = newObject("TestInterface$Impl2", 42, o1);
+        var json2 = "{\"@type\":\"Impl2\",\"unknown\":{\"@type\":\"Impl1\"},\"value\":42,\"nested\":{\"@type\":\"Impl1\",\"value\":\"test\"}}";
+        var o3 = newObject("TestInterface$Impl3");
+        var json3 = "{\"@type\":\"Impl3\"}";
+
+        var m1 = mapper("TestInterface_Impl1");
+        var m2 = mapper("TestInterface_Impl2", List.of(m1), List.of(m1));
+        var m3 = mapper("TestInterface_Impl3");
+        var m = mapper("TestInterface", List.of(m1, m2, m3), List.of(m1, m2, m3));
+
+        assertThat(m.read(json1.getBytes(StandardCharsets.UTF_8))).isEqualTo(o1);
+        assertThat(m.read(json2.getBytes(StandardCharsets.UTF_8))).isEqualTo(o2);
+        assertThat(m.read(json3.getBytes(StandardCharsets.UTF_8))).isEqualTo(o3);
+        assertThatThrownBy(() -> m.read("[{\"@type\":\"Impl3\"}]".getBytes(StandardCharsets.UTF_8))).isInstanceOf(JsonParseException.class);
+        assertThat(DiscriminatorHelper.outOfOrderReadCount(loadClass("TestInterface"))).isZero();
     }
 
     @Test
@@ -0,0 +1,173 @@
+package ru.tinkoff.kora.json.binary.module;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import jakarta.annotation.Nullable;
+import ru.tinkoff.kora.json.common.JsonCommonModule;
+import ru.tinkoff.kora.json.common.JsonReader;
+import ru.tinkoff.kora.json.common.JsonWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.EnumSet;
+import java.util.List;
+
+/**
+ * <b>Русский</b>: Формат тела, в котором сгенерированные {@code JsonReader}/{@code JsonWriter} работают поверх соответствующей {@link JsonFactory} Jackson,
+ * поэтому имена полей, nullability и дискриминаторы берутся из тех же {@code @Json} классов.
+ * <hr>
+ * <b>English</b>: Body format where generated {@code JsonReader}/{@code JsonWriter} run on top of matching Jackson {@link JsonFactory},
+ * so field names, nullability and discriminators come from the same {@code @Json} classes.
+ */
+public enum BinaryJsonFormat {
+    JSON("application/json", JsonCommonModule.JSON_FACTORY),
+    SMILE("application/x-jackson-smile", new SmileFactory()),
+    CBOR("application/cbor", new CBORFactory());
+
+    private final String contentType;
+    private final JsonFactory factory;
+
+    BinaryJsonFormat(String contentType, JsonFactory factory) {
+        this.contentType = contentType;
+        this.factory = factory;
+    }
+
+    public String contentType() {
+        return this.contentType;
+    }
+
+    public JsonFactory factory() {
+        return this.factory;
+    }
+
+    @Nullable
+    public <T> T read(JsonReader<T> reader, byte[] bytes, int offset, int length) throws IOException {
+        if (this == JSON) {
+            return reader.read(bytes, offset, length);
+        }
+        try (var parser = this.factory.createParser(bytes, offset, length)) {
+            parser.nextToken();
+            return reader.read(parser);
+        }
+    }
+
+    @Nullable
+    public <T> T read(JsonReader<T> reader, InputStream is) throws IOException {
+        if (this == JSON) {
+            return reader.read(is);
+        }
+        try (var parser = this.factory.createParser(is)) {
+            parser.nextToken();
+            return reader.read(parser);
+        }
+    }
+
+    public <T> byte[] write(JsonWriter<T> writer, @Nullable T value) throws IOException {
+        if (this == JSON) {
+            return writer.toByteArray(value);
+        }
+        var os = new ByteArrayOutputStream(256);
+        try (var generator = this.factory.createGenerator(os)) {
+            writer.write(generator, value);
+        }
+        return os.toByteArray();
+    }
+
+    /**
+     * Writes value to stream without closing it
+     */
+    public <T> void write(JsonWriter<T> writer, @Nullable T value, OutputStream os) throws IOException {
+        if (this == JSON) {
+            writer.write(value, os);
+            return;
+        }
+        try (var generator = this.factory.createGenerator(os)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            writer.write(generator, value);
+        }
+    }
+
+    /**
+     * @param contentType value of {@code Content-Type} header
+     * @return format of body, {@link #JSON} if content type is absent or null if it is not supported
+     */
+    @Nullable
+    public static BinaryJsonFormat ofContentType(@Nullable String contentType) {
+        if (contentType == null || contentType.isBlank()) {
+            return JSON;
+        }
+        var paramsStart = contentType.indexOf(';');
+        var mediaType = (paramsStart < 0 ? contentType : contentType.substring(0, paramsStart)).trim();
+        for (var format : values()) {
+            if (format.contentType.equalsIgnoreCase(mediaType)) {
+                return format;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param accept values of {@code Accept} header
+     * @return supported format with highest quality, on equal quality explicitly listed type is preferred over wildcard and first listed type over next ones;
+     * wildcards select {@link #JSON} unless it is listed separately, absent header or header without supported formats selects {@link #JSON}
+     */
+    public static BinaryJsonFormat ofAccept(@Nullable List<String> accept) {
+        if (accept == null || accept.isEmpty()) {
+            return JSON;
+        }
+        var listed = EnumSet.noneOf(BinaryJsonFormat.class);
+        var result = (BinaryJsonFormat) null;
+        var resultQuality = 0.0;
+        var wildcardQuality = 0.0;
+        for (var header : accept) {
+            for (var range : header.split(",")) {
+                var parts = range.split(";");
+                var mediaType = parts[0].trim();
+                if (mediaType.isEmpty()) {
+                    continue;
+                }
+                var quality = quality(parts);
+                if (mediaType.equals("*/*") || mediaType.equalsIgnoreCase("application/*")) {
+                    wildcardQuality = Math.max(wildcardQuality, quality);
+                    continue;
+                }
+                var format = ofContentType(mediaType);
+                if (format == null) {
+                    continue;
+                }
+                listed.add(format);
+                if (quality > resultQuality) {
+                    result = format;
+                    resultQuality = quality;
+                }
+            }
+        }
+        if (wildcardQuality > resultQuality) {
+            // listed types have their own quality, which is lower than wildcard one or zero
+            for (var format : values()) {
+                if (!listed.contains(format)) {
+                    return format;
+                }
+            }
+        }
+        return result == null ? JSON : result;
+    }
+
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            var param = parts[i].trim();
+            if (param.startsWith("q=") || param.startsWith("Q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
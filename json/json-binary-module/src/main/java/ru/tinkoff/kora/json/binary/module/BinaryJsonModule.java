@@ -0,0 +1,39 @@
+package ru.tinkoff.kora.json.binary.module;
+
+import ru.tinkoff.kora.json.binary.module.annotation.BinaryJson;
+import ru.tinkoff.kora.json.binary.module.http.client.BinaryJsonHttpClientRequestMapper;
+import ru.tinkoff.kora.json.binary.module.http.client.BinaryJsonHttpClientResponseMapper;
+import ru.tinkoff.kora.json.binary.module.http.server.BinaryJsonHttpServerRequestMapper;
+import ru.tinkoff.kora.json.binary.module.http.server.BinaryJsonHttpServerResponseMapper;
+import ru.tinkoff.kora.json.common.JsonCommonModule;
+import ru.tinkoff.kora.json.common.JsonReader;
+import ru.tinkoff.kora.json.common.JsonWriter;
+
+/**
+ * <b>Русский</b>: Модуль мапперов HTTP тел, помеченных {@link BinaryJson}: сервер читает тело в формате из {@code Content-Type}
+ * и отвечает в формате из {@code Accept}, клиент отправляет тело в Smile и читает ответ в формате из его {@code Content-Type}.
+ * <hr>
+ * <b>English</b>: Module of HTTP body mappers tagged with {@link BinaryJson}: server reads body in format from {@code Content-Type}
+ * and responds in format from {@code Accept}, client sends body in Smile and reads response in format from its {@code Content-Type}.
+ */
+public interface BinaryJsonModule extends JsonCommonModule {
+    @BinaryJson
+    default <T> BinaryJsonHttpServerRequestMapper<T> binaryJsonHttpServerRequestMapper(JsonReader<T> reader) {
+        return new BinaryJsonHttpServerRequestMapper<>(reader);
+    }
+
+    @BinaryJson
+    default <T> BinaryJsonHttpServerResponseMapper<T> binaryJsonHttpServerResponseMapper(JsonWriter<T> writer) {
+        return new BinaryJsonHttpServerResponseMapper<>(writer);
+    }
+
+    @BinaryJson
+    default <T> BinaryJsonHttpClientRequestMapper<T> binaryJsonHttpClientRequestMapper(JsonWriter<T> writer) {
+        return new BinaryJsonHttpClientRequestMapper<>(BinaryJsonFormat.SMILE, writer);
+    }
+
+    @BinaryJson
+    default <T> BinaryJsonHttpClientResponseMapper<T> binaryJsonHttpClientResponseMapper(JsonReader<T> reader) {
+        return new BinaryJsonHttpClientResponseMapper<>(reader);
+    }
+}
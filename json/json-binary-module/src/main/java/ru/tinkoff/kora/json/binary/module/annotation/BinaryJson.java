@@ -0,0 +1,20 @@
+package ru.tinkoff.kora.json.binary.module.annotation;
+
+import ru.tinkoff.kora.common.Tag;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <b>Русский</b>: Аннотация указывает что тело читается и пишется сгенерированными {@code JsonReader}/{@code JsonWriter}
+ * в формате JSON, Smile или CBOR, выбранном по заголовкам запроса.
+ * <hr>
+ * <b>English</b>: Annotation specifies that body is read and written by generated {@code JsonReader}/{@code JsonWriter}
+ * in JSON, Smile or CBOR format negotiated from request headers.
+ */
+@Tag(BinaryJson.class)
+@Target({ElementType.PARAMETER, ElementType.METHOD, ElementType.TYPE_USE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface BinaryJson { }
@@ -0,0 +1,53 @@
+package ru.tinkoff.kora.json.binary.module.http;
+
+import jakarta.annotation.Nullable;
+import ru.tinkoff.kora.common.Context;
+import ru.tinkoff.kora.common.util.flow.LazySingleSubscription;
+import ru.tinkoff.kora.http.common.body.HttpBodyOutput;
+import ru.tinkoff.kora.json.binary.module.BinaryJsonFormat;
+import ru.tinkoff.kora.json.common.JsonWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.Flow;
+
+public final class BinaryJsonHttpBodyOutput<T> implements HttpBodyOutput {
+    private final BinaryJsonFormat format;
+    private final JsonWriter<T> writer;
+    private final Context context;
+    @Nullable
+    private final T value;
+
+    public BinaryJsonHttpBodyOutput(BinaryJsonFormat format, JsonWriter<T> writer, Context context, @Nullable T value) {
+        this.format = format;
+        this.writer = writer;
+        this.context = context;
+        this.value = value;
+    }
+
+    @Override
+    public long contentLength() {
+        return -1;
+    }
+
+    @Override
+    public String contentType() {
+        return this.format.contentType();
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+        subscriber.onSubscribe(new LazySingleSubscription<>(subscriber, this.context, () -> ByteBuffer.wrap(this.format.write(this.writer, this.value))));
+    }
+
+    @Override
+    public void write(OutputStream os) throws IOException {
+        this.format.write(this.writer, this.value, os);
+    }
+
+    @Override
+    public void close() throws IOException {
+
+    }
+}
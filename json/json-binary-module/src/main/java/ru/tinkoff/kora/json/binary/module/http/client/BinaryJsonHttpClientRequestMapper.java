@@ -0,0 +1,23 @@
+package ru.tinkoff.kora.json.binary.module.http.client;
+
+import ru.tinkoff.kora.common.Context;
+import ru.tinkoff.kora.http.client.common.request.HttpClientRequestMapper;
+import ru.tinkoff.kora.http.common.body.HttpBodyOutput;
+import ru.tinkoff.kora.json.binary.module.BinaryJsonFormat;
+import ru.tinkoff.kora.json.binary.module.http.BinaryJsonHttpBodyOutput;
+import ru.tinkoff.kora.json.common.JsonWriter;
+
+public final class BinaryJsonHttpClientRequestMapper<T> implements HttpClientRequestMapper<T> {
+    private final BinaryJsonFormat format;
+    private final JsonWriter<T> writer;
+
+    public BinaryJsonHttpClientRequestMapper(BinaryJsonFormat format, JsonWriter<T> writer) {
+        this.format = format;
+        this.writer = writer;
+    }
+
+    @Override
+    public HttpBodyOutput apply(Context ctx, T value) {
+        return new BinaryJsonHttpBodyOutput<>(this.format, this.writer, ctx, value);
+    }
+}
@@ -0,0 +1,52 @@
+package ru.tinkoff.kora.json.binary.module.http.client;
+
+import ru.tinkoff.kora.http.client.common.HttpClientDecoderException;
+import ru.tinkoff.kora.http.client.common.HttpClientException;
+import ru.tinkoff.kora.http.client.common.HttpClientUnknownException;
+import ru.tinkoff.kora.http.client.common.response.HttpClientResponse;
+import ru.tinkoff.kora.http.client.common.response.HttpClientResponseMapper;
+import ru.tinkoff.kora.json.binary.module.BinaryJsonFormat;
+import ru.tinkoff.kora.json.common.JsonReader;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Reads body in format selected by {@code Content-Type} header of response, response without content type is read as JSON
+ */
+public final class BinaryJsonHttpClientResponseMapper<T> implements HttpClientResponseMapper<T> {
+    private final JsonReader<T> reader;
+
+    public BinaryJsonHttpClientResponseMapper(JsonReader<T> reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public T apply(HttpClientResponse response) throws IOException, HttpClientDecoderException {
+        var contentType = response.headers().getFirst("content-type");
+        var format = BinaryJsonFormat.ofContentType(contentType);
+        if (format == null) {
+            throw new HttpClientDecoderException(new IOException("Unsupported content type: " + contentType));
+        }
+        try (var body = response.body();
+             var is = body.asInputStream()) {
+            if (is != null) {
+                return format.read(this.reader, is);
+            }
+            try {
+                var bytes = body.asArrayStage().toCompletableFuture().get();
+                return format.read(this.reader, bytes, 0, bytes.length);
+            } catch (InterruptedException e) {
+                throw new HttpClientUnknownException(e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof HttpClientException he) {
+                    throw he;
+                }
+                if (e.getCause() != null) {
+                    throw new HttpClientUnknownException(e.getCause());
+                }
+                throw new HttpClientUnknownException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package ru.tinkoff.kora.json.binary.module.http.server;
+
+import ru.tinkoff.kora.common.util.ByteBufferInputStream;
+import ru.tinkoff.kora.http.server.common.HttpServerRequest;
+import ru.tinkoff.kora.http.server.common.HttpServerResponseException;
+import ru.tinkoff.kora.http.server.common.handler.HttpServerRequestMapper;
+import ru.tinkoff.kora.json.binary.module.BinaryJsonFormat;
+import ru.tinkoff.kora.json.common.JsonReader;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Reads body in format selected by {@code Content-Type} header, request without content type is read as JSON
+ */
+public final class BinaryJsonHttpServerRequestMapper<T> implements HttpServerRequestMapper<T> {
+    private final JsonReader<T> reader;
+
+    public BinaryJsonHttpServerRequestMapper(JsonReader<T> reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public T apply(HttpServerRequest request) throws IOException {
+        var contentType = request.headers().getFirst("content-type");
+        var format = BinaryJsonFormat.ofContentType(contentType);
+        if (format == null) {
+            throw HttpServerResponseException.of(415, "Unsupported content type: " + contentType);
+        }
+        try (var body = request.body()) {
+            var fullContent = body.getFullContentIfAvailable();
+            if (fullContent != null) {
+                if (fullContent.hasArray()) {
+                    return format.read(this.reader, fullContent.array(), fullContent.arrayOffset() + fullContent.position(), fullContent.remaining());
+                } else {
+                    return format.read(this.reader, new ByteBufferInputStream(fullContent));
+                }
+            }
+            try (var is = body.asInputStream()) {
+                if (is != null) {
+                    return format.read(this.reader, is);
+                }
+            }
+            try {
+                var bytes = body.asArrayStage().toCompletableFuture().get();
+                return format.read(this.reader, bytes, 0, bytes.length);
+            } catch (InterruptedException e) {
+                throw HttpServerResponseException.of(500, e);
+            } catch (ExecutionException e) {
+                throw HttpServerResponseException.of(500, e.getCause());
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package ru.tinkoff.kora.json.binary.module.http.server;
+
+import ru.tinkoff.kora.common.Context;
+import ru.tinkoff.kora.http.common.header.HttpHeaders;
+import ru.tinkoff.kora.http.server.common.HttpServerRequest;
+import ru.tinkoff.kora.http.server.common.HttpServerResponse;
+import ru.tinkoff.kora.http.server.common.handler.HttpServerResponseMapper;
+import ru.tinkoff.kora.json.binary.module.BinaryJsonFormat;
+import ru.tinkoff.kora.json.binary.module.http.BinaryJsonHttpBodyOutput;
+import ru.tinkoff.kora.json.common.JsonWriter;
+
+/**
+ * Writes body in format selected by {@code Accept} header, JSON is used when none of supported formats is accepted explicitly
+ */
+public final class BinaryJsonHttpServerResponseMapper<T> implements HttpServerResponseMapper<T> {
+    private final JsonWriter<T> writer;
+
+    public BinaryJsonHttpServerResponseMapper(JsonWriter<T> writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public HttpServerResponse apply(Context ctx, HttpServerRequest request, T value) {
+        var format = BinaryJsonFormat.ofAccept(request.headers().getAll("accept"));
+        return HttpServerResponse.of(200, HttpHeaders.of("vary", "accept"), new BinaryJsonHttpBodyOutput<>(format, this.writer, ctx, value));
+    }
+}
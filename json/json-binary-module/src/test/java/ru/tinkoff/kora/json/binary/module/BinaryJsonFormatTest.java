@@ -0,0 +1,72 @@
+package ru.tinkoff.kora.json.binary.module;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BinaryJsonFormatTest {
+
+    @Test
+    void testOfContentType() {
+        assertThat(BinaryJsonFormat.ofContentType(null)).isEqualTo(BinaryJsonFormat.JSON);
+        assertThat(BinaryJsonFormat.ofContentType(" ")).isEqualTo(BinaryJsonFormat.JSON);
+        assertThat(BinaryJsonFormat.ofContentType("application/json; charset=utf-8")).isEqualTo(BinaryJsonFormat.JSON);
+        assertThat(BinaryJsonFormat.ofContentType("Application/X-Jackson-Smile")).isEqualTo(BinaryJsonFormat.SMILE);
+        assertThat(BinaryJsonFormat.ofContentType(" application/cbor ")).isEqualTo(BinaryJsonFormat.CBOR);
+        assertThat(BinaryJsonFormat.ofContentType("text/plain")).isNull();
+        assertThat(BinaryJsonFormat.ofContentType("application/*")).isNull();
+    }
+
+    @Test
+    void testOfAcceptAbsent() {
+        assertThat(BinaryJsonFormat.ofAccept(null)).isEqualTo(BinaryJsonFormat.JSON);
+        assertThat(BinaryJsonFormat.ofAccept(List.of())).isEqualTo(BinaryJsonFormat.JSON);
+        assertThat(BinaryJsonFormat.ofAccept(List.of(""))).isEqualTo(BinaryJsonFormat.JSON);
+    }
+
+    @Test
+    void testOfAcceptQuality() {
+        assertThat(BinaryJsonFormat.ofAccept(List.of("application/json;q=0.5, application/cbor;q=0.8"))).isEqualTo(BinaryJsonFormat.CBOR);
+        assertThat(BinaryJsonFormat.ofAccept(List.of("application/cbor;q=0.5", "application/x-jackson-smile"))).isEqualTo(BinaryJsonFormat.SMILE);
+        assertThat(BinaryJsonFormat.ofAccept(List.of("application/cbor;q=invalid, application/x-jackson-smile;q=0.1"))).isEqualTo(BinaryJsonFormat.SMILE);
+    }
+
+    @Test
+    void testOfAcceptZeroQuality() {
+        assertThat(BinaryJsonFormat.ofAccept(List.of("application/cbor;q=0"))).isEqualTo(BinaryJsonFormat.JSON);
+        assertThat(BinaryJsonFormat.ofAccept(List.of("application/cbor;q=0, application/x-jackson-smile;q=0.1"))).isEqualTo(BinaryJsonFormat.SMILE);
+        assertThat(BinaryJsonFormat.ofAccept(List.of("application/json;q=0, */*"))).isEqualTo(BinaryJsonFormat.SMILE);
+        assertThat(BinaryJsonFormat.ofAccept(List.of("application/json;q=0, application/x-jackson-smile;q=0, application/*"))).isEqualTo(BinaryJsonFormat.CBOR);
+    }
+
+    @Test
+    void testOfAcceptWildcards() {
+        assertThat(BinaryJsonFormat.ofAccept(List.of("*/*"))).isEqualTo(BinaryJsonFormat.JSON);
+        assertThat(BinaryJsonFormat.ofAccept(List.of("application/*"))).isEqualTo(BinaryJsonFormat.JSON);
+        assertThat(BinaryJsonFormat.ofAccept(List.of("*/*;q=0.1, application/cbor"))).isEqualTo(BinaryJsonFormat.CBOR);
+        assertThat(BinaryJsonFormat.ofAccept(List.of("application/cbor;q=0.5, */*"))).isEqualTo(BinaryJsonFormat.JSON);
+        assertThat(BinaryJsonFormat.ofAccept(List.of("application/json;q=0.5, */*"))).isEqualTo(BinaryJsonFormat.SMILE);
+    }
+
+    @Test
+    void testOfAcceptTies() {
+        assertThat(BinaryJsonFormat.ofAccept(List.of("application/cbor, application/x-jackson-smile"))).isEqualTo(BinaryJsonFormat.CBOR);
+        assertThat(BinaryJsonFormat.ofAccept(List.of("application/x-jackson-smile", "application/cbor"))).isEqualTo(BinaryJsonFormat.SMILE);
+        assertThat(BinaryJsonFormat.ofAccept(List.of("*/*, application/cbor"))).isEqualTo(BinaryJsonFormat.CBOR);
+        assertThat(BinaryJsonFormat.ofAccept(List.of("application/cbor;q=0.5, */*;q=0.5"))).isEqualTo(BinaryJsonFormat.CBOR);
+    }
+
+    @Test
+    void testOfAcceptParameters() {
+        assertThat(BinaryJsonFormat.ofAccept(List.of("application/cbor; charset=utf-8; q=0.9, application/json; version=2; q=0.8"))).isEqualTo(BinaryJsonFormat.CBOR);
+        assertThat(BinaryJsonFormat.ofAccept(List.of("application/json;Q=1, application/cbor;q=0.3"))).isEqualTo(BinaryJsonFormat.JSON);
+    }
+
+    @Test
+    void testOfAcceptUnknownTypes() {
+        assertThat(BinaryJsonFormat.ofAccept(List.of("text/html, application/xml;q=0.9"))).isEqualTo(BinaryJsonFormat.JSON);
+        assertThat(BinaryJsonFormat.ofAccept(List.of("text/html, application/x-jackson-smile;q=0.2"))).isEqualTo(BinaryJsonFormat.SMILE);
+    }
+}
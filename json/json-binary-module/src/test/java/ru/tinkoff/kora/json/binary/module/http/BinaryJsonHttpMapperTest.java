@@ -0,0 +1,143 @@
+package ru.tinkoff.kora.json.binary.module.http;
+
+import com.fasterxml.jackson.core.JsonToken;
+import org.junit.jupiter.api.Test;
+import ru.tinkoff.kora.common.Context;
+import ru.tinkoff.kora.common.util.FlowUtils;
+import ru.tinkoff.kora.http.client.common.HttpClientDecoderException;
+import ru.tinkoff.kora.http.client.common.response.HttpClientResponse;
+import ru.tinkoff.kora.http.common.body.HttpBody;
+import ru.tinkoff.kora.http.common.body.HttpBodyInput;
+import ru.tinkoff.kora.http.common.body.HttpBodyOutput;
+import ru.tinkoff.kora.http.common.header.HttpHeaders;
+import ru.tinkoff.kora.http.server.common.HttpServerRequest;
+import ru.tinkoff.kora.http.server.common.HttpServerResponseException;
+import ru.tinkoff.kora.json.binary.module.BinaryJsonFormat;
+import ru.tinkoff.kora.json.binary.module.http.client.BinaryJsonHttpClientRequestMapper;
+import ru.tinkoff.kora.json.binary.module.http.client.BinaryJsonHttpClientResponseMapper;
+import ru.tinkoff.kora.json.binary.module.http.server.BinaryJsonHttpServerRequestMapper;
+import ru.tinkoff.kora.json.binary.module.http.server.BinaryJsonHttpServerResponseMapper;
+import ru.tinkoff.kora.json.common.JsonReader;
+import ru.tinkoff.kora.json.common.JsonWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BinaryJsonHttpMapperTest {
+    record TestValue(String name, int value) {}
+
+    private static final TestValue VALUE = new TestValue("test", 42);
+
+    private final JsonWriter<TestValue> writer = (gen, value) -> {
+        gen.writeStartObject();
+        gen.writeStringField("name", value.name());
+        gen.writeNumberField("value", value.value());
+        gen.writeEndObject();
+    };
+    private final JsonReader<TestValue> reader = parser -> {
+        assertThat(parser.currentToken()).isEqualTo(JsonToken.START_OBJECT);
+        var name = (String) null;
+        var value = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            var field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "name" -> name = parser.getText();
+                case "value" -> value = parser.getIntValue();
+                default -> parser.skipChildren();
+            }
+        }
+        return new TestValue(name, value);
+    };
+
+    @Test
+    void testServerRoundTrip() throws IOException {
+        for (var format : BinaryJsonFormat.values()) {
+            var request = request(HttpHeaders.of("accept", format.contentType()), HttpBody.of(new byte[0]));
+            var response = new BinaryJsonHttpServerResponseMapper<>(writer).apply(Context.clear(), request, VALUE);
+
+            assertThat(response.code()).isEqualTo(200);
+            assertThat(response.headers().getFirst("vary")).isEqualTo("accept");
+            assertThat(response.body().contentType()).isEqualTo(format.contentType());
+            var bytes = content(response.body());
+            assertThat(bytes).isEqualTo(written(response.body()));
+
+            var contentType = format.contentType() + "; charset=utf-8";
+            var read = new BinaryJsonHttpServerRequestMapper<>(reader).apply(request(HttpHeaders.of("content-type", contentType), HttpBody.of(contentType, bytes)));
+            assertThat(read).isEqualTo(VALUE);
+        }
+    }
+
+    @Test
+    void testBinaryFormatsAreEncoded() {
+        var smileBytes = content(new BinaryJsonHttpClientRequestMapper<>(BinaryJsonFormat.SMILE, writer).apply(Context.clear(), VALUE));
+        assertThat(new String(smileBytes, 0, 3, StandardCharsets.US_ASCII)).isEqualTo(":)\n");
+
+        var cborBytes = content(new BinaryJsonHttpClientRequestMapper<>(BinaryJsonFormat.CBOR, writer).apply(Context.clear(), VALUE));
+        // CBOR map of indefinite length
+        assertThat(cborBytes[0]).isEqualTo((byte) 0xBF);
+
+        var jsonBytes = content(new BinaryJsonHttpClientRequestMapper<>(BinaryJsonFormat.JSON, writer).apply(Context.clear(), VALUE));
+        assertThat(new String(jsonBytes, StandardCharsets.UTF_8)).isEqualTo("{\"name\":\"test\",\"value\":42}");
+    }
+
+    @Test
+    void testClientRoundTrip() throws IOException {
+        for (var format : BinaryJsonFormat.values()) {
+            var body = new BinaryJsonHttpClientRequestMapper<>(format, writer).apply(Context.clear(), VALUE);
+            assertThat(body.contentType()).isEqualTo(format.contentType());
+
+            var response = response(format.contentType(), content(body));
+            assertThat(new BinaryJsonHttpClientResponseMapper<>(reader).apply(response)).isEqualTo(VALUE);
+        }
+    }
+
+    @Test
+    void testMissingContentTypeIsReadAsJson() throws IOException {
+        var json = "{\"name\":\"test\",\"value\":42}".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(new BinaryJsonHttpServerRequestMapper<>(reader).apply(request(HttpHeaders.of(), HttpBody.of(json)))).isEqualTo(VALUE);
+        assertThat(new BinaryJsonHttpClientResponseMapper<>(reader).apply(response(null, json))).isEqualTo(VALUE);
+    }
+
+    @Test
+    void testUnsupportedMediaType() {
+        var request = request(HttpHeaders.of("content-type", "application/xml"), HttpBody.of("<value/>".getBytes(StandardCharsets.UTF_8)));
+
+        assertThatThrownBy(() -> new BinaryJsonHttpServerRequestMapper<>(reader).apply(request))
+            .isInstanceOfSatisfying(HttpServerResponseException.class, e -> assertThat(e.code()).isEqualTo(415))
+            .hasMessageContaining("application/xml");
+        assertThatThrownBy(() -> new BinaryJsonHttpClientResponseMapper<>(reader).apply(response("application/xml", new byte[0])))
+            .isInstanceOf(HttpClientDecoderException.class);
+    }
+
+    private static HttpServerRequest request(HttpHeaders headers, HttpBodyInput body) {
+        var request = mock(HttpServerRequest.class);
+        when(request.headers()).thenReturn(headers);
+        when(request.body()).thenReturn(body);
+        return request;
+    }
+
+    private static HttpClientResponse response(String contentType, byte[] body) {
+        var response = mock(HttpClientResponse.class);
+        when(response.headers()).thenReturn(contentType == null ? HttpHeaders.of() : HttpHeaders.of("content-type", contentType));
+        when(response.body()).thenReturn(HttpBody.of(contentType, body));
+        return response;
+    }
+
+    private static byte[] content(HttpBodyOutput body) {
+        return FlowUtils.toByteArrayFuture(body).join();
+    }
+
+    private static byte[] written(HttpBodyOutput body) throws IOException {
+        var os = new ByteArrayOutputStream();
+        body.write(os);
+        return os.toByteArray();
+    }
+}
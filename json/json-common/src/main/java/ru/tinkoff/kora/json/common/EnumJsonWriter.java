@@ -32,4 +32,12 @@ public final class EnumJsonWriter<T extends Enum<T>, V> implements JsonWriter<T>
         }
         gen.writeRawValue(this.values[object.ordinal()]);
     }
+
+    @Override
+    public int estimateSize(@Nullable T value) {
+        if (value == null) {
+            return 4;
+        }
+        return this.values[value.ordinal()].length();
+    }
 }
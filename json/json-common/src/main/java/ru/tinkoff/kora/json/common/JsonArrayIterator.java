@@ -0,0 +1,134 @@
+package ru.tinkoff.kora.json.common;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <b>Русский</b>: Итератор по элементам JSON массива верхнего уровня, следующий элемент читается только когда он запрошен,
+ * поэтому массив целиком никогда не хранится в памяти. JSON {@code null} читается как пустой массив.
+ * Парсер закрывается когда массив закончился, при ошибке или при закрытии итератора.
+ * <hr>
+ * <b>English</b>: Iterator over elements of top-level JSON array, next element is read only when it is requested,
+ * so whole array is never held in memory. JSON {@code null} is read as empty array.
+ * Parser is closed when array ends, on error or when iterator is closed.
+ */
+public final class JsonArrayIterator<T> implements Iterator<T>, Closeable {
+    private static final int INIT = 0;
+    private static final int READY = 1;
+    private static final int CONSUMED = 2;
+    private static final int DONE = 3;
+
+    private final JsonReader<T> reader;
+    private final JsonParser parser;
+    private int state = INIT;
+
+    /**
+     * @param parser parser positioned before or at {@code START_ARRAY} token
+     */
+    public JsonArrayIterator(JsonReader<T> reader, JsonParser parser) {
+        this.reader = reader;
+        this.parser = parser;
+    }
+
+    public static <T> JsonArrayIterator<T> of(JsonReader<T> reader, InputStream is) throws IOException {
+        return new JsonArrayIterator<>(reader, JsonCommonModule.JSON_FACTORY.createParser(is));
+    }
+
+    public static <T> JsonArrayIterator<T> of(JsonReader<T> reader, byte[] bytes, int offset, int length) throws IOException {
+        return new JsonArrayIterator<>(reader, JsonCommonModule.JSON_FACTORY.createParser(bytes, offset, length));
+    }
+
+    /**
+     * @return sequential stream over remaining elements, closing stream closes iterator
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false)
+            .onClose(() -> {
+                try {
+                    this.close();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (this.state == READY) {
+            return true;
+        }
+        if (this.state == DONE) {
+            return false;
+        }
+        try {
+            if (this.state == INIT) {
+                var token = this.parser.currentToken();
+                if (token == null) {
+                    token = this.parser.nextToken();
+                }
+                if (token == JsonToken.VALUE_NULL) {
+                    this.close();
+                    return false;
+                }
+                if (token != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(this.parser, "Expecting START_ARRAY token, got " + token);
+                }
+            }
+            var token = this.parser.nextToken();
+            if (token == JsonToken.END_ARRAY) {
+                this.close();
+                return false;
+            }
+            if (token == null) {
+                throw new JsonParseException(this.parser, "Unexpected end of input, expecting END_ARRAY token");
+            }
+            this.state = READY;
+            return true;
+        } catch (IOException e) {
+            this.closeOnError(e);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public T next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        this.state = CONSUMED;
+        try {
+            return this.reader.read(this.parser);
+        } catch (IOException e) {
+            this.closeOnError(e);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (this.state != DONE) {
+            this.state = DONE;
+            this.parser.close();
+        }
+    }
+
+    private void closeOnError(IOException error) {
+        try {
+            this.close();
+        } catch (IOException e) {
+            error.addSuppressed(e);
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package ru.tinkoff.kora.json.common;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <b>Русский</b>: Издатель элементов JSON массива верхнего уровня из потока байт. Буферы передаются в неблокирующий парсер Jackson,
+ * который находит границы элементов, и каждый элемент читается как только приходит буфер с его окончанием.
+ * Следующий буфер запрашивается у источника только когда у подписчика есть запрос, а готовых элементов не осталось,
+ * поэтому в памяти хранится не больше одного буфера и одного неполного элемента. JSON {@code null} читается как пустой массив.
+ * <hr>
+ * <b>English</b>: Publisher of elements of top-level JSON array from byte stream. Buffers are fed into Jackson non-blocking parser
+ * that finds element boundaries, and every element is read as soon as buffer with its end arrives.
+ * Next buffer is requested from source only when subscriber has demand and there are no complete elements left,
+ * so no more than one buffer and one incomplete element are held in memory. JSON {@code null} is read as empty array.
+ */
+public final class JsonArrayPublisher<T> implements Flow.Publisher<T> {
+    private final JsonReader<T> reader;
+    private final Flow.Publisher<ByteBuffer> source;
+
+    public JsonArrayPublisher(JsonReader<T> reader, Flow.Publisher<ByteBuffer> source) {
+        this.reader = reader;
+        this.source = source;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        this.source.subscribe(new ArraySubscriber<>(subscriber, this.reader));
+    }
+
+    private static final class ArraySubscriber<T> extends AtomicInteger implements Flow.Subscriber<ByteBuffer>, Flow.Subscription {
+        private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+
+        private final Flow.Subscriber<? super T> downstream;
+        private final JsonReader<T> reader;
+        private final AtomicLong demand = new AtomicLong();
+        private Flow.Subscription upstream;
+        private volatile ByteBuffer current = EMPTY;
+        private volatile boolean upstreamRequested;
+        private volatile boolean upstreamDone;
+        private volatile Throwable upstreamError;
+        private volatile boolean cancelled;
+        private JsonParser parser;
+        private ByteArrayFeeder feeder;
+        private boolean endOfInput;
+        private boolean started;
+        private boolean finished;
+        private int depth;
+        // bytes fed to parser starting from absolute stream offset, only bytes after last element are kept between buffers
+        private byte[] buffer = new byte[256];
+        private int bufferLength;
+        private long bufferOffset;
+        // parser reports exact end of token, but not its start, so element is read from end of previous one
+        private long elementStart = -1;
+        private long elementEnd = -1;
+        private boolean elementStarted;
+
+        private ArraySubscriber(Flow.Subscriber<? super T> downstream, JsonReader<T> reader) {
+            this.downstream = downstream;
+            this.reader = reader;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.upstream = subscription;
+            this.downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(ByteBuffer item) {
+            this.current = item;
+            this.upstreamRequested = false;
+            this.drain();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.upstreamError = throwable;
+            this.upstreamDone = true;
+            this.drain();
+        }
+
+        @Override
+        public void onComplete() {
+            this.upstreamDone = true;
+            this.drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                this.cancel();
+                this.downstream.onError(new IllegalArgumentException("Non-positive request: " + n));
+                return;
+            }
+            this.demand.getAndAccumulate(n, (current, add) -> current + add < 0 ? Long.MAX_VALUE : current + add);
+            this.drain();
+        }
+
+        @Override
+        public void cancel() {
+            this.cancelled = true;
+            this.upstream.cancel();
+        }
+
+        private void drain() {
+            if (this.getAndIncrement() != 0) {
+                return;
+            }
+            var missed = 1;
+            while (true) {
+                while (!this.cancelled) {
+                    final T next;
+                    try {
+                        // without demand only array end is looked up, so publisher completes when demand matches array size
+                        var noDemand = this.demand.get() == 0;
+                        if (!this.parseElement(noDemand) || noDemand) {
+                            break;
+                        }
+                        next = this.readElement();
+                    } catch (Throwable e) {
+                        this.cancel();
+                        this.downstream.onError(e);
+                        return;
+                    }
+                    this.demand.decrementAndGet();
+                    this.downstream.onNext(next);
+                }
+                if (this.cancelled) {
+                    return;
+                }
+                if (this.finished) {
+                    this.cancelled = true;
+                    if (!this.upstreamDone) {
+                        this.upstream.cancel();
+                    }
+                    this.downstream.onComplete();
+                    return;
+                }
+                if (this.upstreamError != null && !this.current.hasRemaining()) {
+                    this.cancelled = true;
+                    this.downstream.onError(this.upstreamError);
+                    return;
+                }
+                if (this.demand.get() > 0 && !this.current.hasRemaining() && !this.upstreamRequested && !this.upstreamDone) {
+                    this.upstreamRequested = true;
+                    this.upstream.request(1);
+                }
+                missed = this.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * @param startOnly stop when next element is started
+         * @return true if complete element is available
+         */
+        private boolean parseElement(boolean startOnly) throws IOException {
+            while (this.elementEnd < 0) {
+                if (this.finished || startOnly && this.elementStarted) {
+                    return false;
+                }
+                var token = this.nextToken();
+                if (token == JsonToken.NOT_AVAILABLE) {
+                    return false;
+                }
+                if (!this.started) {
+                    if (token == JsonToken.VALUE_NULL) {
+                        this.finished = true;
+                    } else if (token == JsonToken.START_ARRAY) {
+                        this.started = true;
+                        this.elementStart = this.parser.currentLocation().getByteOffset();
+                    } else {
+                        throw new JsonParseException(this.parser, "Expecting START_ARRAY token, got " + token);
+                    }
+                    continue;
+                }
+                if (this.depth == 0 && token == JsonToken.END_ARRAY) {
+                    this.finished = true;
+                    continue;
+                }
+                this.elementStarted = true;
+                if (token.isStructStart()) {
+                    this.depth++;
+                } else if (token.isStructEnd()) {
+                    this.depth--;
+                }
+                if (this.depth == 0) {
+                    this.elementEnd = this.parser.currentLocation().getByteOffset();
+                }
+            }
+            return true;
+        }
+
+        private JsonToken nextToken() throws IOException {
+            if (this.parser == null) {
+                this.parser = JsonCommonModule.JSON_FACTORY.createNonBlockingByteArrayParser();
+                this.feeder = (ByteArrayFeeder) this.parser.getNonBlockingInputFeeder();
+            }
+            while (true) {
+                var token = this.parser.nextToken();
+                if (token != JsonToken.NOT_AVAILABLE) {
+                    return token;
+                }
+                var buf = this.current;
+                if (buf.hasRemaining()) {
+                    this.feed(buf);
+                } else if (this.upstreamDone && this.upstreamError == null && !this.endOfInput) {
+                    this.endOfInput = true;
+                    this.feeder.endOfInput();
+                } else {
+                    return JsonToken.NOT_AVAILABLE;
+                }
+            }
+        }
+
+        /**
+         * Parser keeps reference to fed bytes until they are parsed, so buffer is compacted only when parser needs more input
+         */
+        private void feed(ByteBuffer buf) throws IOException {
+            var keepFrom = this.started ? this.elementStart : this.bufferOffset + this.bufferLength;
+            var discard = (int) (keepFrom - this.bufferOffset);
+            if (discard > 0) {
+                System.arraycopy(this.buffer, discard, this.buffer, 0, this.bufferLength - discard);
+                this.bufferLength -= discard;
+                this.bufferOffset = keepFrom;
+            }
+            var length = buf.remaining();
+            if (this.buffer.length - this.bufferLength < length) {
+                this.buffer = Arrays.copyOf(this.buffer, Math.max(this.buffer.length * 2, this.bufferLength + length));
+            }
+            buf.get(this.buffer, this.bufferLength, length);
+            this.feeder.feedInput(this.buffer, this.bufferLength, this.bufferLength + length);
+            this.bufferLength += length;
+        }
+
+        private T readElement() throws IOException {
+            var offset = (int) (this.elementStart - this.bufferOffset);
+            var end = (int) (this.elementEnd - this.bufferOffset);
+            // skip separator of previous element, parser has already checked that there is nothing else
+            while (this.buffer[offset] == ',' || this.buffer[offset] == ' ' || this.buffer[offset] == '\n' || this.buffer[offset] == '\r' || this.buffer[offset] == '\t') {
+                offset++;
+            }
+            this.elementStart = this.elementEnd;
+            this.elementEnd = -1;
+            this.elementStarted = false;
+            var element = this.reader.read(this.buffer, offset, end - offset);
+            if (element == null) {
+                throw new NullPointerException("JSON array element was read as null, but publisher can't emit null elements");
+            }
+            return element;
+        }
+    }
+}
@@ -514,6 +514,10 @@ public interface JsonCommonModule {
         return new RawJsonWriter();
     }
 
+    default JsonReader<RawJson> rawJsonReader() {
+        return new RawJsonReader();
+    }
+
     default JsonReader<UUID> uuidJsonReader() {
         return new UuidJsonCodec();
     }
@@ -0,0 +1,217 @@
+package ru.tinkoff.kora.json.common;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <b>Русский</b>: Издатель элементов из потока байт в формате NDJSON (JSON Lines): каждая строка читается как отдельный JSON элемент,
+ * как только приходит буфер с ее окончанием. Следующий буфер запрашивается у источника только когда у подписчика есть запрос,
+ * а готовых строк не осталось, поэтому в памяти хранится не больше одного буфера и одной неполной строки. Пустые строки пропускаются.
+ * <hr>
+ * <b>English</b>: Publisher of elements from NDJSON (JSON Lines) byte stream: every line is read as separate JSON element
+ * as soon as buffer with its end arrives. Next buffer is requested from source only when subscriber has demand and there are no complete lines left,
+ * so no more than one buffer and one incomplete line are held in memory. Blank lines are skipped.
+ */
+public final class JsonLinesPublisher<T> implements Flow.Publisher<T> {
+    private final JsonReader<T> reader;
+    private final Flow.Publisher<ByteBuffer> source;
+
+    public JsonLinesPublisher(JsonReader<T> reader, Flow.Publisher<ByteBuffer> source) {
+        this.reader = reader;
+        this.source = source;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        this.source.subscribe(new LinesSubscriber<>(subscriber, this.reader));
+    }
+
+    private static final class LinesSubscriber<T> extends AtomicInteger implements Flow.Subscriber<ByteBuffer>, Flow.Subscription {
+        private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+
+        private final Flow.Subscriber<? super T> downstream;
+        private final JsonReader<T> reader;
+        private final AtomicLong demand = new AtomicLong();
+        private Flow.Subscription upstream;
+        private volatile ByteBuffer current = EMPTY;
+        private volatile boolean upstreamRequested;
+        private volatile boolean upstreamDone;
+        private volatile Throwable upstreamError;
+        private volatile boolean cancelled;
+        private byte[] partial = new byte[256];
+        private int partialLength;
+        private byte[] line;
+        private int lineOffset;
+        private int lineLength;
+
+        private LinesSubscriber(Flow.Subscriber<? super T> downstream, JsonReader<T> reader) {
+            this.downstream = downstream;
+            this.reader = reader;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.upstream = subscription;
+            this.downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(ByteBuffer item) {
+            this.current = item;
+            this.upstreamRequested = false;
+            this.drain();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.upstreamError = throwable;
+            this.upstreamDone = true;
+            this.drain();
+        }
+
+        @Override
+        public void onComplete() {
+            this.upstreamDone = true;
+            this.drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                this.cancel();
+                this.downstream.onError(new IllegalArgumentException("Non-positive request: " + n));
+                return;
+            }
+            this.demand.getAndAccumulate(n, (current, add) -> current + add < 0 ? Long.MAX_VALUE : current + add);
+            this.drain();
+        }
+
+        @Override
+        public void cancel() {
+            this.cancelled = true;
+            this.upstream.cancel();
+        }
+
+        private void drain() {
+            if (this.getAndIncrement() != 0) {
+                return;
+            }
+            var missed = 1;
+            while (true) {
+                while (!this.cancelled && this.demand.get() > 0) {
+                    final T next;
+                    try {
+                        if (!this.readLine()) {
+                            break;
+                        }
+                        if (this.isBlankLine()) {
+                            this.partialLength = 0;
+                            continue;
+                        }
+                        next = this.readElement();
+                        this.partialLength = 0;
+                    } catch (Throwable e) {
+                        this.cancel();
+                        this.downstream.onError(e);
+                        return;
+                    }
+                    this.demand.decrementAndGet();
+                    this.downstream.onNext(next);
+                }
+                if (this.cancelled) {
+                    return;
+                }
+                if (!this.current.hasRemaining() && this.upstreamDone && (this.upstreamError != null || this.partialLength == 0)) {
+                    this.cancelled = true;
+                    var error = this.upstreamError;
+                    if (error != null) {
+                        this.downstream.onError(error);
+                    } else {
+                        this.downstream.onComplete();
+                    }
+                    return;
+                }
+                if (this.demand.get() > 0 && !this.current.hasRemaining() && !this.upstreamRequested && !this.upstreamDone) {
+                    this.upstreamRequested = true;
+                    this.upstream.request(1);
+                }
+                missed = this.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Finds next line end in current buffer, line that is fully inside heap buffer is read in place,
+         * otherwise its bytes are collected into partial line
+         *
+         * @return true if complete line is available
+         */
+        private boolean readLine() {
+            var buf = this.current;
+            if (this.partialLength == 0 && buf.hasArray()) {
+                var array = buf.array();
+                var start = buf.arrayOffset() + buf.position();
+                var end = buf.arrayOffset() + buf.limit();
+                for (int i = start; i < end; i++) {
+                    if (array[i] == '\n') {
+                        buf.position(i + 1 - buf.arrayOffset());
+                        this.line = array;
+                        this.lineOffset = start;
+                        this.lineLength = i - start;
+                        return true;
+                    }
+                }
+            }
+            while (buf.hasRemaining()) {
+                var b = buf.get();
+                if (b == '\n') {
+                    this.setPartialLine();
+                    return true;
+                }
+                if (this.partialLength == this.partial.length) {
+                    this.partial = Arrays.copyOf(this.partial, this.partial.length * 2);
+                }
+                this.partial[this.partialLength++] = b;
+            }
+            if (this.upstreamDone && this.upstreamError == null && this.partialLength > 0) {
+                // last line without line feed
+                this.setPartialLine();
+                return true;
+            }
+            return false;
+        }
+
+        private void setPartialLine() {
+            this.line = this.partial;
+            this.lineOffset = 0;
+            this.lineLength = this.partialLength;
+        }
+
+        private boolean isBlankLine() {
+            for (int i = this.lineOffset; i < this.lineOffset + this.lineLength; i++) {
+                if (!isWhitespace(this.line[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private T readElement() throws IOException {
+            var element = this.reader.read(this.line, this.lineOffset, this.lineLength);
+            if (element == null) {
+                throw new NullPointerException("NDJSON line was read as null, but publisher can't emit null elements");
+            }
+            return element;
+        }
+
+        private static boolean isWhitespace(byte b) {
+            return b == ' ' || b == '\t' || b == '\r';
+        }
+    }
+}
@@ -1,14 +1,15 @@
 package ru.tinkoff.kora.json.common;
 
-import com.fasterxml.jackson.core.JsonEncoding;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.io.SegmentedStringWriter;
-import com.fasterxml.jackson.core.util.ByteArrayBuilder;
 import jakarta.annotation.Nullable;
+import ru.tinkoff.kora.json.common.util.JsonGeneratorPool;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.UncheckedIOException;
-import java.nio.charset.StandardCharsets;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 
 /**
  * <b>Русский</b>: Контракт писателя JSON со всеми методами записи
@@ -24,15 +25,58 @@ public interface JsonWriter<T> {
      */
     void write(JsonGenerator generator, @Nullable T object) throws IOException;
 
+    /**
+     * Cheap estimate of serialized value size in bytes, it is used to presize output buffers
+     * and to decide if value can be serialized eagerly with exact Content-Length.
+     * Estimate is not exact, but it should be much cheaper than serialization itself.
+     *
+     * @param value to estimate
+     * @return estimated size in bytes or -1 if writer can't estimate it
+     */
+    default int estimateSize(@Nullable T value) {
+        return -1;
+    }
+
     default byte[] toByteArray(@Nullable T value) throws IOException {
-        var bb = new ByteArrayBuilder(JsonCommonModule.JSON_FACTORY._getBufferRecycler());
-        try (var gen = JsonCommonModule.JSON_FACTORY.createGenerator(bb, JsonEncoding.UTF8)) {
-            gen.enable(JsonGenerator.Feature.WRITE_BIGDECIMAL_AS_PLAIN);
-            this.write(gen, value);
-            gen.flush();
-            return bb.toByteArray();
+        var pooled = JsonGeneratorPool.acquire();
+        this.write(pooled.generator(), value);
+        var result = pooled.toByteArray();
+        JsonGeneratorPool.release(pooled);
+        return result;
+    }
+
+    /**
+     * Writes JSON into buffer starting at its position without intermediate byte array
+     *
+     * @param value  to serialize into JSON
+     * @param buffer to write JSON into, position is advanced by number of written bytes
+     * @throws IOException              in case of serialization errors
+     * @throws BufferOverflowException if there is not enough space remaining in buffer, buffer is not modified in that case
+     */
+    default void write(@Nullable T value, ByteBuffer buffer) throws IOException {
+        var pooled = JsonGeneratorPool.acquire();
+        this.write(pooled.generator(), value);
+        try {
+            pooled.writeTo(buffer);
+        } finally {
+            JsonGeneratorPool.release(pooled);
+        }
+    }
+
+    /**
+     * Writes JSON into stream with single write call without intermediate byte array, stream is not closed
+     *
+     * @param value to serialize into JSON
+     * @param os    to write JSON into
+     * @throws IOException in case of serialization errors
+     */
+    default void write(@Nullable T value, OutputStream os) throws IOException {
+        var pooled = JsonGeneratorPool.acquire();
+        this.write(pooled.generator(), value);
+        try {
+            pooled.writeTo(os);
         } finally {
-            bb.release();
+            JsonGeneratorPool.release(pooled);
         }
     }
 
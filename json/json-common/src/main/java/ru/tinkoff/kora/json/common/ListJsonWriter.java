@@ -25,4 +25,20 @@ public class ListJsonWriter<T> implements JsonWriter<List<T>> {
             gen.writeEndArray();
         }
     }
+
+    @Override
+    public int estimateSize(@Nullable List<T> value) {
+        if (value == null) {
+            return 4;
+        }
+        var size = 2 + value.size();
+        for (var element : value) {
+            var elementSize = this.writer.estimateSize(element);
+            if (elementSize < 0) {
+                return -1;
+            }
+            size += elementSize;
+        }
+        return size;
+    }
 }
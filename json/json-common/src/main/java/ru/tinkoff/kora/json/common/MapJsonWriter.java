@@ -26,4 +26,21 @@ public class MapJsonWriter<T> implements JsonWriter<Map<String, T>> {
         }
         gen.writeEndObject();
     }
+
+    @Override
+    public int estimateSize(@Nullable Map<String, T> value) {
+        if (value == null) {
+            return 4;
+        }
+        var size = 2;
+        for (var field : value.entrySet()) {
+            var valueSize = this.writer.estimateSize(field.getValue());
+            if (valueSize < 0) {
+                return -1;
+            }
+            // quotes, colon and comma
+            size += field.getKey().length() + 4 + valueSize;
+        }
+        return size;
+    }
 }
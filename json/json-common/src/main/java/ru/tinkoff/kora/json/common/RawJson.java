@@ -7,26 +7,94 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
-
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * <b>Русский</b>: JSON значение, которое пишется как есть, без сериализации.
+ * Может ссылаться на часть исходного массива байт без копирования, такие значения создает {@link RawJsonReader} при чтении из массива байт.
+ * Такое значение удерживает в памяти весь исходный массив, поэтому для долгого хранения небольшой части большого тела стоит использовать {@link #compact()}.
+ * <hr>
+ * <b>English</b>: JSON value that is written as is, without serialization.
+ * It may refer to part of source byte array without copying, such values are created by {@link RawJsonReader} when reading from byte array.
+ * Such value retains whole source array in memory, so {@link #compact()} should be used to keep small part of large body for a long time.
+ */
 public class RawJson implements SerializableString {
+    /**
+     * Value bytes, null when value is a slice of larger array created with {@link #RawJson(byte[], int, int)}
+     *
+     * @deprecated use {@link #value()}, which works for slices as well
+     */
+    @Deprecated
     public final byte[] value;
+    // value bytes are in range [offset, offset + length)
+    private final byte[] buffer;
+    private final int offset;
+    private final int length;
+    private byte[] valueBytes;
     private char[] valueChars;
 
     public RawJson(@Nonnull String value) {
-        this.value = value.getBytes(StandardCharsets.UTF_8);
+        this(value.getBytes(StandardCharsets.UTF_8));
     }
 
     public RawJson(@Nonnull byte[] value) {
         this.value = value;
+        this.buffer = value;
+        this.offset = 0;
+        this.length = value.length;
+        this.valueBytes = value;
+    }
+
+    /**
+     * Array is not copied, so it must not be modified while value is used, and it is retained as long as value is reachable
+     */
+    public RawJson(@Nonnull byte[] buffer, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+        if (offset == 0 && length == buffer.length) {
+            this.value = buffer;
+            this.valueBytes = buffer;
+        } else {
+            this.value = null;
+        }
     }
 
+    /**
+     * @return value bytes, slice of backing array is copied once on first call
+     */
     public byte[] value() {
-        return value;
+        var valueBytes = this.valueBytes;
+        if (valueBytes == null) {
+            valueBytes = Arrays.copyOfRange(this.buffer, this.offset, this.offset + this.length);
+            this.valueBytes = valueBytes;
+        }
+        return valueBytes;
+    }
+
+    /**
+     * @return value that does not retain the rest of backing array, this value if it is not a slice
+     */
+    public RawJson compact() {
+        if (this.offset == 0 && this.length == this.buffer.length) {
+            return this;
+        }
+        return new RawJson(this.value());
+    }
+
+    public int offset() {
+        return this.offset;
+    }
+
+    public int length() {
+        return this.length;
     }
 
     @Override
     public String getValue() {
-        return new String(value, StandardCharsets.UTF_8);
+        return new String(this.buffer, this.offset, this.length, StandardCharsets.UTF_8);
     }
 
     @Override
@@ -41,7 +109,7 @@ public class RawJson implements SerializableString {
 
     @Override
     public byte[] asUnquotedUTF8() {
-        return this.value;
+        return this.value();
     }
 
     @Override
@@ -61,18 +129,18 @@ public class RawJson implements SerializableString {
 
     @Override
     public int appendUnquotedUTF8(byte[] buffer, int offset) {
-        final int length = value.length;
+        final int length = this.length;
         if ((offset + length) > buffer.length) {
             return -1;
         }
-        System.arraycopy(value, 0, buffer, offset, length);
+        System.arraycopy(this.buffer, this.offset, buffer, offset, length);
         return length;
     }
 
     @Override
     public int appendUnquoted(char[] buffer, int offset) {
         if (valueChars == null) {
-            valueChars = new String(value).toCharArray();
+            valueChars = getValue().toCharArray();
         }
         final int length = valueChars.length;
         if ((offset + length) > buffer.length) {
@@ -89,8 +157,8 @@ public class RawJson implements SerializableString {
 
     @Override
     public int writeUnquotedUTF8(OutputStream out) throws IOException {
-        out.write(value, 0, value.length);
-        return value.length;
+        out.write(this.buffer, this.offset, this.length);
+        return length;
     }
 
     @Override
@@ -100,11 +168,11 @@ public class RawJson implements SerializableString {
 
     @Override
     public int putUnquotedUTF8(ByteBuffer buffer) throws IOException {
-        final int length = value.length;
+        final int length = this.length;
         if (length > buffer.remaining()) {
             return -1;
         }
-        buffer.put(value, 0, length);
+        buffer.put(this.buffer, this.offset, length);
         return length;
     }
 }
@@ -0,0 +1,53 @@
+package ru.tinkoff.kora.json.common;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import jakarta.annotation.Nullable;
+import ru.tinkoff.kora.json.common.util.JsonByteReader;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * <b>Русский</b>: Читатель значения как есть. Из массива байт значение читается без разбора на токены и без копирования,
+ * {@link RawJson} ссылается на часть исходного массива и удерживает его, см. {@link RawJson#compact()}. Из {@link JsonParser} значение копируется.
+ * <hr>
+ * <b>English</b>: Reader of value as is. From byte array value is read without tokenization and without copying,
+ * {@link RawJson} refers to part of source array and retains it, see {@link RawJson#compact()}. From {@link JsonParser} value is copied.
+ */
+public class RawJsonReader implements JsonReader<RawJson> {
+    @Nullable
+    @Override
+    public RawJson read(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        var out = new ByteArrayOutputStream();
+        try (var gen = JsonCommonModule.JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8)) {
+            gen.copyCurrentStructure(parser);
+        }
+        return new RawJson(out.toByteArray());
+    }
+
+    @Nullable
+    @Override
+    public RawJson read(byte[] bytes) throws IOException {
+        return this.read(bytes, 0, bytes.length);
+    }
+
+    @Nullable
+    @Override
+    public RawJson read(byte[] bytes, int offset, int length) throws IOException {
+        var reader = new JsonByteReader(bytes, offset, length);
+        try {
+            if (reader.nextNull()) {
+                return null;
+            }
+            return reader.readRawJson();
+        } catch (JsonByteReader.UnsupportedInputException e) {
+            // input is read again by jackson parser, so it reports errors as usual
+            return JsonReader.super.read(bytes, offset, length);
+        }
+    }
+}
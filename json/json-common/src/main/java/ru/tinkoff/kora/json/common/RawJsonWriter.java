@@ -16,11 +16,19 @@ public class RawJsonWriter implements JsonWriter<RawJson> {
         }
     }
 
+    @Override
+    public int estimateSize(@Nullable RawJson value) {
+        if (value == null) {
+            return 4;
+        }
+        return value.length();
+    }
+
     @Override
     public byte[] toByteArray(@Nullable RawJson object) throws IOException {
         if (object == null) {
             return "null".getBytes(StandardCharsets.ISO_8859_1);
         }
-        return object.value;
+        return object.value();
     }
 }
@@ -25,4 +25,20 @@ public class SetJsonWriter<T> implements JsonWriter<Set<T>> {
             gen.writeEndArray();
         }
     }
+
+    @Override
+    public int estimateSize(@Nullable Set<T> value) {
+        if (value == null) {
+            return 4;
+        }
+        var size = 2 + value.size();
+        for (var element : value) {
+            var elementSize = this.writer.estimateSize(element);
+            if (elementSize < 0) {
+                return -1;
+            }
+            size += elementSize;
+        }
+        return size;
+    }
 }
@@ -49,6 +49,11 @@ public class UuidJsonCodec implements JsonReader<UUID>, JsonWriter<UUID> {
         gen.writeString(ch, 0, 36);
     }
 
+    @Override
+    public int estimateSize(@Nullable UUID value) {
+        return value == null ? 4 : 38;
+    }
+
     @Nullable
     @Override
     public UUID read(JsonParser parser) throws IOException {
@@ -0,0 +1,18 @@
+package ru.tinkoff.kora.json.common.annotation;
+
+import ru.tinkoff.kora.common.Tag;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <b>Русский</b>: Аннотация указывает что тело представлено в формате NDJSON (JSON Lines): каждый элемент {@code Flow.Publisher<T>} записан отдельной строкой JSON.
+ * <hr>
+ * <b>English</b>: Annotation specifies that body is represented in NDJSON (JSON Lines) format: every element of {@code Flow.Publisher<T>} is written as separate JSON line.
+ */
+@Tag(JsonLines.class)
+@Target({ElementType.PARAMETER, ElementType.METHOD, ElementType.TYPE_USE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface JsonLines { }
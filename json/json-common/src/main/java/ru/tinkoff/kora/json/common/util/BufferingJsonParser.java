@@ -36,6 +36,20 @@ public class BufferingJsonParser extends ParserBase {
         this.currentToken = 1;
     }
 
+    /**
+     * Creates parser that also buffers structural token that was already consumed from delegate, e.g. {@code START_OBJECT} of object
+     * whose first field name was read before buffering started
+     */
+    public BufferingJsonParser(JsonParser delegate, JsonToken consumedToken) throws IOException {
+        this(delegate);
+        var data = consumedToken.asCharArray();
+        if (!consumedToken.isStructStart() && !consumedToken.isStructEnd() || data == null) {
+            throw new IllegalArgumentException("Only structural tokens can be buffered without delegate, got " + consumedToken);
+        }
+        this.tokens.add(0, new JsonSegment(consumedToken, data, false));
+        this.currentToken = 2;
+    }
+
     public JsonSegmentJsonParser reset() {
         this.currentToken = -1;
         var data = this.tokens.get(0);
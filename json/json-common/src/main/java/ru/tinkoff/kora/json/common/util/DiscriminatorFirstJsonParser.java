@@ -0,0 +1,230 @@
+package ru.tinkoff.kora.json.common.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.JsonTokenId;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.util.JsonParserDelegate;
+
+import java.io.IOException;
+
+/**
+ * Parser for object whose discriminator was the first field: replays {@code START_OBJECT}, discriminator field name and value
+ * that were already consumed from delegate and then reads the rest of object directly from delegate without buffering.
+ */
+public final class DiscriminatorFirstJsonParser extends JsonParserDelegate {
+    private static final int START_OBJECT = 0;
+    private static final int FIELD_NAME = 1;
+    private static final int VALUE = 2;
+    private static final int DELEGATE = 3;
+
+    private final SerializableString fieldName;
+    private final String discriminator;
+    private int state = START_OBJECT;
+
+    public DiscriminatorFirstJsonParser(JsonParser delegate, SerializableString fieldName, String discriminator) {
+        super(delegate);
+        this.fieldName = fieldName;
+        this.discriminator = discriminator;
+    }
+
+    @Override
+    public JsonToken nextToken() throws IOException {
+        if (this.state < DELEGATE) {
+            this.state++;
+            if (this.state < DELEGATE) {
+                return this.currentToken();
+            }
+        }
+        return this.delegate.nextToken();
+    }
+
+    @Override
+    public JsonToken nextValue() throws IOException {
+        if (this.state < VALUE) {
+            this.state = VALUE;
+            return JsonToken.VALUE_STRING;
+        }
+        if (this.state == VALUE) {
+            this.state = DELEGATE;
+        }
+        return this.delegate.nextValue();
+    }
+
+    @Override
+    public boolean nextFieldName(SerializableString str) throws IOException {
+        if (this.state == START_OBJECT) {
+            this.state = FIELD_NAME;
+            return str.getValue().equals(this.fieldName.getValue());
+        }
+        if (this.state < DELEGATE) {
+            this.state++;
+            if (this.state == VALUE) {
+                return false;
+            }
+        }
+        return this.delegate.nextFieldName(str);
+    }
+
+    @Override
+    public String nextFieldName() throws IOException {
+        if (this.state == START_OBJECT) {
+            this.state = FIELD_NAME;
+            return this.fieldName.getValue();
+        }
+        if (this.state < DELEGATE) {
+            this.state++;
+            if (this.state == VALUE) {
+                return null;
+            }
+        }
+        return this.delegate.nextFieldName();
+    }
+
+    @Override
+    public String nextTextValue() throws IOException {
+        if (this.state < DELEGATE) {
+            this.state++;
+            if (this.state == VALUE) {
+                return this.discriminator;
+            }
+            if (this.state == FIELD_NAME) {
+                return null;
+            }
+        }
+        return this.delegate.nextTextValue();
+    }
+
+    @Override
+    public JsonParser skipChildren() throws IOException {
+        if (this.state == START_OBJECT) {
+            this.state = DELEGATE;
+            for (var token = this.delegate.nextToken(); token != JsonToken.END_OBJECT; token = this.delegate.nextToken()) {
+                this.delegate.nextToken();
+                this.delegate.skipChildren();
+            }
+            return this;
+        }
+        if (this.state < DELEGATE) {
+            return this;
+        }
+        return this.delegate.skipChildren();
+    }
+
+    @Override
+    public JsonToken currentToken() {
+        return switch (this.state) {
+            case START_OBJECT -> JsonToken.START_OBJECT;
+            case FIELD_NAME -> JsonToken.FIELD_NAME;
+            case VALUE -> JsonToken.VALUE_STRING;
+            default -> this.delegate.currentToken();
+        };
+    }
+
+    @Override
+    @Deprecated
+    public JsonToken getCurrentToken() {
+        return this.currentToken();
+    }
+
+    @Override
+    public int currentTokenId() {
+        return switch (this.state) {
+            case START_OBJECT -> JsonTokenId.ID_START_OBJECT;
+            case FIELD_NAME -> JsonTokenId.ID_FIELD_NAME;
+            case VALUE -> JsonTokenId.ID_STRING;
+            default -> this.delegate.currentTokenId();
+        };
+    }
+
+    @Override
+    @Deprecated
+    public int getCurrentTokenId() {
+        return this.currentTokenId();
+    }
+
+    @Override
+    public boolean hasCurrentToken() {
+        return this.state < DELEGATE || this.delegate.hasCurrentToken();
+    }
+
+    @Override
+    public boolean hasTokenId(int id) {
+        return this.state < DELEGATE ? this.currentTokenId() == id : this.delegate.hasTokenId(id);
+    }
+
+    @Override
+    public boolean hasToken(JsonToken t) {
+        return this.state < DELEGATE ? this.currentToken() == t : this.delegate.hasToken(t);
+    }
+
+    @Override
+    public boolean isExpectedStartObjectToken() {
+        return this.state < DELEGATE ? this.state == START_OBJECT : this.delegate.isExpectedStartObjectToken();
+    }
+
+    @Override
+    public boolean isExpectedStartArrayToken() {
+        return this.state < DELEGATE ? false : this.delegate.isExpectedStartArrayToken();
+    }
+
+    @Override
+    public String currentName() throws IOException {
+        return switch (this.state) {
+            case START_OBJECT -> null;
+            case FIELD_NAME, VALUE -> this.fieldName.getValue();
+            default -> this.delegate.currentName();
+        };
+    }
+
+    @Override
+    @Deprecated
+    public String getCurrentName() throws IOException {
+        return this.currentName();
+    }
+
+    @Override
+    public String getText() throws IOException {
+        return switch (this.state) {
+            case START_OBJECT -> "{";
+            case FIELD_NAME -> this.fieldName.getValue();
+            case VALUE -> this.discriminator;
+            default -> this.delegate.getText();
+        };
+    }
+
+    @Override
+    public boolean hasTextCharacters() {
+        return this.state < DELEGATE ? false : this.delegate.hasTextCharacters();
+    }
+
+    @Override
+    public char[] getTextCharacters() throws IOException {
+        return this.state < DELEGATE ? this.getText().toCharArray() : this.delegate.getTextCharacters();
+    }
+
+    @Override
+    public int getTextLength() throws IOException {
+        return this.state < DELEGATE ? this.getText().length() : this.delegate.getTextLength();
+    }
+
+    @Override
+    public int getTextOffset() throws IOException {
+        return this.state < DELEGATE ? 0 : this.delegate.getTextOffset();
+    }
+
+    @Override
+    public String getValueAsString() throws IOException {
+        return this.getValueAsString(null);
+    }
+
+    @Override
+    public String getValueAsString(String defaultValue) throws IOException {
+        return switch (this.state) {
+            case START_OBJECT -> defaultValue;
+            case FIELD_NAME -> this.fieldName.getValue();
+            case VALUE -> this.discriminator;
+            default -> this.delegate.getValueAsString(defaultValue);
+        };
+    }
+}
@@ -1,13 +1,18 @@
 package ru.tinkoff.kora.json.common.util;
 
 import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.io.SerializedString;
 import jakarta.annotation.Nullable;
 
 import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 public class DiscriminatorHelper {
+    private static final ConcurrentHashMap<Class<?>, LongAdder> OUT_OF_ORDER_READS = new ConcurrentHashMap<>();
+
     @Nullable
     public static String readStringDiscriminator(BufferingJsonParser parser, String fieldName) throws IOException {
         var token = parser.currentToken();
@@ -15,6 +20,48 @@ public class DiscriminatorHelper {
         if (token != JsonToken.START_OBJECT) {
             throw new JsonParseException(parser, "Expected start of object for discriminator field " + name);
         }
+        return findStringDiscriminator(parser, name);
+    }
+
+    /**
+     * Continues discriminator search for parser created with {@link BufferingJsonParser#BufferingJsonParser(JsonParser, JsonToken)}
+     * after first field name of object turned out not to be discriminator
+     */
+    @Nullable
+    public static String readStringDiscriminatorAfterFirstField(BufferingJsonParser parser, SerializedString fieldName) throws IOException {
+        if (parser.currentToken() == JsonToken.END_OBJECT) {
+            return null;
+        }
+        return findStringDiscriminator(parser, fieldName);
+    }
+
+    /**
+     * Reads discriminator value when parser is positioned at discriminator field name
+     */
+    public static String readStringDiscriminatorValue(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.VALUE_STRING) {
+            throw new JsonParseException(parser, "Expecting VALUE_STRING token, got " + parser.currentToken());
+        }
+        return parser.getText();
+    }
+
+    /**
+     * @return counter of reads where discriminator was not the first field of object, so object had to be buffered
+     */
+    public static LongAdder outOfOrderReads(Class<?> sealedType) {
+        return OUT_OF_ORDER_READS.computeIfAbsent(sealedType, t -> new LongAdder());
+    }
+
+    /**
+     * @return number of reads of sealed type where discriminator was not the first field of object, so object had to be buffered
+     */
+    public static long outOfOrderReadCount(Class<?> sealedType) {
+        var counter = OUT_OF_ORDER_READS.get(sealedType);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    @Nullable
+    private static String findStringDiscriminator(BufferingJsonParser parser, SerializedString name) throws IOException {
         while (!parser.nextFieldName(name)) {
             if (parser.currentToken() == JsonToken.END_OBJECT) {
                 return null;
@@ -0,0 +1,600 @@
+package ru.tinkoff.kora.json.common.util;
+
+import ru.tinkoff.kora.json.common.RawJson;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reader of UTF-8 JSON bytes used by readers generated with {@code kora.json.bytes.enabled} option.
+ * <br>
+ * It reads only the input it can handle without tokenization: objects of known field names and scalar values.
+ * On anything else, including malformed structure and malformed UTF-8 in strings, it throws {@link UnsupportedInputException}
+ * and generated reader reads the same bytes again with Jackson parser, so errors are reported by Jackson as before.
+ */
+public final class JsonByteReader {
+    private static final VarHandle LONG_LE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+    private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+    private static final byte[] FALSE = {'f', 'a', 'l', 's', 'e'};
+    private static final int MAX_DEPTH = 1000;
+
+    private final byte[] bytes;
+    private final int end;
+    private int pos;
+    private boolean needComma;
+
+    public JsonByteReader(byte[] bytes, int offset, int length) {
+        this.bytes = bytes;
+        this.pos = offset;
+        this.end = offset + length;
+    }
+
+    /**
+     * @return field name in quotes as expected by {@link #nextFieldName(byte[])}
+     */
+    public static byte[] fieldName(String name) {
+        for (int i = 0; i < name.length(); i++) {
+            var c = name.charAt(i);
+            if (c < 0x20 || c == '"' || c == '\\') {
+                throw new IllegalArgumentException("Field name requires escaping: " + name);
+            }
+        }
+        return ('"' + name + '"').getBytes(StandardCharsets.UTF_8);
+    }
+
+    public static UnsupportedInputException unsupported() {
+        return UnsupportedInputException.INSTANCE;
+    }
+
+    /**
+     * @return true if next value is {@code null}, it is consumed then
+     */
+    public boolean nextNull() {
+        this.skipWhitespace();
+        if (this.pos < this.end && this.bytes[this.pos] == 'n') {
+            this.expectLiteral(NULL);
+            this.needComma = true;
+            return true;
+        }
+        return false;
+    }
+
+    public void startObject() {
+        this.skipWhitespace();
+        if (this.pos >= this.end || this.bytes[this.pos] != '{') {
+            throw unsupported();
+        }
+        this.pos++;
+        this.needComma = false;
+    }
+
+    /**
+     * Consumes field name if it is next in current object
+     *
+     * @param quotedName field name created with {@link #fieldName(String)}
+     * @return true if next field has this name
+     */
+    public boolean nextFieldName(byte[] quotedName) {
+        this.skipSeparator();
+        var length = quotedName.length;
+        if (this.end - this.pos < length) {
+            return false;
+        }
+        var bytes = this.bytes;
+        var pos = this.pos;
+        for (int i = 0; i < length; i++) {
+            if (bytes[pos + i] != quotedName[i]) {
+                return false;
+            }
+        }
+        this.pos = pos + length;
+        this.expectColon();
+        return true;
+    }
+
+    /**
+     * @return false if current object has ended, its end is consumed then
+     */
+    public boolean nextField() {
+        this.skipSeparator();
+        if (this.pos >= this.end) {
+            throw unsupported();
+        }
+        if (this.bytes[this.pos] == '}') {
+            this.pos++;
+            this.needComma = true;
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Reads field name after {@link #nextField()} returned true
+     */
+    public String readFieldName() {
+        if (this.pos >= this.end || this.bytes[this.pos] != '"') {
+            throw unsupported();
+        }
+        var name = this.readQuoted();
+        this.expectColon();
+        return name;
+    }
+
+    public void skipRemainingFields() {
+        while (this.nextField()) {
+            this.skipString();
+            this.expectColon();
+            this.skipValue();
+        }
+    }
+
+    public String readString() {
+        this.skipWhitespace();
+        if (this.pos >= this.end || this.bytes[this.pos] != '"') {
+            throw unsupported();
+        }
+        var value = this.readQuoted();
+        this.needComma = true;
+        return value;
+    }
+
+    public boolean readBoolean() {
+        this.skipWhitespace();
+        if (this.pos < this.end && this.bytes[this.pos] == 't') {
+            this.expectLiteral(TRUE);
+            this.needComma = true;
+            return true;
+        }
+        this.expectLiteral(FALSE);
+        this.needComma = true;
+        return false;
+    }
+
+    public short readShort() {
+        var value = this.readLong();
+        if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
+            throw unsupported();
+        }
+        return (short) value;
+    }
+
+    public int readInt() {
+        var value = this.readLong();
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw unsupported();
+        }
+        return (int) value;
+    }
+
+    /**
+     * Reads integer of at most 18 digits, groups of eight digits are parsed at once
+     */
+    public long readLong() {
+        this.skipWhitespace();
+        var bytes = this.bytes;
+        var pos = this.pos;
+        var end = this.end;
+        var negative = pos < end && bytes[pos] == '-';
+        if (negative) {
+            pos++;
+        }
+        var start = pos;
+        long value = 0;
+        while (end - pos >= 8) {
+            var chunk = (long) LONG_LE.get(bytes, pos);
+            if (!isEightDigits(chunk)) {
+                break;
+            }
+            value = value * 100_000_000L + parseEightDigits(chunk);
+            pos += 8;
+        }
+        while (pos < end) {
+            var b = bytes[pos];
+            if (b < '0' || b > '9') {
+                break;
+            }
+            value = value * 10 + (b - '0');
+            pos++;
+        }
+        var digits = pos - start;
+        if (digits == 0 || digits > 18 || digits > 1 && bytes[start] == '0') {
+            throw unsupported();
+        }
+        if (pos < end) {
+            var b = bytes[pos];
+            if (b == '.' || b == 'e' || b == 'E' || b == '+' || b == '-' || b >= '0' && b <= '9') {
+                throw unsupported();
+            }
+        }
+        this.pos = pos;
+        this.needComma = true;
+        return negative ? -value : value;
+    }
+
+    /**
+     * Skips any value, nested objects and arrays are checked for structure on the way
+     */
+    public void skipValue() {
+        this.skipValue(0);
+        this.needComma = true;
+    }
+
+    /**
+     * Reads non null value as {@link RawJson} slice of input bytes, nothing is copied.
+     * <br>
+     * Objects and arrays are not tokenized: scanner only matches brackets and skips strings, so the rest of their content is not validated.
+     * Nesting deeper than 64 levels is not supported by scanner.
+     */
+    public RawJson readRawJson() {
+        this.skipWhitespace();
+        if (this.pos >= this.end) {
+            throw unsupported();
+        }
+        var start = this.pos;
+        var b = this.bytes[start];
+        if (b == '{' || b == '[') {
+            this.skipBrackets();
+        } else if (b == 'n') {
+            // null is read with nextNull, so it is not a value here
+            throw unsupported();
+        } else {
+            this.skipValue(0);
+        }
+        this.needComma = true;
+        return new RawJson(this.bytes, start, this.pos - start);
+    }
+
+    static boolean isEightDigits(long chunk) {
+        return ((chunk & 0xF0F0F0F0F0F0F0F0L) | (((chunk + 0x0606060606060606L) & 0xF0F0F0F0F0F0F0F0L) >>> 4)) == 0x3333333333333333L;
+    }
+
+    static long parseEightDigits(long chunk) {
+        var value = chunk & 0x0F0F0F0F0F0F0F0FL;
+        value = (value * 10 + (value >>> 8)) & 0x00FF00FF00FF00FFL;
+        value = (value * 100 + (value >>> 16)) & 0x0000FFFF0000FFFFL;
+        return (value * 10000 + (value >>> 32)) & 0xFFFFFFFFL;
+    }
+
+    private void skipValue(int depth) {
+        if (depth > MAX_DEPTH) {
+            throw unsupported();
+        }
+        this.skipWhitespace();
+        if (this.pos >= this.end) {
+            throw unsupported();
+        }
+        switch (this.bytes[this.pos]) {
+            case '{' -> {
+                this.pos++;
+                this.needComma = false;
+                while (this.nextField()) {
+                    this.skipString();
+                    this.expectColon();
+                    this.skipValue(depth + 1);
+                    this.needComma = true;
+                }
+            }
+            case '[' -> {
+                this.pos++;
+                this.skipWhitespace();
+                if (this.pos < this.end && this.bytes[this.pos] == ']') {
+                    this.pos++;
+                    return;
+                }
+                while (true) {
+                    this.skipValue(depth + 1);
+                    this.skipWhitespace();
+                    if (this.pos >= this.end) {
+                        throw unsupported();
+                    }
+                    var b = this.bytes[this.pos++];
+                    if (b == ']') {
+                        return;
+                    }
+                    if (b != ',') {
+                        throw unsupported();
+                    }
+                }
+            }
+            case '"' -> this.skipString();
+            case 't' -> this.expectLiteral(TRUE);
+            case 'f' -> this.expectLiteral(FALSE);
+            case 'n' -> this.expectLiteral(NULL);
+            default -> this.skipNumber();
+        }
+    }
+
+    private void skipBrackets() {
+        var bytes = this.bytes;
+        var end = this.end;
+        var pos = this.pos;
+        // one bit per open bracket: 1 for object and 0 for array
+        var stack = 0L;
+        var depth = 0;
+        while (pos < end) {
+            var b = bytes[pos++];
+            switch (b) {
+                case '"' -> {
+                    while (true) {
+                        if (pos >= end) {
+                            throw unsupported();
+                        }
+                        var c = bytes[pos++];
+                        if (c == '"') {
+                            break;
+                        }
+                        if (c == '\\') {
+                            pos++;
+                        }
+                    }
+                }
+                case '{', '[' -> {
+                    if (depth == Long.SIZE) {
+                        throw unsupported();
+                    }
+                    stack = (stack << 1) | (b == '{' ? 1 : 0);
+                    depth++;
+                }
+                case '}', ']' -> {
+                    if ((stack & 1) != (b == '}' ? 1 : 0)) {
+                        throw unsupported();
+                    }
+                    stack >>>= 1;
+                    if (--depth == 0) {
+                        this.pos = pos;
+                        return;
+                    }
+                }
+                default -> {}
+            }
+        }
+        throw unsupported();
+    }
+
+    private void skipNumber() {
+        var start = this.pos;
+        while (this.pos < this.end) {
+            var b = this.bytes[this.pos];
+            if (b >= '0' && b <= '9' || b == '-' || b == '+' || b == '.' || b == 'e' || b == 'E') {
+                this.pos++;
+            } else {
+                break;
+            }
+        }
+        var first = this.bytes[start];
+        if (this.pos == start || first != '-' && (first < '0' || first > '9')) {
+            throw unsupported();
+        }
+    }
+
+    private void skipString() {
+        this.skipWhitespace();
+        if (this.pos >= this.end || this.bytes[this.pos] != '"') {
+            throw unsupported();
+        }
+        var pos = this.pos + 1;
+        while (pos < this.end) {
+            var b = this.bytes[pos++];
+            if (b == '"') {
+                this.pos = pos;
+                return;
+            }
+            if (b == '\\') {
+                pos++;
+            } else if (b < 0) {
+                pos = this.skipUtf8Sequence(pos - 1);
+            } else if (b < 0x20) {
+                throw unsupported();
+            }
+        }
+        throw unsupported();
+    }
+
+    private String readQuoted() {
+        var bytes = this.bytes;
+        var start = this.pos + 1;
+        var pos = start;
+        while (pos < this.end) {
+            var b = bytes[pos];
+            if (b == '"') {
+                this.pos = pos + 1;
+                return new String(bytes, start, pos - start, StandardCharsets.UTF_8);
+            }
+            if (b == '\\') {
+                return this.readEscaped(start, pos);
+            }
+            if (b < 0) {
+                pos = this.skipUtf8Sequence(pos);
+                continue;
+            }
+            if (b < 0x20) {
+                throw unsupported();
+            }
+            pos++;
+        }
+        throw unsupported();
+    }
+
+    private String readEscaped(int start, int escape) {
+        var bytes = this.bytes;
+        var sb = new StringBuilder(escape - start + 16);
+        var segmentStart = start;
+        var pos = escape;
+        while (pos < this.end) {
+            var b = bytes[pos];
+            if (b == '"') {
+                sb.append(new String(bytes, segmentStart, pos - segmentStart, StandardCharsets.UTF_8));
+                this.pos = pos + 1;
+                return sb.toString();
+            }
+            if (b < 0) {
+                pos = this.skipUtf8Sequence(pos);
+                continue;
+            }
+            if (b < 0x20) {
+                throw unsupported();
+            }
+            if (b != '\\') {
+                pos++;
+                continue;
+            }
+            sb.append(new String(bytes, segmentStart, pos - segmentStart, StandardCharsets.UTF_8));
+            if (pos + 1 >= this.end) {
+                throw unsupported();
+            }
+            switch (bytes[pos + 1]) {
+                case '"' -> sb.append('"');
+                case '\\' -> sb.append('\\');
+                case '/' -> sb.append('/');
+                case 'b' -> sb.append('\b');
+                case 'f' -> sb.append('\f');
+                case 'n' -> sb.append('\n');
+                case 'r' -> sb.append('\r');
+                case 't' -> sb.append('\t');
+                case 'u' -> {
+                    if (pos + 6 > this.end) {
+                        throw unsupported();
+                    }
+                    var c = 0;
+                    for (int i = pos + 2; i < pos + 6; i++) {
+                        var digit = Character.digit(bytes[i], 16);
+                        if (digit < 0) {
+                            throw unsupported();
+                        }
+                        c = (c << 4) | digit;
+                    }
+                    sb.append((char) c);
+                    pos += 4;
+                }
+                default -> throw unsupported();
+            }
+            pos += 2;
+            segmentStart = pos;
+        }
+        throw unsupported();
+    }
+
+    /**
+     * Validates multibyte UTF-8 sequence, so malformed input is reported by parser instead of being decoded with replacement characters
+     *
+     * @return position after sequence
+     */
+    private int skipUtf8Sequence(int pos) {
+        var bytes = this.bytes;
+        var b = bytes[pos] & 0xFF;
+        int length;
+        int min = 0x80;
+        int max = 0xBF;
+        if (b >= 0xC2 && b <= 0xDF) {
+            length = 2;
+        } else if (b >= 0xE0 && b <= 0xEF) {
+            length = 3;
+            if (b == 0xE0) {
+                // overlong encoding
+                min = 0xA0;
+            } else if (b == 0xED) {
+                // surrogates
+                max = 0x9F;
+            }
+        } else if (b >= 0xF0 && b <= 0xF4) {
+            length = 4;
+            if (b == 0xF0) {
+                // overlong encoding
+                min = 0x90;
+            } else if (b == 0xF4) {
+                // above U+10FFFF
+                max = 0x8F;
+            }
+        } else {
+            throw unsupported();
+        }
+        if (this.end - pos < length) {
+            throw unsupported();
+        }
+        var second = bytes[pos + 1] & 0xFF;
+        if (second < min || second > max) {
+            throw unsupported();
+        }
+        for (int i = pos + 2; i < pos + length; i++) {
+            if ((bytes[i] & 0xC0) != 0x80) {
+                throw unsupported();
+            }
+        }
+        return pos + length;
+    }
+
+    private void expectLiteral(byte[] literal) {
+        if (this.end - this.pos < literal.length) {
+            throw unsupported();
+        }
+        for (int i = 0; i < literal.length; i++) {
+            if (this.bytes[this.pos + i] != literal[i]) {
+                throw unsupported();
+            }
+        }
+        this.pos += literal.length;
+        if (this.pos < this.end) {
+            var b = this.bytes[this.pos];
+            if (b >= 'a' && b <= 'z' || b >= 'A' && b <= 'Z' || b >= '0' && b <= '9' || b == '_') {
+                throw unsupported();
+            }
+        }
+    }
+
+    private void expectColon() {
+        this.skipWhitespace();
+        if (this.pos >= this.end || this.bytes[this.pos] != ':') {
+            throw unsupported();
+        }
+        this.pos++;
+    }
+
+    private void skipSeparator() {
+        this.skipWhitespace();
+        if (!this.needComma) {
+            return;
+        }
+        if (this.pos >= this.end) {
+            throw unsupported();
+        }
+        var b = this.bytes[this.pos];
+        if (b == ',') {
+            this.pos++;
+            this.needComma = false;
+            this.skipWhitespace();
+            // trailing comma is rejected by parser
+            if (this.pos < this.end && this.bytes[this.pos] == '}') {
+                throw unsupported();
+            }
+        } else if (b != '}') {
+            throw unsupported();
+        }
+    }
+
+    private void skipWhitespace() {
+        var bytes = this.bytes;
+        var pos = this.pos;
+        while (pos < this.end) {
+            var b = bytes[pos];
+            if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+                break;
+            }
+            pos++;
+        }
+        this.pos = pos;
+    }
+
+    /**
+     * Thrown when input can't be read without tokenization, it has no stack trace and is shared
+     */
+    public static final class UnsupportedInputException extends RuntimeException {
+        private static final UnsupportedInputException INSTANCE = new UnsupportedInputException();
+
+        private UnsupportedInputException() {
+            super("Input is not supported by byte reader", null, false, false);
+        }
+    }
+}
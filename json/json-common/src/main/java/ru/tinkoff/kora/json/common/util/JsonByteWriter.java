@@ -0,0 +1,241 @@
+package ru.tinkoff.kora.json.common.util;
+
+import com.fasterxml.jackson.core.JsonGenerationException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import ru.tinkoff.kora.json.common.RawJson;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Writer of UTF-8 JSON bytes used by writers generated with {@code kora.json.bytes.enabled} option.
+ * <br>
+ * Field names are written from prepared bytes with quotes and colon, strings are escaped the same way as Jackson does by default,
+ * except that chars outside of BMP are written as 4 byte UTF-8 sequences instead of escaped surrogate pairs.
+ */
+public final class JsonByteWriter {
+    private static final byte[] HEX = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] DIGIT_TENS = new byte[100];
+    private static final byte[] DIGIT_ONES = new byte[100];
+    private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+    private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+    private static final byte[] FALSE = {'f', 'a', 'l', 's', 'e'};
+    private static final byte[] MIN_LONG = Long.toString(Long.MIN_VALUE).getBytes(StandardCharsets.US_ASCII);
+
+    static {
+        for (int i = 0; i < 100; i++) {
+            DIGIT_TENS[i] = (byte) ('0' + i / 10);
+            DIGIT_ONES[i] = (byte) ('0' + i % 10);
+        }
+    }
+
+    private byte[] buf;
+    private int pos;
+    private boolean needComma;
+
+    public JsonByteWriter() {
+        this(128);
+    }
+
+    public JsonByteWriter(int initialSize) {
+        this.buf = new byte[Math.max(initialSize, 16)];
+    }
+
+    /**
+     * @return field name in quotes followed by colon as expected by {@link #writeFieldName(byte[])}
+     */
+    public static byte[] fieldName(String name) {
+        var writer = new JsonByteWriter(name.length() + 8);
+        try {
+            writer.writeString(name);
+        } catch (JsonGenerationException e) {
+            throw new IllegalArgumentException(e);
+        }
+        writer.writeByte((byte) ':');
+        return writer.toByteArray();
+    }
+
+    public byte[] toByteArray() {
+        if (this.pos == this.buf.length) {
+            // buffer was presized exactly
+            return this.buf;
+        }
+        return Arrays.copyOf(this.buf, this.pos);
+    }
+
+    public void writeStartObject() {
+        this.writeSeparator();
+        this.writeByte((byte) '{');
+        this.needComma = false;
+    }
+
+    public void writeEndObject() {
+        this.writeByte((byte) '}');
+        this.needComma = true;
+    }
+
+    /**
+     * @param fieldName field name created with {@link #fieldName(String)}
+     */
+    public void writeFieldName(byte[] fieldName) {
+        this.writeSeparator();
+        this.writeBytes(fieldName);
+        this.needComma = false;
+    }
+
+    public void writeNull() {
+        this.writeSeparator();
+        this.writeBytes(NULL);
+        this.needComma = true;
+    }
+
+    public void writeBoolean(boolean value) {
+        this.writeSeparator();
+        this.writeBytes(value ? TRUE : FALSE);
+        this.needComma = true;
+    }
+
+    public void writeNumber(int value) {
+        this.writeNumber((long) value);
+    }
+
+    public void writeNumber(long value) {
+        this.writeSeparator();
+        this.needComma = true;
+        if (value == Long.MIN_VALUE) {
+            this.writeBytes(MIN_LONG);
+            return;
+        }
+        var negative = value < 0;
+        if (negative) {
+            value = -value;
+        }
+        var length = digits(value);
+        this.ensureCapacity(negative ? length + 1 : length);
+        if (negative) {
+            this.buf[this.pos++] = '-';
+        }
+        var buf = this.buf;
+        var end = this.pos + length;
+        var p = end;
+        while (value >= 100) {
+            var q = value / 100;
+            var r = (int) (value - q * 100);
+            buf[--p] = DIGIT_ONES[r];
+            buf[--p] = DIGIT_TENS[r];
+            value = q;
+        }
+        var r = (int) value;
+        buf[--p] = DIGIT_ONES[r];
+        if (r >= 10) {
+            buf[--p] = DIGIT_TENS[r];
+        }
+        this.pos = end;
+    }
+
+    public void writeString(String value) throws JsonGenerationException {
+        this.writeSeparator();
+        this.needComma = true;
+        var length = value.length();
+        // space is reserved as if string is plain ASCII, so presized buffer is not grown for typical values:
+        // there is always room for one byte per remaining char and closing quote, other chars reserve up to 6 bytes when they are met
+        this.ensureCapacity(length + 2);
+        var buf = this.buf;
+        var p = this.pos;
+        buf[p++] = '"';
+        for (int i = 0; i < length; i++) {
+            var c = value.charAt(i);
+            if (c < 0x80 && c >= 0x20 && c != '"' && c != '\\') {
+                buf[p++] = (byte) c;
+                continue;
+            }
+            if (buf.length - p < length - i + 6) {
+                this.pos = p;
+                this.ensureCapacity(length - i + 6);
+                buf = this.buf;
+            }
+            if (c < 0x80) {
+                buf[p++] = '\\';
+                switch (c) {
+                    case '"' -> buf[p++] = '"';
+                    case '\\' -> buf[p++] = '\\';
+                    case '\b' -> buf[p++] = 'b';
+                    case '\f' -> buf[p++] = 'f';
+                    case '\n' -> buf[p++] = 'n';
+                    case '\r' -> buf[p++] = 'r';
+                    case '\t' -> buf[p++] = 't';
+                    default -> {
+                        buf[p++] = 'u';
+                        buf[p++] = '0';
+                        buf[p++] = '0';
+                        buf[p++] = HEX[c >> 4];
+                        buf[p++] = HEX[c & 0xF];
+                    }
+                }
+            } else if (c < 0x800) {
+                buf[p++] = (byte) (0xC0 | (c >> 6));
+                buf[p++] = (byte) (0x80 | (c & 0x3F));
+            } else if (!Character.isSurrogate(c)) {
+                buf[p++] = (byte) (0xE0 | (c >> 12));
+                buf[p++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buf[p++] = (byte) (0x80 | (c & 0x3F));
+            } else {
+                if (!Character.isHighSurrogate(c) || i + 1 >= length || !Character.isLowSurrogate(value.charAt(i + 1))) {
+                    throw new JsonGenerationException("Split surrogate on writeString() input", (JsonGenerator) null);
+                }
+                var cp = Character.toCodePoint(c, value.charAt(++i));
+                buf[p++] = (byte) (0xF0 | (cp >> 18));
+                buf[p++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+                buf[p++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+                buf[p++] = (byte) (0x80 | (cp & 0x3F));
+            }
+        }
+        buf[p++] = '"';
+        this.pos = p;
+    }
+
+    /**
+     * Writes value bytes verbatim, slice of source array is copied directly into output
+     */
+    public void writeRaw(RawJson value) {
+        this.writeSeparator();
+        this.needComma = true;
+        var length = value.length();
+        this.ensureCapacity(length);
+        this.pos += value.appendUnquotedUTF8(this.buf, this.pos);
+    }
+
+    private static int digits(long value) {
+        long p = 10;
+        for (int i = 1; i < 19; i++) {
+            if (value < p) {
+                return i;
+            }
+            p = 10 * p;
+        }
+        return 19;
+    }
+
+    private void writeSeparator() {
+        if (this.needComma) {
+            this.writeByte((byte) ',');
+        }
+    }
+
+    private void writeByte(byte b) {
+        this.ensureCapacity(1);
+        this.buf[this.pos++] = b;
+    }
+
+    private void writeBytes(byte[] bytes) {
+        this.ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, this.buf, this.pos, bytes.length);
+        this.pos += bytes.length;
+    }
+
+    private void ensureCapacity(int length) {
+        if (this.buf.length - this.pos < length) {
+            this.buf = Arrays.copyOf(this.buf, Math.max(this.buf.length * 2, this.pos + length));
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package ru.tinkoff.kora.json.common.util;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import ru.tinkoff.kora.json.common.JsonCommonModule;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Pool of {@link JsonGenerator} writing into growable byte buffer, used by {@link ru.tinkoff.kora.json.common.JsonWriter} default methods.
+ * <br>
+ * Pool is striped by thread id and doesn't use {@link ThreadLocal} or locks, so it is safe to use from virtual threads:
+ * there are no more pooled generators than slots no matter how many threads there are, and thread never blocks on pool.
+ * When slot is empty (e.g. nested writes or contention) new generator is created and dropped if slot is taken on release.
+ */
+public final class JsonGeneratorPool {
+    private static final int INITIAL_BUFFER_SIZE = 512;
+    private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+    private static final AtomicReferenceArray<PooledGenerator> POOL;
+    private static final int MASK;
+
+    static {
+        var size = Integer.highestOneBit(Math.max(Runtime.getRuntime().availableProcessors() * 2 - 1, 1)) << 1;
+        POOL = new AtomicReferenceArray<>(size);
+        MASK = size - 1;
+    }
+
+    private JsonGeneratorPool() {}
+
+    /**
+     * @return generator with empty output, should be returned with {@link #release(PooledGenerator)} after successful write
+     */
+    public static PooledGenerator acquire() {
+        var pooled = POOL.getAndSet(slot(), null);
+        if (pooled != null) {
+            return pooled;
+        }
+        try {
+            return new PooledGenerator();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Generator should not be released if write failed: it may contain unfinished JSON state
+     */
+    public static void release(PooledGenerator generator) {
+        generator.reset();
+        POOL.compareAndSet(slot(), null, generator);
+    }
+
+    private static int slot() {
+        var id = Thread.currentThread().getId();
+        var hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & MASK;
+    }
+
+    public static final class PooledGenerator extends OutputStream {
+        private final JsonGenerator generator;
+        private byte[] buf = new byte[INITIAL_BUFFER_SIZE];
+        private int count;
+
+        private PooledGenerator() throws IOException {
+            this.generator = JsonCommonModule.JSON_FACTORY.createGenerator(this, JsonEncoding.UTF8);
+            this.generator.enable(JsonGenerator.Feature.WRITE_BIGDECIMAL_AS_PLAIN);
+            this.generator.setRootValueSeparator(null);
+        }
+
+        public JsonGenerator generator() {
+            return this.generator;
+        }
+
+        /**
+         * @return number of bytes written, generator is flushed before
+         */
+        public int size() throws IOException {
+            this.generator.flush();
+            return this.count;
+        }
+
+        public byte[] toByteArray() throws IOException {
+            this.generator.flush();
+            return Arrays.copyOf(this.buf, this.count);
+        }
+
+        public void writeTo(OutputStream os) throws IOException {
+            this.generator.flush();
+            os.write(this.buf, 0, this.count);
+        }
+
+        /**
+         * @throws BufferOverflowException if there is not enough space remaining in buffer, buffer is not modified in that case
+         */
+        public void writeTo(ByteBuffer buffer) throws IOException {
+            this.generator.flush();
+            buffer.put(this.buf, 0, this.count);
+        }
+
+        @Override
+        public void write(int b) {
+            this.ensureCapacity(1);
+            this.buf[this.count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            this.ensureCapacity(len);
+            System.arraycopy(b, off, this.buf, this.count, len);
+            this.count += len;
+        }
+
+        private void ensureCapacity(int length) {
+            if (this.buf.length - this.count < length) {
+                this.buf = Arrays.copyOf(this.buf, Math.max(this.buf.length * 2, this.count + length));
+            }
+        }
+
+        private void reset() {
+            this.count = 0;
+            if (this.buf.length > MAX_RETAINED_BUFFER_SIZE) {
+                this.buf = new byte[INITIAL_BUFFER_SIZE];
+            }
+        }
+    }
+}
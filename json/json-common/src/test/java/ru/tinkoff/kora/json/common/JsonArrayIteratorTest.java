@@ -0,0 +1,69 @@
+package ru.tinkoff.kora.json.common;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JsonArrayIteratorTest {
+    private final JsonReader<Integer> reader = parser -> parser.getIntValue();
+
+    @Test
+    void testIterator() throws IOException {
+        var it = JsonArrayIterator.of(reader, input("[1, 2, 3]"));
+
+        assertThat(it.hasNext()).isTrue();
+        assertThat(it.hasNext()).isTrue();
+        assertThat(it.next()).isEqualTo(1);
+        assertThat(it.next()).isEqualTo(2);
+        assertThat(it.next()).isEqualTo(3);
+        assertThat(it.hasNext()).isFalse();
+    }
+
+    @Test
+    void testEmptyAndNull() throws IOException {
+        assertThat(JsonArrayIterator.of(reader, input("[]")).hasNext()).isFalse();
+        assertThat(JsonArrayIterator.of(reader, input("null")).hasNext()).isFalse();
+    }
+
+    @Test
+    void testStream() throws IOException {
+        var closed = new AtomicBoolean();
+        var is = new ByteArrayInputStream("[1, 2, 3, 4]".getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+        try (var stream = JsonArrayIterator.of(reader, is).stream()) {
+            assertThat(stream.limit(2).toList()).containsExactly(1, 2);
+        }
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void testInvalidJson() throws IOException {
+        var notArray = JsonArrayIterator.of(reader, input("{}"));
+        assertThatThrownBy(notArray::hasNext)
+            .isInstanceOf(UncheckedIOException.class)
+            .hasCauseInstanceOf(JsonParseException.class);
+
+        var unfinished = JsonArrayIterator.of(reader, input("[1, 2"));
+        assertThat(unfinished.next()).isEqualTo(1);
+        assertThat(unfinished.next()).isEqualTo(2);
+        assertThatThrownBy(unfinished::hasNext)
+            .isInstanceOf(UncheckedIOException.class)
+            .hasCauseInstanceOf(JsonParseException.class);
+    }
+
+    private static ByteArrayInputStream input(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
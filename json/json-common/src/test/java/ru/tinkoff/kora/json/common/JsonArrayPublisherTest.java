@@ -0,0 +1,233 @@
+package ru.tinkoff.kora.json.common;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonToken;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonArrayPublisherTest {
+    private final JsonReader<Integer> reader = parser -> parser.getIntValue();
+    // sums all numbers of element, so nested structures can be checked
+    private final JsonReader<Integer> sumReader = parser -> {
+        if (parser.currentToken() == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getIntValue();
+        }
+        var sum = 0;
+        var depth = 1;
+        while (depth > 0) {
+            var token = parser.nextToken();
+            if (token.isStructStart()) {
+                depth++;
+            } else if (token.isStructEnd()) {
+                depth--;
+            } else if (token == JsonToken.VALUE_NUMBER_INT) {
+                sum += parser.getIntValue();
+            }
+        }
+        return sum;
+    };
+
+    @Test
+    void testElementsSplitBetweenBuffers() {
+        var source = new TestSource(" [1", "2, {\"a\": [3, ", "4], \"b\"", ": \"]\"}, [5,", " {}] ,6", " ] ");
+        var subscriber = new TestSubscriber();
+        new JsonArrayPublisher<>(sumReader, source).subscribe(subscriber);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertThat(subscriber.items).containsExactly(12, 7, 5, 6);
+        assertThat(subscriber.completed).isTrue();
+        assertThat(subscriber.error).isNull();
+    }
+
+    @Test
+    void testSingleByteBuffers() {
+        var json = "[10, {\"a\": \"\\u0442\\\"ест\", \"b\": [20, 30]}, -40, 5e0, 60]";
+        var bytes = json.getBytes(StandardCharsets.UTF_8);
+        var buffers = new ArrayList<ByteBuffer>();
+        for (var b : bytes) {
+            buffers.add(ByteBuffer.wrap(new byte[]{b}));
+        }
+        var subscriber = new TestSubscriber();
+        new JsonArrayPublisher<>(parser -> parser.currentToken() == JsonToken.VALUE_NUMBER_FLOAT ? (int) parser.getDoubleValue() : sumReader.read(parser), new TestSource(buffers)).subscribe(subscriber);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertThat(subscriber.items).containsExactly(10, 50, -40, 5, 60);
+        assertThat(subscriber.completed).isTrue();
+    }
+
+    @Test
+    void testBuffersAreRequestedOnDemand() {
+        var read = new ArrayList<Integer>();
+        JsonReader<Integer> countingReader = parser -> {
+            var value = parser.getIntValue();
+            read.add(value);
+            return value;
+        };
+        var source = new TestSource("[1, 2,", " 3", ", 4]");
+        var subscriber = new TestSubscriber();
+        new JsonArrayPublisher<>(countingReader, source).subscribe(subscriber);
+
+        assertThat(source.requested).isZero();
+        subscriber.subscription.request(1);
+        assertThat(read).containsExactly(1);
+        assertThat(source.requested).isEqualTo(1);
+
+        subscriber.subscription.request(1);
+        assertThat(read).containsExactly(1, 2);
+        assertThat(source.requested).isEqualTo(1);
+
+        subscriber.subscription.request(1);
+        assertThat(read).containsExactly(1, 2, 3);
+        assertThat(source.requested).isEqualTo(3);
+        assertThat(subscriber.completed).isFalse();
+
+        subscriber.subscription.request(1);
+        assertThat(subscriber.items).containsExactly(1, 2, 3, 4);
+        assertThat(subscriber.completed).isTrue();
+    }
+
+    @Test
+    void testCompletesWhenDemandMatchesSize() {
+        var source = new TestSource("[1, 2]", "   ");
+        var subscriber = new TestSubscriber();
+        new JsonArrayPublisher<>(reader, source).subscribe(subscriber);
+
+        subscriber.subscription.request(2);
+
+        assertThat(subscriber.items).containsExactly(1, 2);
+        assertThat(subscriber.completed).isTrue();
+        assertThat(source.cancelled).isTrue();
+    }
+
+    @Test
+    void testEmptyAndNull() {
+        for (var json : List.of("[]", " [ ] ", "null")) {
+            var subscriber = new TestSubscriber();
+            new JsonArrayPublisher<>(reader, new TestSource(json)).subscribe(subscriber);
+
+            subscriber.subscription.request(1);
+
+            assertThat(subscriber.items).isEmpty();
+            assertThat(subscriber.completed).isTrue();
+        }
+    }
+
+    @Test
+    void testInvalidJson() {
+        var invalidElement = new TestSubscriber();
+        var source = new TestSource("[1, }");
+        new JsonArrayPublisher<>(reader, source).subscribe(invalidElement);
+        invalidElement.subscription.request(10);
+        assertThat(invalidElement.items).containsExactly(1);
+        assertThat(invalidElement.error).isInstanceOf(JsonParseException.class);
+        assertThat(source.cancelled).isTrue();
+
+        var notArray = new TestSubscriber();
+        new JsonArrayPublisher<>(reader, new TestSource("{}")).subscribe(notArray);
+        notArray.subscription.request(10);
+        assertThat(notArray.error).isInstanceOf(JsonParseException.class).hasMessageContaining("Expecting START_ARRAY token");
+
+        var unfinished = new TestSubscriber();
+        new JsonArrayPublisher<>(reader, new TestSource("[1, 2")).subscribe(unfinished);
+        unfinished.subscription.request(10);
+        assertThat(unfinished.items).containsExactly(1, 2);
+        assertThat(unfinished.error).isInstanceOf(JsonParseException.class).hasMessageContaining("expected close marker for Array");
+    }
+
+    @Test
+    void testSourceError() {
+        var error = new IllegalStateException("test");
+        var subscriber = new TestSubscriber();
+        new JsonArrayPublisher<>(reader, new Flow.Publisher<ByteBuffer>() {
+            @Override
+            public void subscribe(Flow.Subscriber<? super ByteBuffer> s) {
+                s.onSubscribe(new Flow.Subscription() {
+                    @Override
+                    public void request(long n) {
+                        s.onNext(ByteBuffer.wrap("[1, 2".getBytes(StandardCharsets.UTF_8)));
+                        s.onError(error);
+                    }
+
+                    @Override
+                    public void cancel() {}
+                });
+            }
+        }).subscribe(subscriber);
+
+        subscriber.subscription.request(10);
+
+        assertThat(subscriber.items).containsExactly(1);
+        assertThat(subscriber.error).isSameAs(error);
+    }
+
+    private static final class TestSource implements Flow.Publisher<ByteBuffer> {
+        private final List<ByteBuffer> buffers;
+        private int requested;
+        private boolean cancelled;
+
+        private TestSource(String... buffers) {
+            this(List.of(buffers).stream().map(b -> ByteBuffer.wrap(b.getBytes(StandardCharsets.UTF_8))).toList());
+        }
+
+        private TestSource(List<ByteBuffer> buffers) {
+            this.buffers = buffers;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    for (int i = 0; i < n && !cancelled; i++) {
+                        if (requested == buffers.size()) {
+                            subscriber.onComplete();
+                            return;
+                        }
+                        subscriber.onNext(buffers.get(requested++));
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                }
+            });
+        }
+    }
+
+    private static final class TestSubscriber implements Flow.Subscriber<Integer> {
+        private final List<Integer> items = new ArrayList<>();
+        private Flow.Subscription subscription;
+        private boolean completed;
+        private Throwable error;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(Integer item) {
+            this.items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package ru.tinkoff.kora.json.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonLinesPublisherTest {
+    private final JsonReader<Integer> reader = parser -> parser.getIntValue();
+
+    @Test
+    void testLinesSplitBetweenBuffers() {
+        var source = new TestSource("1\n2", "3\r\n\n  \n4", "\n5");
+        var subscriber = new TestSubscriber();
+        new JsonLinesPublisher<>(reader, source).subscribe(subscriber);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertThat(subscriber.items).containsExactly(1, 23, 4, 5);
+        assertThat(subscriber.completed).isTrue();
+    }
+
+    @Test
+    void testBuffersAreRequestedOnDemand() {
+        var source = new TestSource("1\n2\n", "3\n", "4\n");
+        var subscriber = new TestSubscriber();
+        new JsonLinesPublisher<>(reader, source).subscribe(subscriber);
+
+        assertThat(source.requested).isZero();
+        subscriber.subscription.request(1);
+        assertThat(subscriber.items).containsExactly(1);
+        assertThat(source.requested).isEqualTo(1);
+
+        subscriber.subscription.request(1);
+        assertThat(subscriber.items).containsExactly(1, 2);
+        assertThat(source.requested).isEqualTo(1);
+
+        subscriber.subscription.request(1);
+        assertThat(subscriber.items).containsExactly(1, 2, 3);
+        assertThat(source.requested).isEqualTo(2);
+        assertThat(subscriber.completed).isFalse();
+
+        subscriber.subscription.request(2);
+        assertThat(subscriber.items).containsExactly(1, 2, 3, 4);
+        assertThat(subscriber.completed).isTrue();
+    }
+
+    @Test
+    void testInvalidLine() {
+        var source = new TestSource("1\n{\n3\n");
+        var subscriber = new TestSubscriber();
+        new JsonLinesPublisher<>(reader, source).subscribe(subscriber);
+
+        subscriber.subscription.request(10);
+
+        assertThat(subscriber.items).containsExactly(1);
+        assertThat(subscriber.error).isNotNull();
+        assertThat(source.cancelled).isTrue();
+    }
+
+    private static final class TestSource implements Flow.Publisher<ByteBuffer> {
+        private final List<String> buffers;
+        private int requested;
+        private boolean cancelled;
+
+        private TestSource(String... buffers) {
+            this.buffers = List.of(buffers);
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    for (int i = 0; i < n && !cancelled; i++) {
+                        if (requested == buffers.size()) {
+                            subscriber.onComplete();
+                            return;
+                        }
+                        subscriber.onNext(ByteBuffer.wrap(buffers.get(requested++).getBytes(StandardCharsets.UTF_8)));
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                }
+            });
+        }
+    }
+
+    private static final class TestSubscriber implements Flow.Subscriber<Integer> {
+        private final List<Integer> items = new ArrayList<>();
+        private Flow.Subscription subscription;
+        private boolean completed;
+        private Throwable error;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(Integer item) {
+            this.items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+        }
+    }
+}
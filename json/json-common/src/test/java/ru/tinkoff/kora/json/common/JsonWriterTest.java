@@ -0,0 +1,70 @@
+package ru.tinkoff.kora.json.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JsonWriterTest {
+    private final JsonWriter<Map<String, Object>> writer = (gen, object) -> JsonObjectCodec.write(gen, object);
+
+    @Test
+    void testToByteArrayReusesGenerator() throws IOException {
+        for (int i = 0; i < 10; i++) {
+            var json = writer.toByteArray(Map.of("key", i));
+            assertThat(json).asString(StandardCharsets.UTF_8).isEqualTo("{\"key\":" + i + "}");
+        }
+        assertThat(writer.toByteArray(null)).asString(StandardCharsets.UTF_8).isEqualTo("null");
+        assertThat(writer.toByteArray(Map.of("key", new BigDecimal("1E+3")))).asString(StandardCharsets.UTF_8).isEqualTo("{\"key\":1000}");
+    }
+
+    @Test
+    void testFailedWriteDoesNotAffectNextWrite() throws IOException {
+        JsonWriter<String> failing = (gen, object) -> {
+            gen.writeStartObject();
+            gen.writeFieldName("key");
+            throw new IOException("test");
+        };
+        assertThatThrownBy(() -> failing.toByteArray("value")).hasMessage("test");
+
+        assertThat(writer.toByteArray(Map.of("key", "value"))).asString(StandardCharsets.UTF_8).isEqualTo("{\"key\":\"value\"}");
+    }
+
+    @Test
+    void testNestedWrite() throws IOException {
+        JsonWriter<String> nested = (gen, object) -> gen.writeRawValue(new String(writer.toByteArray(Map.of("key", object)), StandardCharsets.UTF_8));
+
+        assertThat(nested.toByteArray("value")).asString(StandardCharsets.UTF_8).isEqualTo("{\"key\":\"value\"}");
+    }
+
+    @Test
+    void testWriteToByteBuffer() throws IOException {
+        var buffer = ByteBuffer.allocate(32);
+        buffer.put((byte) '[');
+        writer.write(Map.of("key", "value"), buffer);
+
+        assertThat(buffer.position()).isEqualTo(16);
+        assertThat(new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8)).isEqualTo("[{\"key\":\"value\"}");
+
+        var small = ByteBuffer.allocate(4);
+        assertThatThrownBy(() -> writer.write(Map.of("key", "value"), small)).isInstanceOf(BufferOverflowException.class);
+        assertThat(small.position()).isZero();
+    }
+
+    @Test
+    void testWriteToOutputStream() throws IOException {
+        var baos = new ByteArrayOutputStream();
+        writer.write(Map.of("key", "value"), baos);
+        writer.write(Map.of("key", "value"), baos);
+
+        assertThat(baos.toString(StandardCharsets.UTF_8)).isEqualTo("{\"key\":\"value\"}{\"key\":\"value\"}");
+    }
+}
@@ -1,11 +1,13 @@
 package ru.tinkoff.kora.json.common;
 
 import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonParseException;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 class RawJsonTest {
 
@@ -20,6 +22,7 @@ class RawJsonTest {
             writer.write(gen, rawJson);
         }
         Assertions.assertThat(rawJson.value()).isEqualTo(baos.toByteArray());
+        Assertions.assertThat(rawJson.value).isSameAs(rawJson.value());
     }
 
     @Test
@@ -34,4 +37,53 @@ class RawJsonTest {
         }
         Assertions.assertThat(rawJson.value()).isEqualTo(baos.toByteArray());
     }
+
+    @Test
+    void testSliceWriter() throws IOException {
+        var buffer = "[{\"key\": \"value\"}, 1]".getBytes(StandardCharsets.UTF_8);
+        var rawJson = new RawJson(buffer, 1, 16);
+
+        var baos = new ByteArrayOutputStream();
+        try (var gen = JsonCommonModule.JSON_FACTORY.createGenerator(baos, JsonEncoding.UTF8)) {
+            gen.writeStartArray();
+            new RawJsonWriter().write(gen, rawJson);
+            gen.writeEndArray();
+        }
+        Assertions.assertThat(baos.toString(StandardCharsets.UTF_8)).isEqualTo("[{\"key\": \"value\"}]");
+        Assertions.assertThat(new RawJsonWriter().toByteArray(rawJson)).isEqualTo("{\"key\": \"value\"}".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testReaderReturnsSliceOfInput() throws IOException {
+        var reader = new RawJsonReader();
+        var bytes = " {\"a\": [1, \"}]\\\"\", {}], \"b\": null} ".getBytes(StandardCharsets.UTF_8);
+
+        var rawJson = reader.read(bytes);
+        var expected = "{\"a\": [1, \"}]\\\"\", {}], \"b\": null}";
+        Assertions.assertThat(rawJson.offset()).isEqualTo(1);
+        Assertions.assertThat(rawJson.length()).isEqualTo(bytes.length - 2);
+        Assertions.assertThat(rawJson.getValue()).isEqualTo(expected);
+        Assertions.assertThat(rawJson.value()).isEqualTo(expected.getBytes(StandardCharsets.UTF_8));
+        Assertions.assertThat(rawJson.value).isNull();
+
+        var compact = rawJson.compact();
+        Assertions.assertThat(compact.offset()).isZero();
+        Assertions.assertThat(compact.value()).isSameAs(rawJson.value());
+        Assertions.assertThat(compact.value).isSameAs(compact.value());
+        Assertions.assertThat(compact.compact()).isSameAs(compact);
+
+        Assertions.assertThat(reader.read("\"str\"".getBytes(StandardCharsets.UTF_8)).getValue()).isEqualTo("\"str\"");
+        Assertions.assertThat(reader.read("null".getBytes(StandardCharsets.UTF_8))).isNull();
+    }
+
+    @Test
+    void testReaderFallsBackToParser() throws IOException {
+        var reader = new RawJsonReader();
+
+        Assertions.assertThat(reader.read("{\"a\":  [1,2]}").getValue()).isEqualTo("{\"a\":[1,2]}");
+        var deep = "[".repeat(100) + "]".repeat(100);
+        Assertions.assertThat(reader.read(deep.getBytes(StandardCharsets.UTF_8)).getValue()).isEqualTo(deep);
+        Assertions.assertThatThrownBy(() -> reader.read("{\"a\": [1}".getBytes(StandardCharsets.UTF_8)))
+            .isInstanceOf(JsonParseException.class);
+    }
 }
@@ -0,0 +1,106 @@
+package ru.tinkoff.kora.json.common.util;
+
+import com.fasterxml.jackson.core.JsonGenerationException;
+import org.junit.jupiter.api.Test;
+import ru.tinkoff.kora.json.common.JsonCommonModule;
+import ru.tinkoff.kora.json.common.RawJson;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JsonByteWriterTest {
+    private static final byte[] ID = JsonByteWriter.fieldName("id");
+    private static final byte[] NAME = JsonByteWriter.fieldName("name");
+    private static final byte[] EMAIL = JsonByteWriter.fieldName("email");
+    private static final byte[] BALANCE = JsonByteWriter.fieldName("balance");
+    private static final byte[] ACTIVE = JsonByteWriter.fieldName("active");
+    private static final byte[] MANAGER = JsonByteWriter.fieldName("manager");
+    private static final byte[] PAYLOAD = JsonByteWriter.fieldName("payload");
+
+    @Test
+    void testPresizedWriterIsNotReallocated() throws IOException {
+        var expected = write(new JsonByteWriter()).toByteArray();
+        assertThat(new String(expected, StandardCharsets.UTF_8))
+            .isEqualTo("{\"id\":7,\"name\":\"John Smith\",\"email\":\"john.smith@example.com\",\"balance\":-1024,\"active\":true,\"manager\":null,\"payload\":[1,2]}");
+
+        var writer = write(new JsonByteWriter(expected.length));
+        var bytes = writer.toByteArray();
+
+        assertThat(bytes).isEqualTo(expected);
+        // presized buffer is returned as is, so the same array means it was never grown
+        assertThat(writer.toByteArray()).isSameAs(bytes);
+    }
+
+    @Test
+    void testStringsAreWrittenAsByJackson() throws IOException {
+        var values = new String[]{
+            "",
+            "plain ascii",
+            "quote \" backslash \\ control \b\f\n\r\t\u0001\u001F",
+            "тест",
+            "ascii then тест",
+            "\n".repeat(100),
+            "ж".repeat(100) + "x",
+        };
+        for (var value : values) {
+            // smallest buffer makes every non ASCII char grow it
+            var writer = new JsonByteWriter(16);
+            writer.writeString(value);
+
+            var expected = new ByteArrayOutputStream();
+            try (var gen = JsonCommonModule.JSON_FACTORY.createGenerator(expected)) {
+                gen.writeString(value);
+            }
+            assertThat(new String(writer.toByteArray(), StandardCharsets.UTF_8)).isEqualTo(expected.toString(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void testSurrogatePairsAreWrittenAsUtf8() throws IOException {
+        var value = "\uD83D\uDE00 surrogates \uD83D\uDE00\uD83D\uDE00";
+        var writer = new JsonByteWriter(16);
+        writer.writeString(value);
+
+        assertThat(new String(writer.toByteArray(), StandardCharsets.UTF_8)).isEqualTo("\"" + value + "\"");
+        assertThatThrownBy(() -> new JsonByteWriter().writeString("split \uD83D surrogate"))
+            .isInstanceOf(JsonGenerationException.class);
+    }
+
+    @Test
+    void testNumbers() {
+        var writer = new JsonByteWriter(16);
+        writer.writeStartObject();
+        for (var value : new long[]{0, 9, -9, 10, 1234567890123L, Long.MAX_VALUE, Long.MIN_VALUE}) {
+            writer.writeFieldName(ID);
+            writer.writeNumber(value);
+        }
+        writer.writeEndObject();
+
+        assertThat(new String(writer.toByteArray(), StandardCharsets.US_ASCII))
+            .isEqualTo("{\"id\":0,\"id\":9,\"id\":-9,\"id\":10,\"id\":1234567890123,\"id\":9223372036854775807,\"id\":-9223372036854775808}");
+    }
+
+    private static JsonByteWriter write(JsonByteWriter writer) throws JsonGenerationException {
+        writer.writeStartObject();
+        writer.writeFieldName(ID);
+        writer.writeNumber(7);
+        writer.writeFieldName(NAME);
+        writer.writeString("John Smith");
+        writer.writeFieldName(EMAIL);
+        writer.writeString("john.smith@example.com");
+        writer.writeFieldName(BALANCE);
+        writer.writeNumber(-1024L);
+        writer.writeFieldName(ACTIVE);
+        writer.writeBoolean(true);
+        writer.writeFieldName(MANAGER);
+        writer.writeNull();
+        writer.writeFieldName(PAYLOAD);
+        writer.writeRaw(new RawJson("[1,2]"));
+        writer.writeEndObject();
+        return writer;
+    }
+}
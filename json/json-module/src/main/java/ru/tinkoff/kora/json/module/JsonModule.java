@@ -4,6 +4,7 @@ import ru.tinkoff.kora.json.common.JsonCommonModule;
 import ru.tinkoff.kora.json.common.JsonReader;
 import ru.tinkoff.kora.json.common.JsonWriter;
 import ru.tinkoff.kora.json.common.annotation.Json;
+import ru.tinkoff.kora.json.common.annotation.JsonLines;
 import ru.tinkoff.kora.json.module.http.client.*;
 import ru.tinkoff.kora.json.module.http.server.*;
 import ru.tinkoff.kora.json.module.kafka.JsonKafkaDeserializer;
@@ -30,11 +31,56 @@ public interface JsonModule extends JsonCommonModule {
         return new JsonWriterHttpServerEntityResponseMapper<>(writer);
     }
 
+    @Json
+    default <T> JsonStreamHttpServerRequestMapper<T> jsonStreamHttpServerRequestMapper(JsonReader<T> reader) {
+        return new JsonStreamHttpServerRequestMapper<>(reader);
+    }
+
+    @Json
+    default <T> JsonPublisherHttpServerRequestMapper<T> jsonPublisherHttpServerRequestMapper(JsonReader<T> reader) {
+        return new JsonPublisherHttpServerRequestMapper<>(reader);
+    }
+
+    @Json
+    default <T> JsonStreamHttpServerResponseMapper<T> jsonStreamHttpServerResponseMapper(JsonWriter<T> writer) {
+        return new JsonStreamHttpServerResponseMapper<>(writer);
+    }
+
+    @Json
+    default <T> JsonPublisherHttpServerResponseMapper<T> jsonPublisherHttpServerResponseMapper(JsonWriter<T> writer) {
+        return new JsonPublisherHttpServerResponseMapper<>(writer);
+    }
+
+    @JsonLines
+    default <T> JsonLinesHttpServerRequestMapper<T> jsonLinesHttpServerRequestMapper(JsonReader<T> reader) {
+        return new JsonLinesHttpServerRequestMapper<>(reader);
+    }
+
+    @JsonLines
+    default <T> JsonLinesHttpServerResponseMapper<T> jsonLinesHttpServerResponseMapper(JsonWriter<T> writer) {
+        return new JsonLinesHttpServerResponseMapper<>(writer);
+    }
+
     @Json
     default <T> JsonHttpClientRequestMapper<T> jsonHttpClientRequestMapper(JsonWriter<T> jsonWriter) {
         return new JsonHttpClientRequestMapper<>(jsonWriter);
     }
 
+    @Json
+    default <T> JsonStreamHttpClientRequestMapper<T> jsonStreamHttpClientRequestMapper(JsonWriter<T> jsonWriter) {
+        return new JsonStreamHttpClientRequestMapper<>(jsonWriter);
+    }
+
+    @Json
+    default <T> JsonPublisherHttpClientRequestMapper<T> jsonPublisherHttpClientRequestMapper(JsonWriter<T> jsonWriter) {
+        return new JsonPublisherHttpClientRequestMapper<>(jsonWriter);
+    }
+
+    @JsonLines
+    default <T> JsonLinesHttpClientRequestMapper<T> jsonLinesHttpClientRequestMapper(JsonWriter<T> jsonWriter) {
+        return new JsonLinesHttpClientRequestMapper<>(jsonWriter);
+    }
+
     @Json
     default <T> JsonHttpClientResponseMapper<T> jsonHttpClientResponseMapper(JsonReader<T> jsonReader) {
         return new JsonHttpClientResponseMapper<>(jsonReader);
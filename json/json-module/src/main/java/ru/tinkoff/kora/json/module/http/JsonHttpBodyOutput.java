@@ -1,12 +1,11 @@
 package ru.tinkoff.kora.json.module.http;
 
-import com.fasterxml.jackson.core.JsonEncoding;
 import jakarta.annotation.Nullable;
 import ru.tinkoff.kora.common.Context;
 import ru.tinkoff.kora.common.util.flow.LazySingleSubscription;
+import ru.tinkoff.kora.http.common.body.HttpBody;
 import ru.tinkoff.kora.http.common.body.HttpBodyOutput;
 import ru.tinkoff.kora.json.common.JsonWriter;
-import ru.tinkoff.kora.json.module.JsonModule;
 
 import java.io.IOException;
 import java.io.OutputStream;
@@ -14,6 +13,11 @@ import java.nio.ByteBuffer;
 import java.util.concurrent.Flow;
 
 public final class JsonHttpBodyOutput<T> implements HttpBodyOutput {
+    /**
+     * Values estimated to be no larger than this are serialized eagerly
+     */
+    public static final int EAGER_MAX_SIZE = 16 * 1024;
+
     private final JsonWriter<T> writer;
     private final Context context;
     @Nullable
@@ -25,6 +29,21 @@ public final class JsonHttpBodyOutput<T> implements HttpBodyOutput {
         this.context = context;
     }
 
+    /**
+     * <b>Русский</b>: Создает тело с JSON значением. Если {@link JsonWriter#estimateSize(Object)} оценивает значение не больше {@link #EAGER_MAX_SIZE},
+     * оно сериализуется сразу и тело имеет точный Content-Length, иначе значение сериализуется лениво при записи тела.
+     * <hr>
+     * <b>English</b>: Creates body with JSON value. If {@link JsonWriter#estimateSize(Object)} estimates value to be no larger than {@link #EAGER_MAX_SIZE},
+     * it is serialized right away and body has exact Content-Length, otherwise value is serialized lazily when body is written.
+     */
+    public static <T> HttpBodyOutput of(JsonWriter<T> writer, Context context, @Nullable T value) throws IOException {
+        var estimatedSize = writer.estimateSize(value);
+        if (estimatedSize >= 0 && estimatedSize <= EAGER_MAX_SIZE) {
+            return HttpBody.json(context, writer.toByteArray(value));
+        }
+        return new JsonHttpBodyOutput<>(writer, context, value);
+    }
+
     @Override
     public long contentLength() {
         return -1;
@@ -45,9 +64,7 @@ public final class JsonHttpBodyOutput<T> implements HttpBodyOutput {
 
     @Override
     public void write(OutputStream os) throws IOException {
-        try (var gen = JsonModule.JSON_FACTORY.createGenerator(os, JsonEncoding.UTF8)) {
-            this.writer.write(gen, this.value);
-        }
+        this.writer.write(this.value, os);
     }
 
     @Override
@@ -0,0 +1,99 @@
+package ru.tinkoff.kora.json.module.http;
+
+import ru.tinkoff.kora.http.common.body.HttpBodyOutput;
+import ru.tinkoff.kora.json.common.JsonWriter;
+import ru.tinkoff.kora.json.common.util.JsonGeneratorPool;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.Flow;
+
+/**
+ * Writes elements of publisher as NDJSON (JSON Lines): every element is written into its own buffer followed by line feed
+ * as soon as it is published, demand of body subscriber is passed to element publisher as is
+ */
+public final class JsonLinesHttpBodyOutput<T> implements HttpBodyOutput {
+    public static final String CONTENT_TYPE = "application/x-ndjson";
+
+    private final JsonWriter<T> writer;
+    private final Flow.Publisher<? extends T> publisher;
+
+    public JsonLinesHttpBodyOutput(JsonWriter<T> writer, Flow.Publisher<? extends T> publisher) {
+        this.writer = writer;
+        this.publisher = publisher;
+    }
+
+    @Override
+    public long contentLength() {
+        return -1;
+    }
+
+    @Override
+    public String contentType() {
+        return CONTENT_TYPE;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+        this.publisher.subscribe(new LinesSubscriber<>(subscriber, this.writer));
+    }
+
+    @Override
+    public void close() {
+
+    }
+
+    private static final class LinesSubscriber<T> implements Flow.Subscriber<T> {
+        private final Flow.Subscriber<? super ByteBuffer> downstream;
+        private final JsonWriter<T> writer;
+        private Flow.Subscription upstream;
+        private boolean done;
+
+        private LinesSubscriber(Flow.Subscriber<? super ByteBuffer> downstream, JsonWriter<T> writer) {
+            this.downstream = downstream;
+            this.writer = writer;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.upstream = subscription;
+            this.downstream.onSubscribe(subscription);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (this.done) {
+                return;
+            }
+            final ByteBuffer buffer;
+            var pooled = JsonGeneratorPool.acquire();
+            try {
+                this.writer.write(pooled.generator(), item);
+                pooled.generator().writeRaw('\n');
+                buffer = ByteBuffer.wrap(pooled.toByteArray());
+            } catch (Throwable e) {
+                this.done = true;
+                this.upstream.cancel();
+                this.downstream.onError(e);
+                return;
+            }
+            JsonGeneratorPool.release(pooled);
+            this.downstream.onNext(buffer);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (!this.done) {
+                this.done = true;
+                this.downstream.onError(throwable);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (!this.done) {
+                this.done = true;
+                this.downstream.onComplete();
+            }
+        }
+    }
+}
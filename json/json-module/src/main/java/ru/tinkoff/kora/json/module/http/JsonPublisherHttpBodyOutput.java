@@ -0,0 +1,130 @@
+package ru.tinkoff.kora.json.module.http;
+
+import ru.tinkoff.kora.http.common.body.HttpBodyOutput;
+import ru.tinkoff.kora.json.common.JsonWriter;
+import ru.tinkoff.kora.json.common.util.JsonGeneratorPool;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes elements of publisher as JSON array incrementally: every element is written into its own buffer as soon as it is published,
+ * demand of body subscriber is passed to element publisher as is
+ */
+public final class JsonPublisherHttpBodyOutput<T> implements HttpBodyOutput {
+    private static final byte[] EMPTY_ARRAY = "[]".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] END_ARRAY = "]".getBytes(StandardCharsets.US_ASCII);
+
+    private final JsonWriter<T> writer;
+    private final Flow.Publisher<? extends T> publisher;
+
+    public JsonPublisherHttpBodyOutput(JsonWriter<T> writer, Flow.Publisher<? extends T> publisher) {
+        this.writer = writer;
+        this.publisher = publisher;
+    }
+
+    @Override
+    public long contentLength() {
+        return -1;
+    }
+
+    @Override
+    public String contentType() {
+        return "application/json";
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+        this.publisher.subscribe(new ArraySubscriber<>(subscriber, this.writer));
+    }
+
+    @Override
+    public void close() {
+
+    }
+
+    private static final class ArraySubscriber<T> implements Flow.Subscriber<T>, Flow.Subscription {
+        private final Flow.Subscriber<? super ByteBuffer> downstream;
+        private final JsonWriter<T> writer;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicBoolean endSent = new AtomicBoolean();
+        private volatile Flow.Subscription upstream;
+        private volatile boolean upstreamDone;
+        private boolean first = true;
+
+        private ArraySubscriber(Flow.Subscriber<? super ByteBuffer> downstream, JsonWriter<T> writer) {
+            this.downstream = downstream;
+            this.writer = writer;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.upstream = subscription;
+            this.downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(T item) {
+            final ByteBuffer buffer;
+            var pooled = JsonGeneratorPool.acquire();
+            try {
+                pooled.generator().writeRaw(this.first ? '[' : ',');
+                this.writer.write(pooled.generator(), item);
+                buffer = ByteBuffer.wrap(pooled.toByteArray());
+            } catch (Throwable e) {
+                this.upstream.cancel();
+                this.onError(e);
+                return;
+            }
+            JsonGeneratorPool.release(pooled);
+            this.first = false;
+            this.demand.decrementAndGet();
+            this.downstream.onNext(buffer);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (this.endSent.compareAndSet(false, true)) {
+                this.downstream.onError(throwable);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            this.upstreamDone = true;
+            this.tryComplete();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                this.cancel();
+                this.onError(new IllegalArgumentException("Non-positive request: " + n));
+                return;
+            }
+            this.demand.getAndAccumulate(n, (current, add) -> current + add < 0 ? Long.MAX_VALUE : current + add);
+            if (this.upstreamDone) {
+                this.tryComplete();
+            } else {
+                this.upstream.request(n);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            this.endSent.set(true);
+            this.upstream.cancel();
+        }
+
+        private void tryComplete() {
+            // closing bracket needs demand of its own, if there is none it is sent on next request
+            if (this.demand.get() > 0 && this.endSent.compareAndSet(false, true)) {
+                this.downstream.onNext(ByteBuffer.wrap(this.first ? EMPTY_ARRAY : END_ARRAY));
+                this.downstream.onComplete();
+            }
+        }
+    }
+}
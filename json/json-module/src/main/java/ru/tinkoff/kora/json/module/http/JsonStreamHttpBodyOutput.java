@@ -0,0 +1,178 @@
+package ru.tinkoff.kora.json.module.http;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import ru.tinkoff.kora.http.common.body.HttpBodyOutput;
+import ru.tinkoff.kora.json.common.JsonCommonModule;
+import ru.tinkoff.kora.json.common.JsonWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Writes elements of stream as JSON array incrementally: elements are taken from stream only when they are written,
+ * and subscriber receives chunks of about {@value #CHUNK_SIZE} bytes on demand
+ */
+public final class JsonStreamHttpBodyOutput<T> implements HttpBodyOutput {
+    private static final int CHUNK_SIZE = 8192;
+
+    private final JsonWriter<T> writer;
+    private final Stream<? extends T> stream;
+    private final AtomicBoolean consumed = new AtomicBoolean();
+
+    public JsonStreamHttpBodyOutput(JsonWriter<T> writer, Stream<? extends T> stream) {
+        this.writer = writer;
+        this.stream = stream;
+    }
+
+    @Override
+    public long contentLength() {
+        return -1;
+    }
+
+    @Override
+    public String contentType() {
+        return "application/json";
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+        if (!this.consumed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {}
+
+                @Override
+                public void cancel() {}
+            });
+            subscriber.onError(new IllegalStateException("JsonStreamHttpBodyOutput can be written only once"));
+            return;
+        }
+        subscriber.onSubscribe(new ChunkSubscription<>(subscriber, this.writer, this.stream));
+    }
+
+    @Override
+    public void write(OutputStream os) throws IOException {
+        if (!this.consumed.compareAndSet(false, true)) {
+            throw new IllegalStateException("JsonStreamHttpBodyOutput can be written only once");
+        }
+        try (var stream = this.stream;
+             var gen = JsonCommonModule.JSON_FACTORY.createGenerator(os, JsonEncoding.UTF8)) {
+            gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            gen.enable(JsonGenerator.Feature.WRITE_BIGDECIMAL_AS_PLAIN);
+            gen.writeStartArray();
+            var it = stream.iterator();
+            while (it.hasNext()) {
+                this.writer.write(gen, it.next());
+            }
+            gen.writeEndArray();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.consumed.compareAndSet(false, true)) {
+            this.stream.close();
+        }
+    }
+
+    private static final class ChunkSubscription<T> extends AtomicInteger implements Flow.Subscription {
+        private final Flow.Subscriber<? super ByteBuffer> subscriber;
+        private final JsonWriter<T> writer;
+        private final Stream<? extends T> stream;
+        private final AtomicLong demand = new AtomicLong();
+        private final ByteArrayOutputStream chunk = new ByteArrayOutputStream(CHUNK_SIZE + CHUNK_SIZE / 2);
+        private Iterator<? extends T> iterator;
+        private JsonGenerator gen;
+        private volatile boolean cancelled;
+
+        private ChunkSubscription(Flow.Subscriber<? super ByteBuffer> subscriber, JsonWriter<T> writer, Stream<? extends T> stream) {
+            this.subscriber = subscriber;
+            this.writer = writer;
+            this.stream = stream;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                this.cancel();
+                this.subscriber.onError(new IllegalArgumentException("Non-positive request: " + n));
+                return;
+            }
+            this.demand.getAndAccumulate(n, (current, add) -> current + add < 0 ? Long.MAX_VALUE : current + add);
+            if (this.getAndIncrement() == 0) {
+                this.drain();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            this.cancelled = true;
+            if (this.getAndIncrement() == 0) {
+                this.stream.close();
+            }
+        }
+
+        private void drain() {
+            var missed = 1;
+            while (true) {
+                var requested = this.demand.get();
+                var emitted = 0L;
+                while (emitted != requested) {
+                    if (this.cancelled) {
+                        this.stream.close();
+                        return;
+                    }
+                    final ByteBuffer next;
+                    final boolean last;
+                    try {
+                        if (this.iterator == null) {
+                            this.iterator = this.stream.iterator();
+                            this.gen = JsonCommonModule.JSON_FACTORY.createGenerator(this.chunk, JsonEncoding.UTF8);
+                            this.gen.enable(JsonGenerator.Feature.WRITE_BIGDECIMAL_AS_PLAIN);
+                            this.gen.writeStartArray();
+                        }
+                        while (this.iterator.hasNext() && this.chunk.size() + this.gen.getOutputBuffered() < CHUNK_SIZE) {
+                            this.writer.write(this.gen, this.iterator.next());
+                        }
+                        last = !this.iterator.hasNext();
+                        if (last) {
+                            this.gen.writeEndArray();
+                        }
+                        this.gen.flush();
+                        next = ByteBuffer.wrap(this.chunk.toByteArray());
+                        this.chunk.reset();
+                    } catch (Throwable e) {
+                        this.cancelled = true;
+                        this.stream.close();
+                        this.subscriber.onError(e);
+                        return;
+                    }
+                    this.subscriber.onNext(next);
+                    emitted++;
+                    if (last) {
+                        this.cancelled = true;
+                        this.stream.close();
+                        this.subscriber.onComplete();
+                        return;
+                    }
+                }
+                if (requested != Long.MAX_VALUE) {
+                    this.demand.addAndGet(-emitted);
+                }
+                missed = this.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+    }
+}
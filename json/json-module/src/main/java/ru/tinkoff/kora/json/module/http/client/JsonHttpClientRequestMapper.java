@@ -6,6 +6,8 @@ import ru.tinkoff.kora.http.common.body.HttpBodyOutput;
 import ru.tinkoff.kora.json.common.JsonWriter;
 import ru.tinkoff.kora.json.module.http.JsonHttpBodyOutput;
 
+import java.io.IOException;
+
 public class JsonHttpClientRequestMapper<T> implements HttpClientRequestMapper<T> {
     private final JsonWriter<T> jsonWriter;
 
@@ -15,7 +17,7 @@ public class JsonHttpClientRequestMapper<T> implements HttpClientRequestMapper<T
 
 
     @Override
-    public HttpBodyOutput apply(Context ctx, T value) {
-        return new JsonHttpBodyOutput<>(this.jsonWriter, ctx, value);
+    public HttpBodyOutput apply(Context ctx, T value) throws IOException {
+        return JsonHttpBodyOutput.of(this.jsonWriter, ctx, value);
     }
 }
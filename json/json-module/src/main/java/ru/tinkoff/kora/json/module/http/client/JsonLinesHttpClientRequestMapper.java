@@ -0,0 +1,22 @@
+package ru.tinkoff.kora.json.module.http.client;
+
+import ru.tinkoff.kora.common.Context;
+import ru.tinkoff.kora.http.client.common.request.HttpClientRequestMapper;
+import ru.tinkoff.kora.http.common.body.HttpBodyOutput;
+import ru.tinkoff.kora.json.common.JsonWriter;
+import ru.tinkoff.kora.json.module.http.JsonLinesHttpBodyOutput;
+
+import java.util.concurrent.Flow;
+
+public final class JsonLinesHttpClientRequestMapper<T> implements HttpClientRequestMapper<Flow.Publisher<T>> {
+    private final JsonWriter<T> jsonWriter;
+
+    public JsonLinesHttpClientRequestMapper(JsonWriter<T> jsonWriter) {
+        this.jsonWriter = jsonWriter;
+    }
+
+    @Override
+    public HttpBodyOutput apply(Context ctx, Flow.Publisher<T> value) {
+        return new JsonLinesHttpBodyOutput<>(this.jsonWriter, value);
+    }
+}
@@ -0,0 +1,22 @@
+package ru.tinkoff.kora.json.module.http.client;
+
+import ru.tinkoff.kora.common.Context;
+import ru.tinkoff.kora.http.client.common.request.HttpClientRequestMapper;
+import ru.tinkoff.kora.http.common.body.HttpBodyOutput;
+import ru.tinkoff.kora.json.common.JsonWriter;
+import ru.tinkoff.kora.json.module.http.JsonPublisherHttpBodyOutput;
+
+import java.util.concurrent.Flow;
+
+public final class JsonPublisherHttpClientRequestMapper<T> implements HttpClientRequestMapper<Flow.Publisher<T>> {
+    private final JsonWriter<T> jsonWriter;
+
+    public JsonPublisherHttpClientRequestMapper(JsonWriter<T> jsonWriter) {
+        this.jsonWriter = jsonWriter;
+    }
+
+    @Override
+    public HttpBodyOutput apply(Context ctx, Flow.Publisher<T> value) {
+        return new JsonPublisherHttpBodyOutput<>(this.jsonWriter, value);
+    }
+}
@@ -0,0 +1,22 @@
+package ru.tinkoff.kora.json.module.http.client;
+
+import ru.tinkoff.kora.common.Context;
+import ru.tinkoff.kora.http.client.common.request.HttpClientRequestMapper;
+import ru.tinkoff.kora.http.common.body.HttpBodyOutput;
+import ru.tinkoff.kora.json.common.JsonWriter;
+import ru.tinkoff.kora.json.module.http.JsonStreamHttpBodyOutput;
+
+import java.util.stream.Stream;
+
+public final class JsonStreamHttpClientRequestMapper<T> implements HttpClientRequestMapper<Stream<T>> {
+    private final JsonWriter<T> jsonWriter;
+
+    public JsonStreamHttpClientRequestMapper(JsonWriter<T> jsonWriter) {
+        this.jsonWriter = jsonWriter;
+    }
+
+    @Override
+    public HttpBodyOutput apply(Context ctx, Stream<T> value) {
+        return new JsonStreamHttpBodyOutput<>(this.jsonWriter, value);
+    }
+}
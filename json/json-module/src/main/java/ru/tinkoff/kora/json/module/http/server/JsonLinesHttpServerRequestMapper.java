@@ -0,0 +1,24 @@
+package ru.tinkoff.kora.json.module.http.server;
+
+import ru.tinkoff.kora.http.server.common.HttpServerRequest;
+import ru.tinkoff.kora.http.server.common.handler.HttpServerRequestMapper;
+import ru.tinkoff.kora.json.common.JsonLinesPublisher;
+import ru.tinkoff.kora.json.common.JsonReader;
+
+import java.util.concurrent.Flow;
+
+/**
+ * Reads NDJSON (JSON Lines) request body line by line as body buffers arrive, see {@link JsonLinesPublisher}
+ */
+public final class JsonLinesHttpServerRequestMapper<T> implements HttpServerRequestMapper<Flow.Publisher<T>> {
+    private final JsonReader<T> reader;
+
+    public JsonLinesHttpServerRequestMapper(JsonReader<T> reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public Flow.Publisher<T> apply(HttpServerRequest request) {
+        return new JsonLinesPublisher<>(this.reader, request.body());
+    }
+}
@@ -0,0 +1,24 @@
+package ru.tinkoff.kora.json.module.http.server;
+
+import ru.tinkoff.kora.http.server.common.HttpServerRequest;
+import ru.tinkoff.kora.http.server.common.handler.HttpServerRequestMapper;
+import ru.tinkoff.kora.json.common.JsonArrayPublisher;
+import ru.tinkoff.kora.json.common.JsonReader;
+
+import java.util.concurrent.Flow;
+
+/**
+ * Reads JSON array from request body element by element as body buffers arrive, see {@link JsonArrayPublisher}
+ */
+public final class JsonPublisherHttpServerRequestMapper<T> implements HttpServerRequestMapper<Flow.Publisher<T>> {
+    private final JsonReader<T> reader;
+
+    public JsonPublisherHttpServerRequestMapper(JsonReader<T> reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public Flow.Publisher<T> apply(HttpServerRequest request) {
+        return new JsonArrayPublisher<>(this.reader, request.body());
+    }
+}
@@ -0,0 +1,23 @@
+package ru.tinkoff.kora.json.module.http.server;
+
+import ru.tinkoff.kora.common.Context;
+import ru.tinkoff.kora.http.server.common.HttpServerRequest;
+import ru.tinkoff.kora.http.server.common.HttpServerResponse;
+import ru.tinkoff.kora.http.server.common.handler.HttpServerResponseMapper;
+import ru.tinkoff.kora.json.common.JsonWriter;
+import ru.tinkoff.kora.json.module.http.JsonPublisherHttpBodyOutput;
+
+import java.util.concurrent.Flow;
+
+public final class JsonPublisherHttpServerResponseMapper<T> implements HttpServerResponseMapper<Flow.Publisher<T>> {
+    private final JsonWriter<T> writer;
+
+    public JsonPublisherHttpServerResponseMapper(JsonWriter<T> writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public HttpServerResponse apply(Context ctx, HttpServerRequest request, Flow.Publisher<T> value) {
+        return HttpServerResponse.of(200, new JsonPublisherHttpBodyOutput<>(this.writer, value));
+    }
+}
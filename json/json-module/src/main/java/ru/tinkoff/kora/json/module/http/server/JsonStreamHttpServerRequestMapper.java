@@ -0,0 +1,47 @@
+package ru.tinkoff.kora.json.module.http.server;
+
+import ru.tinkoff.kora.common.util.ByteBufferInputStream;
+import ru.tinkoff.kora.http.server.common.HttpServerRequest;
+import ru.tinkoff.kora.http.server.common.handler.HttpServerRequestMapper;
+import ru.tinkoff.kora.json.common.JsonArrayIterator;
+import ru.tinkoff.kora.json.common.JsonReader;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.stream.Stream;
+
+/**
+ * Reads JSON array from request body lazily: elements are parsed while stream is consumed, closing stream closes request body
+ */
+public final class JsonStreamHttpServerRequestMapper<T> implements HttpServerRequestMapper<Stream<T>> {
+    private final JsonReader<T> reader;
+
+    public JsonStreamHttpServerRequestMapper(JsonReader<T> reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public Stream<T> apply(HttpServerRequest request) throws IOException {
+        var body = request.body();
+        return iterator(this.reader, request).stream().onClose(() -> {
+            try {
+                body.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private static <T> JsonArrayIterator<T> iterator(JsonReader<T> reader, HttpServerRequest request) throws IOException {
+        var body = request.body();
+        var fullContent = body.getFullContentIfAvailable();
+        if (fullContent != null) {
+            if (fullContent.hasArray()) {
+                return JsonArrayIterator.of(reader, fullContent.array(), fullContent.arrayOffset() + fullContent.position(), fullContent.remaining());
+            } else {
+                return JsonArrayIterator.of(reader, new ByteBufferInputStream(fullContent));
+            }
+        }
+        return JsonArrayIterator.of(reader, body.asInputStream());
+    }
+}
@@ -0,0 +1,23 @@
+package ru.tinkoff.kora.json.module.http.server;
+
+import ru.tinkoff.kora.common.Context;
+import ru.tinkoff.kora.http.server.common.HttpServerRequest;
+import ru.tinkoff.kora.http.server.common.HttpServerResponse;
+import ru.tinkoff.kora.http.server.common.handler.HttpServerResponseMapper;
+import ru.tinkoff.kora.json.common.JsonWriter;
+import ru.tinkoff.kora.json.module.http.JsonStreamHttpBodyOutput;
+
+import java.util.stream.Stream;
+
+public final class JsonStreamHttpServerResponseMapper<T> implements HttpServerResponseMapper<Stream<T>> {
+    private final JsonWriter<T> writer;
+
+    public JsonStreamHttpServerResponseMapper(JsonWriter<T> writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public HttpServerResponse apply(Context ctx, HttpServerRequest request, Stream<T> value) {
+        return HttpServerResponse.of(200, new JsonStreamHttpBodyOutput<>(this.writer, value));
+    }
+}
@@ -8,6 +8,8 @@ import ru.tinkoff.kora.http.server.common.handler.HttpServerResponseMapper;
 import ru.tinkoff.kora.json.common.JsonWriter;
 import ru.tinkoff.kora.json.module.http.JsonHttpBodyOutput;
 
+import java.io.IOException;
+
 public final class JsonWriterHttpServerEntityResponseMapper<T> implements HttpServerResponseMapper<HttpResponseEntity<T>> {
     private final JsonWriter<T> writer;
 
@@ -16,7 +18,7 @@ public final class JsonWriterHttpServerEntityResponseMapper<T> implements HttpSe
     }
 
     @Override
-    public HttpServerResponse apply(Context ctx, HttpServerRequest request, HttpResponseEntity<T> value) {
-        return HttpServerResponse.of(value.code(), value.headers(), new JsonHttpBodyOutput<>(this.writer, ctx, value.body()));
+    public HttpServerResponse apply(Context ctx, HttpServerRequest request, HttpResponseEntity<T> value) throws IOException {
+        return HttpServerResponse.of(value.code(), value.headers(), JsonHttpBodyOutput.of(this.writer, ctx, value.body()));
     }
 }
@@ -7,6 +7,8 @@ import ru.tinkoff.kora.http.server.common.handler.HttpServerResponseMapper;
 import ru.tinkoff.kora.json.common.JsonWriter;
 import ru.tinkoff.kora.json.module.http.JsonHttpBodyOutput;
 
+import java.io.IOException;
+
 public class JsonWriterHttpServerResponseMapper<T> implements HttpServerResponseMapper<T> {
     private final JsonWriter<T> writer;
 
@@ -15,7 +17,7 @@ public class JsonWriterHttpServerResponseMapper<T> implements HttpServerResponse
     }
 
     @Override
-    public HttpServerResponse apply(Context ctx, HttpServerRequest request, T value) {
-        return HttpServerResponse.of(200, new JsonHttpBodyOutput<>(this.writer, ctx, value));
+    public HttpServerResponse apply(Context ctx, HttpServerRequest request, T value) throws IOException {
+        return HttpServerResponse.of(200, JsonHttpBodyOutput.of(this.writer, ctx, value));
     }
 }
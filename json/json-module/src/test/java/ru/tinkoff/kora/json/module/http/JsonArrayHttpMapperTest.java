@@ -0,0 +1,157 @@
+package ru.tinkoff.kora.json.module.http;
+
+import org.junit.jupiter.api.Test;
+import ru.tinkoff.kora.common.Context;
+import ru.tinkoff.kora.common.util.FlowUtils;
+import ru.tinkoff.kora.http.common.body.HttpBody;
+import ru.tinkoff.kora.http.common.body.HttpBodyInput;
+import ru.tinkoff.kora.http.common.body.HttpBodyOutput;
+import ru.tinkoff.kora.http.common.body.StreamingHttpBodyInput;
+import ru.tinkoff.kora.http.server.common.HttpServerRequest;
+import ru.tinkoff.kora.json.common.JsonReader;
+import ru.tinkoff.kora.json.common.JsonWriter;
+import ru.tinkoff.kora.json.module.http.client.JsonPublisherHttpClientRequestMapper;
+import ru.tinkoff.kora.json.module.http.client.JsonStreamHttpClientRequestMapper;
+import ru.tinkoff.kora.json.module.http.server.JsonPublisherHttpServerRequestMapper;
+import ru.tinkoff.kora.json.module.http.server.JsonPublisherHttpServerResponseMapper;
+import ru.tinkoff.kora.json.module.http.server.JsonStreamHttpServerRequestMapper;
+import ru.tinkoff.kora.json.module.http.server.JsonStreamHttpServerResponseMapper;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JsonArrayHttpMapperTest {
+    private final JsonReader<Integer> reader = parser -> parser.getIntValue();
+    private final JsonWriter<Integer> writer = (gen, value) -> gen.writeNumber(value);
+
+    @Test
+    void testPublisherServerRequestMapper() {
+        var source = new BufferPublisher("[1, ", "2, 3", "]");
+        var request = request(new StreamingHttpBodyInput("application/json", -1, source));
+        var subscriber = new ItemSubscriber();
+
+        new JsonPublisherHttpServerRequestMapper<>(reader).apply(request).subscribe(subscriber);
+        assertThat(source.requested).isZero();
+
+        subscriber.subscription.request(1);
+        assertThat(subscriber.items).containsExactly(1);
+        assertThat(source.requested).isEqualTo(1);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertThat(subscriber.items).containsExactly(1, 2, 3);
+        assertThat(subscriber.completed).isTrue();
+    }
+
+    @Test
+    void testStreamServerRequestMapper() throws IOException {
+        var fullBody = request(HttpBody.of("application/json", "[1, 2, 3]".getBytes(StandardCharsets.UTF_8)));
+        try (var stream = new JsonStreamHttpServerRequestMapper<>(reader).apply(fullBody)) {
+            assertThat(stream).containsExactly(1, 2, 3);
+        }
+
+        var streamingBody = request(new StreamingHttpBodyInput("application/json", -1, new BufferPublisher("[4,", " 5]")));
+        try (var stream = new JsonStreamHttpServerRequestMapper<>(reader).apply(streamingBody)) {
+            assertThat(stream).containsExactly(4, 5);
+        }
+    }
+
+    @Test
+    void testServerResponseMappers() {
+        var publisherResponse = new JsonPublisherHttpServerResponseMapper<>(writer).apply(Context.clear(), mock(HttpServerRequest.class), new JsonPublisherHttpBodyOutputTest.TestPublisher(1, 2));
+        assertThat(publisherResponse.code()).isEqualTo(200);
+        assertThat(content(publisherResponse.body())).isEqualTo("[1,2]");
+
+        var streamResponse = new JsonStreamHttpServerResponseMapper<>(writer).apply(Context.clear(), mock(HttpServerRequest.class), Stream.of(1, 2));
+        assertThat(streamResponse.code()).isEqualTo(200);
+        assertThat(content(streamResponse.body())).isEqualTo("[1,2]");
+    }
+
+    @Test
+    void testClientRequestMappers() {
+        var publisherBody = new JsonPublisherHttpClientRequestMapper<>(writer).apply(Context.clear(), new JsonPublisherHttpBodyOutputTest.TestPublisher(1, 2));
+        assertThat(publisherBody.contentType()).isEqualTo("application/json");
+        assertThat(content(publisherBody)).isEqualTo("[1,2]");
+
+        var streamBody = new JsonStreamHttpClientRequestMapper<>(writer).apply(Context.clear(), Stream.of(1, 2));
+        assertThat(streamBody.contentType()).isEqualTo("application/json");
+        assertThat(content(streamBody)).isEqualTo("[1,2]");
+    }
+
+    private static HttpServerRequest request(HttpBodyInput body) {
+        var request = mock(HttpServerRequest.class);
+        when(request.body()).thenReturn(body);
+        return request;
+    }
+
+    private static String content(HttpBodyOutput body) {
+        return new String(FlowUtils.toByteArrayFuture(body).join(), StandardCharsets.UTF_8);
+    }
+
+    private static final class BufferPublisher implements Flow.Publisher<ByteBuffer> {
+        private final List<String> buffers;
+        private int requested;
+
+        private BufferPublisher(String... buffers) {
+            this.buffers = List.of(buffers);
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                private boolean done;
+
+                @Override
+                public void request(long n) {
+                    for (long i = 0; i < n && !done; i++) {
+                        if (requested == buffers.size()) {
+                            done = true;
+                            subscriber.onComplete();
+                            return;
+                        }
+                        subscriber.onNext(ByteBuffer.wrap(buffers.get(requested++).getBytes(StandardCharsets.UTF_8)));
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    done = true;
+                }
+            });
+        }
+    }
+
+    private static final class ItemSubscriber implements Flow.Subscriber<Integer> {
+        private final List<Integer> items = new ArrayList<>();
+        private Flow.Subscription subscription;
+        private boolean completed;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(Integer item) {
+            this.items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            throw new AssertionError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package ru.tinkoff.kora.json.module.http;
+
+import org.junit.jupiter.api.Test;
+import ru.tinkoff.kora.common.util.FlowUtils;
+import ru.tinkoff.kora.json.common.JsonWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonPublisherHttpBodyOutputTest {
+    private final JsonWriter<Integer> writer = (gen, value) -> gen.writeNumber(value);
+
+    @Test
+    void testElementsAreWrittenOnDemand() {
+        var source = new TestPublisher(1, 2, 3);
+        var subscriber = new BodySubscriber();
+        new JsonPublisherHttpBodyOutput<>(writer, source).subscribe(subscriber);
+
+        assertThat(source.requested).isZero();
+        subscriber.subscription.request(1);
+        assertThat(source.requested).isEqualTo(1);
+        assertThat(subscriber.content()).isEqualTo("[1");
+
+        subscriber.subscription.request(2);
+        assertThat(subscriber.content()).isEqualTo("[1,2,3");
+        assertThat(subscriber.completed).isFalse();
+
+        subscriber.subscription.request(1);
+        assertThat(subscriber.content()).isEqualTo("[1,2,3]");
+        assertThat(subscriber.completed).isTrue();
+    }
+
+    @Test
+    void testEmptyPublisher() {
+        var output = new JsonPublisherHttpBodyOutput<>(writer, new TestPublisher());
+
+        assertThat(output.contentLength()).isEqualTo(-1);
+        assertThat(output.contentType()).isEqualTo("application/json");
+        assertThat(FlowUtils.toByteArrayFuture(output).join()).asString(StandardCharsets.UTF_8).isEqualTo("[]");
+    }
+
+    @Test
+    void testWriterErrorCancelsPublisher() {
+        var error = new IOException("test");
+        JsonWriter<Integer> failingWriter = (gen, value) -> {
+            if (value == 2) {
+                throw error;
+            }
+            gen.writeNumber(value);
+        };
+        var source = new TestPublisher(1, 2, 3);
+        var subscriber = new BodySubscriber();
+        new JsonPublisherHttpBodyOutput<>(failingWriter, source).subscribe(subscriber);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertThat(subscriber.content()).isEqualTo("[1");
+        assertThat(subscriber.error).isSameAs(error);
+        assertThat(source.cancelled).isTrue();
+    }
+
+    static final class TestPublisher implements Flow.Publisher<Integer> {
+        private final List<Integer> items;
+        int requested;
+        boolean cancelled;
+
+        TestPublisher(Integer... items) {
+            this.items = List.of(items);
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super Integer> subscriber) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    for (long i = 0; i < n && !cancelled && requested < items.size(); i++) {
+                        subscriber.onNext(items.get(requested++));
+                    }
+                    if (!cancelled && requested == items.size()) {
+                        cancelled = true;
+                        subscriber.onComplete();
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                }
+            });
+        }
+    }
+
+    static final class BodySubscriber implements Flow.Subscriber<ByteBuffer> {
+        private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+        Flow.Subscription subscription;
+        int buffers;
+        boolean completed;
+        Throwable error;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(ByteBuffer item) {
+            this.buffers++;
+            var bytes = new byte[item.remaining()];
+            item.get(bytes);
+            this.content.writeBytes(bytes);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+        }
+
+        String content() {
+            return this.content.toString(StandardCharsets.UTF_8);
+        }
+    }
+}
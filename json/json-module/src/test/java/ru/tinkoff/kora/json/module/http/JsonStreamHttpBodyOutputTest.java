@@ -0,0 +1,78 @@
+package ru.tinkoff.kora.json.module.http;
+
+import org.junit.jupiter.api.Test;
+import ru.tinkoff.kora.json.common.JsonWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JsonStreamHttpBodyOutputTest {
+    private final JsonWriter<Integer> writer = (gen, value) -> gen.writeNumber(value);
+
+    @Test
+    void testWriteToOutputStream() throws IOException {
+        var closed = new AtomicBoolean();
+        var output = new JsonStreamHttpBodyOutput<>(writer, Stream.of(1, 2, 3).onClose(() -> closed.set(true)));
+        var os = new ByteArrayOutputStream();
+
+        output.write(os);
+
+        assertThat(os.toString()).isEqualTo("[1,2,3]");
+        assertThat(closed).isTrue();
+        assertThatThrownBy(() -> output.write(new ByteArrayOutputStream())).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void testChunksAreWrittenOnDemand() {
+        var taken = new AtomicInteger();
+        var closed = new AtomicBoolean();
+        var stream = IntStream.range(0, 10_000).boxed().peek(i -> taken.incrementAndGet()).onClose(() -> closed.set(true));
+        var subscriber = new JsonPublisherHttpBodyOutputTest.BodySubscriber();
+        new JsonStreamHttpBodyOutput<>(writer, stream).subscribe(subscriber);
+
+        assertThat(taken).hasValue(0);
+        subscriber.subscription.request(1);
+        assertThat(subscriber.buffers).isEqualTo(1);
+        assertThat(subscriber.content().length()).isBetween(8192, 8192 + 16);
+        assertThat(taken.get()).isLessThan(10_000);
+        assertThat(closed).isFalse();
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertThat(subscriber.content()).isEqualTo(IntStream.range(0, 10_000).mapToObj(Integer::toString).toList().toString().replace(" ", ""));
+        assertThat(subscriber.completed).isTrue();
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void testEmptyStream() {
+        var subscriber = new JsonPublisherHttpBodyOutputTest.BodySubscriber();
+        new JsonStreamHttpBodyOutput<>(writer, Stream.empty()).subscribe(subscriber);
+
+        subscriber.subscription.request(1);
+
+        assertThat(subscriber.content()).isEqualTo("[]");
+        assertThat(subscriber.completed).isTrue();
+    }
+
+    @Test
+    void testCancelClosesStream() {
+        var closed = new AtomicBoolean();
+        var output = new JsonStreamHttpBodyOutput<>(writer, Stream.of(1, 2, 3).onClose(() -> closed.set(true)));
+        var subscriber = new JsonPublisherHttpBodyOutputTest.BodySubscriber();
+        output.subscribe(subscriber);
+
+        subscriber.subscription.cancel();
+        assertThat(closed).isTrue();
+
+        var second = new JsonPublisherHttpBodyOutputTest.BodySubscriber();
+        output.subscribe(second);
+        assertThat(second.error).isInstanceOf(IllegalStateException.class);
+    }
+}
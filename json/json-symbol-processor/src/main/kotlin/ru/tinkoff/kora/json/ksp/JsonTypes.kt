@@ -24,6 +24,7 @@ object JsonTypes {
 
     val bufferingJsonParser = ClassName("ru.tinkoff.kora.json.common.util", "BufferingJsonParser");
     val discriminatorHelper = ClassName("ru.tinkoff.kora.json.common.util", "DiscriminatorHelper");
+    val discriminatorFirstJsonParser = ClassName("ru.tinkoff.kora.json.common.util", "DiscriminatorFirstJsonParser")
 
     val jsonParseException = ClassName("com.fasterxml.jackson.core", "JsonParseException")
     val jsonParser = ClassName("com.fasterxml.jackson.core", "JsonParser")
@@ -14,6 +14,7 @@ import ru.tinkoff.kora.ksp.common.KspCommonUtils.generated
 import ru.tinkoff.kora.ksp.common.KspCommonUtils.toTypeName
 import ru.tinkoff.kora.ksp.common.exception.ProcessingErrorException
 import java.util.*
+import java.util.concurrent.atomic.LongAdder
 
 class SealedInterfaceReaderGenerator {
     fun generateSealedReader(jsonClassDeclaration: KSClassDeclaration): TypeSpec {
@@ -42,33 +43,61 @@ class SealedInterfaceReaderGenerator {
 
         val discriminatorField = jsonClassDeclaration.discriminatorField()
             ?: throw ProcessingErrorException("Sealed interface should have @JsonDiscriminatorField annotation", jsonClassDeclaration)
+        typeBuilder.addProperty(
+            PropertySpec.builder("discriminatorField", JsonTypes.serializedString, KModifier.PRIVATE)
+                .initializer("%T(%S)", JsonTypes.serializedString, discriminatorField)
+                .build()
+        )
+        typeBuilder.addProperty(
+            PropertySpec.builder("outOfOrderReads", LongAdder::class, KModifier.PRIVATE)
+                .initializer("%T.outOfOrderReads(%T::class.java)", JsonTypes.discriminatorHelper, jsonClassDeclaration.toClassName())
+                .build()
+        )
         val function = FunSpec.builder("read")
             .addModifiers(KModifier.PUBLIC, KModifier.OVERRIDE)
             .addParameter("__parser", JsonTypes.jsonParser)
             .returns(typeName.copy(nullable = true))
-        function.controlFlow("if (__parser.currentToken() == %T.VALUE_NULL)", JsonTypes.jsonToken) {
+        function.addStatement("val __token = __parser.currentToken()")
+        function.controlFlow("if (__token == %T.VALUE_NULL)", JsonTypes.jsonToken) {
             addStatement("return null")
         }
-        function.addCode("val bufferingParser = %T(__parser)\n", JsonTypes.bufferingJsonParser)
-        function.addCode("val discriminator = %T.readStringDiscriminator(bufferingParser, %S)\n", JsonTypes.discriminatorHelper, discriminatorField);
-        function.addCode("if (discriminator == null) throw %T(__parser, %S)\n", JsonTypes.jsonParseException, "Discriminator required, but not provided");
+        function.controlFlow("if (__token != %T.START_OBJECT)", JsonTypes.jsonToken) {
+            addStatement("throw %T(__parser, %S)", JsonTypes.jsonParseException, "Expected start of object for discriminator field $discriminatorField")
+        }
+        function.controlFlow("if (__parser.nextFieldName(discriminatorField))") {
+            addStatement("val discriminator = %T.readStringDiscriminatorValue(__parser)", JsonTypes.discriminatorHelper)
+            addStatement("return this.read(__parser, %T(__parser, discriminatorField, discriminator), discriminator)", JsonTypes.discriminatorFirstJsonParser)
+        }
+        function.addStatement("outOfOrderReads.increment()")
+        function.addCode("val bufferingParser = %T(__parser, %T.START_OBJECT)\n", JsonTypes.bufferingJsonParser, JsonTypes.jsonToken)
+        function.addCode("val discriminator = %T.readStringDiscriminatorAfterFirstField(bufferingParser, discriminatorField)\n", JsonTypes.discriminatorHelper)
+        function.addCode("if (discriminator == null) throw %T(__parser, %S)\n", JsonTypes.jsonParseException, "Discriminator required, but not provided")
         function.addCode("val bufferedParser = %T.createFlattened(false, bufferingParser.reset(), __parser)\n", JsonTypes.jsonParserSequence)
         function.addCode("bufferedParser.nextToken()\n")
-        function.beginControlFlow("return when(discriminator) {")
+        function.addStatement("return this.read(__parser, bufferedParser, discriminator)")
+        typeBuilder.addFunction(function.build())
+
+        val dispatch = FunSpec.builder("read")
+            .addModifiers(KModifier.PRIVATE)
+            .addParameter("__parser", JsonTypes.jsonParser)
+            .addParameter("subtypeParser", JsonTypes.jsonParser)
+            .addParameter("discriminator", String::class)
+            .returns(typeName.copy(nullable = true))
+        dispatch.beginControlFlow("return when(discriminator) {")
         subclasses.forEach { elem ->
             val readerName = getReaderFieldName(elem)
             val requiredDiscriminatorValues = elem.discriminatorValues()
             for (requiredDiscriminatorValue in requiredDiscriminatorValues) {
-                function.addCode(
-                    "%S -> %L.read(bufferedParser)\n",
+                dispatch.addCode(
+                    "%S -> %L.read(subtypeParser)\n",
                     requiredDiscriminatorValue,
                     readerName
                 )
             }
         }
-        function.addCode("else -> throw %T(__parser, %S)", JsonTypes.jsonParseException, "Unknown discriminator")
-        function.endControlFlow()
-        typeBuilder.addFunction(function.build())
+        dispatch.addCode("else -> throw %T(__parser, %S)", JsonTypes.jsonParseException, "Unknown discriminator")
+        dispatch.endControlFlow()
+        typeBuilder.addFunction(dispatch.build())
         return typeBuilder.build()
     }
 
@@ -4,6 +4,7 @@ import org.assertj.core.api.Assertions.assertThat
 import org.junit.jupiter.api.Test
 import ru.tinkoff.kora.json.common.JsonReader
 import ru.tinkoff.kora.json.common.JsonWriter
+import ru.tinkoff.kora.json.common.util.DiscriminatorHelper
 import ru.tinkoff.kora.ksp.common.GraphUtil.toGraph
 import java.nio.charset.StandardCharsets
 
@@ -33,6 +34,7 @@ class SealedTest : AbstractJsonSymbolProcessorTest() {
 
         m.assert(new("TestInterface\$Impl1", "test"), "{\"@type\":\"Impl1\",\"value\":\"test\"}")
         m.assert(new("TestInterface\$Impl2", 42), "{\"@type\":\"Impl2\",\"value\":42}")
+        assertThat(DiscriminatorHelper.outOfOrderReadCount(loadClass("TestInterface"))).isZero()
     }
 
     @Test
@@ -69,6 +71,7 @@ class SealedTest : AbstractJsonSymbolProcessorTest() {
               "value":"test"
             }
             """.trimIndent(), new("TestInterface\$Impl1", "test"))
+        assertThat(DiscriminatorHelper.outOfOrderReadCount(loadClass("TestInterface"))).isEqualTo(1)
     }
 
     @Test
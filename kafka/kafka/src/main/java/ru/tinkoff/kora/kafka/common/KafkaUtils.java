@@ -29,7 +29,7 @@ public final class KafkaUtils {
     }
 
     public static class NamedThreadFactory implements ThreadFactory {
-        private static final String CONSUMER_PREFIX = "kafka-consumer-";
+        public static final String CONSUMER_PREFIX = "kafka-consumer-";
 
         private final AtomicInteger threadNumber = new AtomicInteger(1);
         private final String namePrefix;
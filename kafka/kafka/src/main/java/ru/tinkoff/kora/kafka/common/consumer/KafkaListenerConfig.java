@@ -53,6 +53,33 @@ public interface KafkaListenerConfig {
         return false;
     }
 
+    /**
+     * @return when true record key and value are received as slices of fetch buffer and deserialized lazily straight from them on first access
+     */
+    default boolean zeroCopy() {
+        return false;
+    }
+
+    /**
+     * @return filter applied to record headers and raw key before deserialization, rejected records are never passed to handler
+     */
+    @Nullable
+    RecordFilterConfig filter();
+
+    /**
+     * @return when true consumers are run on virtual threads if they are available, so blocking handlers don't occupy platform threads
+     */
+    default boolean virtualThreads() {
+        return false;
+    }
+
+    /**
+     * @return how often lag of assigned partitions is reported, lag is mostly known from fetch responses and end offsets are requested only for partitions without it
+     */
+    default Duration lagRefreshInterval() {
+        return Duration.ofSeconds(10);
+    }
+
     TelemetryConfig telemetry();
 
     default KafkaListenerConfig withDriverPropertiesOverrides(Map<String, Object> overrides) {
@@ -71,7 +98,25 @@ public interface KafkaListenerConfig {
             partitionRefreshInterval(),
             shutdownWait(),
             allowEmptyRecords(),
+            zeroCopy(),
+            filter(),
+            virtualThreads(),
+            lagRefreshInterval(),
             telemetry()
         );
     }
+
+    @ConfigValueExtractor
+    interface RecordFilterConfig {
+
+        /**
+         * @return header names with accepted values, record is accepted when every header has one of the values
+         */
+        default Map<String, List<String>> headers() {
+            return Map.of();
+        }
+
+        @Nullable
+        String keyPrefix();
+    }
 }
@@ -0,0 +1,132 @@
+package ru.tinkoff.kora.kafka.common.consumer.containers;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.record.TimestampType;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.utils.Utils;
+import ru.tinkoff.kora.kafka.common.exceptions.RecordKeyDeserializationException;
+import ru.tinkoff.kora.kafka.common.exceptions.RecordValueDeserializationException;
+
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Record that keeps key and value as slices of fetch response buffer and deserializes them on first access,
+ * so records that were never touched by handler are never parsed and never copied
+ */
+public final class ByteBufferConsumerRecordWrapper<K, V> extends ConsumerRecord<K, V> {
+    private final ConsumerRecord<ByteBuffer, ByteBuffer> realRecord;
+    private final Deserializer<K> keyDeserializer;
+    private final Deserializer<V> valueDeserializer;
+
+    private final AtomicReference<K> deserializedKey = new AtomicReference<>(null);
+    private final AtomicReference<V> deserializedValue = new AtomicReference<>(null);
+
+    public ByteBufferConsumerRecordWrapper(ConsumerRecord<ByteBuffer, ByteBuffer> realRecord, Deserializer<K> keyDeserializer, Deserializer<V> valueDeserializer) {
+        super(realRecord.topic(), realRecord.partition(), realRecord.offset(), null, null);
+        this.realRecord = realRecord;
+        this.keyDeserializer = keyDeserializer;
+        this.valueDeserializer = valueDeserializer;
+    }
+
+    @Override
+    public String topic() {
+        return realRecord.topic();
+    }
+
+    @Override
+    public int partition() {
+        return realRecord.partition();
+    }
+
+    @Override
+    public Headers headers() {
+        return realRecord.headers();
+    }
+
+    @Override
+    public K key() {
+        var value = deserializedKey.get();
+        if (value == null) {
+            try {
+                value = keyDeserializer.deserialize(realRecord.topic(), realRecord.headers(), duplicate(realRecord.key()));
+            } catch (Exception e) {
+                throw new RecordKeyDeserializationException(e, toByteArrayRecord());
+            }
+            deserializedKey.set(value);
+        }
+        return value;
+    }
+
+    @Override
+    public V value() {
+        var value = deserializedValue.get();
+        if (value == null) {
+            try {
+                value = valueDeserializer.deserialize(realRecord.topic(), realRecord.headers(), duplicate(realRecord.value()));
+            } catch (Exception e) {
+                throw new RecordValueDeserializationException(e, toByteArrayRecord());
+            }
+            deserializedValue.set(value);
+        }
+        return value;
+    }
+
+    @Override
+    public long offset() {
+        return realRecord.offset();
+    }
+
+    @Override
+    public long timestamp() {
+        return realRecord.timestamp();
+    }
+
+    @Override
+    public TimestampType timestampType() {
+        return realRecord.timestampType();
+    }
+
+    @Override
+    public int serializedKeySize() {
+        return realRecord.serializedKeySize();
+    }
+
+    @Override
+    public int serializedValueSize() {
+        return realRecord.serializedValueSize();
+    }
+
+    @Override
+    public Optional<Integer> leaderEpoch() {
+        return realRecord.leaderEpoch();
+    }
+
+    @Override
+    public String toString() {
+        return realRecord.toString();
+    }
+
+    private static ByteBuffer duplicate(ByteBuffer buffer) {
+        // deserializer may move buffer position, so it is never given the original slice
+        return buffer == null ? null : buffer.duplicate();
+    }
+
+    private ConsumerRecord<byte[], byte[]> toByteArrayRecord() {
+        return new ConsumerRecord<>(
+            realRecord.topic(),
+            realRecord.partition(),
+            realRecord.offset(),
+            realRecord.timestamp(),
+            realRecord.timestampType(),
+            realRecord.serializedKeySize(),
+            realRecord.serializedValueSize(),
+            Utils.toNullableArray(realRecord.key()),
+            Utils.toNullableArray(realRecord.value()),
+            realRecord.headers(),
+            realRecord.leaderEpoch()
+        );
+    }
+}
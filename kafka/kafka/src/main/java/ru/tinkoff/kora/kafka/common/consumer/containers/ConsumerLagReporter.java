@@ -0,0 +1,67 @@
+package ru.tinkoff.kora.kafka.common.consumer.containers;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.tinkoff.kora.kafka.common.consumer.telemetry.KafkaConsumerTelemetry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reports lag of partitions assigned to consumer not more often than once per interval.
+ * Lag is taken from last fetch response when consumer knows it, end offsets are requested from broker only for the rest.
+ * Instance is not thread safe and is expected to be used from consumer poll loop thread only.
+ */
+final class ConsumerLagReporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConsumerLagReporter.class);
+
+    private final String consumerPrefix;
+    private final KafkaConsumerTelemetry<?, ?> telemetry;
+    private final long intervalNanos;
+    private long lastReported;
+
+    ConsumerLagReporter(String consumerPrefix, KafkaConsumerTelemetry<?, ?> telemetry, Duration interval) {
+        this.consumerPrefix = consumerPrefix;
+        this.telemetry = telemetry;
+        this.intervalNanos = interval.toNanos();
+        this.lastReported = System.nanoTime() - this.intervalNanos;
+    }
+
+    void report(Consumer<?, ?> consumer) {
+        var now = System.nanoTime();
+        if (now - this.lastReported < this.intervalNanos) {
+            return;
+        }
+        this.lastReported = now;
+
+        try {
+            List<TopicPartition> unknown = null;
+            for (var partition : consumer.assignment()) {
+                var lag = consumer.currentLag(partition);
+                if (lag.isPresent()) {
+                    this.telemetry.reportLag(partition, lag.getAsLong());
+                } else {
+                    if (unknown == null) {
+                        unknown = new ArrayList<>();
+                    }
+                    unknown.add(partition);
+                }
+            }
+            if (unknown != null) {
+                for (var entry : consumer.endOffsets(unknown).entrySet()) {
+                    var lag = entry.getValue() - consumer.position(entry.getKey());
+                    this.telemetry.reportLag(entry.getKey(), Math.max(lag, 0));
+                }
+            }
+        } catch (WakeupException e) {
+            throw e;
+        } catch (Exception e) {
+            logger.debug("Kafka Consumer '{}' failed to refresh lag", consumerPrefix, e);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package ru.tinkoff.kora.kafka.common.consumer.containers;
+
+import jakarta.annotation.Nullable;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import ru.tinkoff.kora.kafka.common.consumer.KafkaListenerConfig;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+/**
+ * Filters raw records by headers and key prefix before key and value are deserialized
+ */
+public final class ConsumerRecordFilter implements Predicate<ConsumerRecord<?, ?>> {
+
+    private final HeaderMatcher[] headers;
+    @Nullable
+    private final byte[] keyPrefix;
+
+    private record HeaderMatcher(String name, byte[][] values) {
+        boolean matches(Headers headers) {
+            Header header = headers.lastHeader(name);
+            if (header == null || header.value() == null) {
+                return false;
+            }
+            for (var value : values) {
+                if (Arrays.equals(value, header.value())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private ConsumerRecordFilter(HeaderMatcher[] headers, @Nullable byte[] keyPrefix) {
+        this.headers = headers;
+        this.keyPrefix = keyPrefix;
+    }
+
+    @Nullable
+    public static ConsumerRecordFilter of(@Nullable KafkaListenerConfig.RecordFilterConfig config) {
+        if (config == null || (config.headers().isEmpty() && config.keyPrefix() == null)) {
+            return null;
+        }
+
+        var headers = new HeaderMatcher[config.headers().size()];
+        var i = 0;
+        for (var entry : config.headers().entrySet()) {
+            var values = new byte[entry.getValue().size()][];
+            for (int j = 0; j < values.length; j++) {
+                values[j] = entry.getValue().get(j).getBytes(StandardCharsets.UTF_8);
+            }
+            headers[i++] = new HeaderMatcher(entry.getKey(), values);
+        }
+        var keyPrefix = config.keyPrefix() == null ? null : config.keyPrefix().getBytes(StandardCharsets.UTF_8);
+        return new ConsumerRecordFilter(headers, keyPrefix);
+    }
+
+    /**
+     * @param record raw record with {@code byte[]} or {@link ByteBuffer} key
+     * @return true if record should be passed to handler
+     */
+    @Override
+    public boolean test(ConsumerRecord<?, ?> record) {
+        for (var header : headers) {
+            if (!header.matches(record.headers())) {
+                return false;
+            }
+        }
+        if (keyPrefix != null) {
+            var key = record.key();
+            if (key instanceof byte[] bytes) {
+                return bytes.length >= keyPrefix.length && Arrays.equals(bytes, 0, keyPrefix.length, keyPrefix, 0, keyPrefix.length);
+            } else if (key instanceof ByteBuffer buffer) {
+                if (buffer.remaining() < keyPrefix.length) {
+                    return false;
+                }
+                var position = buffer.position();
+                for (int i = 0; i < keyPrefix.length; i++) {
+                    if (buffer.get(position + i) != keyPrefix[i]) {
+                        return false;
+                    }
+                }
+                return true;
+            } else {
+                return false;
+            }
+        }
+        return true;
+    }
+}
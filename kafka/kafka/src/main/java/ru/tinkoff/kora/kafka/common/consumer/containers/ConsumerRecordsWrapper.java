@@ -1,26 +1,76 @@
 package ru.tinkoff.kora.kafka.common.consumer.containers;
 
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.common.TopicPartition;
-import org.apache.kafka.common.serialization.Deserializer;
 
 import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
-final class ConsumerRecordsWrapper<K, V> extends ConsumerRecords<K, V> {
+public final class ConsumerRecordsWrapper<R, K, V> extends ConsumerRecords<K, V> {
 
-    private final ConsumerRecords<byte[], byte[]> realRecords;
-    private final Deserializer<K> keyDeserializer;
-    private final Deserializer<V> valueDeserializer;
+    private final ConsumerRecords<R, R> polledRecords;
+    private final ConsumerRecords<R, R> realRecords;
+    private final Function<ConsumerRecord<R, R>, ConsumerRecord<K, V>> recordWrapper;
+    private final int rejectedCount;
+    private final long polledNanos;
 
-    private final Map<ConsumerRecord<byte[], byte[]>, ConsumerRecordWrapper<K, V>> records = new IdentityHashMap<>();
+    private final Map<ConsumerRecord<R, R>, ConsumerRecord<K, V>> records = new IdentityHashMap<>();
 
-    public ConsumerRecordsWrapper(ConsumerRecords<byte[], byte[]> realRecords, Deserializer<K> keyDeserializer, Deserializer<V> valueDeserializer) {
+    public ConsumerRecordsWrapper(ConsumerRecords<R, R> polledRecords,
+                                  Function<ConsumerRecord<R, R>, ConsumerRecord<K, V>> recordWrapper,
+                                  @Nullable Predicate<? super ConsumerRecord<R, R>> filter) {
         super(Map.of());
-        this.realRecords = realRecords;
-        this.keyDeserializer = keyDeserializer;
-        this.valueDeserializer = valueDeserializer;
+        this.polledNanos = System.nanoTime();
+        this.polledRecords = polledRecords;
+        this.recordWrapper = recordWrapper;
+        if (filter == null || polledRecords.isEmpty()) {
+            this.realRecords = polledRecords;
+            this.rejectedCount = 0;
+        } else {
+            var accepted = new LinkedHashMap<TopicPartition, List<ConsumerRecord<R, R>>>(polledRecords.partitions().size());
+            var rejected = 0;
+            for (var partition : polledRecords.partitions()) {
+                var partitionRecords = polledRecords.records(partition);
+                var acceptedRecords = new ArrayList<ConsumerRecord<R, R>>(partitionRecords.size());
+                for (var record : partitionRecords) {
+                    if (filter.test(record)) {
+                        acceptedRecords.add(record);
+                    } else {
+                        rejected++;
+                    }
+                }
+                if (!acceptedRecords.isEmpty()) {
+                    accepted.put(partition, acceptedRecords);
+                }
+            }
+            this.realRecords = rejected == 0 ? polledRecords : new ConsumerRecords<>(accepted);
+            this.rejectedCount = rejected;
+        }
+    }
+
+    /**
+     * @return number of polled records rejected by filter before deserialization
+     */
+    public int rejectedCount() {
+        return rejectedCount;
+    }
+
+    /**
+     * @return {@link System#nanoTime()} when records were returned by poll, records wait for handler since then
+     */
+    public long polledNanos() {
+        return polledNanos;
+    }
+
+    /**
+     * @return all polled records including rejected by filter with raw key and value
+     */
+    public ConsumerRecords<R, R> unwrap() {
+        return polledRecords;
     }
 
     @Override
@@ -60,8 +110,8 @@ final class ConsumerRecordsWrapper<K, V> extends ConsumerRecords<K, V> {
         return realRecords.isEmpty();
     }
 
-    private ConsumerRecord<K, V> wrapRecord(ConsumerRecord<byte[], byte[]> record) {
-        return records.computeIfAbsent(record, (r) -> new ConsumerRecordWrapper<>(r, keyDeserializer, valueDeserializer));
+    private ConsumerRecord<K, V> wrapRecord(ConsumerRecord<R, R> record) {
+        return records.computeIfAbsent(record, recordWrapper);
     }
 
 
@@ -1,23 +1,51 @@
 package ru.tinkoff.kora.kafka.common.consumer.containers;
 
+import jakarta.annotation.Nullable;
 import org.apache.kafka.clients.consumer.*;
 import org.apache.kafka.common.*;
 import org.apache.kafka.common.serialization.Deserializer;
 
+import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.*;
 import java.util.regex.Pattern;
 
 public final class ConsumerWrapper<K, V> implements Consumer<K, V> {
 
-    private final Consumer<byte[], byte[]> realConsumer;
-    private final Deserializer<K> keyDeserializer;
-    private final Deserializer<V> valueDeserializer;
+    private final Consumer<?, ?> realConsumer;
+    private final RecordsPoller<K, V> poller;
+    private final boolean zeroCopy;
 
     public ConsumerWrapper(Consumer<byte[], byte[]> realConsumer, Deserializer<K> keyDeserializer, Deserializer<V> valueDeserializer) {
+        this(realConsumer, keyDeserializer, valueDeserializer, null);
+    }
+
+    public ConsumerWrapper(Consumer<byte[], byte[]> realConsumer, Deserializer<K> keyDeserializer, Deserializer<V> valueDeserializer, @Nullable ConsumerRecordFilter filter) {
+        this(realConsumer, false, timeout -> new ConsumerRecordsWrapper<>(realConsumer.poll(timeout), r -> new ConsumerRecordWrapper<>(r, keyDeserializer, valueDeserializer), filter));
+    }
+
+    private ConsumerWrapper(Consumer<?, ?> realConsumer, boolean zeroCopy, RecordsPoller<K, V> poller) {
         this.realConsumer = realConsumer;
-        this.keyDeserializer = keyDeserializer;
-        this.valueDeserializer = valueDeserializer;
+        this.zeroCopy = zeroCopy;
+        this.poller = poller;
+    }
+
+    /**
+     * @param realConsumer consumer that receives key and value as slices of fetch response buffer
+     * @param filter       optional filter applied to raw records before deserialization
+     * @return consumer that deserializes key and value lazily straight from fetch response buffer without intermediate array copy
+     * @see org.apache.kafka.common.serialization.ByteBufferDeserializer
+     */
+    public static <K, V> ConsumerWrapper<K, V> zeroCopy(Consumer<ByteBuffer, ByteBuffer> realConsumer,
+                                                         Deserializer<K> keyDeserializer,
+                                                         Deserializer<V> valueDeserializer,
+                                                         @Nullable ConsumerRecordFilter filter) {
+        return new ConsumerWrapper<>(realConsumer, true, timeout -> new ConsumerRecordsWrapper<>(realConsumer.poll(timeout), r -> new ByteBufferConsumerRecordWrapper<>(r, keyDeserializer, valueDeserializer), filter));
+    }
+
+    @FunctionalInterface
+    private interface RecordsPoller<K, V> {
+        ConsumerRecords<K, V> poll(Duration timeout);
     }
 
     @Override
@@ -68,12 +96,12 @@ public final class ConsumerWrapper<K, V> implements Consumer<K, V> {
     @Override
     @Deprecated
     public ConsumerRecords<K, V> poll(long timeout) {
-        return new ConsumerRecordsWrapper<>(realConsumer.poll(timeout), keyDeserializer, valueDeserializer);
+        return poller.poll(Duration.ofMillis(timeout));
     }
 
     @Override
     public ConsumerRecords<K, V> poll(Duration timeout) {
-        return new ConsumerRecordsWrapper<>(realConsumer.poll(timeout), keyDeserializer, valueDeserializer);
+        return poller.poll(timeout);
     }
 
     @Override
@@ -268,7 +296,11 @@ public final class ConsumerWrapper<K, V> implements Consumer<K, V> {
         realConsumer.wakeup();
     }
 
+    @SuppressWarnings("unchecked")
     public Consumer<byte[], byte[]> unwrap() {
-        return realConsumer;
+        if (zeroCopy) {
+            throw new IllegalStateException("Zero copy consumer receives ByteBuffer records and can't be unwrapped as byte[] consumer");
+        }
+        return (Consumer<byte[], byte[]>) realConsumer;
     }
 }
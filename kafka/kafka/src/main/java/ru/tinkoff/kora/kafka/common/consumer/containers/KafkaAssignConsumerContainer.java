@@ -2,14 +2,17 @@ package ru.tinkoff.kora.kafka.common.consumer.containers;
 
 import jakarta.annotation.Nullable;
 import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.errors.WakeupException;
 import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteBufferDeserializer;
 import org.apache.kafka.common.serialization.Deserializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.tinkoff.kora.application.graph.Lifecycle;
+import ru.tinkoff.kora.application.graph.internal.loom.VirtualThreadExecutorHolder;
 import ru.tinkoff.kora.common.Context;
 import ru.tinkoff.kora.common.util.TimeUtils;
 import ru.tinkoff.kora.kafka.common.KafkaUtils;
@@ -36,11 +39,15 @@ public final class KafkaAssignConsumerContainer<K, V> implements Lifecycle {
     private final AtomicLong backoffTimeout;
     private final Deserializer<K> keyDeserializer;
     private final Deserializer<V> valueDeserializer;
+    @Nullable
+    private final ConsumerRecordFilter filter;
     private final int threads;
     private final KafkaListenerConfig config;
     private final long refreshInterval;
     private final String consumerPrefix;
     private volatile ExecutorService executorService;
+    @Nullable
+    private volatile VirtualThreadPinningMonitor pinningMonitor;
 
     private final BaseKafkaRecordsHandler<K, V> handler;
     private final Set<Consumer<K, V>> consumers = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
@@ -70,6 +77,7 @@ public final class KafkaAssignConsumerContainer<K, V> implements Lifecycle {
         this.backoffTimeout = new AtomicLong(config.backoffTimeout().toMillis());
         this.keyDeserializer = Objects.requireNonNull(keyDeserializer);
         this.valueDeserializer = Objects.requireNonNull(valueDeserializer);
+        this.filter = ConsumerRecordFilter.of(config.filter());
         this.topic = Objects.requireNonNull(topic);
         this.threads = config.threads();
         this.config = config;
@@ -87,6 +95,7 @@ public final class KafkaAssignConsumerContainer<K, V> implements Lifecycle {
         var partitions = List.<TopicPartition>of();
         logger.info("Kafka Consumer '{}' started in {}", consumerPrefix, TimeUtils.tookForLogging(started));
 
+        var lagReporter = new ConsumerLagReporter(consumerPrefix, telemetry, config.lagRefreshInterval());
         boolean isFirstPoll = true;
         while (isActive.get()) {
             var changed = this.refreshPartitions(allPartitions);
@@ -164,14 +173,16 @@ public final class KafkaAssignConsumerContainer<K, V> implements Lifecycle {
                 }
 
                 handler.handle(records, consumer, false);
-                for (var partition : records.partitions()) {
-                    var partitionRecords = records.records(partition);
+                // offsets of records rejected by filter should advance too
+                ConsumerRecords<?, ?> polledRecords = records instanceof ConsumerRecordsWrapper<?, ?, ?> wrapper ? wrapper.unwrap() : records;
+                for (var partition : polledRecords.partitions()) {
+                    var partitionRecords = polledRecords.records(partition);
                     var lastRecord = partitionRecords.get(partitionRecords.size() - 1);
                     synchronized (this.offsets) {
                         this.offsets.set(partition.partition(), lastRecord.offset());
-                        this.refreshLag(consumer);
                     }
                 }
+                lagReporter.report(consumer);
 
                 backoffTimeout.set(config.backoffTimeout().toMillis());
             } catch (WakeupException ignore) {
@@ -190,18 +201,6 @@ public final class KafkaAssignConsumerContainer<K, V> implements Lifecycle {
         }
     }
 
-    private void refreshLag(Consumer<K, V> consumer) {
-        for (var entry : consumer.endOffsets(this.partitions.get()).entrySet()) {
-            var p = entry.getKey();
-            var latestOffset = entry.getValue();
-            var currentOffset = this.offsets.get(p.partition());
-            if (currentOffset != null) {
-                var lag = latestOffset - currentOffset;
-                this.telemetry.reportLag(p, lag);
-            }
-        }
-    }
-
     private final AtomicLong lastUpdateTime = new AtomicLong(0);
 
     private boolean refreshPartitions(List<TopicPartition> partitions) {
@@ -243,8 +242,13 @@ public final class KafkaAssignConsumerContainer<K, V> implements Lifecycle {
     @Nullable
     private Consumer<K, V> initializeConsumer() {
         try {
-            var realConsumer = new KafkaConsumer<>(this.config.driverProperties(), new ByteArrayDeserializer(), new ByteArrayDeserializer());
-            return new ConsumerWrapper<>(realConsumer, keyDeserializer, valueDeserializer);
+            if (config.zeroCopy()) {
+                var realConsumer = new KafkaConsumer<>(this.config.driverProperties(), new ByteBufferDeserializer(), new ByteBufferDeserializer());
+                return ConsumerWrapper.zeroCopy(realConsumer, keyDeserializer, valueDeserializer, filter);
+            } else {
+                var realConsumer = new KafkaConsumer<>(this.config.driverProperties(), new ByteArrayDeserializer(), new ByteArrayDeserializer());
+                return new ConsumerWrapper<>(realConsumer, keyDeserializer, valueDeserializer, filter);
+            }
         } catch (Exception e) {
             logger.error("Kafka Consumer '{}' initialization failed", consumerPrefix, e);
             try {
@@ -264,7 +268,7 @@ public final class KafkaAssignConsumerContainer<K, V> implements Lifecycle {
                 logger.debug("Kafka Consumer '{}' starting...", consumerPrefix);
                 final long started = TimeUtils.started();
 
-                executorService = Executors.newFixedThreadPool(threads, new NamedThreadFactory(this.topic));
+                executorService = createExecutorService(threads);
                 for (int i = 0; i < threads; i++) {
                     var number = i;
                     executorService.execute(() -> {
@@ -303,11 +307,28 @@ public final class KafkaAssignConsumerContainer<K, V> implements Lifecycle {
                     logger.warn("Kafka Consumer '{}' failed completing graceful shutdown in {}", consumerPrefix, config.shutdownWait());
                 }
             }
+            if (pinningMonitor != null) {
+                pinningMonitor.close();
+                pinningMonitor = null;
+            }
 
             logger.info("Kafka Consumer '{}' stopped in {}", consumerPrefix, TimeUtils.tookForLogging(started));
         }
     }
 
+    private ExecutorService createExecutorService(int threads) {
+        if (config.virtualThreads()) {
+            var threadPrefix = NamedThreadFactory.CONSUMER_PREFIX + this.topic;
+            var virtualExecutorService = VirtualThreadExecutorHolder.executorService(threadPrefix);
+            if (virtualExecutorService != null) {
+                pinningMonitor = VirtualThreadPinningMonitor.start(threadPrefix, telemetry);
+                return virtualExecutorService;
+            }
+            logger.warn("Kafka Consumer '{}' virtual threads are {}, platform threads will be used", consumerPrefix, VirtualThreadExecutorHolder.status());
+        }
+        return Executors.newFixedThreadPool(threads, new NamedThreadFactory(this.topic));
+    }
+
     private boolean shutdownExecutorService(ExecutorService executorService, Duration shutdownAwait) {
         boolean terminated = executorService.isTerminated();
         if (!terminated) {
@@ -9,10 +9,12 @@ import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.errors.WakeupException;
 import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteBufferDeserializer;
 import org.apache.kafka.common.serialization.Deserializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.tinkoff.kora.application.graph.Lifecycle;
+import ru.tinkoff.kora.application.graph.internal.loom.VirtualThreadExecutorHolder;
 import ru.tinkoff.kora.common.Context;
 import ru.tinkoff.kora.common.util.TimeUtils;
 import ru.tinkoff.kora.kafka.common.KafkaUtils;
@@ -20,6 +22,7 @@ import ru.tinkoff.kora.kafka.common.KafkaUtils.NamedThreadFactory;
 import ru.tinkoff.kora.kafka.common.consumer.ConsumerAwareRebalanceListener;
 import ru.tinkoff.kora.kafka.common.consumer.KafkaListenerConfig;
 import ru.tinkoff.kora.kafka.common.consumer.containers.handlers.BaseKafkaRecordsHandler;
+import ru.tinkoff.kora.kafka.common.consumer.telemetry.KafkaConsumerTelemetry;
 
 import java.time.Duration;
 import java.util.*;
@@ -37,7 +40,11 @@ public final class KafkaSubscribeConsumerContainer<K, V> implements Lifecycle {
     private final AtomicLong backoffTimeout;
     private final Deserializer<K> keyDeserializer;
     private final Deserializer<V> valueDeserializer;
+    @Nullable
+    private final ConsumerRecordFilter filter;
     private volatile ExecutorService executorService;
+    @Nullable
+    private volatile VirtualThreadPinningMonitor pinningMonitor;
 
     private final BaseKafkaRecordsHandler<K, V> handler;
     private final Set<Consumer<K, V>> consumers = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
@@ -46,6 +53,8 @@ public final class KafkaSubscribeConsumerContainer<K, V> implements Lifecycle {
     private final KafkaListenerConfig config;
     private final String consumerPrefix;
     private final boolean commitAllowed;
+    @Nullable
+    private final KafkaConsumerTelemetry<K, V> telemetry;
 
     public KafkaSubscribeConsumerContainer(KafkaListenerConfig config,
                                            Deserializer<K> keyDeserializer,
@@ -68,11 +77,22 @@ public final class KafkaSubscribeConsumerContainer<K, V> implements Lifecycle {
                                            Deserializer<V> valueDeserializer,
                                            BaseKafkaRecordsHandler<K, V> handler,
                                            @Nullable ConsumerAwareRebalanceListener rebalanceListener) {
+        this(consumerName, config, keyDeserializer, valueDeserializer, null, handler, rebalanceListener);
+    }
+
+    public KafkaSubscribeConsumerContainer(String consumerName,
+                                           KafkaListenerConfig config,
+                                           Deserializer<K> keyDeserializer,
+                                           Deserializer<V> valueDeserializer,
+                                           @Nullable KafkaConsumerTelemetry<K, V> telemetry,
+                                           BaseKafkaRecordsHandler<K, V> handler,
+                                           @Nullable ConsumerAwareRebalanceListener rebalanceListener) {
         if (config.driverProperties().get(CommonClientConfigs.GROUP_ID_CONFIG) == null) {
             throw new IllegalArgumentException("Group id is required for subscribe container");
         }
 
         this.handler = handler;
+        this.telemetry = telemetry;
         this.rebalanceListener = rebalanceListener;
         var autoCommit = config.driverProperties().get(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG);
         if (autoCommit == null) {
@@ -84,6 +104,7 @@ public final class KafkaSubscribeConsumerContainer<K, V> implements Lifecycle {
         this.config = config;
         this.keyDeserializer = keyDeserializer;
         this.valueDeserializer = valueDeserializer;
+        this.filter = ConsumerRecordFilter.of(config.filter());
         this.backoffTimeout = new AtomicLong(config.backoffTimeout().toMillis());
         if(consumerName == null || consumerName.isBlank()) {
             this.consumerPrefix = KafkaUtils.getConsumerPrefix(config);
@@ -97,6 +118,7 @@ public final class KafkaSubscribeConsumerContainer<K, V> implements Lifecycle {
             consumers.add(consumer);
             logger.info("Kafka Consumer '{}' started in {}", consumerPrefix, TimeUtils.tookForLogging(started));
 
+            var lagReporter = telemetry == null ? null : new ConsumerLagReporter(consumerPrefix, telemetry, config.lagRefreshInterval());
             boolean isFirstPoll = true;
             while (isActive.get()) {
                 try {
@@ -126,6 +148,9 @@ public final class KafkaSubscribeConsumerContainer<K, V> implements Lifecycle {
                     }
 
                     handler.handle(records, consumer, this.commitAllowed);
+                    if (lagReporter != null) {
+                        lagReporter.report(consumer);
+                    }
                     backoffTimeout.set(config.backoffTimeout().toMillis());
                 } catch (WakeupException ignore) {
                 } catch (Exception e) {
@@ -155,7 +180,7 @@ public final class KafkaSubscribeConsumerContainer<K, V> implements Lifecycle {
             logger.debug("Kafka Consumer '{}' starting...", consumerPrefix);
             final long started = TimeUtils.started();
 
-            executorService = Executors.newFixedThreadPool(config.threads(), new NamedThreadFactory(consumerPrefix));
+            executorService = createExecutorService();
             for (int i = 0; i < config.threads(); i++) {
                 executorService.execute(() -> {
                     while (isActive.get()) {
@@ -184,11 +209,30 @@ public final class KafkaSubscribeConsumerContainer<K, V> implements Lifecycle {
                     logger.warn("Kafka Consumer '{}' failed completing graceful shutdown in {}", consumerPrefix, config.shutdownWait());
                 }
             }
+            if (pinningMonitor != null) {
+                pinningMonitor.close();
+                pinningMonitor = null;
+            }
 
             logger.info("Kafka Consumer '{}' stopped in {}", consumerPrefix, TimeUtils.tookForLogging(started));
         }
     }
 
+    private ExecutorService createExecutorService() {
+        if (config.virtualThreads()) {
+            var threadPrefix = NamedThreadFactory.CONSUMER_PREFIX + consumerPrefix;
+            var virtualExecutorService = VirtualThreadExecutorHolder.executorService(threadPrefix);
+            if (virtualExecutorService != null) {
+                if (telemetry != null) {
+                    pinningMonitor = VirtualThreadPinningMonitor.start(threadPrefix, telemetry);
+                }
+                return virtualExecutorService;
+            }
+            logger.warn("Kafka Consumer '{}' virtual threads are {}, platform threads will be used", consumerPrefix, VirtualThreadExecutorHolder.status());
+        }
+        return Executors.newFixedThreadPool(config.threads(), new NamedThreadFactory(consumerPrefix));
+    }
+
     private boolean shutdownExecutorService(ExecutorService executorService, Duration shutdownAwait) {
         boolean terminated = executorService.isTerminated();
         if (!terminated) {
@@ -225,7 +269,18 @@ public final class KafkaSubscribeConsumerContainer<K, V> implements Lifecycle {
     }
 
     private Consumer<K, V> buildConsumer() {
-        var consumer = new KafkaConsumer<>(this.config.driverProperties(), new ByteArrayDeserializer(), new ByteArrayDeserializer());
+        if (config.zeroCopy()) {
+            var consumer = new KafkaConsumer<>(this.config.driverProperties(), new ByteBufferDeserializer(), new ByteBufferDeserializer());
+            subscribe(consumer);
+            return ConsumerWrapper.zeroCopy(consumer, keyDeserializer, valueDeserializer, filter);
+        } else {
+            var consumer = new KafkaConsumer<>(this.config.driverProperties(), new ByteArrayDeserializer(), new ByteArrayDeserializer());
+            subscribe(consumer);
+            return new ConsumerWrapper<>(consumer, keyDeserializer, valueDeserializer, filter);
+        }
+    }
+
+    private void subscribe(KafkaConsumer<?, ?> consumer) {
         try {
             if (config.topicsPattern() != null) {
                 if (rebalanceListener != null) {
@@ -278,7 +333,5 @@ public final class KafkaSubscribeConsumerContainer<K, V> implements Lifecycle {
             }
             throw e;
         }
-
-        return new ConsumerWrapper<>(consumer, keyDeserializer, valueDeserializer);
     }
 }
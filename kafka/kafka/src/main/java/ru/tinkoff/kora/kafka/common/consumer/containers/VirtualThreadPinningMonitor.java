@@ -0,0 +1,102 @@
+package ru.tinkoff.kora.kafka.common.consumer.containers;
+
+import jakarta.annotation.Nullable;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.tinkoff.kora.kafka.common.consumer.telemetry.KafkaConsumerTelemetry;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Reports JFR events about virtual threads pinned to their carrier thread to telemetry of consumer that owns the thread.
+ * All consumers share one JFR stream, it is started by first monitor and closed when last monitor is closed,
+ * events are dispatched by consumer thread name prefix
+ */
+final class VirtualThreadPinningMonitor implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private static final Object lock = new Object();
+    private static final CopyOnWriteArrayList<VirtualThreadPinningMonitor> monitors = new CopyOnWriteArrayList<>();
+    @Nullable
+    private static RecordingStream stream;
+
+    private final String threadNamePrefix;
+    private final KafkaConsumerTelemetry<?, ?> telemetry;
+
+    private VirtualThreadPinningMonitor(String threadNamePrefix, KafkaConsumerTelemetry<?, ?> telemetry) {
+        this.threadNamePrefix = threadNamePrefix;
+        this.telemetry = telemetry;
+    }
+
+    @Nullable
+    static VirtualThreadPinningMonitor start(String threadNamePrefix, KafkaConsumerTelemetry<?, ?> telemetry) {
+        synchronized (lock) {
+            if (stream == null) {
+                try {
+                    var newStream = new RecordingStream();
+                    newStream.enable(PINNED_EVENT);
+                    newStream.onEvent(PINNED_EVENT, VirtualThreadPinningMonitor::onPinned);
+                    newStream.startAsync();
+                    stream = newStream;
+                } catch (Exception | LinkageError e) {
+                    logger.warn("Kafka Consumer '{}' can't monitor virtual thread pinning", threadNamePrefix, e);
+                    return null;
+                }
+            }
+            var monitor = new VirtualThreadPinningMonitor(threadNamePrefix, telemetry);
+            monitors.add(monitor);
+            return monitor;
+        }
+    }
+
+    static boolean isStreamActive() {
+        synchronized (lock) {
+            return stream != null;
+        }
+    }
+
+    static void onPinned(RecordedEvent event) {
+        var thread = event.getThread();
+        if (thread == null) {
+            return;
+        }
+        var name = thread.getJavaName();
+        if (name == null) {
+            return;
+        }
+        var durationNanos = event.getDuration().toNanos();
+        for (var monitor : monitors) {
+            if (monitor.isConsumerThread(name)) {
+                monitor.telemetry.reportVirtualThreadPinned(durationNanos);
+            }
+        }
+    }
+
+    // consumer thread name is prefix followed by thread number, so prefix of topic 'orders' doesn't match threads of topic 'orders-dlq'
+    boolean isConsumerThread(String threadName) {
+        if (threadName.length() == threadNamePrefix.length() || !threadName.startsWith(threadNamePrefix)) {
+            return false;
+        }
+        for (int i = threadNamePrefix.length(); i < threadName.length(); i++) {
+            if (!Character.isDigit(threadName.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void close() {
+        synchronized (lock) {
+            if (monitors.remove(this) && monitors.isEmpty() && stream != null) {
+                stream.close();
+                stream = null;
+            }
+        }
+    }
+}
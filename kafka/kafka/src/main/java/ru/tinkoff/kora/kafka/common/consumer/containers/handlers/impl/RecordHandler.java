@@ -7,6 +7,7 @@ import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.errors.WakeupException;
 import org.apache.kafka.common.requests.OffsetFetchResponse;
 import ru.tinkoff.kora.application.graph.ValueOf;
+import ru.tinkoff.kora.kafka.common.consumer.containers.ConsumerRecordsWrapper;
 import ru.tinkoff.kora.kafka.common.consumer.containers.handlers.BaseKafkaRecordsHandler;
 import ru.tinkoff.kora.kafka.common.consumer.containers.handlers.KafkaRecordHandler;
 import ru.tinkoff.kora.kafka.common.consumer.telemetry.KafkaConsumerTelemetry;
@@ -26,7 +27,14 @@ public class RecordHandler<K, V> implements BaseKafkaRecordsHandler<K, V> {
 
     @Override
     public void handle(ConsumerRecords<K, V> records, Consumer<K, V> consumer, boolean commitAllowed) {
+        var rejected = records instanceof ConsumerRecordsWrapper<?, ?, ?> wrapper ? wrapper.rejectedCount() : 0;
+        if (rejected > 0) {
+            this.telemetry.reportFiltered(rejected);
+        }
         if (records.isEmpty()) {
+            if (rejected > 0) {
+                this.commitRejected(consumer, commitAllowed);
+            }
             return;
         }
 
@@ -64,10 +72,26 @@ public class RecordHandler<K, V> implements BaseKafkaRecordsHandler<K, V> {
                     throw e;
                 }
             }
+            if (rejected > 0) {
+                this.commitRejected(consumer, commitAllowed);
+            }
             ctx.close(null);
         } catch (Exception e) {
             ctx.close(e);
             throw e;
         }
     }
+
+    private void commitRejected(Consumer<K, V> consumer, boolean commitAllowed) {
+        if (this.shouldCommit && commitAllowed) {
+            // all accepted records are processed, so current position also covers records rejected by filter
+            try {
+                consumer.commitSync();
+            } catch (WakeupException e) {
+                // retry commit if thrown on consumer release
+                consumer.commitSync();
+                throw e;
+            }
+        }
+    }
 }
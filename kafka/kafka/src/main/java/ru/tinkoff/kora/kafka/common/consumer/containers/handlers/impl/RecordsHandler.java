@@ -4,6 +4,7 @@ import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.common.errors.WakeupException;
 import ru.tinkoff.kora.application.graph.ValueOf;
+import ru.tinkoff.kora.kafka.common.consumer.containers.ConsumerRecordsWrapper;
 import ru.tinkoff.kora.kafka.common.consumer.containers.handlers.BaseKafkaRecordsHandler;
 import ru.tinkoff.kora.kafka.common.consumer.containers.handlers.KafkaRecordsHandler;
 import ru.tinkoff.kora.kafka.common.consumer.telemetry.KafkaConsumerTelemetry;
@@ -27,7 +28,21 @@ public class RecordsHandler<K, V> implements BaseKafkaRecordsHandler<K, V> {
 
     @Override
     public void handle(ConsumerRecords<K, V> records, Consumer<K, V> consumer, boolean commitAllowed) {
+        var rejected = records instanceof ConsumerRecordsWrapper<?, ?, ?> wrapper ? wrapper.rejectedCount() : 0;
+        if (rejected > 0) {
+            this.telemetry.reportFiltered(rejected);
+        }
         if (records.isEmpty() && !allowEmptyRecords) {
+            if (rejected > 0 && this.shouldCommit && commitAllowed) {
+                // advance offsets past records rejected by filter
+                try {
+                    consumer.commitSync();
+                } catch (WakeupException e) {
+                    // retry commit if thrown on consumer release
+                    consumer.commitSync();
+                    throw e;
+                }
+            }
             return;
         }
 
@@ -4,6 +4,7 @@ import jakarta.annotation.Nullable;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.common.TopicPartition;
+import ru.tinkoff.kora.kafka.common.consumer.containers.ConsumerRecordsWrapper;
 
 public class DefaultKafkaConsumerTelemetry<K, V> implements KafkaConsumerTelemetry<K, V> {
 
@@ -28,6 +29,7 @@ public class DefaultKafkaConsumerTelemetry<K, V> implements KafkaConsumerTelemet
     @Override
     public KafkaConsumerRecordsTelemetryContext<K, V> get(ConsumerRecords<K, V> records) {
         var start = System.nanoTime();
+        var polled = records instanceof ConsumerRecordsWrapper<?, ?, ?> wrapper ? wrapper.polledNanos() : start;
         if (this.metrics != null) {
             this.metrics.onRecordsReceived(records);
         }
@@ -42,7 +44,8 @@ public class DefaultKafkaConsumerTelemetry<K, V> implements KafkaConsumerTelemet
             this.logger,
             this.metrics,
             span,
-            start
+            start,
+            polled
         );
     }
 
@@ -53,6 +56,20 @@ public class DefaultKafkaConsumerTelemetry<K, V> implements KafkaConsumerTelemet
         }
     }
 
+    @Override
+    public void reportFiltered(int count) {
+        if (this.metrics != null) {
+            this.metrics.onRecordsFiltered(consumerName, count);
+        }
+    }
+
+    @Override
+    public void reportVirtualThreadPinned(long durationNanos) {
+        if (this.metrics != null) {
+            this.metrics.onVirtualThreadPinned(consumerName, durationNanos);
+        }
+    }
+
     private static final class DefaultKafkaConsumerRecordsTelemetryContext<K, V> implements KafkaConsumerRecordsTelemetryContext<K, V> {
         private final ConsumerRecords<K, V> records;
         @Nullable
@@ -63,24 +80,31 @@ public class DefaultKafkaConsumerTelemetry<K, V> implements KafkaConsumerTelemet
         private final KafkaConsumerTracer.KafkaConsumerRecordsSpan span;
         private final String consumerName;
         private final long start;
+        private final long polled;
+        private volatile boolean recordsObserved;
 
-        public DefaultKafkaConsumerRecordsTelemetryContext(String consumerName, ConsumerRecords<K, V> records, @Nullable KafkaConsumerLogger<K, V> logger, @Nullable KafkaConsumerMetrics metrics, @Nullable KafkaConsumerTracer.KafkaConsumerRecordsSpan span, long start) {
+        public DefaultKafkaConsumerRecordsTelemetryContext(String consumerName, ConsumerRecords<K, V> records, @Nullable KafkaConsumerLogger<K, V> logger, @Nullable KafkaConsumerMetrics metrics, @Nullable KafkaConsumerTracer.KafkaConsumerRecordsSpan span, long start, long polled) {
             this.consumerName = consumerName;
             this.records = records;
             this.logger = logger;
             this.metrics = metrics;
             this.span = span;
             this.start = start;
+            this.polled = polled;
         }
 
         @Override
         public KafkaConsumerRecordTelemetryContext<K, V> get(ConsumerRecord<K, V> record) {
             var recordStart = System.nanoTime();
+            this.recordsObserved = true;
+            if (this.metrics != null) {
+                this.metrics.onRecordQueued(consumerName, record, recordStart - this.polled);
+            }
             var recordSpan = this.span == null ? null : this.span.get(record);
             if (this.logger != null) {
                 this.logger.logRecord(record);
             }
-            return new DefaultKafkaConsumerRecordTelemetryContext<>(record, recordStart, this.logger, this.metrics, recordSpan);
+            return new DefaultKafkaConsumerRecordTelemetryContext<>(consumerName, record, recordStart, this.logger, this.metrics, recordSpan);
         }
 
         @Override
@@ -91,6 +115,15 @@ public class DefaultKafkaConsumerTelemetry<K, V> implements KafkaConsumerTelemet
             }
             if (this.metrics != null) {
                 this.metrics.onRecordsProcessed(consumerName, this.records, duration, ex);
+                if (!this.recordsObserved) {
+                    // records handler didn't observe records one by one, so latency is reported for the whole batch
+                    var now = System.currentTimeMillis();
+                    for (var record : this.records) {
+                        if (record.timestamp() >= 0) {
+                            this.metrics.onRecordLatency(consumerName, record, now - record.timestamp());
+                        }
+                    }
+                }
             }
             if (this.logger != null) {
                 this.logger.logRecordsProcessed(this.records, ex);
@@ -99,6 +132,7 @@ public class DefaultKafkaConsumerTelemetry<K, V> implements KafkaConsumerTelemet
     }
 
     private static final class DefaultKafkaConsumerRecordTelemetryContext<K, V> implements KafkaConsumerRecordTelemetryContext<K, V> {
+        private final String consumerName;
         private final ConsumerRecord<K, V> record;
         private final long recordStart;
         @Nullable
@@ -108,7 +142,8 @@ public class DefaultKafkaConsumerTelemetry<K, V> implements KafkaConsumerTelemet
         @Nullable
         private final KafkaConsumerTracer.KafkaConsumerRecordSpan recordSpan;
 
-        public DefaultKafkaConsumerRecordTelemetryContext(ConsumerRecord<K, V> record, long recordStart, @Nullable KafkaConsumerLogger<K, V> logger, @Nullable KafkaConsumerMetrics metrics, @Nullable KafkaConsumerTracer.KafkaConsumerRecordSpan recordSpan) {
+        public DefaultKafkaConsumerRecordTelemetryContext(String consumerName, ConsumerRecord<K, V> record, long recordStart, @Nullable KafkaConsumerLogger<K, V> logger, @Nullable KafkaConsumerMetrics metrics, @Nullable KafkaConsumerTracer.KafkaConsumerRecordSpan recordSpan) {
+            this.consumerName = consumerName;
             this.record = record;
             this.recordStart = recordStart;
             this.logger = logger;
@@ -124,6 +159,9 @@ public class DefaultKafkaConsumerTelemetry<K, V> implements KafkaConsumerTelemet
             }
             if (this.metrics != null) {
                 this.metrics.onRecordProcessed(this.record, duration, ex);
+                if (this.record.timestamp() >= 0) {
+                    this.metrics.onRecordLatency(consumerName, this.record, System.currentTimeMillis() - this.record.timestamp());
+                }
             }
             if (this.logger != null) {
                 this.logger.logRecordProcessed(this.record, ex);
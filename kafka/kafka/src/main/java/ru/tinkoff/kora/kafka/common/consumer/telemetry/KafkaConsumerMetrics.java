@@ -35,4 +35,26 @@ public interface KafkaConsumerMetrics {
     default void reportLag(String consumerName, TopicPartition partition, long lag) {
         reportLag(partition, lag);
     }
+
+    /**
+     * @param queueDuration nanoseconds record waited for handler since it was polled
+     */
+    default void onRecordQueued(String consumerName, ConsumerRecord<?, ?> record, long queueDuration) {
+
+    }
+
+    /**
+     * @param latency milliseconds passed since record timestamp till record was processed
+     */
+    default void onRecordLatency(String consumerName, ConsumerRecord<?, ?> record, long latency) {
+
+    }
+
+    default void onRecordsFiltered(String consumerName, int count) {
+
+    }
+
+    default void onVirtualThreadPinned(String consumerName, long durationNanos) {
+
+    }
 }
@@ -25,4 +25,18 @@ public interface KafkaConsumerTelemetry<K, V> {
     KafkaConsumerRecordsTelemetryContext<K, V> get(ConsumerRecords<K, V> records);
 
     void reportLag(TopicPartition partition, long lag);
+
+    /**
+     * @param count number of polled records rejected by filter, reported in aggregate instead of per record telemetry
+     */
+    default void reportFiltered(int count) {
+
+    }
+
+    /**
+     * @param durationNanos time consumer virtual thread was pinned to its carrier thread
+     */
+    default void reportVirtualThreadPinned(long durationNanos) {
+
+    }
 }
@@ -0,0 +1,86 @@
+package ru.tinkoff.kora.kafka.common.consumer.containers;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
+import org.junit.jupiter.api.Test;
+import ru.tinkoff.kora.kafka.common.consumer.telemetry.KafkaConsumerTelemetry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class ConsumerLagReporterTest {
+
+    private final TopicPartition known = new TopicPartition("test", 0);
+    private final TopicPartition unknown = new TopicPartition("test", 1);
+    private final TopicPartition ahead = new TopicPartition("test", 2);
+
+    @SuppressWarnings("unchecked")
+    private final Consumer<byte[], byte[]> consumer = mock(Consumer.class);
+    private final KafkaConsumerTelemetry<?, ?> telemetry = mock(KafkaConsumerTelemetry.class);
+
+    @Test
+    void testLagFromFetchResponseAndEndOffsets() {
+        when(consumer.assignment()).thenReturn(Set.of(known, unknown, ahead));
+        when(consumer.currentLag(known)).thenReturn(OptionalLong.of(5));
+        when(consumer.currentLag(unknown)).thenReturn(OptionalLong.empty());
+        when(consumer.currentLag(ahead)).thenReturn(OptionalLong.empty());
+        when(consumer.endOffsets(any())).thenReturn(Map.of(unknown, 100L, ahead, 10L));
+        when(consumer.position(unknown)).thenReturn(70L);
+        when(consumer.position(ahead)).thenReturn(11L);
+
+        new ConsumerLagReporter("test", telemetry, Duration.ofMinutes(1)).report(consumer);
+
+        verify(telemetry).reportLag(known, 5);
+        verify(telemetry).reportLag(unknown, 30);
+        verify(telemetry).reportLag(ahead, 0);
+        verify(consumer).endOffsets(argThat(partitions -> Set.copyOf(partitions).equals(Set.of(unknown, ahead))));
+    }
+
+    @Test
+    void testEndOffsetsAreNotRequestedWhenLagIsKnown() {
+        when(consumer.assignment()).thenReturn(Set.of(known));
+        when(consumer.currentLag(known)).thenReturn(OptionalLong.of(0));
+
+        new ConsumerLagReporter("test", telemetry, Duration.ofMinutes(1)).report(consumer);
+
+        verify(telemetry).reportLag(known, 0);
+        verify(consumer, never()).endOffsets(any());
+    }
+
+    @Test
+    void testReportedOncePerInterval() throws InterruptedException {
+        when(consumer.assignment()).thenReturn(Set.of(known));
+        when(consumer.currentLag(known)).thenReturn(OptionalLong.of(1));
+        var reporter = new ConsumerLagReporter("test", telemetry, Duration.ofMillis(200));
+
+        reporter.report(consumer);
+        reporter.report(consumer);
+        verify(telemetry, times(1)).reportLag(any(TopicPartition.class), anyLong());
+
+        Thread.sleep(250);
+        reporter.report(consumer);
+        verify(telemetry, times(2)).reportLag(any(TopicPartition.class), anyLong());
+    }
+
+    @Test
+    void testErrorsAreNotPropagatedExceptWakeup() {
+        when(consumer.assignment()).thenReturn(Set.of(unknown));
+        when(consumer.currentLag(unknown)).thenReturn(OptionalLong.empty());
+        when(consumer.endOffsets(any())).thenThrow(new IllegalStateException("broker unavailable"));
+
+        new ConsumerLagReporter("test", telemetry, Duration.ZERO).report(consumer);
+        verifyNoInteractions(telemetry);
+
+        doThrow(new WakeupException()).when(consumer).endOffsets(any());
+        assertThatThrownBy(() -> new ConsumerLagReporter("test", telemetry, Duration.ZERO).report(consumer))
+            .isInstanceOf(WakeupException.class);
+    }
+}
@@ -0,0 +1,87 @@
+package ru.tinkoff.kora.kafka.common.consumer.containers;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import ru.tinkoff.kora.kafka.common.consumer.telemetry.KafkaConsumerTelemetry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class VirtualThreadPinningMonitorTest {
+
+    @Test
+    void testStreamIsSharedBetweenConsumers() {
+        var first = VirtualThreadPinningMonitor.start("kafka-consumer-first", mock(KafkaConsumerTelemetry.class));
+        var second = VirtualThreadPinningMonitor.start("kafka-consumer-second", mock(KafkaConsumerTelemetry.class));
+        assertThat(first).isNotNull();
+        assertThat(second).isNotNull();
+        assertThat(VirtualThreadPinningMonitor.isStreamActive()).isTrue();
+
+        first.close();
+        first.close();
+        assertThat(VirtualThreadPinningMonitor.isStreamActive()).isTrue();
+
+        second.close();
+        assertThat(VirtualThreadPinningMonitor.isStreamActive()).isFalse();
+    }
+
+    @Test
+    void testConsumerThreadName() {
+        var monitor = VirtualThreadPinningMonitor.start("kafka-consumer-orders", mock(KafkaConsumerTelemetry.class));
+        assertThat(monitor).isNotNull();
+        try {
+            assertThat(monitor.isConsumerThread("kafka-consumer-orders1")).isTrue();
+            assertThat(monitor.isConsumerThread("kafka-consumer-orders42")).isTrue();
+            assertThat(monitor.isConsumerThread("kafka-consumer-orders")).isFalse();
+            assertThat(monitor.isConsumerThread("kafka-consumer-orders-dlq1")).isFalse();
+            assertThat(monitor.isConsumerThread("kafka-consumer-payments1")).isFalse();
+        } finally {
+            monitor.close();
+        }
+    }
+
+    @Test
+    @EnabledIf("isPinningOnMonitorSupported")
+    void testPinnedVirtualThreadIsReported() throws Exception {
+        KafkaConsumerTelemetry<?, ?> telemetry = mock(KafkaConsumerTelemetry.class);
+        KafkaConsumerTelemetry<?, ?> otherTelemetry = mock(KafkaConsumerTelemetry.class);
+        var monitor = VirtualThreadPinningMonitor.start("kafka-consumer-pinned", telemetry);
+        var otherMonitor = VirtualThreadPinningMonitor.start("kafka-consumer-other", otherTelemetry);
+        assertThat(monitor).isNotNull();
+        assertThat(otherMonitor).isNotNull();
+        try {
+            // stream starts asynchronously, so thread is pinned until event is received
+            var deadline = System.nanoTime() + 30_000_000_000L;
+            while (mockingDetails(telemetry).getInvocations().isEmpty() && System.nanoTime() < deadline) {
+                startVirtualThread("kafka-consumer-pinned", () -> {
+                    synchronized (this) {
+                        try {
+                            Thread.sleep(50);
+                        } catch (InterruptedException e) {
+                            throw new RuntimeException(e);
+                        }
+                    }
+                }).join();
+            }
+            verify(telemetry, atLeastOnce()).reportVirtualThreadPinned(anyLong());
+            verify(otherTelemetry, never()).reportVirtualThreadPinned(anyLong());
+        } finally {
+            monitor.close();
+            otherMonitor.close();
+        }
+    }
+
+    // monitors stopped pinning virtual threads in JDK 24
+    static boolean isPinningOnMonitorSupported() {
+        var version = Runtime.version().feature();
+        return version >= 21 && version < 24;
+    }
+
+    private static Thread startVirtualThread(String namePrefix, Runnable runnable) throws Exception {
+        var builderClass = Class.forName("java.lang.Thread$Builder");
+        var builder = Thread.class.getMethod("ofVirtual").invoke(null);
+        builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 1L);
+        return (Thread) builderClass.getMethod("start", Runnable.class).invoke(builder, runnable);
+    }
+}
@@ -0,0 +1,81 @@
+package ru.tinkoff.kora.kafka.common.consumer.telemetry;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import ru.tinkoff.kora.kafka.common.consumer.containers.ConsumerRecordsWrapper;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class DefaultKafkaConsumerTelemetryTest {
+
+    private final KafkaConsumerMetrics metrics = mock(KafkaConsumerMetrics.class);
+    private final DefaultKafkaConsumerTelemetry<String, String> telemetry = new DefaultKafkaConsumerTelemetry<>("test", null, null, metrics);
+
+    @Test
+    void testQueueDurationIsMeasuredFromPoll() throws InterruptedException {
+        var records = new ConsumerRecordsWrapper<String, String, String>(records(record(0, -1)), r -> r, null);
+        Thread.sleep(100);
+
+        var ctx = telemetry.get(records);
+        for (var record : records) {
+            ctx.get(record).close(null);
+        }
+        ctx.close(null);
+
+        var queueDuration = ArgumentCaptor.forClass(Long.class);
+        verify(metrics).onRecordQueued(eq("test"), any(), queueDuration.capture());
+        assertThat(queueDuration.getValue()).isGreaterThanOrEqualTo(100_000_000L);
+        // record without timestamp has no latency
+        verify(metrics, never()).onRecordLatency(any(), any(), anyLong());
+    }
+
+    @Test
+    void testRecordLatency() {
+        var timestamp = System.currentTimeMillis() - 5000;
+        var records = records(record(0, timestamp));
+
+        var ctx = telemetry.get(records);
+        for (var record : records) {
+            ctx.get(record).close(null);
+        }
+        ctx.close(null);
+
+        var latency = ArgumentCaptor.forClass(Long.class);
+        verify(metrics, times(1)).onRecordLatency(eq("test"), any(), latency.capture());
+        assertThat(latency.getValue()).isBetween(5000L, 60_000L);
+    }
+
+    @Test
+    void testBatchLatencyIsReportedOnClose() {
+        var timestamp = System.currentTimeMillis() - 5000;
+        var records = records(record(0, timestamp), record(1, timestamp));
+
+        var ctx = telemetry.get(records);
+        verify(metrics, never()).onRecordLatency(any(), any(), anyLong());
+        ctx.close(null);
+
+        verify(metrics, times(2)).onRecordLatency(eq("test"), any(), longThat(latency -> latency >= 5000L));
+        verify(metrics, never()).onRecordQueued(any(), any(), anyLong());
+    }
+
+    private static ConsumerRecords<String, String> records(ConsumerRecord<String, String>... records) {
+        return new ConsumerRecords<>(Map.of(new TopicPartition("test", 0), List.of(records)));
+    }
+
+    private static ConsumerRecord<String, String> record(long offset, long timestamp) {
+        var type = timestamp < 0 ? TimestampType.NO_TIMESTAMP_TYPE : TimestampType.CREATE_TIME;
+        return new ConsumerRecord<>("test", 0, offset, timestamp, type, -1, -1, "key", "value", new RecordHeaders(), Optional.empty());
+    }
+}
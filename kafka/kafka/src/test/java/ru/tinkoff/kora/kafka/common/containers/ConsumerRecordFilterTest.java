@@ -0,0 +1,121 @@
+package ru.tinkoff.kora.kafka.common.containers;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.junit.jupiter.api.Test;
+import ru.tinkoff.kora.application.graph.ValueOf;
+import ru.tinkoff.kora.kafka.common.consumer.$KafkaListenerConfig_RecordFilterConfig_ConfigValueExtractor;
+import ru.tinkoff.kora.kafka.common.consumer.containers.ByteBufferConsumerRecordWrapper;
+import ru.tinkoff.kora.kafka.common.consumer.containers.ConsumerRecordFilter;
+import ru.tinkoff.kora.kafka.common.consumer.containers.ConsumerRecordsWrapper;
+import ru.tinkoff.kora.kafka.common.consumer.containers.handlers.BaseKafkaRecordsHandler;
+import ru.tinkoff.kora.kafka.common.consumer.containers.handlers.impl.RecordHandler;
+import ru.tinkoff.kora.kafka.common.consumer.containers.handlers.impl.RecordsHandler;
+import ru.tinkoff.kora.kafka.common.consumer.telemetry.KafkaConsumerTelemetry;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class ConsumerRecordFilterTest {
+
+    @Test
+    void testEmptyConfig() {
+        assertThat(ConsumerRecordFilter.of(null)).isNull();
+        assertThat(ConsumerRecordFilter.of(new $KafkaListenerConfig_RecordFilterConfig_ConfigValueExtractor.RecordFilterConfig_Impl(Map.of(), null))).isNull();
+    }
+
+    @Test
+    void testHeaderAndKeyPrefix() {
+        var filter = ConsumerRecordFilter.of(new $KafkaListenerConfig_RecordFilterConfig_ConfigValueExtractor.RecordFilterConfig_Impl(
+            Map.of("eventType", List.of("created", "updated")),
+            "user-"
+        ));
+
+        assertThat(filter.test(record("user-1", "created"))).isTrue();
+        assertThat(filter.test(record("user-2", "updated"))).isTrue();
+        assertThat(filter.test(record("user-3", "deleted"))).isFalse();
+        assertThat(filter.test(record("order-1", "created"))).isFalse();
+        assertThat(filter.test(record("user-4", null))).isFalse();
+        assertThat(filter.test(record(null, "created"))).isFalse();
+    }
+
+    @Test
+    void testRejectedRecordsAreNotDeserialized() {
+        var filter = ConsumerRecordFilter.of(new $KafkaListenerConfig_RecordFilterConfig_ConfigValueExtractor.RecordFilterConfig_Impl(
+            Map.of("eventType", List.of("created")),
+            null
+        ));
+        var partition = new TopicPartition("test", 0);
+        var polled = new ArrayList<ConsumerRecord<ByteBuffer, ByteBuffer>>();
+        polled.add(record("1", "created"));
+        polled.add(record("2", "deleted"));
+        polled.add(record("3", "deleted"));
+
+        var deserialized = new ArrayList<String>();
+        Deserializer<String> deserializer = (topic, data) -> {
+            var value = new String(data, StandardCharsets.UTF_8);
+            deserialized.add(value);
+            return value;
+        };
+        var records = new ConsumerRecordsWrapper<>(
+            new ConsumerRecords<>(Map.of(partition, polled)),
+            r -> new ByteBufferConsumerRecordWrapper<>(r, deserializer, deserializer),
+            filter
+        );
+
+        assertThat(records.count()).isEqualTo(1);
+        assertThat(records.rejectedCount()).isEqualTo(2);
+        assertThat(records.unwrap().count()).isEqualTo(3);
+        for (var record : records) {
+            assertThat(record.key()).isEqualTo("1");
+        }
+        assertThat(deserialized).containsExactly("1");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testWakeupOnCommitOfRejectedRecordsIsRethrown() {
+        var filter = ConsumerRecordFilter.of(new $KafkaListenerConfig_RecordFilterConfig_ConfigValueExtractor.RecordFilterConfig_Impl(
+            Map.of("eventType", List.of("created")),
+            null
+        ));
+        var partition = new TopicPartition("test", 0);
+        Deserializer<String> deserializer = (topic, data) -> new String(data, StandardCharsets.UTF_8);
+        var records = new ConsumerRecordsWrapper<>(
+            new ConsumerRecords<>(Map.of(partition, List.of(record("1", "deleted")))),
+            r -> new ByteBufferConsumerRecordWrapper<>(r, deserializer, deserializer),
+            filter
+        );
+        var recordsHandler = new RecordsHandler<String, String>(mock(KafkaConsumerTelemetry.class), true, mock(ValueOf.class));
+        var recordHandler = new RecordHandler<String, String>(mock(KafkaConsumerTelemetry.class), true, mock(ValueOf.class));
+        for (var handler : List.<BaseKafkaRecordsHandler<String, String>>of(recordsHandler, recordHandler)) {
+            var consumer = (Consumer<String, String>) mock(Consumer.class);
+            doThrow(new WakeupException()).doNothing().when(consumer).commitSync();
+
+            assertThatThrownBy(() -> handler.handle(records, consumer, true)).isInstanceOf(WakeupException.class);
+            // commit is retried before wakeup is rethrown
+            verify(consumer, times(2)).commitSync();
+        }
+    }
+
+    private static ConsumerRecord<ByteBuffer, ByteBuffer> record(String key, String eventType) {
+        var record = new ConsumerRecord<>("test", 0, 0,
+            key == null ? null : ByteBuffer.wrap(key.getBytes(StandardCharsets.UTF_8)),
+            ByteBuffer.wrap("value".getBytes(StandardCharsets.UTF_8)));
+        if (eventType != null) {
+            record.headers().add("eventType", eventType.getBytes(StandardCharsets.UTF_8));
+        }
+        return record;
+    }
+}
@@ -60,6 +60,10 @@ class KafkaAssignConsumerContainerTest {
             Duration.ofSeconds(1),
             Duration.ofMillis(10000),
             true,
+            false,
+            null,
+            false,
+            Duration.ofSeconds(10),
             new $TelemetryConfig_ConfigValueExtractor.TelemetryConfig_Impl(
                 new $TelemetryConfig_LogConfig_ConfigValueExtractor.LogConfig_Impl(true),
                 new $TelemetryConfig_TracingConfig_ConfigValueExtractor.TracingConfig_Impl(true),
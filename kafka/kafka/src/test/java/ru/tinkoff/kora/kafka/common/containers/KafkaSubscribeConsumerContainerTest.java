@@ -40,8 +40,20 @@ class KafkaSubscribeConsumerContainerTest {
 
     @Test
     void test() throws InterruptedException {
-        var p = KafkaTestContainer.getParams();
+        test(false, false);
+    }
+
+    @Test
+    void testZeroCopy() throws InterruptedException {
+        test(true, false);
+    }
 
+    @Test
+    void testVirtualThreads() throws InterruptedException {
+        test(false, true);
+    }
+
+    private void test(boolean zeroCopy, boolean virtualThreads) throws InterruptedException {
         var driverProps = new Properties();
         driverProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, params.bootstrapServers());
         driverProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
@@ -59,6 +71,10 @@ class KafkaSubscribeConsumerContainerTest {
             Duration.ofMillis(10000),
             Duration.ofMillis(10000),
             true,
+            zeroCopy,
+            null,
+            virtualThreads,
+            Duration.ofSeconds(10),
             new $TelemetryConfig_ConfigValueExtractor.TelemetryConfig_Impl(
                 new $TelemetryConfig_LogConfig_ConfigValueExtractor.LogConfig_Impl(true),
                 new $TelemetryConfig_TracingConfig_ConfigValueExtractor.TracingConfig_Impl(true),
@@ -14,6 +14,8 @@ public final class Opentelemetry120DataBaseMetricWriter implements DataBaseMetri
 
     private final String poolName;
     private final ConcurrentHashMap<DbKey, DbMetrics> metrics = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<RowsKey, DistributionSummary> rowsRate = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, DistributionSummary> connectionWait = new ConcurrentHashMap<>();
     private final MeterRegistry meterRegistry;
     private final TelemetryConfig.MetricsConfig config;
 
@@ -31,6 +33,23 @@ public final class Opentelemetry120DataBaseMetricWriter implements DataBaseMetri
         metrics.duration().record((double) duration / 1_000_000);
     }
 
+    @Override
+    public void recordRows(long queryBegin, QueryContext queryContext, long rows) {
+        var duration = System.nanoTime() - queryBegin;
+        if (duration <= 0) {
+            return;
+        }
+        var key = new RowsKey(queryContext.queryId(), queryContext.operation());
+        var rate = this.rowsRate.computeIfAbsent(key, this::rowsRate);
+        rate.record(rows * 1_000_000_000.0 / duration);
+    }
+
+    @Override
+    public void recordConnectionWait(QueryContext queryContext, long waitTime) {
+        var summary = this.connectionWait.computeIfAbsent(queryContext.queryId(), this::connectionWait);
+        summary.record((double) waitTime / 1_000_000);
+    }
+
     @Override
     public Object getMetricRegistry() {
         return this.meterRegistry;
@@ -40,6 +59,26 @@ public final class Opentelemetry120DataBaseMetricWriter implements DataBaseMetri
 
     private record DbKey(String queryId, String operation, @Nullable Class<? extends Throwable> error) {}
 
+    private record RowsKey(String queryId, String operation) {}
+
+    private DistributionSummary connectionWait(String queryId) {
+        return DistributionSummary.builder("database.client.connections.wait_time")
+            .serviceLevelObjectives(this.config.slo(TelemetryConfig.MetricsConfig.OpentelemetrySpec.V120))
+            .baseUnit("milliseconds")
+            .tag("pool", this.poolName)
+            .tag("query.id", queryId)
+            .register(this.meterRegistry);
+    }
+
+    private DistributionSummary rowsRate(RowsKey key) {
+        return DistributionSummary.builder("database.client.request.rows.rate")
+            .baseUnit("rows/s")
+            .tag("pool", this.poolName)
+            .tag("query.id", key.queryId())
+            .tag("query.operation", key.operation())
+            .register(this.meterRegistry);
+    }
+
     private DbMetrics metrics(DbKey key) {
         var builder = DistributionSummary.builder("database.client.request.duration")
             .serviceLevelObjectives(this.config.slo(TelemetryConfig.MetricsConfig.OpentelemetrySpec.V120))
@@ -15,6 +15,8 @@ public final class Opentelemetry123DataBaseMetricWriter implements DataBaseMetri
 
     private final String poolName;
     private final ConcurrentHashMap<DbKey, DbMetrics> metrics = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<RowsKey, DistributionSummary> rowsRate = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, DistributionSummary> connectionWait = new ConcurrentHashMap<>();
     private final MeterRegistry meterRegistry;
     private final TelemetryConfig.MetricsConfig config;
 
@@ -32,6 +34,23 @@ public final class Opentelemetry123DataBaseMetricWriter implements DataBaseMetri
         metrics.duration().record((double) duration / 1_000_000_000);
     }
 
+    @Override
+    public void recordRows(long queryBegin, QueryContext queryContext, long rows) {
+        var duration = System.nanoTime() - queryBegin;
+        if (duration <= 0) {
+            return;
+        }
+        var key = new RowsKey(queryContext.queryId(), queryContext.operation());
+        var rate = this.rowsRate.computeIfAbsent(key, this::rowsRate);
+        rate.record(rows * 1_000_000_000.0 / duration);
+    }
+
+    @Override
+    public void recordConnectionWait(QueryContext queryContext, long waitTime) {
+        var summary = this.connectionWait.computeIfAbsent(queryContext.queryId(), this::connectionWait);
+        summary.record((double) waitTime / 1_000_000_000);
+    }
+
     @Override
     public Object getMetricRegistry() {
         return this.meterRegistry;
@@ -41,6 +60,26 @@ public final class Opentelemetry123DataBaseMetricWriter implements DataBaseMetri
 
     private record DbKey(String queryId, String operation, @Nullable Class<? extends Throwable> error) {}
 
+    private record RowsKey(String queryId, String operation) {}
+
+    private DistributionSummary connectionWait(String queryId) {
+        return DistributionSummary.builder("db.client.connections.wait_time")
+            .serviceLevelObjectives(this.config.slo(TelemetryConfig.MetricsConfig.OpentelemetrySpec.V123))
+            .baseUnit("s")
+            .tag(SemanticAttributes.POOL_NAME.getKey(), this.poolName)
+            .tag(SemanticAttributes.DB_STATEMENT.getKey(), queryId)
+            .register(this.meterRegistry);
+    }
+
+    private DistributionSummary rowsRate(RowsKey key) {
+        return DistributionSummary.builder("db.client.request.rows.rate")
+            .baseUnit("rows/s")
+            .tag(SemanticAttributes.POOL_NAME.getKey(), this.poolName)
+            .tag(SemanticAttributes.DB_STATEMENT.getKey(), key.queryId())
+            .tag(SemanticAttributes.DB_OPERATION.getKey(), key.operation())
+            .register(this.meterRegistry);
+    }
+
     private DbMetrics metrics(DbKey key) {
         var builder = DistributionSummary.builder("db.client.request.duration")
             .serviceLevelObjectives(this.config.slo(TelemetryConfig.MetricsConfig.OpentelemetrySpec.V123))
@@ -1,5 +1,6 @@
 package ru.tinkoff.kora.micrometer.module.kafka.consumer;
 
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -36,6 +37,8 @@ public class Opentelemetry120KafkaConsumerMetrics implements KafkaConsumerMetric
     private final ConcurrentHashMap<DurationKey, DistributionSummary> metrics = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<DurationBatchKey, DistributionSummary> metricsBatch = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<TopicPartition, LagGauge> lagMetrics = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Counter> filteredMetrics = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, DistributionSummary> pinnedMetrics = new ConcurrentHashMap<>();
     private final TelemetryConfig.MetricsConfig config;
     private final Properties driverProperties;
 
@@ -106,6 +109,39 @@ public class Opentelemetry120KafkaConsumerMetrics implements KafkaConsumerMetric
         this.metricsBatch.computeIfAbsent(key, this::metricBatch).record(durationDouble);
     }
 
+    @Override
+    public void onRecordsFiltered(String consumerName, int count) {
+        this.filteredMetrics.computeIfAbsent(consumerName, this::metricFiltered).increment(count);
+    }
+
+    private Counter metricFiltered(String consumerName) {
+        var groupId = driverProperties.get(ConsumerConfig.GROUP_ID_CONFIG);
+
+        return Counter.builder("messaging.kafka.consumer.filtered")
+            .tag(SemanticAttributes.MESSAGING_SYSTEM.getKey(), "kafka")
+            .tag(MESSAGING_KAFKA_CONSUMER_NAME.getKey(), consumerName)
+            .tag(SemanticAttributes.MESSAGING_KAFKA_CONSUMER_GROUP.getKey(), Objects.requireNonNullElse(groupId, "").toString())
+            .register(this.meterRegistry);
+    }
+
+    @Override
+    public void onVirtualThreadPinned(String consumerName, long durationNanos) {
+        double durationDouble = ((double) durationNanos) / 1_000_000;
+        this.pinnedMetrics.computeIfAbsent(consumerName, this::metricPinned).record(durationDouble);
+    }
+
+    private DistributionSummary metricPinned(String consumerName) {
+        var groupId = driverProperties.get(ConsumerConfig.GROUP_ID_CONFIG);
+
+        return DistributionSummary.builder("messaging.kafka.consumer.pinned.duration")
+            .serviceLevelObjectives(this.config.slo(TelemetryConfig.MetricsConfig.OpentelemetrySpec.V120))
+            .baseUnit("milliseconds")
+            .tag(SemanticAttributes.MESSAGING_SYSTEM.getKey(), "kafka")
+            .tag(MESSAGING_KAFKA_CONSUMER_NAME.getKey(), consumerName)
+            .tag(SemanticAttributes.MESSAGING_KAFKA_CONSUMER_GROUP.getKey(), Objects.requireNonNullElse(groupId, "").toString())
+            .register(this.meterRegistry);
+    }
+
     @Override
     public void init() {
 
@@ -123,6 +159,16 @@ public class Opentelemetry120KafkaConsumerMetrics implements KafkaConsumerMetric
         for (var metric : metricsBatch) {
             metric.close();
         }
+        var filteredMetrics = new ArrayList<>(this.filteredMetrics.values());
+        this.filteredMetrics.clear();
+        for (var metric : filteredMetrics) {
+            metric.close();
+        }
+        var pinnedMetrics = new ArrayList<>(this.pinnedMetrics.values());
+        this.pinnedMetrics.clear();
+        for (var metric : pinnedMetrics) {
+            metric.close();
+        }
         var lagMetrics = new ArrayList<>(this.lagMetrics.values());
         this.lagMetrics.clear();
         for (var lagMetric : lagMetrics) {
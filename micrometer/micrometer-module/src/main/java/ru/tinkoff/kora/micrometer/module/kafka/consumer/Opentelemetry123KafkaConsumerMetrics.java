@@ -1,5 +1,6 @@
 package ru.tinkoff.kora.micrometer.module.kafka.consumer;
 
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -36,6 +37,10 @@ public final class Opentelemetry123KafkaConsumerMetrics implements KafkaConsumer
     private final ConcurrentHashMap<DurationKey, DistributionSummary> metrics = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<DurationBatchKey, DistributionSummary> metricsBatch = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<TopicPartition, LagGauge> lagMetrics = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Counter> filteredMetrics = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, DistributionSummary> pinnedMetrics = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<ConsumerTopicKey, DistributionSummary> queueMetrics = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<ConsumerTopicKey, DistributionSummary> latencyMetrics = new ConcurrentHashMap<>();
     private final TelemetryConfig.MetricsConfig config;
     private final Properties driverProperties;
 
@@ -49,6 +54,8 @@ public final class Opentelemetry123KafkaConsumerMetrics implements KafkaConsumer
 
     private record DurationBatchKey(String consumerName, @Nullable Class<? extends Throwable> errorType) {}
 
+    private record ConsumerTopicKey(String consumerName, String topic) {}
+
     private DistributionSummary metrics(DurationKey key) {
         var clientId = driverProperties.get(ProducerConfig.CLIENT_ID_CONFIG);
         var groupId = driverProperties.get(ConsumerConfig.GROUP_ID_CONFIG);
@@ -119,6 +126,70 @@ public final class Opentelemetry123KafkaConsumerMetrics implements KafkaConsumer
         lagMetrics.computeIfAbsent(partition, p -> new LagGauge(consumerName, p, meterRegistry)).offsetLag = lag;
     }
 
+    @Override
+    public void onRecordQueued(String consumerName, ConsumerRecord<?, ?> record, long queueDuration) {
+        double durationDouble = ((double) queueDuration) / 1_000_000_000;
+        var key = new ConsumerTopicKey(consumerName, record.topic());
+
+        this.queueMetrics.computeIfAbsent(key, k -> metricConsumerTopic("messaging.kafka.consumer.queue.duration", k)).record(durationDouble);
+    }
+
+    @Override
+    public void onRecordLatency(String consumerName, ConsumerRecord<?, ?> record, long latency) {
+        double latencyDouble = ((double) latency) / 1_000;
+        var key = new ConsumerTopicKey(consumerName, record.topic());
+
+        this.latencyMetrics.computeIfAbsent(key, k -> metricConsumerTopic("messaging.kafka.consumer.latency", k)).record(latencyDouble);
+    }
+
+    private DistributionSummary metricConsumerTopic(String name, ConsumerTopicKey key) {
+        var clientId = driverProperties.get(ProducerConfig.CLIENT_ID_CONFIG);
+        var groupId = driverProperties.get(ConsumerConfig.GROUP_ID_CONFIG);
+
+        return DistributionSummary.builder(name)
+            .serviceLevelObjectives(this.config.slo(TelemetryConfig.MetricsConfig.OpentelemetrySpec.V123))
+            .baseUnit("s")
+            .tag(SemanticAttributes.MESSAGING_SYSTEM.getKey(), "kafka")
+            .tag(MESSAGING_KAFKA_CONSUMER_NAME.getKey(), key.consumerName())
+            .tag(SemanticAttributes.MESSAGING_DESTINATION_NAME.getKey(), key.topic())
+            .tag(SemanticAttributes.MESSAGING_CLIENT_ID.getKey(), Objects.requireNonNullElse(clientId, "").toString())
+            .tag(SemanticAttributes.MESSAGING_KAFKA_CONSUMER_GROUP.getKey(), Objects.requireNonNullElse(groupId, "").toString())
+            .register(this.meterRegistry);
+    }
+
+    @Override
+    public void onRecordsFiltered(String consumerName, int count) {
+        this.filteredMetrics.computeIfAbsent(consumerName, this::metricFiltered).increment(count);
+    }
+
+    private Counter metricFiltered(String consumerName) {
+        var groupId = driverProperties.get(ConsumerConfig.GROUP_ID_CONFIG);
+
+        return Counter.builder("messaging.kafka.consumer.filtered")
+            .tag(SemanticAttributes.MESSAGING_SYSTEM.getKey(), "kafka")
+            .tag(MESSAGING_KAFKA_CONSUMER_NAME.getKey(), consumerName)
+            .tag(SemanticAttributes.MESSAGING_KAFKA_CONSUMER_GROUP.getKey(), Objects.requireNonNullElse(groupId, "").toString())
+            .register(this.meterRegistry);
+    }
+
+    @Override
+    public void onVirtualThreadPinned(String consumerName, long durationNanos) {
+        double durationDouble = ((double) durationNanos) / 1_000_000_000;
+        this.pinnedMetrics.computeIfAbsent(consumerName, this::metricPinned).record(durationDouble);
+    }
+
+    private DistributionSummary metricPinned(String consumerName) {
+        var groupId = driverProperties.get(ConsumerConfig.GROUP_ID_CONFIG);
+
+        return DistributionSummary.builder("messaging.kafka.consumer.pinned.duration")
+            .serviceLevelObjectives(this.config.slo(TelemetryConfig.MetricsConfig.OpentelemetrySpec.V123))
+            .baseUnit("s")
+            .tag(SemanticAttributes.MESSAGING_SYSTEM.getKey(), "kafka")
+            .tag(MESSAGING_KAFKA_CONSUMER_NAME.getKey(), consumerName)
+            .tag(SemanticAttributes.MESSAGING_KAFKA_CONSUMER_GROUP.getKey(), Objects.requireNonNullElse(groupId, "").toString())
+            .register(this.meterRegistry);
+    }
+
     @Override
     public void init() {
 
@@ -131,6 +202,26 @@ public final class Opentelemetry123KafkaConsumerMetrics implements KafkaConsumer
         for (var metric : metrics) {
             metric.close();
         }
+        var filteredMetrics = new ArrayList<>(this.filteredMetrics.values());
+        this.filteredMetrics.clear();
+        for (var metric : filteredMetrics) {
+            metric.close();
+        }
+        var queueMetrics = new ArrayList<>(this.queueMetrics.values());
+        this.queueMetrics.clear();
+        for (var metric : queueMetrics) {
+            metric.close();
+        }
+        var latencyMetrics = new ArrayList<>(this.latencyMetrics.values());
+        this.latencyMetrics.clear();
+        for (var metric : latencyMetrics) {
+            metric.close();
+        }
+        var pinnedMetrics = new ArrayList<>(this.pinnedMetrics.values());
+        this.pinnedMetrics.clear();
+        for (var metric : pinnedMetrics) {
+            metric.close();
+        }
         var lagMetrics = new ArrayList<>(this.lagMetrics.values());
         this.lagMetrics.clear();
         for (var lagMetric : lagMetrics) {
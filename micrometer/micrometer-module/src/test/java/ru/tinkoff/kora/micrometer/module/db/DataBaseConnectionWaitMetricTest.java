@@ -0,0 +1,50 @@
+package ru.tinkoff.kora.micrometer.module.db;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import ru.tinkoff.kora.database.common.QueryContext;
+import ru.tinkoff.kora.telemetry.common.$TelemetryConfig_MetricsConfig_ConfigValueExtractor;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DataBaseConnectionWaitMetricTest {
+
+    private static final QueryContext QUERY = new QueryContext("SELECT 1", "SELECT 1");
+    private static final QueryContext CONNECTION = new QueryContext("connection", "", "connection");
+
+    @Test
+    void testOpentelemetry120ConnectionWait() {
+        var registry = new SimpleMeterRegistry();
+        var writer = new Opentelemetry120DataBaseMetricWriter(registry, new $TelemetryConfig_MetricsConfig_ConfigValueExtractor.MetricsConfig_Impl(null, null), "testPool");
+
+        writer.recordConnectionWait(QUERY, Duration.ofMillis(20).toNanos());
+        writer.recordConnectionWait(QUERY, Duration.ofMillis(40).toNanos());
+        writer.recordConnectionWait(CONNECTION, Duration.ofMillis(5).toNanos());
+
+        var query = registry.get("database.client.connections.wait_time").tag("pool", "testPool").tag("query.id", "SELECT 1").summary();
+        assertThat(query.count()).isEqualTo(2);
+        assertThat(query.totalAmount()).isEqualTo(60.0);
+        assertThat(query.max()).isEqualTo(40.0);
+        var connection = registry.get("database.client.connections.wait_time").tag("query.id", "connection").summary();
+        assertThat(connection.count()).isEqualTo(1);
+        assertThat(connection.totalAmount()).isEqualTo(5.0);
+    }
+
+    @Test
+    void testOpentelemetry123ConnectionWait() {
+        var registry = new SimpleMeterRegistry();
+        var writer = new Opentelemetry123DataBaseMetricWriter(registry, new $TelemetryConfig_MetricsConfig_ConfigValueExtractor.MetricsConfig_Impl(null, null), "testPool");
+
+        writer.recordConnectionWait(QUERY, Duration.ofMillis(20).toNanos());
+        writer.recordConnectionWait(CONNECTION, Duration.ofMillis(500).toNanos());
+
+        var query = registry.get("db.client.connections.wait_time").tag("pool.name", "testPool").tag("db.statement", "SELECT 1").summary();
+        assertThat(query.count()).isEqualTo(1);
+        assertThat(query.totalAmount()).isEqualTo(0.02);
+        var connection = registry.get("db.client.connections.wait_time").tag("db.statement", "connection").summary();
+        assertThat(connection.count()).isEqualTo(1);
+        assertThat(connection.totalAmount()).isEqualTo(0.5);
+    }
+}